@@ -273,6 +273,22 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to process the responses of search queries executed asynchronously,
+	 * e.g. when calling {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer, Integer)}.
+	 * <p>
+	 * Processing responses includes loading entities, which is generally a blocking operation.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
 	/**
 	 * Property for specifying the maximum duration a
 	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#scroll(int) scroll} will be usable if no
@@ -300,6 +316,78 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_KEEP_ALIVE = "max_keep_alive";
 
+	/**
+	 * Whether field projections should be extracted from doc values instead of the document source, when possible.
+	 * <p>
+	 * When enabled, single-valued field projections targeting
+	 * sortable or aggregable fields of type {@code Integer}, {@code Long}, {@code Short}, {@code Byte},
+	 * {@code Double}, {@code Float} or {@code String} (without a normalizer and without {@code indexNullAs})
+	 * are extracted from doc values.
+	 * If all projections of a query can be extracted that way, Elasticsearch will not need to load
+	 * the source of matched documents at all,
+	 * which can significantly speed up queries on indexes holding large documents.
+	 * Other field projections are still extracted from the document source.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED}.
+	 */
+	public static final String QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED = "query.field_projection.doc_values.enabled";
+
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, request bodies are compressed using GZIP,
+	 * and the Elasticsearch cluster is asked to compress responses using GZIP as well.
+	 * This reduces the amount of data sent over the network, in particular for indexing,
+	 * at the cost of additional CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
+	/**
+	 * The maximum number of retries for operations rejected by Elasticsearch because the cluster is overloaded,
+	 * i.e. requests failing with status {@code 429 Too Many Requests}
+	 * and operations in bulk requests failing with an {@code es_rejected_execution_exception}.
+	 * <p>
+	 * Only rejected operations are retried: other operations in the same bulk request are not sent again.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#RETRY_ON_REJECTION_MAX_RETRIES}.
+	 */
+	public static final String RETRY_ON_REJECTION_MAX_RETRIES = "retry_on_rejection.max_retries";
+
+	/**
+	 * The delay before the first retry of an operation rejected by Elasticsearch because the cluster is overloaded.
+	 * <p>
+	 * The delay doubles with each subsequent retry, up to {@link #RETRY_ON_REJECTION_MAX_BACKOFF},
+	 * and a random jitter is applied to each delay.
+	 * <p>
+	 * Expects a positive or zero Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#RETRY_ON_REJECTION_INITIAL_BACKOFF}.
+	 */
+	public static final String RETRY_ON_REJECTION_INITIAL_BACKOFF = "retry_on_rejection.initial_backoff";
+
+	/**
+	 * The maximum delay before a retry of an operation rejected by Elasticsearch because the cluster is overloaded.
+	 * <p>
+	 * Expects a positive or zero Integer value in milliseconds, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#RETRY_ON_REJECTION_MAX_BACKOFF}.
+	 */
+	public static final String RETRY_ON_REJECTION_MAX_BACKOFF = "retry_on_rejection.max_backoff";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -315,6 +403,10 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 1000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final int RETRY_ON_REJECTION_MAX_RETRIES = 5;
+		public static final int RETRY_ON_REJECTION_INITIAL_BACKOFF = 100;
+		public static final int RETRY_ON_REJECTION_MAX_BACKOFF = 10_000;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
@@ -332,5 +424,6 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final boolean QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED = false;
 	}
 }
@@ -154,6 +154,23 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of the payload of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Bulk requests are sent as soon as they reach either this size or {@link #INDEXING_MAX_BULK_SIZE},
+	 * whichever comes first.
+	 * A single indexing operation larger than this size is sent alone in its bulk request.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_PAYLOAD_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_PAYLOAD_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_PAYLOAD_SIZE;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -165,6 +182,7 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_PAYLOAD_SIZE = "max_bulk_payload_size";
 	}
 
 	/**
@@ -180,6 +198,7 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final long INDEXING_MAX_BULK_PAYLOAD_SIZE = 10L * 1024L * 1024L;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
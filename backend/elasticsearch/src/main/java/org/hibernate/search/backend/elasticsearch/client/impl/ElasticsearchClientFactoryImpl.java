@@ -135,6 +135,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -142,6 +148,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 			GsonProvider gsonProvider) {
 		Optional<Integer> requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
+		boolean compressionEnabled = COMPRESSION_ENABLED.get( propertySource );
 
 		Optional<BeanHolder<? extends RestClient>> providedRestClientHolder = CLIENT_INSTANCE.getAndMap(
 				propertySource, beanResolver::resolve );
@@ -162,7 +169,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 
 		return new ElasticsearchClientImpl(
 				restClientHolder, sniffer, timeoutExecutorService,
-				requestTimeoutMs, connectionTimeoutMs,
+				requestTimeoutMs, connectionTimeoutMs, compressionEnabled,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
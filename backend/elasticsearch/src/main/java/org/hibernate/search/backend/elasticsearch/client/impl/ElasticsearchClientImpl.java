@@ -19,6 +19,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -35,7 +36,9 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -61,19 +64,21 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compressionEnabled;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(BeanHolder<? extends RestClient> restClientHolder, Sniffer sniffer,
 			SimpleScheduledExecutor timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClientHolder = restClientHolder;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -103,7 +108,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -169,6 +174,10 @@ public void onFailure(Exception exception) {
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
+		if ( compressionEnabled ) {
+			// The RestClient takes care of decompressing responses
+			request.setOptions( request.getOptions().toBuilder().addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" ) );
+		}
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
 			request.addParameter( parameter.getKey(), parameter.getValue() );
@@ -223,12 +232,23 @@ private JsonObject parseBody(Response response) throws IOException {
 		}
 
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = getContent( entity );
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	private static InputStream getContent(HttpEntity entity) throws IOException {
+		InputStream inputStream = entity.getContent();
+		Header contentEncoding = entity.getContentEncoding();
+		// The RestClient normally decompresses responses,
+		// but clients provided by the application may be configured differently.
+		if ( contentEncoding != null && "gzip".equalsIgnoreCase( contentEncoding.getValue() ) ) {
+			return new GZIPInputStream( inputStream );
+		}
+		return inputStream;
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
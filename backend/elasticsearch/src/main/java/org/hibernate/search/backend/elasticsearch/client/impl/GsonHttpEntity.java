@@ -14,9 +14,11 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.ContentEncoder;
@@ -55,6 +57,11 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, the content can be compressed using GZIP:
+ * compression happens progressively as well, as content is encoded,
+ * so that neither the uncompressed nor the compressed content needs
+ * to be stored in its entirety.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +70,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HttpHeaders.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +91,13 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	/**
+	 * Body parts that were serialized in advance, e.g. to compute the size of bulk requests:
+	 * we write them as-is instead of serializing the corresponding {@link #bodyParts} again.
+	 * May be {@code null}, and may contain {@code null} elements.
+	 */
+	private final List<String> serializedBodyParts;
+	private final boolean compressed;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -118,15 +134,26 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean compressed) throws IOException {
+		this( gson, bodyParts, null, compressed );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts,
+			boolean compressed) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.serializedBodyParts = serializedBodyParts;
+		this.compressed = compressed;
 		this.contentLength = -1;
+		this.writer = createWriter();
 		attemptOnePassEncoding();
 	}
 
@@ -153,8 +180,8 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently null is the correct value when the content is not compressed:
+		return compressed ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
@@ -171,12 +198,16 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
-			outWriter.append( '\n' );
+		GZIPOutputStream gzipStream = compressed ? new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE ) : null;
+		Writer outWriter = new OutputStreamWriter( gzipStream != null ? gzipStream : countingStream, CHARSET );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			writeBodyPart( i, outWriter );
 		}
 		outWriter.flush();
+		if ( gzipStream != null ) {
+			// Writes the GZIP trailer without closing the output stream
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -198,7 +229,12 @@ public void close() {
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.close();
+		this.writer = createWriter();
+	}
+
+	private ProgressiveCharBufferWriter createWriter() {
+		return new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, compressed );
 	}
 
 	/**
@@ -217,7 +253,7 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer.finish();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
@@ -234,9 +270,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
+			writeBodyPart( nextBodyToEncodeIndex++, writer );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
 				//Just quit: return control to the caller and trust we'll be called again.
@@ -245,6 +279,17 @@ private void triggerFullWrite() throws IOException {
 		}
 	}
 
+	private void writeBodyPart(int index, Writer out) throws IOException {
+		String serializedBodyPart = serializedBodyParts == null ? null : serializedBodyParts.get( index );
+		if ( serializedBodyPart != null ) {
+			out.write( serializedBodyPart );
+		}
+		else {
+			gson.toJson( bodyParts.get( index ), out );
+		}
+		out.append( '\n' );
+	}
+
 	@Override
 	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
 		Contracts.assertNotNull( encoder, "encoder" );
@@ -268,6 +313,9 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		// Complete the compressed content, if necessary.
+		// This will not do anything if it was already done in a previous call.
+		writer.finish();
 		writer.flushToOutput();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
@@ -67,7 +67,8 @@ private void writeToBuffer() throws IOException {
 
 	private int readFromBuffer() {
 		if ( buffer.hasRemaining() ) {
-			return buffer.get();
+			// Bytes are signed in Java, but InputStream.read() must return a value between 0 and 255
+			return buffer.get() & 0xFF;
 		}
 		else {
 			return -1;
@@ -28,10 +28,12 @@ private Paths() {
 	public static final URLEncodedString _MAPPING = URLEncodedString.fromString( "_mapping" );
 	public static final URLEncodedString _REFRESH = URLEncodedString.fromString( "_refresh" );
 	public static final URLEncodedString _SEARCH = URLEncodedString.fromString( "_search" );
+	public static final URLEncodedString _MSEARCH = URLEncodedString.fromString( "_msearch" );
 	public static final URLEncodedString _CLUSTER = URLEncodedString.fromString( "_cluster" );
 	public static final URLEncodedString _BULK = URLEncodedString.fromString( "_bulk" );
 	public static final URLEncodedString _DOC = URLEncodedString.fromString( "_doc" );
 	public static final URLEncodedString _ALIASES = URLEncodedString.fromString( "_aliases" );
+	public static final URLEncodedString _PIT = URLEncodedString.fromString( "_pit" );
 
 	/**
 	 * @deprecated Only useful in Elasticsearch 6 and below.
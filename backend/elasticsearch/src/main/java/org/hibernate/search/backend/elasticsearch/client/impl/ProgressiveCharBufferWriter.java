@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,11 +28,24 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the content can be compressed using GZIP before being stored in buffer pages.
+ * Compression happens progressively, as content is flushed to buffer pages,
+ * so that the uncompressed content never needs to be stored in its entirety.
+ * When compressing, {@link #finish()} must be called once all content has been written.
  *
  * @author Sanne Grinovero
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	/**
+	 * The GZIP header: magic number, "deflate" compression method, no flags,
+	 * no modification time, no extra flags, unknown OS.
+	 */
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+	};
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -72,10 +87,33 @@ class ProgressiveCharBufferWriter extends Writer {
 
 	private int contentLength = 0;
 
+	private final boolean compressed;
+
+	/**
+	 * When compressing, a buffer for encoded bytes that still need to be compressed.
+	 */
+	private ByteBuffer uncompressedBuffer;
+
+	/**
+	 * When compressing, the deflater; initially null, created on the first write,
+	 * and set back to null by {@link #finish()} or {@link #close()}.
+	 */
+	private Deflater deflater;
+
+	private final CRC32 crc;
+
+	private boolean finished = false;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean compressed) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		this.compressed = compressed;
+		this.crc = compressed ? new CRC32() : null;
 	}
 
 	/**
@@ -158,7 +196,37 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() {
-		// Nothing to do
+		// Release the native resources of the deflater, if any
+		if ( deflater != null ) {
+			deflater.end();
+			deflater = null;
+		}
+	}
+
+	/**
+	 * Signal that all content has been written,
+	 * so that the compressed content, if any, can be completed.
+	 * <p>
+	 * Has no effect if compression is disabled or if this method was already called.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( !compressed || finished ) {
+			return;
+		}
+		startCompressionIfNecessary();
+		compressUncompressedBuffer();
+		deflater.finish();
+		while ( !deflater.finished() ) {
+			deflateToPage();
+		}
+		// The GZIP trailer: CRC32 and size of uncompressed content, both little-endian.
+		writeIntLittleEndianToPages( (int) crc.getValue() );
+		writeIntLittleEndianToPages( (int) deflater.getBytesRead() );
+		close();
+		finished = true;
 	}
 
 	/**
@@ -207,6 +275,15 @@ public int contentLength() {
 	}
 
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( compressed ) {
+			encodeAndCompressToPages( input );
+		}
+		else {
+			encodeToPages( input );
+		}
+	}
+
+	private void encodeToPages(CharBuffer input) throws IOException {
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -218,17 +295,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				moveFullPageOut();
 			}
 			else {
 				//Encoding exception
@@ -238,6 +305,91 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void encodeAndCompressToPages(CharBuffer input) throws IOException {
+		startCompressionIfNecessary();
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
+				compressUncompressedBuffer();
+				return;
+			}
+			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
+				compressUncompressedBuffer();
+			}
+			else {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+		}
+	}
+
+	private void startCompressionIfNecessary() throws IOException {
+		if ( deflater != null ) {
+			return;
+		}
+		deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		uncompressedBuffer = ByteBuffer.allocate( pageSize );
+		for ( byte b : GZIP_HEADER ) {
+			writeByteToPages( b );
+		}
+	}
+
+	private void compressUncompressedBuffer() throws IOException {
+		int length = uncompressedBuffer.position();
+		if ( length == 0 ) {
+			return;
+		}
+		crc.update( uncompressedBuffer.array(), uncompressedBuffer.arrayOffset(), length );
+		deflater.setInput( uncompressedBuffer.array(), uncompressedBuffer.arrayOffset(), length );
+		while ( !deflater.needsInput() ) {
+			deflateToPage();
+		}
+		uncompressedBuffer.clear();
+	}
+
+	private void deflateToPage() throws IOException {
+		ByteBuffer page = pageWithRemainingSpace();
+		int written = deflater.deflate( page.array(), page.arrayOffset() + page.position(), page.remaining() );
+		page.position( page.position() + written );
+		contentLength += written;
+	}
+
+	private void writeIntLittleEndianToPages(int value) throws IOException {
+		for ( int i = 0; i < 4; i++ ) {
+			writeByteToPages( (byte) ( value >> ( 8 * i ) ) );
+		}
+	}
+
+	private void writeByteToPages(byte b) throws IOException {
+		pageWithRemainingSpace().put( b );
+		++contentLength;
+	}
+
+	private ByteBuffer pageWithRemainingSpace() throws IOException {
+		if ( currentPage != null && !currentPage.hasRemaining() ) {
+			moveFullPageOut();
+		}
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		return currentPage;
+	}
+
+	private void moveFullPageOut() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
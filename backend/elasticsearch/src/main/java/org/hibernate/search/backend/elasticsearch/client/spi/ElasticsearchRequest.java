@@ -46,6 +46,7 @@ public static Builder builder(String method) {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
 	private final Deadline deadline;
 
 	private ElasticsearchRequest(Builder builder) {
@@ -53,6 +54,7 @@ private ElasticsearchRequest(Builder builder) {
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.serializedBodyParts = builder.serializedBodyParts == null ? null : Collections.unmodifiableList( builder.serializedBodyParts );
 		this.deadline = builder.deadline;
 	}
 
@@ -72,6 +74,15 @@ public List<JsonObject> bodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The body parts that were already serialized to JSON, in the same order as {@link #bodyParts()},
+	 * with {@code null} elements for body parts that were not serialized yet;
+	 * or {@code null} if no body part was serialized yet.
+	 */
+	public List<String> serializedBodyParts() {
+		return serializedBodyParts;
+	}
+
 	public Deadline deadline() {
 		return deadline;
 	}
@@ -95,6 +106,7 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private List<String> serializedBodyParts;
 		private Deadline deadline;
 
 		private Builder(String method) {
@@ -157,6 +169,29 @@ public Builder body(JsonObject object) {
 				bodyParts = new ArrayList<>();
 			}
 			bodyParts.add( object );
+			if ( serializedBodyParts != null ) {
+				serializedBodyParts.add( null );
+			}
+			return this;
+		}
+
+		/**
+		 * @param object A body part.
+		 * @param serializedObject The same body part, already serialized to JSON, to be sent as-is.
+		 * @return This builder.
+		 */
+		public Builder body(JsonObject object, String serializedObject) {
+			if ( serializedObject == null ) {
+				return body( object );
+			}
+			if ( serializedBodyParts == null ) {
+				serializedBodyParts = new ArrayList<>();
+				if ( bodyParts != null ) {
+					serializedBodyParts.addAll( Collections.nCopies( bodyParts.size(), null ) );
+				}
+			}
+			body( object );
+			serializedBodyParts.set( serializedBodyParts.size() - 1, serializedObject );
 			return this;
 		}
 
@@ -21,7 +21,9 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch812ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
@@ -126,7 +128,7 @@ else if ( major == 8 ) {
 		}
 		else {
 			log.unknownElasticsearchVersion( version );
-			return new Elasticsearch81ProtocolDialect();
+			return new Elasticsearch812ProtocolDialect();
 		}
 	}
 
@@ -159,20 +161,27 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV6(Elasticsearc
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV7(ElasticsearchVersion version, int minor) {
+		if ( minor < 12 ) {
+			return new Elasticsearch70ProtocolDialect();
+		}
+		// Either the latest supported version, or a newer/unknown one
 		if ( minor > 17 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new Elasticsearch712ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV8(ElasticsearchVersion version, int minor) {
-		if ( minor > 8 ) {
+		if ( minor > 12 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		else if ( minor == 0 ) {
+		if ( minor == 0 ) {
 			return new Elasticsearch80ProtocolDialect();
 		}
-		return new Elasticsearch81ProtocolDialect();
+		if ( minor < 12 ) {
+			return new Elasticsearch81ProtocolDialect();
+		}
+		return new Elasticsearch812ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectOpenSearch(ElasticsearchVersion version) {
@@ -13,11 +13,11 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.Elasticsearch7SearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
-import org.hibernate.search.backend.elasticsearch.work.factory.impl.Elasticsearch7WorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.Elasticsearch70WorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
 /**
- * The protocol dialect for Elasticsearch 7.0 and later 7.x.
+ * The protocol dialect for Elasticsearch 7.0 to 7.11.
  */
 public class Elasticsearch70ProtocolDialect implements ElasticsearchProtocolDialect {
 
@@ -33,7 +33,7 @@ public ElasticsearchSearchSyntax createSearchSyntax() {
 
 	@Override
 	public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider) {
-		return new Elasticsearch7WorkFactory( gsonProvider );
+		return new Elasticsearch70WorkFactory( gsonProvider );
 	}
 
 	@Override
@@ -12,6 +12,8 @@
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.elasticsearch.document.model.lowlevel.impl.LowLevelIndexMetadataBuilder;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.AbstractTypeMapping;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.PropertyMapping;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
@@ -66,6 +68,16 @@ public int maxResultWindow() {
 				: customIndexSettings.getMaxResultWindow();
 	}
 
+	@Override
+	public boolean hasCustomMapping(String[] absoluteFieldPathComponents) {
+		AbstractTypeMapping current = customMapping;
+		for ( String component : absoluteFieldPathComponents ) {
+			Map<String, PropertyMapping> properties = current == null ? null : current.getProperties();
+			current = properties == null ? null : properties.get( component );
+		}
+		return current != null;
+	}
+
 	public void contributeLowLevelMetadata(LowLevelIndexMetadataBuilder builder) {
 		builder.setAnalysisDefinitionRegistry( analysisDefinitionRegistry );
 		builder.setCustomIndexSettings( customIndexSettings );
@@ -61,4 +61,31 @@ public static <T> T deepCopy(Gson gson, Class<T> objectType, T object) {
 		return gson.fromJson( gson.toJsonTree( object ), objectType );
 	}
 
+	/**
+	 * Computes the size of a string once encoded in UTF-8,
+	 * without actually allocating the encoded form.
+	 * @param string The string to encode.
+	 * @return The size of the encoded string, in bytes.
+	 */
+	public static long utf8Size(String string) {
+		long size = 0L;
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				// A surrogate pair is encoded on 4 bytes: count 2 bytes for each char of the pair.
+				size += 2;
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+
 }
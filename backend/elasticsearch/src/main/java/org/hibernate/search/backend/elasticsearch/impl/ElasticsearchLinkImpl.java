@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBackPressure;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
@@ -56,6 +57,36 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_CONNECTIONS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_CONNECTIONS )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_ON_REJECTION_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RETRY_ON_REJECTION_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RETRY_ON_REJECTION_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_ON_REJECTION_INITIAL_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RETRY_ON_REJECTION_INITIAL_BACKOFF )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RETRY_ON_REJECTION_INITIAL_BACKOFF )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_ON_REJECTION_MAX_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RETRY_ON_REJECTION_MAX_BACKOFF )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RETRY_ON_REJECTION_MAX_BACKOFF )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -71,6 +102,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkFactory workFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private boolean fieldProjectionDocValuesEnabled;
+	private ElasticsearchBackPressure backPressure;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -126,6 +159,18 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public boolean isFieldProjectionDocValuesEnabled() {
+		checkStarted();
+		return fieldProjectionDocValuesEnabled;
+	}
+
+	@Override
+	public ElasticsearchBackPressure getBackPressure() {
+		checkStarted();
+		return backPressure;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -148,6 +193,14 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			workFactory = protocolDialect.createWorkFactory( gsonProvider );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			fieldProjectionDocValuesEnabled = QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED.get( propertySource );
+			// There's no point in sending more concurrent requests than there are connections:
+			// they would just wait for a connection to become available.
+			backPressure = new ElasticsearchBackPressure( threads.getWorkExecutor(),
+					MAX_CONNECTIONS.get( propertySource ),
+					RETRY_ON_REJECTION_MAX_RETRIES.get( propertySource ),
+					RETRY_ON_REJECTION_INITIAL_BACKOFF.get( propertySource ),
+					RETRY_ON_REJECTION_MAX_BACKOFF.get( propertySource ) );
 		}
 	}
 
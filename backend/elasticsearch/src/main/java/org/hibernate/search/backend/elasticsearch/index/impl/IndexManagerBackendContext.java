@@ -26,6 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchMultiSearchExecutor;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryBuilder;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryIndexScope;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
@@ -59,6 +60,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final FailureHandler failureHandler;
 	private final TimingSource timingSource;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchMultiSearchExecutor multiSearchExecutor;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -81,6 +83,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.failureHandler = failureHandler;
 		this.timingSource = timingSource;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
+		this.multiSearchExecutor = new ElasticsearchMultiSearchExecutor( link::getWorkFactory,
+				generalPurposeOrchestrator );
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -142,7 +146,7 @@ public ElasticsearchSearchQueryIndexScope<?> createSearchContext(BackendMappingC
 		return new ElasticsearchSearchIndexScopeImpl(
 				mappingContext,
 				this,
-				userFacingGson, link.getSearchSyntax(),
+				userFacingGson, link.getSearchSyntax(), link.isFieldProjectionDocValuesEnabled(),
 				multiTenancyStrategy,
 				timingSource,
 				indexModels
@@ -158,7 +162,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, multiSearchExecutor, threads.getAsyncSearchExecutor(),
 				scope, sessionContext, loadingContextBuilder, rootProjection,
 				link.getScrollTimeout()
 		);
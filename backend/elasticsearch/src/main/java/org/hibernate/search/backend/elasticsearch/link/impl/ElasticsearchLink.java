@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBackPressure;
 
 /**
  * Represent the "link" to an Elasticsearch cluster,
@@ -35,4 +36,8 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	boolean isFieldProjectionDocValuesEnabled();
+
+	ElasticsearchBackPressure getBackPressure();
+
 }
@@ -807,4 +807,89 @@ SearchException cannotHighlightInNestedContext(String currentNestingField,
 	@Message(id = ID_OFFSET + 172, value = "'%1$s' cannot be nested in an object projection. "
 			+ "%2$s")
 	SearchException cannotUseProjectionInNestedContext(String projection, String hint, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 173,
+			value = "Vector fields are not supported with this version of Elasticsearch."
+					+ " Vector fields require Elasticsearch 8.12 or later.")
+	SearchException vectorFieldsNotSupported(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 174,
+			value = "Invalid vector: expected a vector of dimension %1$s, but got a vector of dimension %2$s.")
+	SearchException vectorDimensionMismatch(int expectedDimension, int actualDimension, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 175,
+			value = "Invalid vector for knn predicate: expected a vector of type '%1$s', but got a vector of type '%2$s'.")
+	SearchException invalidVectorTypeForKnnPredicate(String expectedType, String actualType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 176,
+			value = "Unable to use a knn predicate on a field in a nested object: knn predicates on nested documents are not supported."
+					+ " Move the vector field to the root document or to a non-nested object field.")
+	SearchException cannotUseKnnPredicateInNestedDocument(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 177,
+			value = "Search cursors are not supported with this version of Elasticsearch."
+					+ " Search cursors rely on point in time searches and require Elasticsearch 7.12 or later.")
+	SearchException searchCursorsNotSupported();
+
+	@Message(id = ID_OFFSET + 178,
+			value = "Invalid search cursor: '%1$s'. Search cursors must be values returned by SearchAfterResult.cursor(). Failure: %2$s")
+	SearchException invalidSearchCursor(String cursor, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 179,
+			value = "Unable to execute a search query as part of a multi-search:"
+					+ " the request path '%1$s' does not point to a '_search' endpoint with a single request body."
+					+ " If the request is altered by a request transformer, execute this query on its own instead."
+					+ "\nRequest: %2$s")
+	SearchException multiSearchUnsupportedRequestPath(String path,
+			@FormatWith(ElasticsearchRequestFormatter.class) ElasticsearchRequest request);
+
+	@Message(id = ID_OFFSET + 180,
+			value = "Unable to execute a search query as part of a multi-search:"
+					+ " request parameter '%1$s' is not supported in multi-search requests."
+					+ " If the request is altered by a request transformer, execute this query on its own instead."
+					+ "\nRequest: %2$s")
+	SearchException multiSearchUnsupportedRequestParameter(String parameterName,
+			@FormatWith(ElasticsearchRequestFormatter.class) ElasticsearchRequest request);
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Elasticsearch multi-search request failed for one of its queries: %3$s\nRequest: %1$s\nResponse: %2$s")
+	SearchException elasticsearchMultiSearchItemFailed(
+			@FormatWith(ElasticsearchRequestFormatter.class) ElasticsearchRequest request,
+			@FormatWith(ElasticsearchJsonObjectFormatter.class) JsonObject response,
+			String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 182,
+			value = "Elasticsearch rejected request '%1$s %2$s' because the cluster is overloaded."
+					+ " Retrying the request (retry #%3$d).")
+	void retryingRejectedRequest(String method, String path, int retryNumber);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 183,
+			value = "Elasticsearch rejected %1$d out of %2$d operations in a bulk request because the cluster is overloaded."
+					+ " Retrying the rejected operations (retry #%3$d).")
+	void retryingRejectedBulkItems(int rejectedCount, int totalCount, int retryNumber);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 184,
+			value = "Unable to retry operations rejected by Elasticsearch in a bulk request;"
+					+ " the rejected operations will be reported as failed. Failure: %1$s")
+	void unableToRetryRejectedBulkItems(String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 185,
+			value = "Unable to compute aggregation '%1$s' on field '%2$s':"
+					+ " the sum of values cannot be represented with the requested type."
+					+ " Request a wider type for the aggregation result, such as Long or Double. Sum: %3$s")
+	SearchException cannotComputeNumericMetric(String metric, String absoluteFieldPath, String sum);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET + 186,
+			value = "Unable to close point in time '%1$s'; it will be closed automatically when its keep-alive expires."
+					+ " Failure: %2$s")
+	void unableToClosePointInTime(String pointInTimeId, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 187,
+			value = "The knn predicate is not supported with this version of Elasticsearch."
+					+ " The knn predicate relies on the knn query, which requires Elasticsearch 8.12 or later.")
+	SearchException knnPredicateNotSupported(@Param EventContext context);
 }
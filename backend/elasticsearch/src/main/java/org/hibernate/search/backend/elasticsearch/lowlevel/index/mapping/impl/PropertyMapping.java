@@ -86,6 +86,17 @@ public class PropertyMapping extends AbstractTypeMapping {
 	@SerializedName("term_vector")
 	private String termVector;
 
+	/*
+	 * Dense vector datatype
+	 * https://www.elastic.co/guide/en/elasticsearch/reference/current/dense-vector.html
+	 */
+	private Integer dims;
+
+	private String similarity;
+
+	@SerializedName("element_type")
+	private String elementType;
+
 	public String getType() {
 		return type;
 	}
@@ -173,4 +184,28 @@ public String getTermVector() {
 	public void setTermVector(String termVector) {
 		this.termVector = termVector;
 	}
+
+	public Integer getDims() {
+		return dims;
+	}
+
+	public void setDims(Integer dims) {
+		this.dims = dims;
+	}
+
+	public String getSimilarity() {
+		return similarity;
+	}
+
+	public void setSimilarity(String similarity) {
+		this.similarity = similarity;
+	}
+
+	public String getElementType() {
+		return elementType;
+	}
+
+	public void setElementType(String elementType) {
+		this.elementType = elementType;
+	}
 }
@@ -23,7 +23,7 @@ public class Elasticsearch60SearchSyntax extends Elasticsearch64SearchSyntax {
 	@Override
 	public void requestDocValues(JsonObject requestBody, JsonPrimitive fieldName) {
 		// Elasticsearch 5 to 6.3 doesn't allow to specify a format,
-		// but we only request doc values for String field which do not require a format,
+		// but we only request doc values for string and numeric fields, which do not require a format,
 		// and unlike 6.7/6.8, there is no warning when we do not specify a format.
 		// So we just don't specify a format.
 		DOCVALUE_FIELDS_ACCESSOR.addElementIfAbsent( requestBody, fieldName );
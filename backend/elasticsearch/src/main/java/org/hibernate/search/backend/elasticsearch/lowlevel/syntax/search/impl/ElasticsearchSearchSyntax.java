@@ -24,4 +24,9 @@ public interface ElasticsearchSearchSyntax {
 
 	JsonElement encodeLongForAggregation(Long value);
 
+	/**
+	 * @return {@code true} if the {@code knn} query is supported, {@code false} otherwise.
+	 */
+	boolean supportsKnnQuery();
+
 }
@@ -21,6 +21,7 @@
 	}
 
 	protected final ElasticsearchWorkExecutionContext createWorkExecutionContext() {
-		return new ElasticsearchWorkExecutionContextImpl( link.getClient(), link.getGsonProvider() );
+		return new ElasticsearchWorkExecutionContextImpl( link.getClient(), link.getGsonProvider(),
+				link.getBackPressure() );
 	}
 }
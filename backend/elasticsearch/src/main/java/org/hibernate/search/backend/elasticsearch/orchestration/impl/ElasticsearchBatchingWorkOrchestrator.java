@@ -23,6 +23,8 @@
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
+import com.google.gson.Gson;
+
 /**
  * An orchestrator sending works to a queue which is processed periodically
  * in a separate thread.
@@ -54,6 +56,12 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Long> MAX_BULK_PAYLOAD_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_PAYLOAD_SIZE )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_PAYLOAD_SIZE )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -85,13 +93,15 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkPayloadSize = MAX_BULK_PAYLOAD_SIZE.get( propertySource );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize,
+					maxBulkPayloadSize );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
@@ -129,13 +139,16 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, long maxBulkPayloadSize) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		Gson gson = context.getGsonProvider().getGson();
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				maxBulkSize,
+				maxBulkPayloadSize,
+				work -> work.serializeBulkableAction( gson )
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
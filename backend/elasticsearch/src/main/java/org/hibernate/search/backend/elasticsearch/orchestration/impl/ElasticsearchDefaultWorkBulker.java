@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -21,8 +22,11 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkPayloadSize;
+	private final ToLongFunction<BulkableWork<?>> payloadSizeFunction;
 
-	private final List<BulkableWork<?>> currentBulkItems;
+	private List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkPayloadSize;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,11 +41,32 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, Long.MAX_VALUE, work -> 0L );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkPayloadSize Maximum size of the payload of a single bulk, in bytes.
+	 * If adding a work would make a non-empty bulk exceed this size, the bulk will be
+	 * {@link #finalizeBulkWork() finalized} before the work is added.
+	 * If a bulk reaches this size, it will be automatically {@link #finalizeBulkWork() finalized}.
+	 * @param payloadSizeFunction A function returning the size, in bytes, of the payload of a given work in a bulk.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkPayloadSize, ToLongFunction<BulkableWork<?>> payloadSizeFunction) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkPayloadSize = maxBulkPayloadSize;
+		this.payloadSizeFunction = payloadSizeFunction;
 
 		this.currentBulkItems = new ArrayList<>();
+		this.currentBulkPayloadSize = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -58,6 +83,14 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workPayloadSize = payloadSizeFunction.applyAsLong( work );
+		if ( !currentBulkItems.isEmpty() && currentBulkPayloadSize + workPayloadSize > maxBulkPayloadSize ) {
+			// This work would make the current bulk too large; we can't reuse the current bulk.
+			// Note a work larger than the maximum payload size will still be executed, alone in its bulk.
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +98,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkPayloadSize += workPayloadSize;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize || currentBulkPayloadSize >= maxBulkPayloadSize ) {
 			finalizeBulkWork();
 		}
 
@@ -85,6 +119,9 @@ public void finalizeBulkWork() {
 		}
 
 		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
+		// The bulk work keeps a reference to the list, e.g. to retry rejected items after the response arrives:
+		// hand the list over and start the next bulk with a new one.
+		currentBulkItems = new ArrayList<>();
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -92,6 +129,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkPayloadSize = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
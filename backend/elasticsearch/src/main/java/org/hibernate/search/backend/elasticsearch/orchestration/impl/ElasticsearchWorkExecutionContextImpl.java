@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBackPressure;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 
 /**
@@ -19,10 +20,13 @@ class ElasticsearchWorkExecutionContextImpl implements ElasticsearchWorkExecutio
 
 	private final ElasticsearchClient client;
 	private final GsonProvider gsonProvider;
+	private final ElasticsearchBackPressure backPressure;
 
-	public ElasticsearchWorkExecutionContextImpl(ElasticsearchClient client, GsonProvider gsonProvider) {
+	public ElasticsearchWorkExecutionContextImpl(ElasticsearchClient client, GsonProvider gsonProvider,
+			ElasticsearchBackPressure backPressure) {
 		this.client = client;
 		this.gsonProvider = gsonProvider;
+		this.backPressure = backPressure;
 	}
 
 	@Override
@@ -35,4 +39,9 @@ public GsonProvider getGsonProvider() {
 		return gsonProvider;
 	}
 
+	@Override
+	public ElasticsearchBackPressure getBackPressure() {
+		return backPressure;
+	}
+
 }
@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.work.spi.ElasticsearchWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -17,6 +22,7 @@
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Closer;
 
 public class BackendThreads {
 
@@ -25,10 +31,17 @@ public class BackendThreads {
 					.asBeanReference( ElasticsearchWorkExecutorProvider.class )
 					.withDefault( ElasticsearchBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor workExecutor;
+	private ExecutorService asyncSearchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -61,11 +74,18 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		// Threads are only created on the first asynchronous search.
+		int asyncSearchThreadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.asyncSearchExecutor = threadPoolProvider.newFixedThreadPool( asyncSearchThreadPoolSize,
+				prefix + " - Async search thread" );
 	}
 
 	public void onStop() {
-		if ( workExecutor != null ) {
-			workExecutor.shutdownNow();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( SimpleScheduledExecutor::shutdownNow, workExecutor );
+			closer.push( ExecutorService::shutdownNow, asyncSearchExecutor );
 		}
 	}
 
@@ -83,6 +103,14 @@ public SimpleScheduledExecutor getWorkExecutor() {
 		return workExecutor;
 	}
 
+	/**
+	 * @return The executor to use to process the responses of search queries executed asynchronously.
+	 */
+	public Executor getAsyncSearchExecutor() {
+		checkStarted();
+		return asyncSearchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
@@ -70,6 +70,7 @@
 	private final SearchBackendContext backendContext;
 	private final Gson userFacingGson;
 	private final ElasticsearchSearchSyntax searchSyntax;
+	private final boolean fieldProjectionDocValuesEnabled;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
 
@@ -85,7 +86,7 @@
 
 	public ElasticsearchSearchIndexScopeImpl(BackendMappingContext mappingContext,
 			SearchBackendContext backendContext,
-			Gson userFacingGson, ElasticsearchSearchSyntax searchSyntax,
+			Gson userFacingGson, ElasticsearchSearchSyntax searchSyntax, boolean fieldProjectionDocValuesEnabled,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			Set<ElasticsearchIndexModel> indexModels) {
@@ -93,6 +94,7 @@ public ElasticsearchSearchIndexScopeImpl(BackendMappingContext mappingContext,
 		this.backendContext = backendContext;
 		this.userFacingGson = userFacingGson;
 		this.searchSyntax = searchSyntax;
+		this.fieldProjectionDocValuesEnabled = fieldProjectionDocValuesEnabled;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 
@@ -124,6 +126,7 @@ private ElasticsearchSearchIndexScopeImpl(ElasticsearchSearchIndexScopeImpl pare
 		this.backendContext = parentScope.backendContext;
 		this.userFacingGson = parentScope.userFacingGson;
 		this.searchSyntax = parentScope.searchSyntax;
+		this.fieldProjectionDocValuesEnabled = parentScope.fieldProjectionDocValuesEnabled;
 		this.multiTenancyStrategy = parentScope.multiTenancyStrategy;
 		this.timingSource = parentScope.timingSource;
 		this.mappedTypeNameToIndex = parentScope.mappedTypeNameToIndex;
@@ -214,6 +217,11 @@ public ElasticsearchSearchSyntax searchSyntax() {
 		return searchSyntax;
 	}
 
+	@Override
+	public boolean fieldProjectionDocValuesEnabled() {
+		return fieldProjectionDocValuesEnabled;
+	}
+
 	@Override
 	public DocumentIdHelper documentIdHelper() {
 		return multiTenancyStrategy.documentIdHelper();
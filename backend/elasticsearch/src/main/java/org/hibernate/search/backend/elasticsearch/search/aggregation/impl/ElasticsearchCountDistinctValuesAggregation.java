@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchValueFieldSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+
+import com.google.gson.JsonObject;
+
+public class ElasticsearchCountDistinctValuesAggregation extends AbstractElasticsearchNestableAggregation<Long> {
+
+	private static final JsonAccessor<Long> VALUE_ACCESSOR = JsonAccessor.root().property( "value" ).asLong();
+
+	/*
+	 * The maximum precision threshold supported by Elasticsearch:
+	 * counts below this threshold are expected to be close to exact.
+	 */
+	private static final int EXACT_PRECISION_THRESHOLD = 40000;
+
+	private final String absoluteFieldPath;
+	private final boolean approximate;
+
+	private ElasticsearchCountDistinctValuesAggregation(Builder builder) {
+		super( builder );
+		this.absoluteFieldPath = builder.field.absolutePath();
+		this.approximate = builder.approximate;
+	}
+
+	@Override
+	protected JsonObject doRequest(AggregationRequestContext context) {
+		JsonObject outerObject = new JsonObject();
+		JsonObject innerObject = new JsonObject();
+
+		outerObject.add( "cardinality", innerObject );
+		innerObject.addProperty( "field", absoluteFieldPath );
+		if ( !approximate ) {
+			innerObject.addProperty( "precision_threshold", EXACT_PRECISION_THRESHOLD );
+		}
+		return outerObject;
+	}
+
+	@Override
+	protected Long doExtract(JsonObject aggregationResult, AggregationExtractContext context) {
+		return VALUE_ACCESSOR.get( aggregationResult ).orElse( 0L );
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchValueFieldSearchQueryElementFactory<CountDistinctValuesAggregationBuilder, F> {
+		@Override
+		public CountDistinctValuesAggregationBuilder create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new Builder( scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountDistinctValuesAggregationBuilder {
+
+		private boolean approximate = false;
+
+		private Builder(ElasticsearchSearchIndexScope<?> scope, ElasticsearchSearchIndexValueFieldContext<?> field) {
+			super( scope, field );
+		}
+
+		@Override
+		public void approximate() {
+			this.approximate = true;
+		}
+
+		@Override
+		public ElasticsearchCountDistinctValuesAggregation build() {
+			return new ElasticsearchCountDistinctValuesAggregation( this );
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchValueFieldSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.engine.search.aggregation.spi.CountValuesAggregationBuilder;
+
+import com.google.gson.JsonObject;
+
+public class ElasticsearchCountValuesAggregation extends AbstractElasticsearchNestableAggregation<Long> {
+
+	private static final JsonAccessor<Long> VALUE_ACCESSOR = JsonAccessor.root().property( "value" ).asLong();
+
+	private final String absoluteFieldPath;
+
+	private ElasticsearchCountValuesAggregation(Builder builder) {
+		super( builder );
+		this.absoluteFieldPath = builder.field.absolutePath();
+	}
+
+	@Override
+	protected JsonObject doRequest(AggregationRequestContext context) {
+		JsonObject outerObject = new JsonObject();
+		JsonObject innerObject = new JsonObject();
+
+		outerObject.add( "value_count", innerObject );
+		innerObject.addProperty( "field", absoluteFieldPath );
+		return outerObject;
+	}
+
+	@Override
+	protected Long doExtract(JsonObject aggregationResult, AggregationExtractContext context) {
+		return VALUE_ACCESSOR.get( aggregationResult ).orElse( 0L );
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchValueFieldSearchQueryElementFactory<CountValuesAggregationBuilder, F> {
+		@Override
+		public CountValuesAggregationBuilder create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new Builder( scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountValuesAggregationBuilder {
+
+		private Builder(ElasticsearchSearchIndexScope<?> scope, ElasticsearchSearchIndexValueFieldContext<?> field) {
+			super( scope, field );
+		}
+
+		@Override
+		public ElasticsearchCountValuesAggregation build() {
+			return new ElasticsearchCountValuesAggregation( this );
+		}
+	}
+}
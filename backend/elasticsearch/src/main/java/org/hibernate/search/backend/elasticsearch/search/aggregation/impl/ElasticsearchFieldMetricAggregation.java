@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.engine.search.aggregation.spi.FieldMetricAggregationBuilder;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A single-value metric aggregation relying on the native aggregation of the same name:
+ * {@code sum}, {@code min}, {@code max} or {@code avg}.
+ *
+ * @param <F> The type of field values.
+ * @param <K> The type of the aggregation result. It can be {@code F},
+ * a different type if value converters are used,
+ * or a wider numeric type ({@code Long}, {@code Double}) for sums and averages.
+ */
+public class ElasticsearchFieldMetricAggregation<F, K> extends AbstractElasticsearchNestableAggregation<K> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SUM = "sum";
+	private static final String AVG = "avg";
+
+	private final String absoluteFieldPath;
+	private final String operation;
+
+	private final ResultForm resultForm;
+	private final Class<K> resultType;
+	private final ProjectionConverter<F, ? extends K> fromFieldValueConverter;
+	private final ElasticsearchFieldCodec<F> codec;
+
+	private ElasticsearchFieldMetricAggregation(Builder<F, K> builder) {
+		super( builder );
+		this.absoluteFieldPath = builder.field.absolutePath();
+		this.operation = builder.operation;
+		this.resultForm = builder.resultForm;
+		this.resultType = builder.resultType;
+		this.fromFieldValueConverter = builder.fromFieldValueConverter;
+		this.codec = builder.codec;
+	}
+
+	@Override
+	protected JsonObject doRequest(AggregationRequestContext context) {
+		JsonObject outerObject = new JsonObject();
+		JsonObject innerObject = new JsonObject();
+
+		outerObject.add( operation, innerObject );
+		innerObject.addProperty( "field", absoluteFieldPath );
+		return outerObject;
+	}
+
+	@Override
+	protected K doExtract(JsonObject aggregationResult, AggregationExtractContext context) {
+		JsonElement value = aggregationResult.get( "value" );
+		if ( value == null || value.isJsonNull() ) {
+			// No value to aggregate (min, max, avg)
+			return null;
+		}
+		switch ( resultForm ) {
+			case LONG:
+				// Elasticsearch computes sums as doubles, even for integral fields.
+				return resultType.cast( value.getAsBigDecimal().longValue() );
+			case DOUBLE:
+				return resultType.cast( value.getAsDouble() );
+			case FIELD_VALUE:
+			default:
+				JsonElement valueAsString = aggregationResult.get( "value_as_string" );
+				F fieldValue = codec.decodeAggregationKey( value, valueAsString );
+				if ( SUM.equals( operation ) && isIntegral( fieldValue )
+						&& BigDecimal.valueOf( ( (Number) fieldValue ).longValue() )
+								.compareTo( value.getAsBigDecimal() ) != 0 ) {
+					// The sum of byte values, for example, may not fit into a byte.
+					throw log.cannotComputeNumericMetric( operation, absoluteFieldPath, value.getAsString() );
+				}
+				return fromFieldValueConverter.fromDocumentValue( fieldValue,
+						context.fromDocumentValueConvertContext() );
+		}
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Byte || value instanceof Short
+				|| value instanceof Integer || value instanceof Long;
+	}
+
+	private static boolean isIntegral(Class<?> valueClass) {
+		return Byte.class.equals( valueClass ) || Short.class.equals( valueClass )
+				|| Integer.class.equals( valueClass ) || Long.class.equals( valueClass );
+	}
+
+	/**
+	 * The form of the aggregation result.
+	 */
+	private enum ResultForm {
+		/**
+		 * A value of the field type, possibly converted.
+		 */
+		FIELD_VALUE,
+		/**
+		 * A long, for sums of integral fields.
+		 */
+		LONG,
+		/**
+		 * A double, for sums and averages.
+		 */
+		DOUBLE
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<FieldMetricAggregationBuilder.TypeSelector, F> {
+		private final String operation;
+
+		public Factory(ElasticsearchFieldCodec<F> codec, String operation) {
+			super( codec );
+			this.operation = operation;
+		}
+
+		@Override
+		public TypeSelector<?> create(ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new TypeSelector<>( codec, operation, scope, field );
+		}
+	}
+
+	private static class TypeSelector<F> implements FieldMetricAggregationBuilder.TypeSelector {
+		private final ElasticsearchFieldCodec<F> codec;
+		private final String operation;
+		private final ElasticsearchSearchIndexScope<?> scope;
+		private final ElasticsearchSearchIndexValueFieldContext<F> field;
+
+		private TypeSelector(ElasticsearchFieldCodec<F> codec, String operation,
+				ElasticsearchSearchIndexScope<?> scope, ElasticsearchSearchIndexValueFieldContext<F> field) {
+			this.codec = codec;
+			this.operation = operation;
+			this.scope = scope;
+			this.field = field;
+		}
+
+		@Override
+		public <T> Builder<F, T> type(Class<T> expectedType, ValueConvert convert) {
+			if ( AVG.equals( operation ) ) {
+				// The DSL only accepts types that Double values can be assigned to.
+				return new Builder<>( codec, operation, scope, field, ResultForm.DOUBLE, expectedType, null );
+			}
+			if ( SUM.equals( operation ) ) {
+				if ( Long.class.equals( expectedType ) && isIntegral( field.type().valueClass() ) ) {
+					return new Builder<>( codec, operation, scope, field, ResultForm.LONG, expectedType, null );
+				}
+				if ( Double.class.equals( expectedType ) ) {
+					return new Builder<>( codec, operation, scope, field, ResultForm.DOUBLE, expectedType, null );
+				}
+			}
+			return new Builder<>( codec, operation, scope, field, ResultForm.FIELD_VALUE, expectedType,
+					field.type().projectionConverter( convert ).withConvertedType( expectedType, field ) );
+		}
+	}
+
+	private static class Builder<F, K> extends AbstractBuilder<K>
+			implements FieldMetricAggregationBuilder<K> {
+
+		private final ElasticsearchFieldCodec<F> codec;
+		private final String operation;
+		private final ResultForm resultForm;
+		private final Class<K> resultType;
+		private final ProjectionConverter<F, ? extends K> fromFieldValueConverter;
+
+		private Builder(ElasticsearchFieldCodec<F> codec, String operation, ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field,
+				ResultForm resultForm, Class<K> resultType,
+				ProjectionConverter<F, ? extends K> fromFieldValueConverter) {
+			super( scope, field );
+			this.codec = codec;
+			this.operation = operation;
+			this.resultForm = resultForm;
+			this.resultType = resultType;
+			this.fromFieldValueConverter = fromFieldValueConverter;
+		}
+
+		@Override
+		public ElasticsearchFieldMetricAggregation<F, K> build() {
+			return new ElasticsearchFieldMetricAggregation<>( this );
+		}
+	}
+}
@@ -81,4 +81,14 @@ public boolean hasNormalizerOnAtLeastOneIndex() {
 		}
 		return false;
 	}
+
+	@Override
+	public boolean projectableFromDocValuesOnAllIndexes() {
+		for ( ElasticsearchSearchIndexValueFieldContext<F> indexElement : nodeForEachIndex ) {
+			if ( !indexElement.type().projectableFromDocValuesOnAllIndexes() ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
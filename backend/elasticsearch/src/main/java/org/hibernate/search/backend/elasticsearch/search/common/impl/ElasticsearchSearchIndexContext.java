@@ -23,4 +23,11 @@ public interface ElasticsearchSearchIndexContext {
 
 	int maxResultWindow();
 
+	/**
+	 * @param absoluteFieldPathComponents The components of the absolute path of a field.
+	 * @return {@code true} if the custom mapping of this index, if any, defines the given field,
+	 * in which case the field may be mapped differently than Hibernate Search expects.
+	 */
+	boolean hasCustomMapping(String[] absoluteFieldPathComponents);
+
 }
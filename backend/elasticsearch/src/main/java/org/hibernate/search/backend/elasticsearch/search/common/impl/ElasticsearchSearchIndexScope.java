@@ -31,6 +31,8 @@
 
 	ElasticsearchSearchSyntax searchSyntax();
 
+	boolean fieldProjectionDocValuesEnabled();
+
 	DocumentIdHelper documentIdHelper();
 
 	JsonObject filterOrNull(String tenantId);
@@ -24,4 +24,6 @@
 
 	boolean hasNormalizerOnAtLeastOneIndex();
 
+	boolean projectableFromDocValuesOnAllIndexes();
+
 }
@@ -23,7 +23,7 @@ private PredicateRequestContext(BackendSessionContext sessionContext, String nes
 		this.nestedPath = nestedPath;
 	}
 
-	String getTenantId() {
+	public String getTenantId() {
 		return sessionContext.tenantIdentifier();
 	}
 
@@ -7,10 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.search.projection.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.UnknownTypeJsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexContext;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
 import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFieldCodec;
@@ -42,6 +46,7 @@
 	private final String absoluteFieldPath;
 	private final String[] absoluteFieldPathComponents;
 	private final String requiredContextAbsoluteFieldPath;
+	private final UnknownTypeJsonAccessor hitDocValueAccessor;
 
 	private final Function<JsonElement, F> decodeFunction;
 	private final ProjectionConverter<? super F, ? extends V> converter;
@@ -49,23 +54,57 @@
 
 	private ElasticsearchFieldProjection(Builder<F, V> builder,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider,
+				builder.scope.fieldProjectionDocValuesEnabled()
+						&& accumulatorProvider.isSingleValued()
+						&& !builder.field.multiValuedInRoot()
+						&& builder.field.nestedPathHierarchy().isEmpty()
+						&& builder.field.type().projectableFromDocValuesOnAllIndexes()
+						&& !hasCustomMappingOnAnyIndex( builder.scope, builder.field ) );
 	}
 
 	ElasticsearchFieldProjection(ElasticsearchSearchIndexScope<?> scope,
 			ElasticsearchSearchIndexValueFieldContext<?> field,
 			Function<JsonElement, F> decodeFunction, ProjectionConverter<? super F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, converter, accumulatorProvider, false );
+	}
+
+	private ElasticsearchFieldProjection(ElasticsearchSearchIndexScope<?> scope,
+			ElasticsearchSearchIndexValueFieldContext<?> field,
+			Function<JsonElement, F> decodeFunction, ProjectionConverter<? super F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider, boolean fromDocValues) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.absoluteFieldPathComponents = field.absolutePathComponents();
 		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
 				? field.closestMultiValuedParentAbsolutePath() : null;
+		this.hitDocValueAccessor = fromDocValues
+				? JsonAccessor.root().property( "fields" ).asObject()
+						.property( absoluteFieldPath ).asArray()
+						.element( 0 )
+				: null;
 		this.decodeFunction = decodeFunction;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
 
+	/*
+	 * A custom mapping may alter the field in ways that make doc values differ from the source:
+	 * e.g. "ignore_above" on a keyword field means longer values have no doc values at all.
+	 * In that case, we'd rather rely on the source.
+	 */
+	private static boolean hasCustomMappingOnAnyIndex(ElasticsearchSearchIndexScope<?> scope,
+			ElasticsearchSearchIndexValueFieldContext<?> field) {
+		String[] absolutePathComponents = field.absolutePathComponents();
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			if ( index.hasCustomMapping( absolutePathComponents ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
@@ -75,7 +114,7 @@ public String toString() {
 	}
 
 	@Override
-	public ValueFieldExtractor<?> request(JsonObject requestBody, ProjectionRequestContext context) {
+	public Extractor<?, P> request(JsonObject requestBody, ProjectionRequestContext context) {
 		ProjectionRequestContext innerContext = context.forField( absoluteFieldPath, absoluteFieldPathComponents );
 		if ( requiredContextAbsoluteFieldPath != null
 				&& !requiredContextAbsoluteFieldPath.equals( context.absoluteCurrentFieldPath() ) ) {
@@ -83,6 +122,12 @@ public ValueFieldExtractor<?> request(JsonObject requestBody, ProjectionRequestC
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
+		if ( hitDocValueAccessor != null && context.absoluteCurrentFieldPath() == null ) {
+			// Single-valued field at the root: doc values will hold the same value as the source,
+			// and retrieving them spares Elasticsearch from loading the source.
+			context.root().getSearchSyntax().requestDocValues( requestBody, fieldPathJson );
+			return new DocValueFieldExtractor<>( accumulatorProvider.get() );
+		}
 		AccumulatingSourceExtractor.REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, fieldPathJson );
 		return new ValueFieldExtractor<>( innerContext.relativeCurrentFieldPathComponents(), accumulatorProvider.get() );
 	}
@@ -118,6 +163,44 @@ public P transform(LoadingResult<?> loadingResult, A extractedData,
 		}
 	}
 
+	/**
+	 * @param <A> The type of the temporary storage for accumulated values, before and after being transformed.
+	 */
+	private class DocValueFieldExtractor<A> implements Extractor<A, P> {
+		private final ProjectionAccumulator<F, V, A, P> accumulator;
+
+		private DocValueFieldExtractor(ProjectionAccumulator<F, V, A, P> accumulator) {
+			this.accumulator = accumulator;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "absoluteFieldPath=" + absoluteFieldPath
+					+ ", accumulator=" + accumulator
+					+ "]";
+		}
+
+		@Override
+		public A extract(ProjectionHitMapper<?> projectionHitMapper, JsonObject hit,
+				JsonObject source, ProjectionExtractContext context) {
+			A accumulated = accumulator.createInitial();
+			Optional<JsonElement> docValue = hitDocValueAccessor.get( hit );
+			if ( docValue.isPresent() ) {
+				accumulated = accumulator.accumulate( accumulated, decodeFunction.apply( docValue.get() ) );
+			}
+			return accumulated;
+		}
+
+		@Override
+		public P transform(LoadingResult<?> loadingResult, A extractedData,
+				ProjectionTransformContext context) {
+			FromDocumentValueConvertContext convertContext = context.fromDocumentValueConvertContext();
+			A transformedData = accumulator.transformAll( extractedData, converter, convertContext );
+			return accumulator.finish( transformedData );
+		}
+	}
+
 	public static class Factory<F>
 			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<FieldProjectionBuilder.TypeSelector, F> {
 		public Factory(ElasticsearchFieldCodec<F> codec) {
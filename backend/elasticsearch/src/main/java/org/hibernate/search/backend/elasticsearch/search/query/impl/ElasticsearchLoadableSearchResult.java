@@ -61,10 +61,15 @@
 	}
 
 	ElasticsearchSearchResultImpl<H> loadBlocking() {
-		ProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		return transform( extractContext.getProjectionHitMapper().loadBlocking( deadline ) );
+	}
 
-		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper()
-				.loadBlocking( deadline );
+	ElasticsearchSearchResultImpl<H> loadBlockingInDedicatedContext() {
+		return transform( extractContext.getProjectionHitMapper().loadBlockingInDedicatedContext( deadline ) );
+	}
+
+	private ElasticsearchSearchResultImpl<H> transform(LoadingResult<?> loadingResult) {
+		ProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
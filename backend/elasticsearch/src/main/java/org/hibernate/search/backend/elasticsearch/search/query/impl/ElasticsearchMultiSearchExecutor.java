@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchItem;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes the queries of a multi-search in a single request to the {@code _msearch} endpoint.
+ * <p>
+ * Entity loading happens sequentially in the calling thread, after the response is received.
+ */
+public final class ElasticsearchMultiSearchExecutor implements MultiSearchExecutor {
+
+	private final Supplier<ElasticsearchWorkFactory> workFactorySupplier;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	/**
+	 * @param workFactorySupplier A supplier for the work factory,
+	 * which is only available once the backend has connected to the cluster.
+	 * @param queryOrchestrator The orchestrator to submit multi-search works to.
+	 */
+	public ElasticsearchMultiSearchExecutor(Supplier<ElasticsearchWorkFactory> workFactorySupplier,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.workFactorySupplier = workFactorySupplier;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + queryOrchestrator + "]";
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<MultiSearchItem> items) {
+		List<Execution<?>> executions = new ArrayList<>( items.size() );
+		MultiSearchWork.Builder builder = workFactorySupplier.get().multiSearch();
+		for ( MultiSearchItem item : items ) {
+			Execution<?> execution = execution( (ElasticsearchSearchQueryImpl<?>) item.query(),
+					item.offset(), item.limit() );
+			executions.add( execution );
+			builder.search( execution.work );
+		}
+
+		MultiSearchResult multiSearchResult = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( builder.build(), OperationSubmitter.blocking() ) );
+
+		// WARNING: loading must run in the user thread: the loading context must not be used concurrently.
+		List<SearchResult<?>> results = new ArrayList<>( executions.size() );
+		for ( int i = 0; i < executions.size(); i++ ) {
+			results.add( executions.get( i ).load( multiSearchResult, i ) );
+		}
+		return results;
+	}
+
+	private static <H> Execution<H> execution(ElasticsearchSearchQueryImpl<H> query, Integer offset, Integer limit) {
+		return new Execution<>( query, offset, limit, query.multiSearchWork( offset, limit ) );
+	}
+
+	private static final class Execution<H> {
+		private final ElasticsearchSearchQueryImpl<H> query;
+		private final Integer offset;
+		private final Integer limit;
+		private final SearchWork<ElasticsearchLoadableSearchResult<H>> work;
+
+		private Execution(ElasticsearchSearchQueryImpl<H> query, Integer offset, Integer limit,
+				SearchWork<ElasticsearchLoadableSearchResult<H>> work) {
+			this.query = query;
+			this.offset = offset;
+			this.limit = limit;
+			this.work = work;
+		}
+
+		SearchResult<H> load(MultiSearchResult multiSearchResult, int index) {
+			return query.multiSearchLoad( multiSearchResult.extract( work, index ), offset, limit );
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * An opaque cursor for search-after paging:
+ * the ID of the point in time the first page was fetched from,
+ * and the sort values of the last hit of the previous page.
+ */
+final class ElasticsearchSearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+	private static final JsonAccessor<String> PIT_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+	private static final JsonAccessor<JsonArray> SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final String PIT_PROPERTY = "pit";
+	private static final String AFTER_PROPERTY = "after";
+
+	static ElasticsearchSearchCursor decode(String cursor) {
+		try {
+			String json = new String( Base64.getUrlDecoder().decode( cursor ), StandardCharsets.UTF_8 );
+			JsonObject object = JsonParser.parseString( json ).getAsJsonObject();
+			return new ElasticsearchSearchCursor( object.get( PIT_PROPERTY ).getAsString(),
+					object.get( AFTER_PROPERTY ).getAsJsonArray() );
+		}
+		catch (RuntimeException e) {
+			throw log.invalidSearchCursor( cursor, e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * @param responseBody The body of the response to a point in time search.
+	 * @param pointInTimeId The ID of the point in time used for that search.
+	 * @return The ID of the point in time to use for the next search, and to close eventually.
+	 */
+	static String nextPointInTimeId(JsonObject responseBody, String pointInTimeId) {
+		// The point in time ID may change from one request to the next: always use the latest one.
+		return PIT_ID_ACCESSOR.get( responseBody ).orElse( pointInTimeId );
+	}
+
+	/**
+	 * @param responseBody The body of the response to a point in time search.
+	 * @param pointInTimeId The ID of the point in time to use for the next search,
+	 * see {@link #nextPointInTimeId(JsonObject, String)}.
+	 * @param limit The limit used for that search.
+	 * @return The cursor pointing after the last hit in the response,
+	 * or {@code null} if the response contains fewer hits than the limit, meaning there are no more hits.
+	 */
+	static String next(JsonObject responseBody, String pointInTimeId, int limit) {
+		JsonArray hits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+		if ( limit == 0 || hits.size() < limit ) {
+			return null;
+		}
+		JsonElement lastHit = hits.get( hits.size() - 1 );
+		Optional<JsonArray> sortValues = SORT_ACCESSOR.get( lastHit.getAsJsonObject() );
+		if ( !sortValues.isPresent() ) {
+			return null;
+		}
+		return new ElasticsearchSearchCursor( pointInTimeId, sortValues.get() ).encode();
+	}
+
+	private final String pointInTimeId;
+	private final JsonArray sortValues;
+
+	private ElasticsearchSearchCursor(String pointInTimeId, JsonArray sortValues) {
+		this.pointInTimeId = pointInTimeId;
+		this.sortValues = sortValues;
+	}
+
+	String pointInTimeId() {
+		return pointInTimeId;
+	}
+
+	JsonArray sortValues() {
+		return sortValues;
+	}
+
+	private String encode() {
+		JsonObject object = new JsonObject();
+		object.addProperty( PIT_PROPERTY, pointInTimeId );
+		object.add( AFTER_PROPERTY, sortValues );
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString( object.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -39,6 +40,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
@@ -62,6 +64,8 @@
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final MultiSearchExecutor multiSearchExecutor;
+	private final Executor asyncSearchExecutor;
 
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -88,6 +92,8 @@ public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			MultiSearchExecutor multiSearchExecutor,
+			Executor asyncSearchExecutor,
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
@@ -96,6 +102,8 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
+		this.asyncSearchExecutor = asyncSearchExecutor;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -279,7 +287,7 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, multiSearchExecutor, asyncSearchExecutor,
 				scope, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
@@ -11,6 +11,9 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -24,9 +27,11 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -35,8 +40,12 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchAfterResult;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchAfterResult;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
@@ -53,6 +62,8 @@
 
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final MultiSearchExecutor multiSearchExecutor;
+	private final Executor asyncSearchExecutor;
 	private final ElasticsearchSearchIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?> loadingContext;
@@ -72,6 +83,8 @@
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			MultiSearchExecutor multiSearchExecutor,
+			Executor asyncSearchExecutor,
 			ElasticsearchSearchIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
@@ -82,6 +95,8 @@
 			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
+		this.asyncSearchExecutor = asyncSearchExecutor;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -169,32 +184,90 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 	}
 
 	@Override
-	public long fetchTotalHitCount() {
+	public SearchAfterResult<H> fetchAfter(String cursor, int limit) {
+		ElasticsearchSearchCursor after = cursor == null ? null : ElasticsearchSearchCursor.decode( cursor );
+		String keepAlive = this.scrollTimeout + "s";
+
 		timeoutManager.start();
+		String pointInTimeId = after == null ? null : after.pointInTimeId();
+		ElasticsearchSearchResultImpl<H> result;
+		try {
+			if ( pointInTimeId == null ) {
+				pointInTimeId = openPointInTime( keepAlive );
+			}
+			SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder = searchWorkBuilder()
+					.paging( limit, null )
+					.totalHitCountThreshold( totalHitCountThreshold )
+					.pointInTime( pointInTimeId, keepAlive );
+			if ( after != null ) {
+				builder.searchAfter( after.sortValues() );
+			}
 
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
+			result = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( builder.build(), OperationSubmitter.blocking() ) )
+					// WARNING: loading must run in the user thread, see fetch().
+					.loadBlocking();
+		}
+		catch (RuntimeException e) {
+			timeoutManager.stop();
+			if ( pointInTimeId != null ) {
+				// The cursor chain ends here: don't wait for the point in time to expire.
+				closePointInTime( pointInTimeId, e );
+			}
+			throw e;
 		}
+		timeoutManager.stop();
 
-		CountWork.Builder builder = workFactory.count();
-		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
-			builder.index( index.names().read() );
+		String nextPointInTimeId = ElasticsearchSearchCursor.nextPointInTimeId( result.responseBody(), pointInTimeId );
+		String nextCursor = ElasticsearchSearchCursor.next( result.responseBody(), nextPointInTimeId, limit );
+		if ( nextCursor == null ) {
+			// No more hits: don't wait for the point in time to expire.
+			closePointInTime( nextPointInTimeId, null );
 		}
-		builder.query( filteredPayload )
-				.routingKeys( routingKeys )
-				// soft timeout has no meaning for a count work
-				.deadline( timeoutManager.hardDeadlineOrNull() )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				);
-		NonBulkableWork<Long> work = builder.build();
+		return new SimpleSearchAfterResult<>( result.total(), result.hits(), nextCursor,
+				result.took(), result.timedOut() );
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		timeoutManager.start();
+		NonBulkableWork<Long> work = countWork();
 		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+		return loadAsync( submitAsync( work ), limit, defaultedLimit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.disableTrackTotalHits()
+				.build();
+		return loadAsync( submitAsync( work ), limit, defaultedLimit )
+				.thenApply( SearchResult::hits );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		timeoutManager.start();
+		NonBulkableWork<Long> work = countWork();
+		return submitAsync( work )
+				.whenComplete( (result, throwable) -> timeoutManager.stop() );
+	}
+
 	@Override
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
@@ -234,6 +307,106 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
+	SearchWork<ElasticsearchLoadableSearchResult<H>> multiSearchWork(Integer offset, Integer limit) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		return searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+	}
+
+	ElasticsearchSearchResult<H> multiSearchLoad(ElasticsearchLoadableSearchResult<H> loadableResult,
+			Integer offset, Integer limit) {
+		// WARNING: loading must run in the user thread, see fetch().
+		ElasticsearchSearchResultImpl<H> result = loadableResult.loadBlocking();
+		timeoutManager.stop();
+
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
+		return result;
+	}
+
+	private String openPointInTime(String keepAlive) {
+		OpenPointInTimeWork.Builder builder = workFactory.openPointInTime( keepAlive );
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			builder.index( index.names().read() );
+		}
+		builder.routingKeys( routingKeys )
+				.deadline( timeoutManager.hardDeadlineOrNull() );
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( builder.build(), OperationSubmitter.blocking() ) );
+	}
+
+	private void closePointInTime(String pointInTimeId, RuntimeException failureOrNull) {
+		ClosePointInTimeWork work = workFactory.closePointInTime( pointInTimeId ).build();
+		try {
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
+		}
+		catch (RuntimeException e) {
+			if ( failureOrNull != null ) {
+				failureOrNull.addSuppressed( e );
+			}
+			else {
+				// The hits were fetched successfully: don't fail, the point in time will expire eventually.
+				log.unableToClosePointInTime( pointInTimeId, e.getMessage(), e );
+			}
+		}
+	}
+
+	private <T> CompletableFuture<T> submitAsync(NonBulkableWork<T> work) {
+		// Never block the calling thread, even if the queue is full: offload the submission instead.
+		// Submission failures are reported through the future, like any other failure.
+		return Futures.create( () -> queryOrchestrator.submit( work,
+				OperationSubmitter.offloading( asyncSearchExecutor::execute ) ) );
+	}
+
+	private CompletableFuture<SearchResult<H>> loadAsync(
+			CompletableFuture<ElasticsearchLoadableSearchResult<H>> loadableResultFuture,
+			Integer limit, Integer defaultedLimit) {
+		/*
+		 * Loading is generally blocking (e.g. database queries),
+		 * so it must not happen in the threads of the HTTP client, which complete the future:
+		 * we use a dedicated executor instead.
+		 * The loading context may not be usable from that executor (e.g. Hibernate ORM sessions),
+		 * so loading relies on dedicated resources.
+		 */
+		return loadableResultFuture.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlockingInDedicatedContext,
+						asyncSearchExecutor )
+				// Stop the timeout manager on failure too, be it while searching or loading.
+				.whenComplete( (result, throwable) -> timeoutManager.stop() )
+				.<SearchResult<H>>thenApply( result -> {
+					if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+						// user may not be aware of this defaultedLimit
+						log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+					}
+					return result;
+				} );
+	}
+
+	private NonBulkableWork<Long> countWork() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		CountWork.Builder builder = workFactory.count();
+		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+			builder.index( index.names().read() );
+		}
+		builder.query( filteredPayload )
+				.routingKeys( routingKeys )
+				// soft timeout has no meaning for a count work
+				.deadline( timeoutManager.hardDeadlineOrNull() )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				);
+		return builder.build();
+	}
+
 	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
 				workFactory.search( payload, searchResultExtractor );
@@ -296,6 +469,11 @@ private URLEncodedString toElasticsearchId(ElasticsearchSearchIndexContext index
 				.toElasticsearchId( sessionContext.tenantIdentifier(), documentId ) );
 	}
 
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return multiSearchExecutor;
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		// replace the timeout manager on already created query instance
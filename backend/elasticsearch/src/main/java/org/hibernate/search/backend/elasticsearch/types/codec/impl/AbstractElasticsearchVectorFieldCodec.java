@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+/**
+ * A codec for vector fields, encoded as JSON arrays of numbers and mapped to the {@code dense_vector} datatype.
+ *
+ * @param <F> The type of vectors, e.g. {@code float[]}.
+ */
+public abstract class AbstractElasticsearchVectorFieldCodec<F> implements ElasticsearchFieldCodec<F> {
+
+	private final Class<F> vectorType;
+	private final int dimension;
+
+	AbstractElasticsearchVectorFieldCodec(Class<F> vectorType, int dimension) {
+		this.vectorType = vectorType;
+		this.dimension = dimension;
+	}
+
+	@Override
+	public JsonElement encode(F value) {
+		if ( value == null ) {
+			return JsonNull.INSTANCE;
+		}
+		JsonArray result = new JsonArray( dimension( value ) );
+		addElements( result, value );
+		return result;
+	}
+
+	@Override
+	public F decode(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return null;
+		}
+		return decode( JsonElementTypes.ARRAY.fromElement( element ) );
+	}
+
+	@Override
+	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( getClass() != obj.getClass() ) {
+			return false;
+		}
+		AbstractElasticsearchVectorFieldCodec<?> other = (AbstractElasticsearchVectorFieldCodec<?>) obj;
+		return dimension == other.dimension;
+	}
+
+	public Class<F> vectorType() {
+		return vectorType;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	public abstract int dimension(F vector);
+
+	abstract void addElements(JsonArray array, F vector);
+
+	abstract F decode(JsonArray array);
+
+}
@@ -34,6 +34,11 @@ public Byte decode(JsonElement element) {
 		return JsonElementTypes.BYTE.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
+
+import com.google.gson.JsonArray;
+
+public class ElasticsearchByteVectorFieldCodec extends AbstractElasticsearchVectorFieldCodec<byte[]> {
+
+	public ElasticsearchByteVectorFieldCodec(int dimension) {
+		super( byte[].class, dimension );
+	}
+
+	@Override
+	public int dimension(byte[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	void addElements(JsonArray array, byte[] vector) {
+		for ( byte element : vector ) {
+			array.add( element );
+		}
+	}
+
+	@Override
+	byte[] decode(JsonArray array) {
+		byte[] result = new byte[array.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = JsonElementTypes.BYTE.fromElement( array.get( i ) );
+		}
+		return result;
+	}
+}
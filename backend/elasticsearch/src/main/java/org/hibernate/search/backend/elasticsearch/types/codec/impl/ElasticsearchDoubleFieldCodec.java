@@ -34,6 +34,11 @@ public Double decode(JsonElement element) {
 		return JsonElementTypes.DOUBLE.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
@@ -51,6 +51,16 @@ default F decodeAggregationKey(JsonElement key, JsonElement keyAsString) {
 		return decode( key );
 	}
 
+	/**
+	 * @return {@code true} if {@link #decode(JsonElement)} can also decode values
+	 * returned by Elasticsearch when requesting doc values for a field,
+	 * i.e. if doc values are returned in the same format as values in the document source.
+	 * {@code false} otherwise, or when in doubt.
+	 */
+	default boolean canDecodeDocValues() {
+		return false;
+	}
+
 	/**
 	 * Determine whether another codec is compatible with this one, i.e. whether it will encode/decode the information
 	 * to/from the document in a compatible way.
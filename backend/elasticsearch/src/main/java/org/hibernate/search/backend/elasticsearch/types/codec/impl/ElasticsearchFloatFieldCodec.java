@@ -34,6 +34,11 @@ public Float decode(JsonElement element) {
 		return JsonElementTypes.FLOAT.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
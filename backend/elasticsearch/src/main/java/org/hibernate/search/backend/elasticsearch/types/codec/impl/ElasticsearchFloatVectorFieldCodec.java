@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.codec.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
+
+import com.google.gson.JsonArray;
+
+public class ElasticsearchFloatVectorFieldCodec extends AbstractElasticsearchVectorFieldCodec<float[]> {
+
+	public ElasticsearchFloatVectorFieldCodec(int dimension) {
+		super( float[].class, dimension );
+	}
+
+	@Override
+	public int dimension(float[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	void addElements(JsonArray array, float[] vector) {
+		for ( float element : vector ) {
+			array.add( element );
+		}
+	}
+
+	@Override
+	float[] decode(JsonArray array) {
+		float[] result = new float[array.size()];
+		for ( int i = 0; i < result.length; i++ ) {
+			result[i] = JsonElementTypes.FLOAT.fromElement( array.get( i ) );
+		}
+		return result;
+	}
+}
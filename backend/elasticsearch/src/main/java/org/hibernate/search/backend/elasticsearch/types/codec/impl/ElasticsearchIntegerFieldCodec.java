@@ -35,6 +35,11 @@ public Integer decode(JsonElement element) {
 		return JsonElementTypes.INTEGER.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
@@ -40,6 +40,11 @@ public Long decode(JsonElement element) {
 		return JsonElementTypes.LONG.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
@@ -34,6 +34,11 @@ public Short decode(JsonElement element) {
 		return JsonElementTypes.SHORT.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
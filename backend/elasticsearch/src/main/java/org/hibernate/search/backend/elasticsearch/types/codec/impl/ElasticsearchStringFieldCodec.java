@@ -35,6 +35,11 @@ public String decode(JsonElement element) {
 		return JsonElementTypes.STRING.fromElement( element );
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return true;
+	}
+
 	@Override
 	public boolean isCompatibleWith(ElasticsearchFieldCodec<?> other) {
 		return INSTANCE == other;
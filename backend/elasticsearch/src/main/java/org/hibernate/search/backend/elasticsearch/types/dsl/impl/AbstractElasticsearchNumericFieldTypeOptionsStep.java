@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
 
 import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchCountDistinctValuesAggregation;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchCountValuesAggregation;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchFieldMetricAggregation;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchRangeAggregation;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchTermsAggregation;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchExistsPredicate;
@@ -56,6 +59,12 @@ protected final void complete() {
 			builder.aggregable( true );
 			builder.queryElementFactory( AggregationTypeKeys.TERMS, new ElasticsearchTermsAggregation.Factory<>( codec ) );
 			builder.queryElementFactory( AggregationTypeKeys.RANGE, new ElasticsearchRangeAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.SUM, new ElasticsearchFieldMetricAggregation.Factory<>( codec, "sum" ) );
+			builder.queryElementFactory( AggregationTypeKeys.MIN, new ElasticsearchFieldMetricAggregation.Factory<>( codec, "min" ) );
+			builder.queryElementFactory( AggregationTypeKeys.MAX, new ElasticsearchFieldMetricAggregation.Factory<>( codec, "max" ) );
+			builder.queryElementFactory( AggregationTypeKeys.AVG, new ElasticsearchFieldMetricAggregation.Factory<>( codec, "avg" ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new ElasticsearchCountValuesAggregation.Factory<>() );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES, new ElasticsearchCountDistinctValuesAggregation.Factory<>() );
 		}
 	}
 
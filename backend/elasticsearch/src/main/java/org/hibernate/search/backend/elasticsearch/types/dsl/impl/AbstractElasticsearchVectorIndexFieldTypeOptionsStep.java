@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.DataTypes;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchExistsPredicate;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchFieldProjection;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchKnnPredicate;
+import org.hibernate.search.engine.backend.types.IndexFieldType;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+abstract class AbstractElasticsearchVectorIndexFieldTypeOptionsStep<S extends AbstractElasticsearchVectorIndexFieldTypeOptionsStep<?, F>, F>
+		extends AbstractElasticsearchIndexFieldTypeOptionsStep<S, F>
+		implements VectorFieldTypeOptionsStep<S, F> {
+
+	private final int dimension;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+
+	AbstractElasticsearchVectorIndexFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext,
+			Class<F> valueType, int dimension) {
+		super( buildContext, valueType, new PropertyMapping() );
+		Contracts.assertStrictlyPositive( dimension, "dimension" );
+		this.dimension = dimension;
+		PropertyMapping mapping = builder.mapping();
+		mapping.setType( DataTypes.DENSE_VECTOR );
+		mapping.setDims( dimension );
+	}
+
+	@Override
+	public S vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		Contracts.assertNotNull( vectorSimilarity, "vectorSimilarity" );
+		this.vectorSimilarity = vectorSimilarity;
+		return thisAsS();
+	}
+
+	@Override
+	public S projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return thisAsS();
+	}
+
+	@Override
+	public S searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return thisAsS();
+	}
+
+	@Override
+	public IndexFieldType<F> toIndexFieldType() {
+		PropertyMapping mapping = builder.mapping();
+
+		boolean resolvedProjectable = AbstractElasticsearchStandardIndexFieldTypeOptionsStep.resolveDefault( projectable );
+		boolean resolvedSearchable = AbstractElasticsearchStandardIndexFieldTypeOptionsStep.resolveDefault( searchable );
+
+		mapping.setIndex( resolvedSearchable );
+		if ( resolvedSearchable ) {
+			// Elasticsearch only accepts a similarity on indexed vectors.
+			mapping.setSimilarity( resolveSimilarity( vectorSimilarity ) );
+		}
+
+		AbstractElasticsearchVectorFieldCodec<F> codec = createCodec( dimension );
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS, new ElasticsearchExistsPredicate.Factory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new ElasticsearchKnnPredicate.Factory<>( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new ElasticsearchFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	protected abstract AbstractElasticsearchVectorFieldCodec<F> createCodec(int dimension);
+
+	private static String resolveSimilarity(VectorSimilarity vectorSimilarity) {
+		switch ( vectorSimilarity ) {
+			case DEFAULT:
+			case L2:
+				return "l2_norm";
+			case DOT_PRODUCT:
+				return "dot_product";
+			case COSINE:
+				return "cosine";
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + vectorSimilarity );
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchByteVectorFieldCodec;
+
+class ElasticsearchByteVectorIndexFieldTypeOptionsStep
+		extends AbstractElasticsearchVectorIndexFieldTypeOptionsStep<ElasticsearchByteVectorIndexFieldTypeOptionsStep, byte[]> {
+
+	ElasticsearchByteVectorIndexFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext,
+			int dimension) {
+		super( buildContext, byte[].class, dimension );
+		builder.mapping().setElementType( "byte" );
+	}
+
+	@Override
+	protected AbstractElasticsearchVectorFieldCodec<byte[]> createCodec(int dimension) {
+		return new ElasticsearchByteVectorFieldCodec( dimension );
+	}
+
+	@Override
+	protected ElasticsearchByteVectorIndexFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+}
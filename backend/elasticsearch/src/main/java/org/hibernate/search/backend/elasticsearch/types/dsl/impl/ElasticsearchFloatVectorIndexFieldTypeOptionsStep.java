@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.ElasticsearchFloatVectorFieldCodec;
+
+class ElasticsearchFloatVectorIndexFieldTypeOptionsStep
+		extends AbstractElasticsearchVectorIndexFieldTypeOptionsStep<ElasticsearchFloatVectorIndexFieldTypeOptionsStep, float[]> {
+
+	ElasticsearchFloatVectorIndexFieldTypeOptionsStep(ElasticsearchIndexFieldTypeBuildContext buildContext,
+			int dimension) {
+		super( buildContext, float[].class, dimension );
+	}
+
+	@Override
+	protected AbstractElasticsearchVectorFieldCodec<float[]> createCodec(int dimension) {
+		return new ElasticsearchFloatVectorFieldCodec( dimension );
+	}
+
+	@Override
+	protected ElasticsearchFloatVectorIndexFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+}
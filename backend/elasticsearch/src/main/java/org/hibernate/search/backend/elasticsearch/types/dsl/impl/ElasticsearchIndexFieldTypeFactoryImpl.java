@@ -29,6 +29,7 @@
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -48,16 +49,19 @@
 	private final Gson userFacingGson;
 	private final ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider;
 	private final IndexFieldTypeDefaultsProvider typeDefaultsProvider;
+	private final boolean vectorFieldsSupported;
 
 	public ElasticsearchIndexFieldTypeFactoryImpl(EventContext eventContext, BackendMapperContext backendMapperContext,
 			Gson userFacingGson,
 			ElasticsearchDefaultFieldFormatProvider defaultFieldFormatProvider,
-			IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
+			IndexFieldTypeDefaultsProvider typeDefaultsProvider,
+			boolean vectorFieldsSupported) {
 		this.eventContext = eventContext;
 		this.backendMapperContext = backendMapperContext;
 		this.userFacingGson = userFacingGson;
 		this.defaultFieldFormatProvider = defaultFieldFormatProvider;
 		this.typeDefaultsProvider = typeDefaultsProvider;
+		this.vectorFieldsSupported = vectorFieldsSupported;
 	}
 
 	@Override
@@ -236,6 +240,18 @@ public ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger() {
 		return new ElasticsearchBigIntegerIndexFieldTypeOptionsStep( this, typeDefaultsProvider );
 	}
 
+	@Override
+	public VectorFieldTypeOptionsStep<?, float[]> asFloatVector(int dimension) {
+		checkVectorFieldsSupported();
+		return new ElasticsearchFloatVectorIndexFieldTypeOptionsStep( this, dimension );
+	}
+
+	@Override
+	public VectorFieldTypeOptionsStep<?, byte[]> asByteVector(int dimension) {
+		checkVectorFieldsSupported();
+		return new ElasticsearchByteVectorIndexFieldTypeOptionsStep( this, dimension );
+	}
+
 	@Override
 	public ElasticsearchNativeIndexFieldTypeMappingStep asNative() {
 		return new ElasticsearchNativeIndexFieldTypeMappingStepImpl( this );
@@ -260,4 +276,10 @@ public ElasticsearchDefaultFieldFormatProvider getDefaultFieldFormatProvider() {
 	public BackendMappingHints hints() {
 		return backendMapperContext.hints();
 	}
+
+	private void checkVectorFieldsSupported() {
+		if ( !vectorFieldsSupported ) {
+			throw log.vectorFieldsNotSupported( eventContext );
+		}
+	}
 }
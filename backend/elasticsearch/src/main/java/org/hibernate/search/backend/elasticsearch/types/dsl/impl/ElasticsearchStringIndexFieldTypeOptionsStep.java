@@ -17,6 +17,8 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.DataTypes;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.PropertyMapping;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchCountDistinctValuesAggregation;
+import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchCountValuesAggregation;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchTermsAggregation;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchExistsPredicate;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchPredicateTypeKeys;
@@ -230,6 +232,8 @@ public IndexFieldType<String> toIndexFieldType() {
 		if ( resolvedAggregable ) {
 			builder.aggregable( true );
 			builder.queryElementFactory( AggregationTypeKeys.TERMS, new ElasticsearchTermsAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new ElasticsearchCountValuesAggregation.Factory<>() );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES, new ElasticsearchCountDistinctValuesAggregation.Factory<>() );
 		}
 
 		return builder.build();
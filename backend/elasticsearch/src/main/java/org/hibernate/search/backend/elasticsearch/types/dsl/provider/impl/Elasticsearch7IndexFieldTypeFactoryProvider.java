@@ -33,7 +33,8 @@ public Elasticsearch7IndexFieldTypeFactoryProvider(Gson userFacingGson) {
 	public ElasticsearchIndexFieldTypeFactory create(EventContext eventContext,
 			BackendMapperContext backendMapperContext, IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
 		return new ElasticsearchIndexFieldTypeFactoryImpl(
-				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider
+				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider,
+				false
 		);
 	}
 }
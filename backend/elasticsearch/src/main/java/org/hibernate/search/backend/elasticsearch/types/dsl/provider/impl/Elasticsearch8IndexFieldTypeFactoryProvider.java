@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl;
+
+import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
+import org.hibernate.search.backend.elasticsearch.types.dsl.impl.ElasticsearchIndexFieldTypeFactoryImpl;
+import org.hibernate.search.backend.elasticsearch.types.format.impl.Elasticsearch7DefaultFieldFormatProvider;
+import org.hibernate.search.engine.backend.mapping.spi.BackendMapperContext;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import com.google.gson.Gson;
+
+/**
+ * The index field type factory provider for ES8.x.
+ */
+public class Elasticsearch8IndexFieldTypeFactoryProvider
+		implements ElasticsearchIndexFieldTypeFactoryProvider {
+
+	private final Gson userFacingGson;
+	private final Elasticsearch7DefaultFieldFormatProvider defaultFieldFormatProvider =
+			new Elasticsearch7DefaultFieldFormatProvider();
+
+	public Elasticsearch8IndexFieldTypeFactoryProvider(Gson userFacingGson) {
+		this.userFacingGson = userFacingGson;
+	}
+
+	@Override
+	public ElasticsearchIndexFieldTypeFactory create(EventContext eventContext,
+			BackendMapperContext backendMapperContext, IndexFieldTypeDefaultsProvider typeDefaultsProvider) {
+		return new ElasticsearchIndexFieldTypeFactoryImpl(
+				eventContext, backendMapperContext, userFacingGson, defaultFieldFormatProvider, typeDefaultsProvider,
+				true
+		);
+	}
+}
@@ -26,12 +26,19 @@
 	private final JsonPrimitive elasticsearchTypeAsJson;
 	private final ElasticsearchFieldCodec<F> codec;
 	private final PropertyMapping mapping;
+	private final boolean projectableFromDocValues;
 
 	public ElasticsearchIndexValueFieldType(Builder<F> builder) {
 		super( builder );
 		this.elasticsearchTypeAsJson = builder.elasticsearchTypeAsJson();
 		this.codec = builder.codec;
 		this.mapping = builder.mapping;
+		// Doc values hold normalized values and replace nulls with the "null_value",
+		// so they would not match the source in those cases.
+		this.projectableFromDocValues = codec.canDecodeDocValues()
+				&& Boolean.TRUE.equals( mapping.getDocValues() )
+				&& !normalizerName().isPresent()
+				&& mapping.getNullValue() == null;
 	}
 
 	@Override
@@ -48,6 +55,11 @@ public boolean hasNormalizerOnAtLeastOneIndex() {
 		return normalizerName().isPresent();
 	}
 
+	@Override
+	public boolean projectableFromDocValuesOnAllIndexes() {
+		return projectableFromDocValues;
+	}
+
 	public PropertyMapping mapping() {
 		return mapping;
 	}
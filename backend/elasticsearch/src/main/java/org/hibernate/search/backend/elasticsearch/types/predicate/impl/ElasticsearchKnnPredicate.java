@@ -0,0 +1,164 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.AbstractElasticsearchCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
+import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexValueFieldContext;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.AbstractElasticsearchSingleFieldPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicate;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.elasticsearch.types.codec.impl.AbstractElasticsearchVectorFieldCodec;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchKnnPredicate extends AbstractElasticsearchSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonObjectAccessor KNN_ACCESSOR = JsonAccessor.root().property( "knn" ).asObject();
+	private static final JsonAccessor<String> FIELD_ACCESSOR = JsonAccessor.root().property( "field" ).asString();
+	private static final JsonAccessor<JsonElement> QUERY_VECTOR_ACCESSOR =
+			JsonAccessor.root().property( "query_vector" );
+	private static final JsonAccessor<Integer> K_ACCESSOR = JsonAccessor.root().property( "k" ).asInteger();
+	private static final JsonAccessor<Integer> NUM_CANDIDATES_ACCESSOR =
+			JsonAccessor.root().property( "num_candidates" ).asInteger();
+	private static final JsonAccessor<JsonElement> FILTER_ACCESSOR = JsonAccessor.root().property( "filter" );
+
+	// Same as the upper bound enforced by Elasticsearch
+	private static final int MAX_NUM_CANDIDATES = 10_000;
+	// Below that, the cost of exploring more candidates is negligible compared to the gain in recall
+	private static final int MIN_NUM_CANDIDATES = 100;
+
+	private final ElasticsearchSearchIndexScope<?> scope;
+	private final int k;
+	private final JsonElement vector;
+	private final ElasticsearchSearchPredicate filter;
+
+	private ElasticsearchKnnPredicate(Builder<?> builder, ElasticsearchSearchIndexScope<?> scope) {
+		super( builder );
+		this.scope = scope;
+		this.k = builder.k;
+		this.vector = builder.vector;
+		this.filter = builder.filter;
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context, JsonObject outerObject,
+			JsonObject innerObject) {
+		FIELD_ACCESSOR.set( innerObject, absoluteFieldPath );
+		QUERY_VECTOR_ACCESSOR.set( innerObject, vector );
+		// The knn query returns the k nearest neighbors on each shard,
+		// among num_candidates approximate nearest neighbors: more candidates means better recall.
+		K_ACCESSOR.set( innerObject, k );
+		NUM_CANDIDATES_ACCESSOR.set( innerObject, numCandidates( k ) );
+
+		// Filters must be passed to the knn query itself:
+		// filters applied to the knn query from the outside are applied after the nearest neighbors are selected.
+		JsonArray filters = new JsonArray();
+		if ( filter != null ) {
+			filters.add( filter.toJsonQuery( context ) );
+		}
+		JsonObject tenantFilter = scope.filterOrNull( context.getTenantId() );
+		if ( tenantFilter != null ) {
+			filters.add( tenantFilter );
+		}
+		if ( filters.size() > 0 ) {
+			FILTER_ACCESSOR.set( innerObject, filters );
+		}
+
+		KNN_ACCESSOR.set( outerObject, innerObject );
+		return outerObject;
+	}
+
+	private static int numCandidates(int k) {
+		if ( k >= MAX_NUM_CANDIDATES ) {
+			// Elasticsearch will reject the query, but with a clear error message.
+			return k;
+		}
+		// Similar to the default of Elasticsearch for the top-level knn search option (1.5 * k),
+		// with a lower bound to preserve recall for small values of k.
+		return Math.min( MAX_NUM_CANDIDATES, Math.max( MIN_NUM_CANDIDATES, k + k / 2 ) );
+	}
+
+	public static class Factory<F>
+			extends AbstractElasticsearchCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, F> {
+		private final AbstractElasticsearchVectorFieldCodec<F> vectorCodec;
+
+		public Factory(AbstractElasticsearchVectorFieldCodec<F> codec) {
+			super( codec );
+			this.vectorCodec = codec;
+		}
+
+		@Override
+		public Builder<F> create(ElasticsearchSearchIndexScope<?> scope, ElasticsearchSearchIndexValueFieldContext<F> field) {
+			return new Builder<>( vectorCodec, scope, field );
+		}
+	}
+
+	private static class Builder<F> extends AbstractBuilder implements KnnPredicateBuilder {
+		private final AbstractElasticsearchVectorFieldCodec<F> codec;
+		private final ElasticsearchSearchIndexValueFieldContext<F> field;
+
+		private int k;
+		private JsonElement vector;
+		private ElasticsearchSearchPredicate filter;
+
+		private Builder(AbstractElasticsearchVectorFieldCodec<F> codec, ElasticsearchSearchIndexScope<?> scope,
+				ElasticsearchSearchIndexValueFieldContext<F> field) {
+			super( scope, field );
+			if ( !scope.searchSyntax().supportsKnnQuery() ) {
+				throw log.knnPredicateNotSupported( field.eventContext() );
+			}
+			if ( !field.nestedPathHierarchy().isEmpty() ) {
+				throw log.cannotUseKnnPredicateInNestedDocument( field.eventContext() );
+			}
+			this.codec = codec;
+			this.field = field;
+		}
+
+		@Override
+		public void k(int k) {
+			this.k = k;
+		}
+
+		@Override
+		public void vector(Object vector) {
+			Class<F> vectorType = codec.vectorType();
+			if ( !vectorType.isInstance( vector ) ) {
+				throw log.invalidVectorTypeForKnnPredicate( vectorType.getSimpleName(),
+						vector.getClass().getSimpleName(), field.eventContext() );
+			}
+			F castedVector = vectorType.cast( vector );
+			int dimension = codec.dimension( castedVector );
+			if ( dimension != codec.dimension() ) {
+				throw log.vectorDimensionMismatch( codec.dimension(), dimension, field.eventContext() );
+			}
+			this.vector = codec.encode( castedVector );
+		}
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			this.filter = ElasticsearchSearchPredicate.from( scope, filter );
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new ElasticsearchKnnPredicate( this, scope );
+		}
+	}
+}
@@ -63,9 +63,28 @@ public void validate(ValidationErrorCollector errorCollector, PropertyMapping ex
 				expectedMapping.getTermVector(), actualMapping.getTermVector(), "no"
 		);
 
+		validateVectorOptions( errorCollector, expectedMapping, actualMapping );
+
 		super.validate( errorCollector, expectedMapping, actualMapping );
 	}
 
+	private void validateVectorOptions(ValidationErrorCollector errorCollector, PropertyMapping expectedMapping, PropertyMapping actualMapping) {
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "dims",
+				expectedMapping.getDims(), actualMapping.getDims()
+		);
+		LeafValidators.EQUAL.validate(
+				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "similarity",
+				expectedMapping.getSimilarity(), actualMapping.getSimilarity()
+		);
+		if ( DataTypes.DENSE_VECTOR.equals( expectedMapping.getType() ) ) {
+			LeafValidators.EQUAL.validateWithDefault(
+					errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "element_type",
+					expectedMapping.getElementType(), actualMapping.getElementType(), "float"
+			);
+		}
+	}
+
 	private void validateAnalyzerOptions(ValidationErrorCollector errorCollector, PropertyMapping expectedMapping, PropertyMapping actualMapping) {
 		LeafValidators.EQUAL.validateWithDefault(
 				errorCollector, ValidationContextType.MAPPING_ATTRIBUTE, "analyzer",
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.factory.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A work builder factory for ES7.0 to ES7.11.
+ * <p>
+ * Compared to ES7.12:
+ * <ul>
+ *     <li>There is no point in time API (it was introduced in 7.10,
+ *     but point in time searches only get an implicit tiebreaker sort since 7.12)</li>
+ * </ul>
+ */
+public class Elasticsearch70WorkFactory extends Elasticsearch7WorkFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public Elasticsearch70WorkFactory(GsonProvider gsonProvider) {
+		super( gsonProvider );
+	}
+
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		throw log.searchCursorsNotSupported();
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		throw log.searchCursorsNotSupported();
+	}
+}
@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
@@ -30,7 +31,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -42,7 +45,7 @@
 import com.google.gson.JsonObject;
 
 /**
- * A work builder factory for ES7.0+.
+ * A work builder factory for ES7.12+.
  */
 public class Elasticsearch7WorkFactory implements ElasticsearchWorkFactory {
 
@@ -102,6 +105,11 @@ public CountWork.Builder count() {
 		return new CountWork.Builder();
 	}
 
+	@Override
+	public MultiSearchWork.Builder multiSearch() {
+		return new MultiSearchWork.Builder();
+	}
+
 	@Override
 	public ExplainWork.Builder explain(URLEncodedString indexName, URLEncodedString id, JsonObject payload) {
 		return ExplainWork.Builder.forElasticsearch7AndAbove( indexName, id, payload );
@@ -118,6 +126,16 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		return new ClosePointInTimeWork.Builder( pointInTimeId );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName );
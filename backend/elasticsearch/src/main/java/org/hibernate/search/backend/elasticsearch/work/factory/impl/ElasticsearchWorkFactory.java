@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
@@ -29,7 +30,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -65,6 +68,8 @@ DeleteWork.Builder delete(String entityTypeName, Object entityIdentifier,
 
 	CountWork.Builder count();
 
+	MultiSearchWork.Builder multiSearch();
+
 	ExplainWork.Builder explain(URLEncodedString indexName, URLEncodedString id, JsonObject payload);
 
 	<T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
@@ -72,6 +77,10 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	ClearScrollWork.Builder clearScroll(String scrollId);
 
+	OpenPointInTimeWork.Builder openPointInTime(String keepAlive);
+
+	ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId);
+
 	CreateIndexWork.Builder createIndex(URLEncodedString indexName);
 
 	DropIndexWork.Builder dropIndex(URLEncodedString indexName);
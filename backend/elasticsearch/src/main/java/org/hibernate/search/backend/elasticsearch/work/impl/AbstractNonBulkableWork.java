@@ -52,7 +52,7 @@ public ElasticsearchRequest request() {
 	@Override
 	public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext executionContext) {
 		return Futures.create( () -> beforeExecute( executionContext, request ) )
-				.thenCompose( ignored -> executionContext.getClient().submit( request ) )
+				.thenCompose( ignored -> submit( executionContext, request ) )
 				.exceptionally( Futures.handler( throwable -> {
 					// if we already have a SearchException, throw that,
 					// since it will be more specific
@@ -70,11 +70,48 @@ public final CompletableFuture<R> execute(ElasticsearchWorkExecutionContext exec
 				.thenApply( response -> handleResult( executionContext, response ) );
 	}
 
+	/**
+	 * Submits the given request to the client,
+	 * retrying it if it is {@link #isRejection(ElasticsearchResponse) rejected} because of back-pressure.
+	 *
+	 * @param executionContext The execution context.
+	 * @param request The request to submit.
+	 * @return A future completed with the response to the request, or to its last retry.
+	 */
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		return submitWithRetries( executionContext, request, 0 );
+	}
+
+	/**
+	 * @param response The response to a request.
+	 * @return {@code true} if the response indicates that the request, or part of it,
+	 * was rejected because of back-pressure. Used to adapt the number of concurrent requests.
+	 */
+	protected boolean isRejection(ElasticsearchResponse response) {
+		return ElasticsearchRequestSuccessAssessor.isRejection( response );
+	}
+
 	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
 		// Do nothing by default
 		return SUCCESSFUL_FUTURE;
 	}
 
+	private CompletableFuture<ElasticsearchResponse> submitWithRetries(
+			ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request, int retryCount) {
+		ElasticsearchBackPressure backPressure = executionContext.getBackPressure();
+		return backPressure.submit( executionContext.getClient(), request, this::isRejection )
+				.thenCompose( response -> {
+					if ( !ElasticsearchRequestSuccessAssessor.isRejection( response )
+							|| !backPressure.canRetry( retryCount ) ) {
+						return CompletableFuture.completedFuture( response );
+					}
+					log.retryingRejectedRequest( request.method(), request.path(), retryCount + 1 );
+					return backPressure.backoff( retryCount )
+							.thenCompose( ignored -> submitWithRetries( executionContext, request, retryCount + 1 ) );
+				} );
+	}
+
 	protected abstract R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response);
 
 	private R handleResult(ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response) {
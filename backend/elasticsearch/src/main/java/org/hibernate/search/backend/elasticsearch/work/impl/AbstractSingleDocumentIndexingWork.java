@@ -8,10 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -22,6 +24,8 @@
 
 	private final JsonObject bulkableActionMetadata;
 	private final JsonObject bulkableActionBody;
+	private String serializedBulkableActionMetadata;
+	private String serializedBulkableActionBody;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -70,6 +74,28 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public long serializeBulkableAction(Gson gson) {
+		// Each part of the bulk payload is followed by a newline: see GsonHttpEntity.
+		serializedBulkableActionMetadata = gson.toJson( bulkableActionMetadata );
+		long size = GsonUtils.utf8Size( serializedBulkableActionMetadata ) + 1;
+		if ( bulkableActionBody != null ) {
+			serializedBulkableActionBody = gson.toJson( bulkableActionBody );
+			size += GsonUtils.utf8Size( serializedBulkableActionBody ) + 1;
+		}
+		return size;
+	}
+
+	@Override
+	public String getSerializedBulkableActionMetadata() {
+		return serializedBulkableActionMetadata;
+	}
+
+	@Override
+	public String getSerializedBulkableActionBody() {
+		return serializedBulkableActionBody;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
@@ -6,14 +6,23 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -21,10 +30,37 @@
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Boolean> BULK_ERRORS = JsonAccessor.root().property( "errors" ).asBoolean();
+
+	/**
+	 * Only the parts of the response we actually use:
+	 * the error flag, the outcome of each item, and errors affecting the request as a whole.
+	 * Item metadata such as sequence numbers, versions or shard statistics
+	 * is left out, which reduces the size of the response and the cost of parsing it.
+	 */
+	private static final String RESPONSE_FILTER_PATH =
+			"errors,items.*._index,items.*._id,items.*.status,items.*.error,error,status";
+
+	private final List<? extends BulkableWork<?>> bulkableWorks;
 
 	protected BulkWork(Builder builder) {
 		super( builder );
+		this.bulkableWorks = builder.bulkableWorks;
+	}
+
+	@Override
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		return super.submit( executionContext, request )
+				.thenCompose( response -> retryRejectedItems( executionContext, request, response, 0 ) );
+	}
+
+	@Override
+	protected boolean isRejection(ElasticsearchResponse response) {
+		return super.isRejection( response ) || !rejectedItemIndexes( response ).isEmpty();
 	}
 
 	@Override
@@ -34,6 +70,105 @@ protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, E
 		return new BulkResultImpl( resultItems );
 	}
 
+	/**
+	 * Re-submits the items of the bulk that were rejected because of back-pressure, if any,
+	 * and replaces their result in the given response with the result of the retry.
+	 */
+	private CompletableFuture<ElasticsearchResponse> retryRejectedItems(
+			ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request,
+			ElasticsearchResponse response, int retryCount) {
+		List<Integer> rejectedIndexes = rejectedItemIndexes( response );
+		ElasticsearchBackPressure backPressure = executionContext.getBackPressure();
+		if ( rejectedIndexes.isEmpty() || !backPressure.canRetry( retryCount ) ) {
+			// Rejected items, if any, will be reported as failed when extracting results.
+			return CompletableFuture.completedFuture( response );
+		}
+
+		log.retryingRejectedBulkItems( rejectedIndexes.size(), bulkableWorks.size(), retryCount + 1 );
+		ElasticsearchRequest retryRequest = retryRequest( request, rejectedIndexes );
+		return backPressure.backoff( retryCount )
+				.thenCompose( ignored -> super.submit( executionContext, retryRequest ) )
+				.handle( (retryResponse, throwable) -> {
+					if ( throwable != null ) {
+						log.unableToRetryRejectedBulkItems( throwable.getMessage(), throwable );
+						return CompletableFuture.completedFuture( response );
+					}
+					if ( !mergeRetryResponse( response, rejectedIndexes, retryResponse ) ) {
+						return CompletableFuture.completedFuture( response );
+					}
+					return retryRejectedItems( executionContext, request, response, retryCount + 1 );
+				} )
+				.thenCompose( Function.identity() );
+	}
+
+	private ElasticsearchRequest retryRequest(ElasticsearchRequest request, List<Integer> itemIndexes) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.builder( request.method() )
+				.wholeEncodedPath( request.path() );
+		for ( Map.Entry<String, String> parameter : request.parameters().entrySet() ) {
+			builder.param( parameter.getKey(), parameter.getValue() );
+		}
+		if ( request.deadline() != null ) {
+			builder.deadline( request.deadline() );
+		}
+		for ( Integer itemIndex : itemIndexes ) {
+			BulkableWork<?> work = bulkableWorks.get( itemIndex );
+			addBulkableAction( builder, work );
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @return {@code true} if the response to the retry was merged into the original response,
+	 * {@code false} if the retry failed as a whole, in which case the original response is left untouched.
+	 */
+	private static boolean mergeRetryResponse(ElasticsearchResponse response, List<Integer> retriedIndexes,
+			ElasticsearchResponse retryResponse) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( retryResponse.statusCode() ) ) {
+			return false;
+		}
+		JsonArray retryItems = BULK_ITEMS.get( retryResponse.body() ).orElse( null );
+		if ( retryItems == null || retryItems.size() != retriedIndexes.size() ) {
+			return false;
+		}
+		JsonArray items = BULK_ITEMS.get( response.body() ).get();
+		for ( int i = 0; i < retriedIndexes.size(); i++ ) {
+			items.set( retriedIndexes.get( i ), retryItems.get( i ) );
+		}
+		return true;
+	}
+
+	private static List<Integer> rejectedItemIndexes(ElasticsearchResponse response) {
+		JsonObject body = response.body();
+		if ( !ElasticsearchClientUtils.isSuccessCode( response.statusCode() )
+				// Elasticsearch sets this flag when at least one item failed: skip the scan otherwise.
+				|| !BULK_ERRORS.get( body ).orElse( true ) ) {
+			return Collections.emptyList();
+		}
+		JsonArray items = BULK_ITEMS.get( body ).orElse( null );
+		if ( items == null ) {
+			return Collections.emptyList();
+		}
+		List<Integer> rejectedIndexes = null;
+		for ( int i = 0; i < items.size(); i++ ) {
+			if ( ElasticsearchRequestSuccessAssessor.isBulkItemRejection( items.get( i ).getAsJsonObject() ) ) {
+				if ( rejectedIndexes == null ) {
+					rejectedIndexes = new ArrayList<>();
+				}
+				rejectedIndexes.add( i );
+			}
+		}
+		return rejectedIndexes == null ? Collections.emptyList() : rejectedIndexes;
+	}
+
+	private static void addBulkableAction(ElasticsearchRequest.Builder builder, BulkableWork<?> work) {
+		// Reuse the serialized form of the action, if any, to avoid serializing the document a second time.
+		builder.body( work.getBulkableActionMetadata(), work.getSerializedBulkableActionMetadata() );
+		JsonObject actionBody = work.getBulkableActionBody();
+		if ( actionBody != null ) {
+			builder.body( actionBody, work.getSerializedBulkableActionBody() );
+		}
+	}
+
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder> {
 		private final List<? extends BulkableWork<?>> bulkableWorks;
 
@@ -53,7 +188,8 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
-					.pathComponent( Paths._BULK );
+					.pathComponent( Paths._BULK )
+					.param( "filter_path", RESPONSE_FILTER_PATH );
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
@@ -63,11 +199,7 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
-				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
-				}
+				addBulkableAction( builder, work );
 			}
 
 			return builder.build();
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -19,6 +20,28 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * Serializes the action metadata and body of this work to JSON,
+	 * retaining the result so that it can be sent as-is in a bulk request
+	 * instead of being serialized again.
+	 *
+	 * @param gson The Gson instance to serialize with.
+	 * @return The size of this work in the payload of a bulk request, in bytes.
+	 */
+	long serializeBulkableAction(Gson gson);
+
+	/**
+	 * @return The action metadata as serialized by {@link #serializeBulkableAction(Gson)},
+	 * or {@code null} if it was not serialized.
+	 */
+	String getSerializedBulkableActionMetadata();
+
+	/**
+	 * @return The action body as serialized by {@link #serializeBulkableAction(Gson)},
+	 * or {@code null} if it was not serialized or if there is no action body.
+	 */
+	String getSerializedBulkableActionBody();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
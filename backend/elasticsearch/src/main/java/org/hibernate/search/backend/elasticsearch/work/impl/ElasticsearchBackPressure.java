@@ -0,0 +1,212 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+
+/**
+ * Handles back-pressure from the Elasticsearch cluster,
+ * i.e. operations rejected because the cluster is overloaded:
+ * requests failing with status {@code 429 Too Many Requests},
+ * or bulk items failing with an {@code es_rejected_execution_exception}.
+ * <p>
+ * Two mechanisms are implemented:
+ * <ul>
+ *     <li>An adaptive limit on the number of concurrent requests,
+ *     following an AIMD (additive increase, multiplicative decrease) scheme:
+ *     the limit is halved when a request is rejected,
+ *     and grows back by one every time as many requests as the limit succeed,
+ *     up to a configured maximum.
+ *     Requests exceeding the limit wait, without blocking any thread, until another request completes.
+ *     <li>Retries of rejected operations, with an exponential backoff and jitter:
+ *     see {@link #canRetry(int)} and {@link #backoff(int)}.
+ * </ul>
+ * <p>
+ * This class is thread-safe.
+ */
+public final class ElasticsearchBackPressure {
+
+	private final SimpleScheduledExecutor scheduler;
+	private final int maxConcurrency;
+	private final int maxRetries;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+
+	// All fields below are guarded by "this"
+	private double concurrencyLimit;
+	private int inFlight = 0;
+	/*
+	 * Incremented every time the limit is decreased.
+	 * Used to decrease the limit only once when several concurrent requests
+	 * are rejected because of the same overload.
+	 */
+	private long generation = 0L;
+	private final Deque<CompletableFuture<Long>> waiting = new ArrayDeque<>();
+
+	/**
+	 * @param scheduler An executor to schedule retries; may be {@code null} if {@code initialBackoffMillis} is zero.
+	 * @param maxConcurrency The maximum number of concurrent requests.
+	 * @param maxRetries The maximum number of retries for a rejected operation.
+	 * @param initialBackoffMillis The delay before the first retry of a rejected operation, in milliseconds.
+	 * @param maxBackoffMillis The maximum delay before a retry of a rejected operation, in milliseconds.
+	 */
+	public ElasticsearchBackPressure(SimpleScheduledExecutor scheduler, int maxConcurrency,
+			int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+		this.scheduler = scheduler;
+		this.maxConcurrency = maxConcurrency;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.maxBackoffMillis = Math.max( initialBackoffMillis, maxBackoffMillis );
+		this.concurrencyLimit = maxConcurrency;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() ).append( "[" )
+				.append( "concurrencyLimit=" ).append( (int) concurrencyLimit )
+				.append( ", maxConcurrency=" ).append( maxConcurrency )
+				.append( ", inFlight=" ).append( inFlight )
+				.append( ", waiting=" ).append( waiting.size() )
+				.append( ", maxRetries=" ).append( maxRetries )
+				.append( "]" )
+				.toString();
+	}
+
+	/**
+	 * Submits a request to the client as soon as the concurrency limit allows it.
+	 *
+	 * @param client The client to submit the request to.
+	 * @param request The request to submit.
+	 * @param rejectionPredicate A predicate returning {@code true} if the response indicates
+	 * that (part of) the request was rejected because of back-pressure.
+	 * @return A future completed with the response.
+	 */
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchClient client, ElasticsearchRequest request,
+			Predicate<ElasticsearchResponse> rejectionPredicate) {
+		return acquire().thenCompose( permit -> {
+			CompletableFuture<ElasticsearchResponse> future;
+			try {
+				future = client.submit( request );
+			}
+			catch (RuntimeException | Error e) {
+				release( permit, Outcome.FAILURE );
+				throw e;
+			}
+			return future.whenComplete( (response, throwable) -> {
+				Outcome outcome = Outcome.FAILURE;
+				try {
+					if ( response != null ) {
+						outcome = rejectionPredicate.test( response ) ? Outcome.REJECTION : Outcome.SUCCESS;
+					}
+				}
+				finally {
+					release( permit, outcome );
+				}
+			} );
+		} );
+	}
+
+	/**
+	 * @param retryCount The number of retries already performed for an operation.
+	 * @return {@code true} if the operation can be retried once more, {@code false} otherwise.
+	 */
+	public boolean canRetry(int retryCount) {
+		return retryCount < maxRetries;
+	}
+
+	/**
+	 * @param retryCount The number of retries already performed for an operation.
+	 * @return A future completed after the delay to wait before the next retry.
+	 */
+	public CompletableFuture<Void> backoff(int retryCount) {
+		long delay = backoffDelayMillis( retryCount );
+		if ( delay <= 0L ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		scheduler.schedule( () -> future.complete( null ), delay, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	long backoffDelayMillis(int retryCount) {
+		long delay = initialBackoffMillis;
+		for ( int i = 0; i < retryCount && delay < maxBackoffMillis; i++ ) {
+			delay *= 2;
+		}
+		delay = Math.min( delay, maxBackoffMillis );
+		// "Equal jitter": wait at least half the delay,
+		// and a random duration for the other half so that rejected clients do not all retry at the same time.
+		long half = delay / 2;
+		return half + ThreadLocalRandom.current().nextLong( delay - half + 1 );
+	}
+
+	synchronized int concurrencyLimit() {
+		return (int) concurrencyLimit;
+	}
+
+	private synchronized CompletableFuture<Long> acquire() {
+		if ( inFlight < (int) concurrencyLimit ) {
+			++inFlight;
+			return CompletableFuture.completedFuture( generation );
+		}
+		CompletableFuture<Long> permit = new CompletableFuture<>();
+		waiting.add( permit );
+		return permit;
+	}
+
+	private void release(long permitGeneration, Outcome outcome) {
+		List<CompletableFuture<Long>> granted = new ArrayList<>();
+		long grantedGeneration;
+		synchronized ( this ) {
+			--inFlight;
+			switch ( outcome ) {
+				case SUCCESS:
+					concurrencyLimit = Math.min( maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit );
+					break;
+				case REJECTION:
+					// Requests started before the last decrease do not reflect the current limit: ignore them.
+					if ( permitGeneration == generation ) {
+						concurrencyLimit = Math.max( 1.0, concurrencyLimit / 2 );
+						++generation;
+					}
+					break;
+				case FAILURE:
+					// Failures unrelated to back-pressure do not affect the limit.
+					break;
+			}
+			while ( !waiting.isEmpty() && inFlight < (int) concurrencyLimit ) {
+				++inFlight;
+				granted.add( waiting.poll() );
+			}
+			grantedGeneration = generation;
+		}
+		// Complete futures outside of the lock, since that will trigger the submission of requests.
+		for ( CompletableFuture<Long> permit : granted ) {
+			permit.complete( grantedGeneration );
+		}
+	}
+
+	private enum Outcome {
+		SUCCESS,
+		REJECTION,
+		FAILURE
+	}
+
+}
@@ -33,6 +33,8 @@ public class ElasticsearchRequestSuccessAssessor {
 	private static final JsonAccessor<String> ERROR_TYPE = JsonAccessor.root().property( "error" ).property( "type" ).asString();
 
 	private static final int TIME_OUT_HTTP_STATUS_CODE = 408;
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+	private static final String REJECTED_EXECUTION_ERROR_TYPE = "es_rejected_execution_exception";
 
 	public static final ElasticsearchRequestSuccessAssessor DEFAULT_INSTANCE = builder().build();
 
@@ -79,6 +81,30 @@ public String toString() {
 				.toString();
 	}
 
+	/**
+	 * @param response The response, containing information about the outcome of the request.
+	 * @return {@code true} if the response indicates that the request was rejected
+	 * because the cluster is overloaded, meaning the same request can be retried later.
+	 */
+	public static boolean isRejection(ElasticsearchResponse response) {
+		return response.statusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE;
+	}
+
+	/**
+	 * @param bulkResponseItem The part of a bulk response body concerning a single bulked request.
+	 * @return {@code true} if the item indicates that the bulked request was rejected
+	 * because the cluster is overloaded, meaning the same request can be retried later.
+	 */
+	public static boolean isBulkItemRejection(JsonObject bulkResponseItem) {
+		// Result items have the following format: { "actionName" : { "status" : 429, ... } }
+		if ( bulkResponseItem == null || bulkResponseItem.size() == 0 ) {
+			return false;
+		}
+		JsonObject responseBody = bulkResponseItem.entrySet().iterator().next().getValue().getAsJsonObject();
+		return BULK_ITEM_STATUS_CODE.get( responseBody ).filter( isEqual( TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) ).isPresent()
+				|| ERROR_TYPE.get( responseBody ).filter( isEqual( REJECTED_EXECUTION_ERROR_TYPE ) ).isPresent();
+	}
+
 	/**
 	 * Check the given response, throwing an exception if the reponse indicates a failure.
 	 * @param response The response, containing information about the outcome of the request.
@@ -102,6 +128,21 @@ public void checkSuccess(JsonObject bulkResponseItem) {
 		checkSuccess( statusCode, responseBody );
 	}
 
+	/**
+	 * Check the given multi-search response item, throwing an exception if it indicates a failure.
+	 * @param multiSearchResponseItem The part of the response body concerning the search whose success is to be assessed.
+	 * @throws SearchException If the result is a failure.
+	 */
+	public void checkMultiSearchItemSuccess(JsonObject multiSearchResponseItem) {
+		// Result items have the following format: { "status" : 200, "hits" : { ... }, ... }
+		// Older versions of Elasticsearch do not include the status, but always include an error on failure.
+		Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( multiSearchResponseItem );
+		if ( !statusCode.isPresent() && !multiSearchResponseItem.has( "error" ) ) {
+			return;
+		}
+		checkSuccess( statusCode, multiSearchResponseItem );
+	}
+
 	private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
 		if ( !isSuccess( statusCode, responseBody ) ) {
 			if ( statusCode.filter( isEqual( TIME_OUT_HTTP_STATUS_CODE ) ).isPresent() ) {
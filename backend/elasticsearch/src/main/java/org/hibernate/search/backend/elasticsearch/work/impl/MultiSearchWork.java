@@ -0,0 +1,212 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.invoke.MethodHandles;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A work executing multiple searches in a single request to the {@code _msearch} endpoint.
+ * <p>
+ * Each search is described by the request of a {@link SearchWork},
+ * which is converted to a header and a body in the multi-search request:
+ * this way, request transformers are applied to each search as they would be for standalone searches.
+ */
+public class MultiSearchWork extends AbstractNonBulkableWork<MultiSearchResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	/**
+	 * Request parameters of a search that must be passed in the header of the multi-search item.
+	 */
+	private static final Set<String> HEADER_PARAMETERS = Collections.unmodifiableSet( new HashSet<>( Arrays.asList(
+			"routing", "preference", "search_type", "request_cache", "allow_partial_search_results",
+			"ignore_unavailable", "allow_no_indices", "expand_wildcards"
+	) ) );
+
+	/**
+	 * Request parameters of a search that must be passed in the body of the multi-search item.
+	 */
+	private static final Set<String> BODY_PARAMETERS = Collections.unmodifiableSet( new HashSet<>( Arrays.asList(
+			"from", "size", "timeout", "track_total_hits", "terminate_after"
+	) ) );
+
+	private static final String SEARCH_PATH_SUFFIX = "/" + Paths._SEARCH.encoded;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.path(),
+				request.parameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.bodyParts() )
+		);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonObject body = response.body();
+		JsonArray resultItems = RESPONSES.get( body ).orElseGet( JsonArray::new );
+		return new MultiSearchResultImpl( resultItems );
+	}
+
+	public static class Builder extends AbstractBuilder<Builder> {
+		private final List<SearchWork<?>> searchWorks = new ArrayList<>();
+
+		public Builder() {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+		}
+
+		/**
+		 * @param searchWork A search work to execute as part of the multi-search.
+		 * Its result can be retrieved through {@link MultiSearchResult#extract(SearchWork, int)},
+		 * using the index of the search work in this builder.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder search(SearchWork<?> searchWork) {
+			searchWorks.add( searchWork );
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			Deadline earliestDeadline = null;
+			for ( SearchWork<?> searchWork : searchWorks ) {
+				ElasticsearchRequest searchRequest = searchWork.request();
+				addSearch( builder, searchRequest );
+				Deadline deadline = searchRequest.deadline();
+				if ( deadline != null && ( earliestDeadline == null
+						|| deadline.checkRemainingTimeMillis() < earliestDeadline.checkRemainingTimeMillis() ) ) {
+					earliestDeadline = deadline;
+				}
+			}
+
+			// Client-side timeout: the multi-search fails as soon as one of the searches should fail.
+			if ( earliestDeadline != null ) {
+				builder.deadline( earliestDeadline );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+
+		private static void addSearch(ElasticsearchRequest.Builder builder, ElasticsearchRequest searchRequest) {
+			String path = searchRequest.path();
+			if ( !path.endsWith( SEARCH_PATH_SUFFIX ) || searchRequest.bodyParts().size() != 1 ) {
+				throw log.multiSearchUnsupportedRequestPath( path, searchRequest );
+			}
+
+			JsonObject header = new JsonObject();
+			String encodedIndexNames = path.substring( 0, path.length() - SEARCH_PATH_SUFFIX.length() );
+			if ( encodedIndexNames.startsWith( "/" ) ) {
+				encodedIndexNames = encodedIndexNames.substring( 1 );
+			}
+			if ( !encodedIndexNames.isEmpty() ) {
+				header.addProperty( "index", decode( encodedIndexNames ) );
+			}
+
+			JsonObject body = new JsonObject();
+			searchRequest.bodyParts().get( 0 ).entrySet()
+					.forEach( entry -> body.add( entry.getKey(), entry.getValue() ) );
+
+			for ( Map.Entry<String, String> parameter : searchRequest.parameters().entrySet() ) {
+				String name = parameter.getKey();
+				String value = parameter.getValue();
+				if ( HEADER_PARAMETERS.contains( name ) ) {
+					header.addProperty( name, value );
+				}
+				else if ( BODY_PARAMETERS.contains( name ) ) {
+					body.add( name, toBodyValue( value ) );
+				}
+				else {
+					throw log.multiSearchUnsupportedRequestParameter( name, searchRequest );
+				}
+			}
+
+			builder.body( header );
+			builder.body( body );
+		}
+
+		private static JsonPrimitive toBodyValue(String parameterValue) {
+			// Request parameters are strings, but the body expects typed values, e.g. "size": 10.
+			if ( "true".equals( parameterValue ) || "false".equals( parameterValue ) ) {
+				return new JsonPrimitive( Boolean.parseBoolean( parameterValue ) );
+			}
+			try {
+				return new JsonPrimitive( Long.parseLong( parameterValue ) );
+			}
+			catch (NumberFormatException e) {
+				// Not a number, e.g. a timeout such as "100ms"
+				return new JsonPrimitive( parameterValue );
+			}
+		}
+
+		private static String decode(String encoded) {
+			try {
+				return URLDecoder.decode( encoded, StandardCharsets.UTF_8.name() );
+			}
+			catch (UnsupportedEncodingException e) {
+				throw new AssertionFailure( "Unexpected error retrieving the UTF-8 charset", e );
+			}
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray results;
+
+		public MultiSearchResultImpl(JsonArray results) {
+			super();
+			this.results = results;
+		}
+
+		@Override
+		public <R> R extract(SearchWork<R> work, int index) {
+			JsonObject multiSearchItemResponse = results.get( index ).getAsJsonObject();
+			return work.handleMultiSearchResult( multiSearchItemResponse );
+		}
+	}
+
+}
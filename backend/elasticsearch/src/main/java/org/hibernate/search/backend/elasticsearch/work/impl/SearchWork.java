@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,11 +21,14 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
@@ -53,6 +58,16 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
+	public R handleMultiSearchResult(JsonObject multiSearchResponseItem) {
+		try {
+			resultAssessor.checkMultiSearchItemSuccess( multiSearchResponseItem );
+			return resultExtractor.extract( multiSearchResponseItem, failOnDeadline ? deadline : null );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchItemFailed( request, multiSearchResponseItem, e.getMessage(), e );
+		}
+	}
+
 	public static class Builder<R>
 			extends AbstractBuilder<Builder<R>> {
 
@@ -86,6 +101,9 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -113,6 +131,17 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder<R> searchAfter(JsonArray sortValues) {
+			this.searchAfter = sortValues;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -144,11 +173,18 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.multiValuedPathComponent( indexes )
-					.pathComponent( Paths._SEARCH )
-					.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes )
+						.pathComponent( Paths._SEARCH )
+						.body( payload );
+			}
+			else {
+				// Point in time searches implicitly target the indexes (and routing keys)
+				// the point in time was opened for.
+				builder.pathComponent( Paths._SEARCH )
+						.body( pointInTimePayload() );
+			}
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -163,7 +199,7 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -187,6 +223,28 @@ public SearchWork<R> build() {
 			return new SearchWork<>( this );
 		}
 
+		private JsonObject pointInTimePayload() {
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+			if ( !result.has( "sort" ) ) {
+				// Hits only include sort values if there is an explicit sort,
+				// and we need those to fetch the next page.
+				JsonArray sort = new JsonArray();
+				sort.add( "_score" );
+				result.add( "sort", sort );
+			}
+			JsonObject pit = new JsonObject();
+			pit.addProperty( "id", pointInTimeId );
+			pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+			result.add( "pit", pit );
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+			return result;
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
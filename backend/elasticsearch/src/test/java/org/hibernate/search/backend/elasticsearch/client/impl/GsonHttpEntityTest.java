@@ -10,6 +10,7 @@
 import static org.junit.Assume.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,6 +25,7 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -137,19 +139,27 @@ public static List<Object[]> params() {
 				)
 		} );
 
-		return params;
+		List<Object[]> paramsWithCompression = new ArrayList<>();
+		for ( Object[] param : params ) {
+			paramsWithCompression.add( new Object[] { param[0], param[1], false } );
+			paramsWithCompression.add( new Object[] { param[0] + ", compressed", param[1], true } );
+		}
+		return paramsWithCompression;
 	}
 
 	private final List<JsonObject> payload;
+	private final boolean compressed;
+	private final Gson gson;
 	private final GsonHttpEntity gsonEntity;
 	private final String expectedPayloadString;
 	private final int expectedContentLength;
 
 	@SuppressWarnings("unused")
-	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload, boolean compressed) throws IOException {
 		this.payload = payload;
-		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.compressed = compressed;
+		this.gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+		this.gsonEntity = new GsonHttpEntity( gson, payload, compressed );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -160,11 +170,17 @@ public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws
 	}
 
 	@Test
-	public void initialContentLength() {
+	public void initialContentLength() throws IOException {
 		// The content length cannot be known from the start for large, multi-object payloads
 		assumeTrue( payload.size() <= 1 || expectedContentLength < 1024 );
 
-		assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		long initialContentLength = gsonEntity.getContentLength();
+		if ( compressed ) {
+			assertThat( initialContentLength ).isEqualTo( doProduceContent( gsonEntity, Integer.MAX_VALUE ).length );
+		}
+		else {
+			assertThat( initialContentLength ).isEqualTo( expectedContentLength );
+		}
 	}
 
 	@Test
@@ -174,14 +190,23 @@ public void contentType() {
 		assertThat( contentType.getValue() ).isEqualTo( "application/json; charset=UTF-8" );
 	}
 
+	@Test
+	public void contentEncoding() {
+		Header contentEncoding = gsonEntity.getContentEncoding();
+		if ( compressed ) {
+			assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+			assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( contentEncoding ).isNull();
+		}
+	}
+
 	@Test
 	public void produceContent_noPushBack() throws IOException {
 		int pushBackPeriod = Integer.MAX_VALUE;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doProduceContent( gsonEntity, pushBackPeriod ) );
 		}
 	}
 
@@ -189,10 +214,7 @@ public void produceContent_noPushBack() throws IOException {
 	public void produceContent_pushBack_every5Bytes() throws IOException {
 		int pushBackPeriod = 5;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doProduceContent( gsonEntity, pushBackPeriod ) );
 		}
 	}
 
@@ -200,10 +222,7 @@ public void produceContent_pushBack_every5Bytes() throws IOException {
 	public void produceContent_pushBack_every100Bytes() throws IOException {
 		int pushBackPeriod = 100;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doProduceContent( gsonEntity, pushBackPeriod ) );
 		}
 	}
 
@@ -211,63 +230,90 @@ public void produceContent_pushBack_every100Bytes() throws IOException {
 	public void produceContent_pushBack_every500Bytes() throws IOException {
 		int pushBackPeriod = 500;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doProduceContent( gsonEntity, pushBackPeriod ) );
 		}
 	}
 
 	@Test
 	public void writeTo() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doWriteTo( gsonEntity ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doWriteTo( gsonEntity ) );
 		}
 	}
 
 	@Test
 	public void getContent() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doGetContent( gsonEntity ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContent( doGetContent( gsonEntity ) );
+		}
+	}
+
+	@Test
+	public void serializedBodyParts() throws IOException {
+		// Serialize every other body part in advance: the entity should send those as-is
+		List<String> serializedPayload = new ArrayList<>();
+		for ( int i = 0; i < payload.size(); i++ ) {
+			serializedPayload.add( i % 2 == 0 ? gson.toJson( payload.get( i ) ) : null );
+		}
+		GsonHttpEntity entity = new GsonHttpEntity( gson, payload, serializedPayload, compressed );
+		assertThat( decode( doWriteTo( entity ) ) ).isEqualTo( expectedPayloadString );
+		assertThat( decode( doProduceContent( entity, 5 ) ) ).isEqualTo( expectedPayloadString );
+		assertThat( decode( doGetContent( entity ) ) ).isEqualTo( expectedPayloadString );
+	}
+
+	private void assertContent(byte[] content) throws IOException {
+		assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+		if ( compressed ) {
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( content.length );
+		}
+		else {
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
 		}
 	}
 
-	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+	private String decode(byte[] content) throws IOException {
+		try ( InputStream byteStream = new ByteArrayInputStream( content );
+				InputStream inputStream = compressed ? new GZIPInputStream( byteStream ) : byteStream;
+				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
+				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
+			StringBuilder builder = new StringBuilder();
+			int read;
+			while ( ( read = bufferedReader.read() ) >= 0 ) {
+				builder.appendCodePoint( read );
+			}
+			return builder.toString();
+		}
+	}
+
+	private byte[] doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
 		}
 	}
 
-	private String doWriteTo(GsonHttpEntity entity) throws IOException {
+	private byte[] doWriteTo(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 	}
 
-	private String doGetContent(GsonHttpEntity entity) throws IOException {
+	private byte[] doGetContent(GsonHttpEntity entity) throws IOException {
 		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
-				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
-			StringBuilder builder = new StringBuilder();
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			byte[] buffer = new byte[256];
 			int read;
-			while ( ( read = bufferedReader.read() ) >= 0 ) {
-				builder.appendCodePoint( read );
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
 			}
-			return builder.toString();
+			return outputStream.toByteArray();
 		}
 	}
 
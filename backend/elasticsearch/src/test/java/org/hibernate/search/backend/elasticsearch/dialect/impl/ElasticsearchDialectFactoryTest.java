@@ -25,7 +25,9 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch812ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
 import org.hibernate.search.util.common.SearchException;
@@ -136,7 +138,7 @@ public static List<Object[]> params() {
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.0", "7.0.0",
@@ -248,47 +250,47 @@ public static List<Object[]> params() {
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.0", "7.12.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.12.1", "7.12.1",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.0", "7.13.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.13.2", "7.13.2",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.16.0", "7.16.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "7.17.0", "7.17.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "7.18.0", "7.18.0",
-						Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+						Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.ELASTIC, "8", "8.7.1",
@@ -366,17 +368,37 @@ public static List<Object[]> params() {
 						ElasticsearchDistributionName.ELASTIC, "8.8.0", "8.8.0",
 						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
 				),
-				successWithWarning(
+				success(
 						ElasticsearchDistributionName.ELASTIC, "8.9", "8.9.0",
 						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
 				),
-				successWithWarning(
+				success(
 						ElasticsearchDistributionName.ELASTIC, "8.9.0", "8.9.0",
 						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
 				),
+				success(
+						ElasticsearchDistributionName.ELASTIC, "8.11", "8.11.0",
+						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
+				),
+				success(
+						ElasticsearchDistributionName.ELASTIC, "8.12", "8.12.0",
+						Elasticsearch8ModelDialect.class, Elasticsearch812ProtocolDialect.class
+				),
+				success(
+						ElasticsearchDistributionName.ELASTIC, "8.12.0", "8.12.0",
+						Elasticsearch8ModelDialect.class, Elasticsearch812ProtocolDialect.class
+				),
+				successWithWarning(
+						ElasticsearchDistributionName.ELASTIC, "8.13", "8.13.0",
+						Elasticsearch8ModelDialect.class, Elasticsearch812ProtocolDialect.class
+				),
+				successWithWarning(
+						ElasticsearchDistributionName.ELASTIC, "8.13.0", "8.13.0",
+						Elasticsearch8ModelDialect.class, Elasticsearch812ProtocolDialect.class
+				),
 				successWithWarning(
 						ElasticsearchDistributionName.ELASTIC, "9.0.0", "9.0.0",
-						Elasticsearch8ModelDialect.class, Elasticsearch81ProtocolDialect.class
+						Elasticsearch8ModelDialect.class, Elasticsearch812ProtocolDialect.class
 				),
 				success(
 						ElasticsearchDistributionName.OPENSEARCH, "1", "1.2.1",
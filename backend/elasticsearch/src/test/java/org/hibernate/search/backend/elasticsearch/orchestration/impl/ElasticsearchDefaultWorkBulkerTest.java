@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -14,11 +17,19 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchBackPressure;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -26,6 +37,9 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.http.HttpHost;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -188,6 +202,75 @@ public void newBulkOnTooManyBulkedWorks() {
 		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
 	}
 
+	@Test
+	public void newBulkOnTooLargePayload() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		Map<BulkableWork<?>, Long> payloadSizes = new HashMap<>();
+		payloadSizes.put( work1, 40L );
+		payloadSizes.put( work2, 50L );
+		payloadSizes.put( work3, 20L );
+		payloadSizes.put( work4, 150L );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, 100L, payloadSizes::get );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// 90 + 20 > 100 => new bulk
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// Work larger than the maximum payload size => new bulk, immediately finalized
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+
+		// Nothing left to bulk
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+	}
+
 	@Test
 	public void newBulkOnDifferentRefresh() {
 		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
@@ -262,6 +345,71 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void retryRejectedItems_afterReset() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		for ( BulkableWork<Void> work : Arrays.asList( work1, work2, work3 ) ) {
+			when( work.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		}
+		JsonObject work2Metadata = new JsonObject();
+		work2Metadata.addProperty( "work", 2 );
+		when( work1.getBulkableActionMetadata() ).thenReturn( new JsonObject() );
+		when( work2.getBulkableActionMetadata() ).thenReturn( work2Metadata );
+
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWorkFutureArgumentCaptor = futureCaptor();
+		when( sequenceBuilderMock.addBulkExecution( bulkWorkFutureArgumentCaptor.capture() ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( sequenceBuilderMock.addBulkResultExtraction( any(), any(), anyInt() ) )
+				.thenReturn( new CompletableFuture<>() );
+
+		// Use the actual bulk work, which retries rejected items
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				(worksToBulk, refreshStrategy) -> new BulkWork.Builder( worksToBulk ).refresh( refreshStrategy ).build(),
+				DEFAULT_MAX_BULK_SIZE );
+		bulker.add( work1 );
+		bulker.add( work2 );
+		bulker.finalizeBulkWork();
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkFutureArgumentCaptor.getValue().join();
+		// The bulker reuses its internal state for the next bulk
+		bulker.add( work3 );
+
+		ElasticsearchClient clientMock = mock( ElasticsearchClient.class );
+		ElasticsearchWorkExecutionContext contextMock = mock( ElasticsearchWorkExecutionContext.class );
+		when( contextMock.getClient() ).thenReturn( clientMock );
+		when( contextMock.getBackPressure() ).thenReturn( new ElasticsearchBackPressure( null, 10, 1, 0, 0 ) );
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		when( clientMock.submit( requestCaptor.capture() ) )
+				.thenReturn( futureFromClient )
+				.thenReturn( retryFutureFromClient );
+		CompletableFuture<BulkResult> bulkResultFuture = bulkWork.execute( contextMock );
+
+		// Item 2 is rejected: it should be retried, even though the bulker moved on to another bulk.
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "errors", true );
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( bulkItemResponse( 201 ) );
+		items.add( bulkItemResponse( 429 ) );
+		futureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", responseBody ) );
+
+		assertThatFuture( bulkResultFuture ).isPending();
+		assertThat( requestCaptor.getAllValues() ).hasSize( 2 );
+		assertThat( requestCaptor.getAllValues().get( 1 ).bodyParts() ).containsExactly( work2Metadata );
+	}
+
+	private static JsonObject bulkItemResponse(int status) {
+		JsonObject itemResponse = new JsonObject();
+		itemResponse.addProperty( "status", status );
+		JsonObject result = new JsonObject();
+		result.add( "index", itemResponse );
+		return result;
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
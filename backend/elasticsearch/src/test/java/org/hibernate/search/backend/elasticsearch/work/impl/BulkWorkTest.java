@@ -35,6 +35,7 @@
 import com.google.gson.JsonObject;
 import org.apache.http.HttpHost;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -54,6 +55,7 @@ public class BulkWorkTest {
 	@Before
 	public void setup() {
 		when( contextMock.getClient() ).thenReturn( clientMock );
+		when( contextMock.getBackPressure() ).thenReturn( new ElasticsearchBackPressure( null, 10, 1, 0, 0 ) );
 	}
 
 	@Test
@@ -101,6 +103,32 @@ public void execute_success() {
 		verifyNoOtherClientInteractionsAndReset();
 	}
 
+	@Test
+	public void serializedBodyParts() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
+		when( bulkableWork0.getSerializedBulkableActionMetadata() ).thenReturn( "serializedMetadata0" );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		when( bulkableWork0.getSerializedBulkableActionBody() ).thenReturn( "serializedBody0" );
+		// Not serialized in advance
+		when( bulkableWork1.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 1 ) );
+		when( bulkableWork1.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 1 ) );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
+
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( new CompletableFuture<>() );
+		work.execute( contextMock );
+		verifyNoOtherClientInteractionsAndReset();
+
+		ElasticsearchRequest request = requestCaptor.getValue();
+		assertBulkRequest( request, 0, 1 );
+		// Serialized forms are sent as-is instead of serializing the body parts again
+		assertThat( request.serializedBodyParts() )
+				.containsExactly( "serializedMetadata0", "serializedBody0", null, null );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3869")
 	public void execute_http500() {
@@ -140,6 +168,106 @@ public void execute_http500() {
 				) );
 	}
 
+	@Test
+	public void execute_rejectedItems_retry() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+		BulkableWork<Object> bulkableWork2 = bulkableWork( 2 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			BulkableWork<Object> bulkableWork = Arrays.asList( bulkableWork0, bulkableWork1, bulkableWork2 ).get( i );
+			when( bulkableWork.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( i ) );
+			when( bulkableWork.getBulkableActionBody() ).thenReturn( bulkableWorkBody( i ) );
+		}
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1, bulkableWork2 ) ).build();
+
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyNoOtherClientInteractionsAndReset();
+		assertThatFuture( returnedFuture ).isPending();
+
+		assertBulkRequest( requestCaptor.getValue(), 0, 1, 2 );
+
+		// Item 1 is rejected: it should be retried, and only it.
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "errors", true );
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( bulkItemResponse( 201, null ) );
+		items.add( bulkItemResponse( 429, "es_rejected_execution_exception" ) );
+		items.add( bulkItemResponse( 201, null ) );
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( retryFutureFromClient );
+		futureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", responseBody ) );
+		verifyNoOtherClientInteractionsAndReset();
+		assertThatFuture( returnedFuture ).isPending();
+
+		assertBulkRequest( requestCaptor.getValue(), 1 );
+
+		JsonObject retryResponseBody = new JsonObject();
+		retryResponseBody.addProperty( "errors", false );
+		JsonArray retryItems = new JsonArray();
+		retryResponseBody.add( "items", retryItems );
+		retryItems.add( bulkItemResponse( 201, null ) );
+		retryFutureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", retryResponseBody ) );
+		verifyNoOtherClientInteractionsAndReset();
+
+		assertThatFuture( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+
+		Object bulkableResult = new Object();
+		when( bulkableWork1.handleBulkResult( same( contextMock ), same( retryItems.get( 0 ).getAsJsonObject() ) ) )
+				.thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+		when( bulkableWork2.handleBulkResult( same( contextMock ), same( items.get( 2 ).getAsJsonObject() ) ) )
+				.thenReturn( bulkableResult );
+		assertThat( result.extract( contextMock, bulkableWork2, 2 ) ).isSameAs( bulkableResult );
+		verifyNoOtherClientInteractionsAndReset();
+	}
+
+	@Test
+	public void execute_rejectedItems_noMoreRetries() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+
+		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0 ) ).build();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( ArgumentMatchers.any() ) )
+				.thenReturn( futureFromClient )
+				.thenReturn( retryFutureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		assertThatFuture( returnedFuture ).isPending();
+
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "errors", true );
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( bulkItemResponse( 429, "es_rejected_execution_exception" ) );
+		futureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", responseBody ) );
+		assertThatFuture( returnedFuture ).isPending();
+
+		// The retry is rejected too, and the maximum number of retries is reached.
+		JsonObject retryResponseBody = new JsonObject();
+		retryResponseBody.addProperty( "errors", true );
+		JsonArray retryItems = new JsonArray();
+		retryResponseBody.add( "items", retryItems );
+		retryItems.add( bulkItemResponse( 429, "es_rejected_execution_exception" ) );
+		retryFutureFromClient.complete( new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", retryResponseBody ) );
+
+		// The bulk itself succeeds; the rejected item will be reported as failed on extraction.
+		assertThatFuture( returnedFuture ).isSuccessful();
+		assertThat( items.get( 0 ) ).isSameAs( retryItems.get( 0 ) );
+	}
+
 	private void assertBulkRequest(ElasticsearchRequest request, int ... bulkableIndices) {
 		assertThat( request ).isNotNull();
 		assertSoftly( softly -> {
@@ -154,6 +282,19 @@ private void assertBulkRequest(ElasticsearchRequest request, int ... bulkableInd
 		} );
 	}
 
+	private static JsonObject bulkItemResponse(int status, String errorType) {
+		JsonObject itemResponse = new JsonObject();
+		itemResponse.addProperty( "status", status );
+		if ( errorType != null ) {
+			JsonObject error = new JsonObject();
+			error.addProperty( "type", errorType );
+			itemResponse.add( "error", error );
+		}
+		JsonObject result = new JsonObject();
+		result.add( "index", itemResponse );
+		return result;
+	}
+
 	private void verifyNoOtherClientInteractionsAndReset() {
 		verifyNoMoreInteractions( clientMock );
 		reset( clientMock );
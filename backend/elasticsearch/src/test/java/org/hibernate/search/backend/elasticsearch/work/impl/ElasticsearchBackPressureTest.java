@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import org.apache.http.HttpHost;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class ElasticsearchBackPressureTest {
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private ElasticsearchClient clientMock;
+
+	private final ElasticsearchRequest request = ElasticsearchRequest.get().build();
+
+	@Test
+	public void concurrencyLimit_queueing() {
+		ElasticsearchBackPressure backPressure = new ElasticsearchBackPressure( null, 2, 0, 0, 0 );
+
+		List<CompletableFuture<ElasticsearchResponse>> futuresFromClient = new ArrayList<>();
+		when( clientMock.submit( any() ) ).then( ignored -> {
+			CompletableFuture<ElasticsearchResponse> future = new CompletableFuture<>();
+			futuresFromClient.add( future );
+			return future;
+		} );
+
+		CompletableFuture<ElasticsearchResponse> future1 = submit( backPressure );
+		CompletableFuture<ElasticsearchResponse> future2 = submit( backPressure );
+		CompletableFuture<ElasticsearchResponse> future3 = submit( backPressure );
+		// The third request must wait for one of the first two to complete
+		assertThat( futuresFromClient ).hasSize( 2 );
+
+		futuresFromClient.get( 0 ).complete( response( 200 ) );
+		assertThatFuture( future1 ).isSuccessful();
+		assertThat( futuresFromClient ).hasSize( 3 );
+
+		futuresFromClient.get( 1 ).complete( response( 200 ) );
+		futuresFromClient.get( 2 ).complete( response( 200 ) );
+		assertThatFuture( future2 ).isSuccessful();
+		assertThatFuture( future3 ).isSuccessful();
+	}
+
+	@Test
+	public void concurrencyLimit_aimd() {
+		ElasticsearchBackPressure backPressure = new ElasticsearchBackPressure( null, 8, 0, 0, 0 );
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 8 );
+
+		List<CompletableFuture<ElasticsearchResponse>> futuresFromClient = new ArrayList<>();
+		when( clientMock.submit( any() ) ).then( ignored -> {
+			CompletableFuture<ElasticsearchResponse> future = new CompletableFuture<>();
+			futuresFromClient.add( future );
+			return future;
+		} );
+
+		// Several concurrent requests rejected because of the same overload: decrease the limit only once
+		for ( int i = 0; i < 4; i++ ) {
+			submit( backPressure );
+		}
+		for ( CompletableFuture<ElasticsearchResponse> future : futuresFromClient ) {
+			future.complete( response( 429 ) );
+		}
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 4 );
+		futuresFromClient.clear();
+
+		// A new rejection after the decrease: decrease again
+		submit( backPressure );
+		futuresFromClient.get( 0 ).complete( response( 429 ) );
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 2 );
+		futuresFromClient.clear();
+
+		// Successes: increase by one every time as many requests as the limit succeed
+		for ( int i = 0; i < 2; i++ ) {
+			submit( backPressure );
+			futuresFromClient.get( i ).complete( response( 200 ) );
+		}
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 2 );
+		submit( backPressure );
+		futuresFromClient.get( 2 ).complete( response( 200 ) );
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 3 );
+
+		// Never go above the maximum
+		for ( int i = 3; i < 1000; i++ ) {
+			submit( backPressure );
+			futuresFromClient.get( i ).complete( response( 200 ) );
+		}
+		assertThat( backPressure.concurrencyLimit() ).isEqualTo( 8 );
+	}
+
+	@Test
+	public void backoff() {
+		ElasticsearchBackPressure backPressure = new ElasticsearchBackPressure( null, 1, 3, 100, 1000 );
+
+		assertThat( backPressure.canRetry( 0 ) ).isTrue();
+		assertThat( backPressure.canRetry( 2 ) ).isTrue();
+		assertThat( backPressure.canRetry( 3 ) ).isFalse();
+
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( backPressure.backoffDelayMillis( 0 ) ).isBetween( 50L, 100L );
+			assertThat( backPressure.backoffDelayMillis( 1 ) ).isBetween( 100L, 200L );
+			assertThat( backPressure.backoffDelayMillis( 2 ) ).isBetween( 200L, 400L );
+			assertThat( backPressure.backoffDelayMillis( 10 ) ).isBetween( 500L, 1000L );
+		}
+	}
+
+	private CompletableFuture<ElasticsearchResponse> submit(ElasticsearchBackPressure backPressure) {
+		return backPressure.submit( clientMock, request, ElasticsearchRequestSuccessAssessor::isRejection );
+	}
+
+	private static ElasticsearchResponse response(int statusCode) {
+		return new ElasticsearchResponse( new HttpHost( "mockHost:9200" ), statusCode, "Status", new JsonObject() );
+	}
+
+}
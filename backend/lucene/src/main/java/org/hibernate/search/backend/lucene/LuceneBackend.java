@@ -8,8 +8,11 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResultCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -28,4 +31,12 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the search result cache of this backend,
+	 * or {@link Optional#empty()} if the search result cache is disabled.
+	 * @see LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES
+	 */
+	@Incubating
+	Optional<LuceneSearchResultCacheStatistics> searchResultCacheStatistics();
+
 }
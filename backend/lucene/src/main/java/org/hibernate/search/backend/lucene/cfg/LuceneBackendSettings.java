@@ -80,6 +80,25 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum number of search results to keep in the search result cache.
+	 * <p>
+	 * The search result cache holds the top documents, total hit count and aggregations of recently executed search queries,
+	 * and is invalidated automatically whenever the targeted indexes change.
+	 * Projections and entity loading are still executed for every query.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When set to {@code 0}, the search result cache is disabled.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Search result cache",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -93,6 +112,76 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to execute a single search query in parallel
+	 * over multiple slices of the targeted indexes (segments and shards).
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When set to {@code 0}, each search query is executed in the calling thread.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of documents in a slice when executing a search query in parallel,
+	 * unless a single segment has more documents.
+	 * <p>
+	 * Only effective if {@link #SEARCH_THREAD_POOL_SIZE} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice.max_docs";
+
+	/**
+	 * The maximum number of segments in a slice when executing a search query in parallel.
+	 * <p>
+	 * Only effective if {@link #SEARCH_THREAD_POOL_SIZE} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice.max_segments";
+
+	/**
+	 * The size of the thread pool used to execute search queries asynchronously,
+	 * e.g. when calling {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer, Integer)}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
+	/**
+	 * Whether the queries of a multi-search should be executed in parallel,
+	 * e.g. when calling {@link org.hibernate.search.engine.search.query.MultiSearch#fetch()}.
+	 * <p>
+	 * When enabled, queries are executed in the thread pool dedicated to asynchronous searches
+	 * (see {@link #SEARCH_ASYNC_THREAD_POOL_SIZE}).
+	 * Entities are always loaded in the calling thread.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_MULTI_PARALLEL}.
+	 */
+	public static final String SEARCH_MULTI_PARALLEL = "search.multi.parallel";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -110,5 +199,11 @@ private Defaults() {
 		 */
 		@Deprecated
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
+		public static final boolean SEARCH_MULTI_PARALLEL = false;
 	}
 }
@@ -8,10 +8,16 @@
 
 import static java.lang.String.join;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOCommitStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
@@ -79,6 +85,76 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files that should be memory-mapped
+	 * when using the {@link FileSystemAccessStrategyName#HYBRID hybrid} filesystem access strategy.
+	 * <p>
+	 * Files with other extensions, e.g. stored fields, are accessed through NIO.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a multi-valued String, i.e. a String containing multiple file extensions (without the dot)
+	 * separated by commas, or a {@code Collection<String>} containing such extensions.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS}.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS;
+
+	/**
+	 * The extensions of memory-mapped index files that should be preloaded into physical memory when opened.
+	 * <p>
+	 * Useful to keep the data structures used for sorts and aggregations (e.g. doc values, {@code dvd})
+	 * resident in memory, at the cost of a slower opening of index readers.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type,
+	 * and only has an effect on files that are memory-mapped,
+	 * i.e. with the {@link FileSystemAccessStrategyName#MMAP mmap}
+	 * and {@link FileSystemAccessStrategyName#HYBRID hybrid} filesystem access strategies,
+	 * or with the {@link FileSystemAccessStrategyName#AUTO auto} strategy when it selects memory-mapping.
+	 * <p>
+	 * Expects a multi-valued String, i.e. a String containing multiple file extensions (without the dot)
+	 * separated by commas, or a {@code Collection<String>} containing such extensions.
+	 * <p>
+	 * Defaults to no value, meaning no file is preloaded.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS;
+
+	/**
+	 * The maximum total size of small, freshly flushed or merged segments to cache in memory
+	 * until they are committed or merged away.
+	 * <p>
+	 * Useful when refreshing frequently, in particular with the near-real-time I/O strategy,
+	 * to avoid writing to disk many tiny segments that will be merged away shortly after.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_SIZE}, meaning no segment is cached in memory.
+	 *
+	 * @see org.apache.lucene.store.NRTCachingDirectory
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_SIZE = DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_SIZE;
+
+	/**
+	 * The maximum size of segments (flushed or resulting from a merge)
+	 * that can be cached in memory when {@link #DIRECTORY_NRT_CACHE_MAX_SIZE} is set.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE}.
+	 *
+	 * @see org.apache.lucene.store.NRTCachingDirectory
+	 */
+	public static final String DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -114,6 +190,9 @@ private LuceneIndexSettings() {
 	 * Note that committing is <strong>not</strong> necessary to make changes visible to search queries:
 	 * the two concepts are unrelated. See {@link #IO_REFRESH_INTERVAL}.
 	 * <p>
+	 * With the {@link IOCommitStrategyName#ADAPTIVE adaptive} {@link #IO_COMMIT_STRATEGY commit strategy},
+	 * this is the maximum amount of time that may pass after an index change until the change is committed.
+	 * <p>
 	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
 	 * or a String that can be parsed into such Integer value.
 	 * <p>
@@ -121,6 +200,57 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_COMMIT_INTERVAL = IO_PREFIX + IORadicals.COMMIT_INTERVAL;
 
+	/**
+	 * How to decide when to commit index changes.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * With the {@link IOCommitStrategyName#FIXED fixed} strategy,
+	 * changes are committed at most once per {@link #IO_COMMIT_INTERVAL commit interval}.
+	 * <p>
+	 * With the {@link IOCommitStrategyName#ADAPTIVE adaptive} strategy,
+	 * the delay between two commits adapts to the write load and to the time commits take,
+	 * between {@link #IO_COMMIT_MIN_INTERVAL} and {@link #IO_COMMIT_INTERVAL}.
+	 * Changes are also committed sooner when many of them are pending,
+	 * see {@link #IO_COMMIT_MAX_PENDING_OPERATIONS}.
+	 * <p>
+	 * Expects a {@link IOCommitStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_STRATEGY}.
+	 */
+	public static final String IO_COMMIT_STRATEGY = IO_PREFIX + IORadicals.COMMIT_STRATEGY;
+
+	/**
+	 * The minimum amount of time between two commits.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only effective with the {@link IOCommitStrategyName#ADAPTIVE adaptive} {@link #IO_COMMIT_STRATEGY commit strategy}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MIN_INTERVAL}.
+	 */
+	public static final String IO_COMMIT_MIN_INTERVAL = IO_PREFIX + IORadicals.COMMIT_MIN_INTERVAL;
+
+	/**
+	 * The number of pending (uncommitted) write operations above which
+	 * changes are committed as soon as the {@link #IO_COMMIT_MIN_INTERVAL minimum commit interval} allows.
+	 * <p>
+	 * Each addition, update or deletion of a document counts as one operation,
+	 * regardless of the number of nested documents it involves,
+	 * and so does each deletion by query (e.g. a purge), regardless of the number of documents it deletes.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only effective with the {@link IOCommitStrategyName#ADAPTIVE adaptive} {@link #IO_COMMIT_STRATEGY commit strategy}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MAX_PENDING_OPERATIONS}.
+	 */
+	public static final String IO_COMMIT_MAX_PENDING_OPERATIONS = IO_PREFIX + IORadicals.COMMIT_MAX_PENDING_OPERATIONS;
+
 	/**
 	 * How much time may pass after an index write
 	 * until the index reader is considered stale and re-created.
@@ -146,6 +276,60 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background
+	 * instead of being refreshed by the search query that notices they are out-of-date.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only effective when the {@link #IO_REFRESH_INTERVAL refresh interval} is strictly positive.
+	 * <p>
+	 * When enabled, a background task will re-open the index reader every time the refresh interval expires,
+	 * and search queries will always use the last opened index reader without waiting for a refresh.
+	 * This removes the latency spikes caused by search queries refreshing the index reader
+	 * while other search queries wait for that refresh to complete.
+	 * <p>
+	 * Note that forced refreshes
+	 * (for example with the {@code read-sync} and {@code sync} automatic indexing synchronization strategies in the ORM mapper)
+	 * still happen synchronously, upon the next search query.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
+	/**
+	 * The prefix for property keys related to the index reader.
+	 */
+	public static final String IO_READER_PREFIX = IO_PREFIX + "reader.";
+
+	/**
+	 * A custom component that warms up new index segments before they become visible to search queries.
+	 * <p>
+	 * Expects a reference to a bean of type {@link IndexReaderWarmer}.
+	 * <p>
+	 * Defaults to no value, meaning only {@link #IO_READER_WARMUP_FIELDS} are warmed up, if any.
+	 *
+	 * @see IndexReaderWarmer
+	 */
+	public static final String IO_READER_WARMER = IO_READER_PREFIX + ReaderRadicals.WARMER;
+
+	/**
+	 * The fields whose data structures (terms, norms, doc values) should be loaded
+	 * for each new index segment before it becomes visible to search queries.
+	 * <p>
+	 * Useful for fields used in sorts or aggregations, in particular,
+	 * to avoid the cost of loading their doc values on the first search query after a large merge.
+	 * <p>
+	 * Expects a multi-valued String, i.e. a String containing multiple absolute field paths separated by commas,
+	 * or a {@code Collection<String>} containing such paths.
+	 * Each path must point to a sortable or aggregable field, i.e. a field with doc values.
+	 * <p>
+	 * Defaults to no value, meaning no field is warmed up.
+	 */
+	public static final String IO_READER_WARMUP_FIELDS = IO_READER_PREFIX + ReaderRadicals.WARMUP_FIELDS;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -189,6 +373,31 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_INFOSTREAM = IO_WRITER_PREFIX + WriterRadicals.INFOSTREAM;
 
+	/**
+	 * The sort to apply to documents within each index segment,
+	 * passed to {@link IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)}.
+	 * <p>
+	 * Search queries whose sort matches the beginning of the index sort
+	 * can stop collecting documents early in each segment,
+	 * as soon as enough hits have been collected and the total hit count threshold has been reached.
+	 * <p>
+	 * Expects a multi-valued String, i.e. a String containing multiple sort elements separated by commas,
+	 * or a {@code Collection<String>} containing such sort elements.
+	 * Each sort element is the absolute path of a sortable field of type string, boolean, numeric or temporal,
+	 * optionally followed by {@code :asc} or {@code :desc}, e.g. {@code createdAt:desc,id:asc}.
+	 * Each sort element sorts documents the same way as the default sort on that field,
+	 * e.g. {@code f.field( "createdAt" ).desc()}.
+	 * <p>
+	 * Index sorting is not supported on indexes containing nested documents.
+	 * The index sort must be the same for all shards of an index,
+	 * and changing the index sort requires dropping and re-creating the index.
+	 * <p>
+	 * Defaults to no value, meaning the index is not sorted.
+	 *
+	 * @see IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort)
+	 */
+	public static final String IO_WRITER_INDEX_SORT = IO_WRITER_PREFIX + WriterRadicals.INDEX_SORT;
+
 	/**
 	 * The prefix for property keys related to merge.
 	 */
@@ -420,6 +629,10 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_MMAP_EXTENSIONS = "filesystem_access.mmap_extensions";
+		public static final String FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS = "filesystem_access.preload_extensions";
+		public static final String NRT_CACHE_MAX_SIZE = "nrt_cache.max_size";
+		public static final String NRT_CACHE_MAX_MERGE_SIZE = "nrt_cache.max_merge_size";
 	}
 
 	/**
@@ -432,7 +645,23 @@ private IORadicals() {
 
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
+		public static final String COMMIT_STRATEGY = "commit_strategy";
+		public static final String COMMIT_MIN_INTERVAL = "commit_min_interval";
+		public static final String COMMIT_MAX_PENDING_OPERATIONS = "commit_max_pending_operations";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
+	}
+
+	/**
+	 * Configuration property keys for index reader options, without the {@link #IO_READER_PREFIX prefix}.
+	 */
+	public static final class ReaderRadicals {
+
+		private ReaderRadicals() {
+		}
+
+		public static final String WARMER = "warmer";
+		public static final String WARMUP_FIELDS = "warmup_fields";
 	}
 
 	/**
@@ -446,6 +675,7 @@ private WriterRadicals() {
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
+		public static final String INDEX_SORT = "index_sort";
 
 	}
 
@@ -503,10 +733,31 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final List<String> DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS = Collections.unmodifiableList(
+				Arrays.asList(
+						// Terms dictionary and index
+						"tim", "tip", "tmd",
+						// Postings
+						"doc", "pos", "pay",
+						// Doc values
+						"dvd", "dvm",
+						// Norms
+						"nvd", "nvm",
+						// Points
+						"kdd", "kdi", "kdm", "dii", "dim",
+						// Compound files: small segments, including their (small) stored fields
+						"cfs"
+				) );
+		public static final int DIRECTORY_NRT_CACHE_MAX_SIZE = 0;
+		public static final int DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE = 5;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
+		public static final IOCommitStrategyName IO_COMMIT_STRATEGY = IOCommitStrategyName.FIXED;
+		public static final int IO_COMMIT_MIN_INTERVAL = 100;
+		public static final int IO_COMMIT_MAX_PENDING_OPERATIONS = 10_000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 	}
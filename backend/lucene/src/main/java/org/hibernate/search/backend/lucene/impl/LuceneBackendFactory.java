@@ -24,6 +24,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -64,6 +65,18 @@ public class LuceneBackendFactory implements BackendFactory {
 					.multivalued()
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> SEARCH_MULTI_PARALLEL =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_MULTI_PARALLEL )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_MULTI_PARALLEL )
+					.build();
+
 	private static final OptionalConfigurationProperty<List<BeanReference<? extends QueryCachingConfigurer>>> QUERY_CACHING_CONFIGURER =
 			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHING_CONFIGURER )
 					.asBeanReference( QueryCachingConfigurer.class )
@@ -91,6 +104,10 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
+			int resultCacheMaxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource );
+			LuceneSearchResultCache resultCacheOrNull = resultCacheMaxEntries == 0 ? null
+					: new LuceneSearchResultCache( eventContext.render(), resultCacheMaxEntries );
+
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
 					eventContext,
@@ -98,6 +115,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					resultCacheOrNull,
+					SEARCH_MULTI_PARALLEL.get( propertySource ),
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
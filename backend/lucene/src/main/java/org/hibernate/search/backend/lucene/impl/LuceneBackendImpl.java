@@ -19,6 +19,9 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneMultiSearchExecutor;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
@@ -52,6 +55,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
 
@@ -61,6 +65,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			LuceneSearchResultCache resultCacheOrNull,
+			boolean multiSearchParallel,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
@@ -72,15 +78,17 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext, threads
 		);
+		this.resultCacheOrNull = resultCacheOrNull;
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				this, eventContext, threads, similarity,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator, new LuceneMultiSearchExecutor( readOrchestrator, multiSearchParallel ),
+				resultCacheOrNull
 		);
 	}
 
@@ -104,10 +112,16 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( LuceneSearchResultCache::clear, resultCacheOrNull );
 			closer.push( BackendThreads::onStop, threads );
 		}
 	}
 
+	@Override
+	public Optional<LuceneSearchResultCacheStatistics> searchResultCacheStatistics() {
+		return Optional.ofNullable( resultCacheOrNull );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
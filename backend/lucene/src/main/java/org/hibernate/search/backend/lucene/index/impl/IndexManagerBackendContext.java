@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
@@ -31,8 +32,10 @@
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneSearchIndexScopeImpl;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneMultiSearchExecutor;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryIndexScope;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexer;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexingPlan;
@@ -54,6 +57,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
@@ -75,6 +79,8 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final LuceneMultiSearchExecutor multiSearchExecutor;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -85,7 +91,9 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			LuceneMultiSearchExecutor multiSearchExecutor,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -96,6 +104,8 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -161,10 +171,12 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				multiSearchExecutor,
 				scope,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				resultCacheOrNull
 		);
 	}
 
@@ -183,7 +195,7 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( threads, failureHandler );
+				return DebugIOStrategy.create( timingSource, threads, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
@@ -195,14 +207,15 @@ LuceneIndexSchemaManager createSchemaManager(String indexName, SchemaManagementI
 	}
 
 	IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shardEventContext,
-			DirectoryHolder directoryHolder, IOStrategy ioStrategy,
-			ConfigurationPropertySource propertySource) {
+			DirectoryHolder directoryHolder, IOStrategy ioStrategy, SegmentWarmer segmentWarmerOrNull,
+			Sort indexSortOrNull, ConfigurationPropertySource propertySource) {
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), indexSortOrNull, segmentWarmerOrNull,
+				propertySource, shardEventContext
 		);
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource, segmentWarmerOrNull
 		);
 	}
 
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexField;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.impl.SortMissingValue;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Creates the sort to apply to documents within each segment of an index,
+ * validating its definition against the index model.
+ * <p>
+ * Each sort field is created through the same comparator sources as field sorts in search queries,
+ * with the default options of these sorts (default sort mode, missing values last),
+ * so that the native sort fields of search queries are equal to the index sort fields
+ * whenever the queries sort documents the same way as the index.
+ */
+final class IndexSortFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<List<String>> IO_WRITER_INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
+	private static final String ASC_SUFFIX = ":asc";
+	private static final String DESC_SUFFIX = ":desc";
+
+	private IndexSortFactory() {
+	}
+
+	/**
+	 * @param model The index model.
+	 * @param propertySource The index configuration.
+	 * @return The index sort, or {@code null} if the index must not be sorted.
+	 */
+	static Sort createOrNull(LuceneIndexModel model, ConfigurationPropertySource propertySource) {
+		Optional<List<String>> definitions = IO_WRITER_INDEX_SORT.get( propertySource );
+		if ( !definitions.isPresent() || definitions.get().isEmpty() ) {
+			return null;
+		}
+		if ( model.hasNestedDocuments() ) {
+			throw log.cannotSortIndexWithNestedDocuments();
+		}
+		List<String> elements = definitions.get();
+		SortField[] sortFields = new SortField[elements.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = createSortField( model, elements.get( i ) );
+		}
+		return new Sort( sortFields );
+	}
+
+	private static SortField createSortField(LuceneIndexModel model, String definition) {
+		String absoluteFieldPath;
+		boolean reversed;
+		if ( definition.endsWith( DESC_SUFFIX ) ) {
+			absoluteFieldPath = definition.substring( 0, definition.length() - DESC_SUFFIX.length() );
+			reversed = true;
+		}
+		else if ( definition.endsWith( ASC_SUFFIX ) ) {
+			absoluteFieldPath = definition.substring( 0, definition.length() - ASC_SUFFIX.length() );
+			reversed = false;
+		}
+		else {
+			absoluteFieldPath = definition;
+			reversed = false;
+		}
+		if ( absoluteFieldPath.isEmpty() || absoluteFieldPath.indexOf( ':' ) >= 0 ) {
+			throw log.invalidIndexSort( definition );
+		}
+
+		LuceneIndexField field = model.fieldOrNull( absoluteFieldPath );
+		if ( field == null || !field.isValueField() ) {
+			throw log.unknownFieldForIndexSort( absoluteFieldPath );
+		}
+		LuceneIndexValueField<?> valueField = field.toValueField();
+		LuceneFieldComparatorSource comparatorSource = valueField.type().sortable()
+				? createComparatorSourceOrNull( valueField.type().codec(), reversed )
+				: null;
+		SortField sortField = comparatorSource == null ? null
+				: comparatorSource.toNativeSortFieldOrNull( absoluteFieldPath, reversed );
+		if ( sortField == null ) {
+			throw log.unsupportedFieldForIndexSort( absoluteFieldPath );
+		}
+		return sortField;
+	}
+
+	private static LuceneFieldComparatorSource createComparatorSourceOrNull(LuceneFieldCodec<?> codec,
+			boolean reversed) {
+		MultiValueMode multiValueMode = reversed ? MultiValueMode.MAX : MultiValueMode.MIN;
+		if ( codec instanceof AbstractLuceneNumericFieldCodec ) {
+			return createNumericComparatorSource( ( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).getDomain(),
+					reversed, multiValueMode );
+		}
+		else if ( codec instanceof LuceneStringFieldCodec ) {
+			return new LuceneTextFieldComparatorSource( null, SortMissingValue.MISSING_LAST, multiValueMode, null );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static <E extends Number> LuceneFieldComparatorSource createNumericComparatorSource(
+			LuceneNumericDomain<E> domain, boolean reversed, MultiValueMode multiValueMode) {
+		// Missing values last
+		E missingValue = reversed ? domain.getMinValue() : domain.getMaxValue();
+		return new LuceneNumericFieldComparatorSource<>( null, domain, missingValue, multiValueMode, null );
+	}
+}
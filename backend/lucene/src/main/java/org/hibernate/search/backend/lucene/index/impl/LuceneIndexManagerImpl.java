@@ -43,6 +43,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public class LuceneIndexManagerImpl
 		implements IndexManagerImplementor, LuceneIndexManager,
@@ -170,6 +171,11 @@ public LuceneIndexModel model() {
 		return model;
 	}
 
+	@Override
+	public Sort indexSortOrNull() {
+		return shardHolder.indexSortOrNull();
+	}
+
 	@Override
 	public SearchIndexIdentifierContext identifier() {
 		return model.identifier();
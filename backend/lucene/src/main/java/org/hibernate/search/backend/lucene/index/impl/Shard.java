@@ -8,10 +8,13 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexField;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
@@ -20,11 +23,15 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
+import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.resources.spi.SavedState;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -36,6 +43,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.Sort;
 
 public final class Shard {
 
@@ -45,6 +53,16 @@ public final class Shard {
 					.withDefault( BeanReference.of( DirectoryProvider.class, LuceneIndexSettings.Defaults.DIRECTORY_TYPE ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexReaderWarmer>> IO_READER_WARMER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMER )
+					.asBeanReference( IndexReaderWarmer.class )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> IO_READER_WARMUP_FIELDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMUP_FIELDS )
+					.asString().multivalued()
+					.build();
+
 	private static final SavedState.Key<DirectoryHolder> DIRECTORY_HOLDER_KEY = SavedState.key( "directory_holder" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -54,6 +72,7 @@ public final class Shard {
 	private final LuceneIndexModel model;
 
 	private DirectoryHolder directoryHolder;
+	private BeanHolder<? extends IndexReaderWarmer> readerWarmerHolder;
 	private IndexAccessorImpl indexAccessor;
 	private LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
@@ -95,19 +114,24 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 				}
 				directoryHolder.start();
 			}
+			readerWarmerHolder = IO_READER_WARMER.getAndMap( propertySource, beanResolver::resolve ).orElse( null );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.unableToStartShard( e.getMessage(), e );
 		}
 	}
 
-	void start(ConfigurationPropertySource propertySource) {
+	void start(ConfigurationPropertySource propertySource, Sort indexSortOrNull) {
 		String indexName = model.hibernateSearchName();
 		EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		try {
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			SegmentWarmer segmentWarmer = SegmentWarmer.create( indexAndShardEventContext,
+					IO_READER_WARMUP_FIELDS.getAndMap( propertySource, this::validateWarmupFields )
+							.orElse( Collections.emptyList() ),
+					readerWarmerHolder == null ? null : readerWarmerHolder.get() );
 			indexAccessor = backendContext.createIndexAccessor( model, indexAndShardEventContext, directoryHolder,
-					ioStrategy, propertySource );
+					ioStrategy, segmentWarmer, indexSortOrNull, propertySource );
 			managementOrchestrator =
 					backendContext.createIndexManagementOrchestrator( indexAndShardEventContext, indexAccessor );
 			indexingOrchestrator =
@@ -121,6 +145,21 @@ void start(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	private List<String> validateWarmupFields(List<String> absoluteFieldPaths) {
+		for ( String absoluteFieldPath : absoluteFieldPaths ) {
+			LuceneIndexField field = model.fieldOrNull( absoluteFieldPath );
+			if ( field == null || !field.isValueField() ) {
+				throw log.unknownFieldForReaderWarmup( absoluteFieldPath );
+			}
+			IndexValueFieldTypeDescriptor type = field.toValueField().type();
+			// Only sortable or aggregable fields have doc values.
+			if ( !type.sortable() && !type.aggregable() ) {
+				throw log.unsupportedFieldForReaderWarmup( absoluteFieldPath );
+			}
+		}
+		return absoluteFieldPaths;
+	}
+
 	CompletableFuture<?> preStop() {
 		return indexingOrchestrator.preStop();
 	}
@@ -131,6 +170,8 @@ void stop() {
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			// Close the warmer after the index accessor, when we're sure no merge is in progress
+			closer.push( BeanHolder::close, readerWarmerHolder );
 			if ( !savedForRestart ) {
 				closer.push( DirectoryHolder::close, directoryHolder );
 			}
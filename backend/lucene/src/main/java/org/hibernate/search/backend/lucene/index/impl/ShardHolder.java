@@ -22,7 +22,9 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -35,6 +37,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 
+import org.apache.lucene.search.Sort;
+
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
@@ -44,6 +48,9 @@ class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerC
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+	private Sort indexSortOrNull;
+	private final NestedDocsBitSetCache nestedDocsBitSetCache = new NestedDocsBitSetCache();
+	private final GlobalOrdinalsCache globalOrdinalsCache = new GlobalOrdinalsCache();
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
 
@@ -79,6 +86,7 @@ void preStart(IndexManagerStartContext startContext, SavedState savedState) {
 		Map<String, SavedState> states = savedState.get( SHARDS_KEY ).orElse( Collections.emptyMap() );
 
 		this.shardingStrategyHolder = initializationContext.create( shards );
+		this.indexSortOrNull = IndexSortFactory.createOrNull( model, indexPropertySource );
 
 		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
 			String shardId = entry.getKey();
@@ -103,7 +111,7 @@ void start(IndexManagerStartContext startContext) {
 			Shard shard = entry.getValue();
 			ConfigurationPropertySource shardPropertySource = toShardPropertySource( indexPropertySource, shardId );
 			try {
-				shard.start( shardPropertySource );
+				shard.start( shardPropertySource, indexSortOrNull );
 				managementOrchestrators.add( shard.managementOrchestrator() );
 			}
 			catch (RuntimeException e) {
@@ -129,6 +137,8 @@ void stop() {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			nestedDocsBitSetCache.clear();
+			globalOrdinalsCache.clear();
 		}
 	}
 
@@ -137,10 +147,15 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		String mappedTypeName = model.mappedTypeName();
 		Collection<Shard> enabledShards = toShards( routingKeys );
 		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+			readerCollector.collect( mappedTypeName, nestedDocsBitSetCache, globalOrdinalsCache,
+					shard.openReader() );
 		}
 	}
 
+	Sort indexSortOrNull() {
+		return indexSortOrNull;
+	}
+
 	@Override
 	public String mappedTypeName() {
 		return model.mappedTypeName();
@@ -706,4 +706,76 @@ SearchException cannotHighlightInNestedContext(String currentNestingField,
 	@Message(id = ID_OFFSET + 173, value = "'%1$s' cannot be nested in an object projection. "
 			+ "%2$s")
 	SearchException cannotUseProjectionInNestedContext(String projection, String hint, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET + 174,
+			value = "Unable to refresh the index reader in the background: %1$s")
+	SearchException unableToRefreshIndexReaderInBackground(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 175,
+			value = "Unable to warm up an index segment: %1$s %2$s")
+	void unableToWarmUpSegment(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 176,
+			value = "Invalid I/O commit strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIOCommitStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 177,
+			value = "Invalid index sort: '%1$s'."
+					+ " The index sort must be a list of field paths, each optionally followed by ':asc' or ':desc'.")
+	SearchException invalidIndexSort(String invalidRepresentation);
+
+	@Message(id = ID_OFFSET + 178,
+			value = "Invalid index sort: unknown field '%1$s'.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 179,
+			value = "Invalid index sort: field '%1$s' cannot be used to sort the index."
+					+ " Only sortable fields of type string, boolean, numeric or temporal can be used to sort the index.")
+	SearchException unsupportedFieldForIndexSort(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 180,
+			value = "Invalid index sort: this index contains nested documents."
+					+ " Sorting the index would break the relationship between nested documents and their parent document.")
+	SearchException cannotSortIndexWithNestedDocuments();
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Unable to compute aggregation '%1$s' on field '%2$s':"
+					+ " the sum of values cannot be represented with the requested type."
+					+ " Request a wider type for the aggregation result, such as Long or Double. Failure: %3$s")
+	SearchException cannotComputeNumericMetric(String metric, String absoluteFieldPath, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 182,
+			value = "Invalid vector: expected a vector of dimension %1$s, but got a vector of dimension %2$s.")
+	SearchException vectorDimensionMismatch(int expectedDimension, int actualDimension, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 183,
+			value = "Invalid vector for knn predicate: expected a vector of type '%1$s', but got a vector of type '%2$s'.")
+	SearchException invalidVectorTypeForKnnPredicate(String expectedType, String actualType, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 184,
+			value = "Unable to use a knn predicate on a field in a nested object: knn predicates on nested documents are not supported."
+					+ " Move the vector field to the root document or to a non-nested object field.")
+	SearchException cannotUseKnnPredicateInNestedDocument(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 185,
+			value = "Invalid search cursor: '%1$s'. Search cursors must be values returned by SearchAfterResult.cursor(). Failure: %2$s")
+	SearchException invalidSearchCursor(String cursor, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 186,
+			value = "Invalid search cursor: the cursor does not match the sort of this query."
+					+ " Search cursors can only be used with the query that produced them.")
+	SearchException searchCursorSortMismatch();
+
+	@Message(id = ID_OFFSET + 187,
+			value = "Invalid index reader warmup fields: unknown field '%1$s'.")
+	SearchException unknownFieldForReaderWarmup(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET + 188,
+			value = "Invalid index reader warmup fields: field '%1$s' does not have doc values."
+					+ " Only sortable or aggregable fields can be warmed up.")
+	SearchException unsupportedFieldForReaderWarmup(String absoluteFieldPath);
 }
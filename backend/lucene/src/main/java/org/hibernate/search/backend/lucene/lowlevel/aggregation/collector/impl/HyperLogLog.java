@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.StringHelper;
+
+/**
+ * A HyperLogLog sketch, estimating the number of distinct values in a set
+ * using a fixed amount of memory (16kB) regardless of the number of values,
+ * with a standard error of about 0.8%.
+ * <p>
+ * Small cardinalities are estimated through linear counting,
+ * which is almost exact as long as most registers are still empty.
+ *
+ * @see <a href="http://algo.inria.fr/flajolet/Publications/FlFuGaMe07.pdf">HyperLogLog: the analysis of a near-optimal cardinality estimation algorithm</a>
+ */
+public final class HyperLogLog {
+
+	private static final int PRECISION = 14;
+	private static final int REGISTER_COUNT = 1 << PRECISION;
+	private static final double ALPHA_M_SQUARED =
+			0.7213 / ( 1 + 1.079 / REGISTER_COUNT ) * REGISTER_COUNT * REGISTER_COUNT;
+	private static final double LINEAR_COUNTING_THRESHOLD = 2.5 * REGISTER_COUNT;
+
+	private static final int SECOND_HASH_SEED = 0x5f3759df;
+
+	public static long hash(long value) {
+		return BitMixer.mix64( value );
+	}
+
+	public static long hash(BytesRef value) {
+		long high = StringHelper.murmurhash3_x86_32( value, 0 );
+		long low = StringHelper.murmurhash3_x86_32( value, SECOND_HASH_SEED );
+		return ( high << 32 ) | ( low & 0xFFFFFFFFL );
+	}
+
+	private final byte[] registers = new byte[REGISTER_COUNT];
+
+	/**
+	 * @param hash The 64-bit hash of a value, as returned by {@link #hash(long)} or {@link #hash(BytesRef)}.
+	 */
+	public void add(long hash) {
+		int index = (int) ( hash >>> ( Long.SIZE - PRECISION ) );
+		// Position of the first 1-bit in the remaining bits;
+		// the guard bit ensures the rank cannot exceed the number of remaining bits.
+		long remainingBits = ( hash << PRECISION ) | ( 1L << ( PRECISION - 1 ) );
+		byte rank = (byte) ( Long.numberOfLeadingZeros( remainingBits ) + 1 );
+		if ( rank > registers[index] ) {
+			registers[index] = rank;
+		}
+	}
+
+	public void merge(HyperLogLog other) {
+		for ( int i = 0; i < REGISTER_COUNT; i++ ) {
+			if ( other.registers[i] > registers[i] ) {
+				registers[i] = other.registers[i];
+			}
+		}
+	}
+
+	public long cardinality() {
+		double inverseSum = 0.0;
+		int emptyRegisterCount = 0;
+		for ( byte register : registers ) {
+			inverseSum += 1.0 / ( 1L << register );
+			if ( register == 0 ) {
+				++emptyRegisterCount;
+			}
+		}
+		double estimate = ALPHA_M_SQUARED / inverseSum;
+		if ( estimate <= LINEAR_COUNTING_THRESHOLD && emptyRegisterCount > 0 ) {
+			estimate = REGISTER_COUNT * Math.log( (double) REGISTER_COUNT / emptyRegisterCount );
+		}
+		return Math.round( estimate );
+	}
+}
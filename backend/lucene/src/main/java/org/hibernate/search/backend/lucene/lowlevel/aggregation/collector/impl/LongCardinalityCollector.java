@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Gathers the distinct values of a numeric field as documents are collected,
+ * either exactly in a hash set, or approximately in a {@link HyperLogLog} sketch.
+ */
+public class LongCardinalityCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongHashSet distinctValues;
+	private final HyperLogLog sketch;
+
+	private LongMultiValues values;
+
+	LongCardinalityCollector(LongMultiValuesSource valuesSource, boolean approximate) {
+		this.valuesSource = valuesSource;
+		this.distinctValues = approximate ? null : new LongHashSet();
+		this.sketch = approximate ? new HyperLogLog() : null;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		if ( sketch == null ) {
+			while ( values.hasNextValue() ) {
+				distinctValues.add( values.nextValue() );
+			}
+		}
+		else {
+			while ( values.hasNextValue() ) {
+				sketch.add( HyperLogLog.hash( values.nextValue() ) );
+			}
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @return The distinct values, or {@code null} if counting approximately.
+	 */
+	LongHashSet getDistinctValues() {
+		return distinctValues;
+	}
+
+	/**
+	 * @return The sketch of distinct values, or {@code null} if counting exactly.
+	 */
+	HyperLogLog getSketch() {
+		return sketch;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class LongCardinalityCollectorFactory
+		implements CollectorFactory<LongCardinalityCollector, Long> {
+
+	private final CollectorKey<Long> key = CollectorKey.create();
+
+	private final LongMultiValuesSource valuesSource;
+	private final boolean approximate;
+
+	public LongCardinalityCollectorFactory(LongMultiValuesSource valuesSource, boolean approximate) {
+		this.valuesSource = valuesSource;
+		this.approximate = approximate;
+	}
+
+	@Override
+	public CollectorManager<LongCardinalityCollector, Long> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new LongCardinalityCollectorManager( valuesSource, approximate );
+	}
+
+	@Override
+	public CollectorKey<Long> getCollectorKey() {
+		return key;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.lucene.search.CollectorManager;
+
+public class LongCardinalityCollectorManager
+		implements CollectorManager<LongCardinalityCollector, Long> {
+
+	private final LongMultiValuesSource valuesSource;
+	private final boolean approximate;
+
+	public LongCardinalityCollectorManager(LongMultiValuesSource valuesSource, boolean approximate) {
+		this.valuesSource = valuesSource;
+		this.approximate = approximate;
+	}
+
+	@Override
+	public LongCardinalityCollector newCollector() {
+		return new LongCardinalityCollector( valuesSource, approximate );
+	}
+
+	@Override
+	public Long reduce(Collection<LongCardinalityCollector> collectors) {
+		if ( approximate ) {
+			HyperLogLog sketch = new HyperLogLog();
+			for ( LongCardinalityCollector collector : collectors ) {
+				sketch.merge( collector.getSketch() );
+			}
+			return sketch.cardinality();
+		}
+		if ( collectors.size() == 1 ) {
+			return (long) collectors.iterator().next().getDistinctValues().size();
+		}
+		LongHashSet distinctValues = new LongHashSet();
+		for ( LongCardinalityCollector collector : collectors ) {
+			distinctValues.addAll( collector.getDistinctValues() );
+		}
+		return (long) distinctValues.size();
+	}
+}
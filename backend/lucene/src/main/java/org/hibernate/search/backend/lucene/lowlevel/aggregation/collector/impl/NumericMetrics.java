@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+/**
+ * Metrics computed from the values of a numeric field in matched documents.
+ * <p>
+ * Minimum and maximum are expressed as doc values, i.e. as sortable longs,
+ * so that they can be converted back to field values regardless of the numeric type of the field.
+ * Sums are expressed either as the sum of doc values, for integral types,
+ * or as the sum of decoded values, for floating-point types.
+ */
+public final class NumericMetrics {
+
+	private long count;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+	private long longSum;
+	private boolean longSumOverflow;
+	private double doubleSum;
+
+	NumericMetrics() {
+	}
+
+	void accumulate(long docValue) {
+		accumulateCountAndBounds( docValue );
+		addToLongSum( docValue );
+		doubleSum += docValue;
+	}
+
+	void accumulate(long docValue, double decodedValue) {
+		accumulateCountAndBounds( docValue );
+		doubleSum += decodedValue;
+	}
+
+	void add(NumericMetrics other) {
+		count += other.count;
+		min = Math.min( min, other.min );
+		max = Math.max( max, other.max );
+		addToLongSum( other.longSum );
+		longSumOverflow |= other.longSumOverflow;
+		doubleSum += other.doubleSum;
+	}
+
+	/**
+	 * @return The number of values.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return The lowest doc value. Meaningless if {@link #getCount()} returns zero.
+	 */
+	public long getMin() {
+		return min;
+	}
+
+	/**
+	 * @return The highest doc value. Meaningless if {@link #getCount()} returns zero.
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return The sum of doc values, for fields of integral types.
+	 * @throws ArithmeticException If the sum overflowed.
+	 */
+	public long getLongSum() {
+		if ( longSumOverflow ) {
+			throw new ArithmeticException( "long overflow" );
+		}
+		return longSum;
+	}
+
+	/**
+	 * @return {@code true} if the sum of doc values overflowed, for fields of integral types.
+	 */
+	public boolean hasLongSumOverflow() {
+		return longSumOverflow;
+	}
+
+	/**
+	 * @return The sum of decoded values, for fields of floating-point types,
+	 * or an approximate sum of doc values, for fields of integral types.
+	 */
+	public double getDoubleSum() {
+		return doubleSum;
+	}
+
+	private void addToLongSum(long value) {
+		long result = longSum + value;
+		// Same overflow check as Math.addExact, without throwing in the middle of the collection
+		if ( ( ( longSum ^ result ) & ( value ^ result ) ) < 0 ) {
+			longSumOverflow = true;
+		}
+		longSum = result;
+	}
+
+	private void accumulateCountAndBounds(long docValue) {
+		++count;
+		if ( docValue < min ) {
+			min = docValue;
+		}
+		if ( docValue > max ) {
+			max = docValue;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.io.IOException;
+import java.util.function.LongToDoubleFunction;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Computes metrics (count, min, max, sum) over the values of a numeric field as documents are collected.
+ */
+public class NumericMetricsCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongToDoubleFunction docValueDecoder;
+	private final NumericMetrics metrics = new NumericMetrics();
+
+	private LongMultiValues values;
+
+	NumericMetricsCollector(LongMultiValuesSource valuesSource, LongToDoubleFunction docValueDecoder) {
+		this.valuesSource = valuesSource;
+		this.docValueDecoder = docValueDecoder;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		if ( docValueDecoder == null ) {
+			while ( values.hasNextValue() ) {
+				metrics.accumulate( values.nextValue() );
+			}
+		}
+		else {
+			while ( values.hasNextValue() ) {
+				long docValue = values.nextValue();
+				metrics.accumulate( docValue, docValueDecoder.applyAsDouble( docValue ) );
+			}
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	NumericMetrics getMetrics() {
+		return metrics;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.util.function.LongToDoubleFunction;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class NumericMetricsCollectorFactory
+		implements CollectorFactory<NumericMetricsCollector, NumericMetrics> {
+
+	private final CollectorKey<NumericMetrics> key = CollectorKey.create();
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongToDoubleFunction docValueDecoder;
+
+	/**
+	 * @param valuesSource The source of doc values.
+	 * @param docValueDecoder A function decoding doc values into floating-point values,
+	 * or {@code null} for integral types, whose doc values can be added up directly.
+	 */
+	public NumericMetricsCollectorFactory(LongMultiValuesSource valuesSource,
+			LongToDoubleFunction docValueDecoder) {
+		this.valuesSource = valuesSource;
+		this.docValueDecoder = docValueDecoder;
+	}
+
+	@Override
+	public CollectorManager<NumericMetricsCollector, NumericMetrics> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new NumericMetricsCollectorManager( valuesSource, docValueDecoder );
+	}
+
+	@Override
+	public CollectorKey<NumericMetrics> getCollectorKey() {
+		return key;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.util.Collection;
+import java.util.function.LongToDoubleFunction;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class NumericMetricsCollectorManager
+		implements CollectorManager<NumericMetricsCollector, NumericMetrics> {
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongToDoubleFunction docValueDecoder;
+
+	public NumericMetricsCollectorManager(LongMultiValuesSource valuesSource, LongToDoubleFunction docValueDecoder) {
+		this.valuesSource = valuesSource;
+		this.docValueDecoder = docValueDecoder;
+	}
+
+	@Override
+	public NumericMetricsCollector newCollector() {
+		return new NumericMetricsCollector( valuesSource, docValueDecoder );
+	}
+
+	@Override
+	public NumericMetrics reduce(Collection<NumericMetricsCollector> collectors) {
+		NumericMetrics metrics = new NumericMetrics();
+		for ( NumericMetricsCollector collector : collectors ) {
+			metrics.add( collector.getMetrics() );
+		}
+		return metrics;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * Marks the ordinals of the values of a text field in each segment as documents are collected.
+ * <p>
+ * Ordinals are only resolved to actual terms when the results of all collectors are reduced,
+ * once per distinct ordinal.
+ */
+public class TextCardinalityCollector extends SimpleCollector {
+
+	private final TextMultiValuesSource valuesSource;
+	private final FixedBitSet[] segmentOrdinals;
+
+	private TextMultiValues values;
+	private FixedBitSet ordinals;
+
+	TextCardinalityCollector(TextMultiValuesSource valuesSource, int leafCount) {
+		this.valuesSource = valuesSource;
+		this.segmentOrdinals = new FixedBitSet[leafCount];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+		ordinals = new FixedBitSet( (int) values.getValueCount() );
+		segmentOrdinals[context.ord] = ordinals;
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		while ( values.hasNextValue() ) {
+			ordinals.set( (int) values.nextOrd() );
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param leafOrd The ordinal of a leaf in the top-level reader.
+	 * @return The ordinals of values found in the given segment,
+	 * or {@code null} if this collector didn't collect that segment.
+	 */
+	FixedBitSet getSegmentOrdinals(int leafOrd) {
+		return segmentOrdinals[leafOrd];
+	}
+}
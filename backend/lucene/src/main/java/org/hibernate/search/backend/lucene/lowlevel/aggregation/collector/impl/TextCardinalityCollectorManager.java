@@ -0,0 +1,111 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.LongValues;
+
+public class TextCardinalityCollectorManager
+		implements CollectorManager<TextCardinalityCollector, Long> {
+
+	private final IndexReader reader;
+	private final String field;
+	private final TextMultiValuesSource valuesSource;
+	private final boolean approximate;
+
+	public TextCardinalityCollectorManager(IndexReader reader, String field, TextMultiValuesSource valuesSource,
+			boolean approximate) {
+		this.reader = reader;
+		this.field = field;
+		this.valuesSource = valuesSource;
+		this.approximate = approximate;
+	}
+
+	@Override
+	public TextCardinalityCollector newCollector() {
+		return new TextCardinalityCollector( valuesSource, reader.leaves().size() );
+	}
+
+	@Override
+	public Long reduce(Collection<TextCardinalityCollector> collectors) throws IOException {
+		return approximate ? estimateCardinality( collectors ) : computeCardinality( collectors );
+	}
+
+	private long computeCardinality(Collection<TextCardinalityCollector> collectors) throws IOException {
+		SortedSetDocValues dv = reader instanceof HibernateSearchMultiReader
+				? ( (HibernateSearchMultiReader) reader ).getSortedSetValues( field )
+				: MultiDocValues.getSortedSetValues( reader, field );
+		if ( dv == null ) {
+			return 0L;
+		}
+		// No ordinal map for single-segment indexes: segment ordinals are global ordinals.
+		OrdinalMap ordinalMap = dv instanceof MultiDocValues.MultiSortedSetDocValues
+				? ( (MultiDocValues.MultiSortedSetDocValues) dv ).mapping
+				: null;
+
+		FixedBitSet globalOrdinals = new FixedBitSet( (int) dv.getValueCount() );
+		int leafCount = reader.leaves().size();
+		for ( int leafOrd = 0; leafOrd < leafCount; leafOrd++ ) {
+			LongValues globalOrds = ordinalMap == null ? null : ordinalMap.getGlobalOrds( leafOrd );
+			for ( TextCardinalityCollector collector : collectors ) {
+				FixedBitSet segmentOrdinals = collector.getSegmentOrdinals( leafOrd );
+				if ( segmentOrdinals == null ) {
+					continue;
+				}
+				if ( globalOrds == null ) {
+					globalOrdinals.or( segmentOrdinals );
+					continue;
+				}
+				for ( int ord = nextSetBit( segmentOrdinals, 0 ); ord != DocIdSetIterator.NO_MORE_DOCS;
+						ord = nextSetBit( segmentOrdinals, ord + 1 ) ) {
+					globalOrdinals.set( (int) globalOrds.get( ord ) );
+				}
+			}
+		}
+		return globalOrdinals.cardinality();
+	}
+
+	private long estimateCardinality(Collection<TextCardinalityCollector> collectors) throws IOException {
+		// Hash terms segment by segment, which does not require global ordinals.
+		HyperLogLog sketch = new HyperLogLog();
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			SortedSetDocValues dv = null;
+			for ( TextCardinalityCollector collector : collectors ) {
+				FixedBitSet segmentOrdinals = collector.getSegmentOrdinals( leaf.ord );
+				if ( segmentOrdinals == null ) {
+					continue;
+				}
+				for ( int ord = nextSetBit( segmentOrdinals, 0 ); ord != DocIdSetIterator.NO_MORE_DOCS;
+						ord = nextSetBit( segmentOrdinals, ord + 1 ) ) {
+					if ( dv == null ) {
+						dv = DocValues.getSortedSet( leaf.reader(), field );
+					}
+					sketch.add( HyperLogLog.hash( dv.lookupOrd( ord ) ) );
+				}
+			}
+		}
+		return sketch.cardinality();
+	}
+
+	private static int nextSetBit(FixedBitSet bitSet, int from) {
+		return from >= bitSet.length() ? DocIdSetIterator.NO_MORE_DOCS : bitSet.nextSetBit( from );
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts the values of a text field as documents are collected.
+ */
+public class TextValueCountCollector extends SimpleCollector {
+
+	private final TextMultiValuesSource valuesSource;
+
+	private TextMultiValues values;
+	private long count;
+
+	TextValueCountCollector(TextMultiValuesSource valuesSource) {
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		while ( values.hasNextValue() ) {
+			values.nextOrd();
+			++count;
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	long getCount() {
+		return count;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class TextValueCountCollectorFactory
+		implements CollectorFactory<TextValueCountCollector, Long> {
+
+	private final CollectorKey<Long> key = CollectorKey.create();
+
+	private final TextMultiValuesSource valuesSource;
+
+	public TextValueCountCollectorFactory(TextMultiValuesSource valuesSource) {
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public CollectorManager<TextValueCountCollector, Long> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new TextValueCountCollectorManager( valuesSource );
+	}
+
+	@Override
+	public CollectorKey<Long> getCollectorKey() {
+		return key;
+	}
+}
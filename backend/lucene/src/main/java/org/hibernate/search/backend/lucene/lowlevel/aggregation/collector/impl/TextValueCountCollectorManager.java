@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class TextValueCountCollectorManager
+		implements CollectorManager<TextValueCountCollector, Long> {
+
+	private final TextMultiValuesSource valuesSource;
+
+	public TextValueCountCollectorManager(TextMultiValuesSource valuesSource) {
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public TextValueCountCollector newCollector() {
+		return new TextValueCountCollector( valuesSource );
+	}
+
+	@Override
+	public Long reduce(Collection<TextValueCountCollector> collectors) {
+		long count = 0L;
+		for ( TextValueCountCollector collector : collectors ) {
+			count += collector.getCount();
+		}
+		return count;
+	}
+}
@@ -9,11 +9,22 @@
 import java.io.IOException;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
-public interface CollectorFactory<C extends Collector> {
+/**
+ * A factory for collector managers.
+ * <p>
+ * Collector managers create one collector per slice of the index,
+ * and reduce the collectors into a single result once all slices have been collected,
+ * so that the search may be executed in parallel.
+ *
+ * @param <C> The type of collectors.
+ * @param <T> The type of the result of collection.
+ */
+public interface CollectorFactory<C extends Collector, T> {
 
-	C createCollector(CollectorExecutionContext context) throws IOException;
+	CollectorManager<C, T> createCollectorManager(CollectorExecutionContext context) throws IOException;
 
-	CollectorKey<C> getCollectorKey();
+	CollectorKey<T> getCollectorKey();
 
 }
@@ -6,19 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
-import org.apache.lucene.search.Collector;
-
 /**
  * Tagging interface for collector keys.
  * <p>
  * This is used for de-duplication of collectors, to avoid collecting the same data twice during the same search.
  *
- * @param <C> The type of collector.
+ * @param <T> The type of the result of collection,
+ * i.e. the result of reducing the collectors created for each slice of the index.
  */
-public interface CollectorKey<C extends Collector> {
+public interface CollectorKey<T> {
 
-	static <C extends Collector> CollectorKey<C> create() {
-		return new CollectorKey<C>() {
+	static <T> CollectorKey<T> create() {
+		return new CollectorKey<T>() {
 		};
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.ChildDocIds;
@@ -14,14 +15,13 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import com.carrotsearch.hppc.IntObjectHashMap;
-import com.carrotsearch.hppc.IntObjectMap;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
 
 /**
  * Collects values from stored fields, for use in {@link Values} implementations.
@@ -56,7 +56,7 @@ public StoredFieldsValuesDelegate create(CollectorExecutionContext context) thro
 	}
 
 	private final NestedDocsProvider nestedDocsProvider;
-	private final Weight childrenWeight;
+	private final Weight nestedFilterWeight;
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 
 	private ChildDocIds currentLeafChildDocs;
@@ -64,15 +64,20 @@ public StoredFieldsValuesDelegate create(CollectorExecutionContext context) thro
 
 	private int currentRootDoc;
 	private Document currentRootDocValue;
-	private final IntObjectMap<Document> currentChildDocValues;
+	// Child documents of the current root document, sorted by doc ID.
+	// Buffers are reused from one root document to the next.
+	private int[] currentChildDocIds;
+	private Document[] currentChildDocValues;
+	private int currentChildDocCount;
 
 	public StoredFieldsValuesDelegate(NestedDocsProvider nestedDocsProvider,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
 			IndexSearcher indexSearcher) throws IOException {
-		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
+		this.nestedFilterWeight = nestedDocsProvider == null ? null : nestedDocsProvider.nestedFilterWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
-		this.currentChildDocValues = nestedDocsProvider == null ? null : new IntObjectHashMap<>();
+		this.currentChildDocIds = new int[0];
+		this.currentChildDocValues = new Document[0];
 	}
 
 	@Override
@@ -85,24 +90,23 @@ public String toString() {
 	void context(LeafReaderContext context) throws IOException {
 		this.currentLeafReader = context.reader();
 		this.currentLeafChildDocs = nestedDocsProvider == null ? null
-				: nestedDocsProvider.childDocs( childrenWeight, context, null );
+				: nestedDocsProvider.childDocs( nestedFilterWeight, context, null );
 
 		this.currentRootDoc = -1;
 		this.currentRootDocValue = null;
-		if ( currentChildDocValues != null ) {
-			this.currentChildDocValues.clear();
-		}
+		clearChildDocs();
 	}
 
 	void collect(int parentDoc) throws IOException {
 		this.currentRootDoc = parentDoc;
+		clearChildDocs();
 
 		// collect child documents if necessary
 		if ( currentLeafChildDocs != null && currentLeafChildDocs.advanceExactParent( parentDoc ) ) {
 			for ( int childDoc = currentLeafChildDocs.nextChild(); childDoc != DocIdSetIterator.NO_MORE_DOCS;
 					childDoc = currentLeafChildDocs.nextChild() ) {
 				currentLeafReader.document( childDoc, storedFieldVisitor );
-				currentChildDocValues.put( childDoc, storedFieldVisitor.getDocumentAndReset() );
+				addChildDoc( childDoc, storedFieldVisitor.getDocumentAndReset() );
 			}
 		}
 
@@ -115,12 +119,30 @@ public Document get(int docId) {
 		if ( docId == currentRootDoc ) {
 			return currentRootDocValue;
 		}
-		Document doc = currentChildDocValues.get( docId );
-		if ( doc == null ) {
+		// Child doc IDs are added in increasing order
+		int index = Arrays.binarySearch( currentChildDocIds, 0, currentChildDocCount, docId );
+		if ( index < 0 ) {
 			throw new AssertionFailure( "Getting value for " + docId + ", which is neither root document "
-					+ currentRootDoc + " nor children " + currentChildDocValues.keys() );
+					+ currentRootDoc + " nor children "
+					+ Arrays.toString( Arrays.copyOf( currentChildDocIds, currentChildDocCount ) ) );
+		}
+		return currentChildDocValues[index];
+	}
+
+	private void addChildDoc(int childDoc, Document value) {
+		if ( currentChildDocCount == currentChildDocIds.length ) {
+			currentChildDocIds = ArrayUtil.grow( currentChildDocIds, currentChildDocCount + 1 );
+			currentChildDocValues = ArrayUtil.grow( currentChildDocValues, currentChildDocCount + 1 );
 		}
-		return doc;
+		currentChildDocIds[currentChildDocCount] = childDoc;
+		currentChildDocValues[currentChildDocCount] = value;
+		++currentChildDocCount;
+	}
+
+	private void clearChildDocs() {
+		// Release references to documents so that they can be garbage-collected.
+		Arrays.fill( currentChildDocValues, 0, currentChildDocCount, null );
+		currentChildDocCount = 0;
 	}
 
 }
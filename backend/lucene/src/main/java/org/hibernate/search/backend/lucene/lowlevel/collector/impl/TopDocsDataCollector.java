@@ -8,14 +8,16 @@
 
 import java.io.IOException;
 
-import com.carrotsearch.hppc.IntObjectHashMap;
-import com.carrotsearch.hppc.IntObjectMap;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
 /**
  * The collector used when collecting data related to top docs.
+ * <p>
+ * Collected values are stored in an array indexed by the position of each document in the top docs,
+ * so that collecting values doesn't involve hashing document IDs.
  *
  * @param <T> The type of value collected for each top doc.
  */
@@ -29,13 +31,21 @@
 
 	private final Values<? extends T> values;
 	private final StoredFieldsValuesDelegate storedFieldsValuesDelegate;
+	private final ScoreDoc[] scoreDocs;
+	private final int startInclusive;
+	private final int[] sortedScoreDocIndexes;
 
-	private final IntObjectMap<T> collected = new IntObjectHashMap<>();
+	private final Object[] collected;
 	private int currentLeafDocBase;
+	private int nextSortedScoreDocIndex = 0;
 
 	public TopDocsDataCollector(TopDocsDataCollectorExecutionContext context, Values<? extends T> values) {
 		this.values = values;
 		this.storedFieldsValuesDelegate = context.storedFieldsValuesDelegate();
+		this.scoreDocs = context.topDocs().scoreDocs;
+		this.startInclusive = context.startInclusive();
+		this.sortedScoreDocIndexes = context.scoreDocIndexesSortedByDocId();
+		this.collected = new Object[context.endExclusive() - startInclusive];
 	}
 
 	@Override
@@ -53,7 +63,14 @@ public void collect(int doc) throws IOException {
 			// Pre-load the stored fields of the current document for use in our Values.
 			storedFieldsValuesDelegate.collect( doc );
 		}
-		collected.put( currentLeafDocBase + doc, values.get( doc ) );
+		// Documents are collected in doc ID order, so we can find the index of each document
+		// by moving forward in the sorted indexes instead of relying on a hash map.
+		int globalDocId = currentLeafDocBase + doc;
+		int scoreDocIndex = sortedScoreDocIndexes[nextSortedScoreDocIndex++];
+		while ( scoreDocs[scoreDocIndex].doc != globalDocId ) {
+			scoreDocIndex = sortedScoreDocIndexes[nextSortedScoreDocIndex++];
+		}
+		collected[scoreDocIndex - startInclusive] = values.get( doc );
 	}
 
 	@Override
@@ -61,7 +78,23 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public T get(int doc) {
-		return collected.get( doc );
+	/**
+	 * @param scoreDocIndex The index of a document in {@link TopDocsDataCollectorExecutionContext#topDocs()}.
+	 * @return The value collected for that document.
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int scoreDocIndex) {
+		return (T) collected[scoreDocIndex - startInclusive];
+	}
+
+	void merge(TopDocsDataCollector<T> other) {
+		// Each document is collected by exactly one collector,
+		// so non-null values from the other collector never overwrite values from this one.
+		for ( int i = 0; i < collected.length; i++ ) {
+			Object otherValue = other.collected[i];
+			if ( otherValue != null ) {
+				collected[i] = otherValue;
+			}
+		}
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 
@@ -21,17 +22,22 @@ public class TopDocsDataCollectorExecutionContext extends CollectorExecutionCont
 	private final Query executedQuery;
 	private final Query originalQuery;
 	private final TopDocs topDocs;
+	private final int startInclusive;
+	private final int endExclusive;
 	private final StoredFieldsValuesDelegate storedFieldsValuesDelegate;
 
 	private IntIntMap docIdToScoreDocIndex;
 
 	public TopDocsDataCollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
 			IndexSearcher indexSearcher, Query executedQuery, Query originalQuery, TopDocs topDocs,
+			int startInclusive, int endExclusive,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull) throws IOException {
 		super( metadataResolver, indexSearcher, topDocs.scoreDocs.length );
 		this.executedQuery = executedQuery;
 		this.originalQuery = originalQuery;
 		this.topDocs = topDocs;
+		this.startInclusive = startInclusive;
+		this.endExclusive = endExclusive;
 		this.storedFieldsValuesDelegate = storedFieldsValuesDelegateOrNull == null ? null
 				: storedFieldsValuesDelegateOrNull.create( this );
 	}
@@ -48,10 +54,46 @@ public TopDocs topDocs() {
 		return topDocs;
 	}
 
+	/**
+	 * @return The index of the first top doc whose data is collected.
+	 */
+	public int startInclusive() {
+		return startInclusive;
+	}
+
+	/**
+	 * @return The index after the last top doc whose data is collected.
+	 */
+	public int endExclusive() {
+		return endExclusive;
+	}
+
+	/**
+	 * @return The indexes in {@code topDocs().scoreDocs} of the top docs whose data is collected,
+	 * sorted by document ID, i.e. in the order documents will be collected.
+	 */
+	public int[] scoreDocIndexesSortedByDocId() {
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		int size = endExclusive - startInclusive;
+		// Pack the doc ID in the high bits and the index in the low bits,
+		// so that we can sort without boxing.
+		long[] docIdsAndIndexes = new long[size];
+		for ( int i = 0; i < size; i++ ) {
+			int index = startInclusive + i;
+			docIdsAndIndexes[i] = ( (long) scoreDocs[index].doc << 32 ) | index;
+		}
+		Arrays.sort( docIdsAndIndexes );
+		int[] sortedIndexes = new int[size];
+		for ( int i = 0; i < size; i++ ) {
+			sortedIndexes[i] = (int) docIdsAndIndexes[i];
+		}
+		return sortedIndexes;
+	}
+
 	public IntIntMap docIdToScoreDocIndex() {
 		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 		if ( docIdToScoreDocIndex == null ) {
-			docIdToScoreDocIndex = new IntIntHashMap();
+			docIdToScoreDocIndex = new IntIntHashMap( scoreDocs.length );
 			for ( int i = 0; i < scoreDocs.length; i++ ) {
 				docIdToScoreDocIndex.put( scoreDocs[i].doc, i );
 			}
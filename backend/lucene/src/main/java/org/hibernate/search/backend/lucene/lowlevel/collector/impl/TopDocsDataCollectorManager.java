@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class TopDocsDataCollectorManager<T> implements CollectorManager<TopDocsDataCollector<T>, TopDocsDataCollector<T>> {
+
+	private final TopDocsDataCollector.Factory<T> factory;
+	private final TopDocsDataCollectorExecutionContext context;
+
+	public TopDocsDataCollectorManager(TopDocsDataCollector.Factory<T> factory,
+			TopDocsDataCollectorExecutionContext context) {
+		this.factory = factory;
+		this.context = context;
+	}
+
+	@Override
+	public TopDocsDataCollector<T> newCollector() throws IOException {
+		return factory.create( context );
+	}
+
+	@Override
+	public TopDocsDataCollector<T> reduce(Collection<TopDocsDataCollector<T>> collectors) {
+		Iterator<TopDocsDataCollector<T>> iterator = collectors.iterator();
+		TopDocsDataCollector<T> reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.merge( iterator.next() );
+		}
+		return reduced;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Collection;
+
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.TotalHitCountCollector;
+
+public class TotalHitCountCollectorManager implements CollectorManager<TotalHitCountCollector, Integer> {
+
+	public static final TotalHitCountCollectorManager INSTANCE = new TotalHitCountCollectorManager();
+
+	private TotalHitCountCollectorManager() {
+	}
+
+	@Override
+	public TotalHitCountCollector newCollector() {
+		return new TotalHitCountCollector();
+	}
+
+	@Override
+	public Integer reduce(Collection<TotalHitCountCollector> collectors) {
+		int total = 0;
+		for ( TotalHitCountCollector collector : collectors ) {
+			total += collector.getTotalHits();
+		}
+		return total;
+	}
+}
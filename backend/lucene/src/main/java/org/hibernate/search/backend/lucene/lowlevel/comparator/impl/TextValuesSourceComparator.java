@@ -0,0 +1,220 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.comparator.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesToSingleValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.FieldComparator;
+import org.apache.lucene.search.LeafFieldComparator;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+
+/**
+ * A comparator for text values.
+ * <p>
+ * When the global ordinals of the index reader are cached,
+ * compares global ordinals instead of terms:
+ * this avoids copying the term of every competitive document,
+ * as well as looking up the bottom and top terms in every segment.
+ * Otherwise, falls back to {@link FieldComparator.TermOrdValComparator}.
+ */
+public class TextValuesSourceComparator extends FieldComparator<BytesRef> {
+
+	private final int numHits;
+	private final String field;
+	private final boolean missingHighest;
+	private final TextMultiValuesToSingleValuesSource source;
+
+	private FieldComparator<BytesRef> delegate;
+	private boolean topValueSet;
+	private BytesRef topValue;
+
+	public TextValuesSourceComparator(int numHits, String field, boolean missingHighest,
+			TextMultiValuesToSingleValuesSource source) {
+		this.numHits = numHits;
+		this.field = field;
+		this.missingHighest = missingHighest;
+		this.source = source;
+	}
+
+	@Override
+	public int compare(int slot1, int slot2) {
+		return delegate.compare( slot1, slot2 );
+	}
+
+	@Override
+	public void setTopValue(BytesRef value) {
+		topValueSet = true;
+		topValue = value;
+		if ( delegate != null ) {
+			delegate.setTopValue( value );
+		}
+	}
+
+	@Override
+	public BytesRef value(int slot) {
+		return delegate.value( slot );
+	}
+
+	@Override
+	public int compareValues(BytesRef val1, BytesRef val2) {
+		// May be called without any leaf comparator, e.g. when merging top docs: don't rely on the delegate.
+		if ( val1 == null ) {
+			if ( val2 == null ) {
+				return 0;
+			}
+			return missingHighest ? 1 : -1;
+		}
+		else if ( val2 == null ) {
+			return missingHighest ? -1 : 1;
+		}
+		return val1.compareTo( val2 );
+	}
+
+	@Override
+	public LeafFieldComparator getLeafComparator(LeafReaderContext context) throws IOException {
+		if ( delegate == null ) {
+			delegate = createDelegate( ReaderUtil.getTopLevelContext( context ).reader() );
+			if ( topValueSet ) {
+				delegate.setTopValue( topValue );
+			}
+		}
+		return delegate.getLeafComparator( context );
+	}
+
+	private FieldComparator<BytesRef> createDelegate(IndexReader topLevelReader) throws IOException {
+		if ( topLevelReader instanceof HibernateSearchMultiReader
+				&& ( (HibernateSearchMultiReader) topLevelReader ).hasCachedGlobalOrdinals() ) {
+			SortedSetDocValues globalValues = ( (HibernateSearchMultiReader) topLevelReader )
+					.getSortedSetValues( field );
+			// Global ordinals must fit in an int, with one spare value for missing values.
+			if ( globalValues != null && globalValues.getValueCount() < Integer.MAX_VALUE ) {
+				return new GlobalOrdinalComparator( globalValues );
+			}
+		}
+		return new FieldComparator.TermOrdValComparator( numHits, field, missingHighest ) {
+			@Override
+			protected SortedDocValues getSortedDocValues(LeafReaderContext context, String field) throws IOException {
+				return source.getValues( context );
+			}
+		};
+	}
+
+	private class GlobalOrdinalComparator extends FieldComparator<BytesRef> {
+
+		private final SortedSetDocValues globalValues;
+		private final OrdinalMap ordinalMap;
+		private final int missingOrd;
+		private final int[] ords;
+
+		private int bottom;
+		// Twice the global ordinal of the top value, minus one if the top value is not in the index.
+		private long doubledTop;
+
+		private GlobalOrdinalComparator(SortedSetDocValues globalValues) {
+			this.globalValues = globalValues;
+			// No ordinal map for single-segment readers: segment ordinals are global ordinals.
+			this.ordinalMap = globalValues instanceof MultiDocValues.MultiSortedSetDocValues
+					? ( (MultiDocValues.MultiSortedSetDocValues) globalValues ).mapping
+					: null;
+			this.missingOrd = missingHighest ? Integer.MAX_VALUE : -1;
+			this.ords = new int[numHits];
+		}
+
+		@Override
+		public int compare(int slot1, int slot2) {
+			return Integer.compare( ords[slot1], ords[slot2] );
+		}
+
+		@Override
+		public void setTopValue(BytesRef value) {
+			if ( value == null ) {
+				doubledTop = 2L * missingOrd;
+				return;
+			}
+			try {
+				long ord = globalValues.lookupTerm( value );
+				// Terms that are not in the index are between two global ordinals.
+				doubledTop = ord >= 0 ? 2L * ord : 2L * ( -ord - 1 ) - 1;
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( "Unable to look up term " + value + " in field " + field, e );
+			}
+		}
+
+		@Override
+		public BytesRef value(int slot) {
+			int ord = ords[slot];
+			if ( ord == missingOrd ) {
+				return null;
+			}
+			try {
+				return BytesRef.deepCopyOf( globalValues.lookupOrd( ord ) );
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( "Unable to look up term with ordinal " + ord + " in field " + field,
+						e );
+			}
+		}
+
+		@Override
+		public int compareValues(BytesRef val1, BytesRef val2) {
+			return TextValuesSourceComparator.this.compareValues( val1, val2 );
+		}
+
+		@Override
+		public LeafFieldComparator getLeafComparator(LeafReaderContext context) throws IOException {
+			SortedDocValues segmentValues = source.getValues( context );
+			LongValues globalOrds = ordinalMap == null ? null : ordinalMap.getGlobalOrds( context.ord );
+			return new LeafFieldComparator() {
+				@Override
+				public void setBottom(int slot) {
+					bottom = ords[slot];
+				}
+
+				@Override
+				public int compareBottom(int doc) throws IOException {
+					return Integer.compare( bottom, globalOrd( doc ) );
+				}
+
+				@Override
+				public int compareTop(int doc) throws IOException {
+					return Long.compare( doubledTop, 2L * globalOrd( doc ) );
+				}
+
+				@Override
+				public void copy(int slot, int doc) throws IOException {
+					ords[slot] = globalOrd( doc );
+				}
+
+				@Override
+				public void setScorer(Scorable scorer) {
+					// Nothing to do
+				}
+
+				private int globalOrd(int doc) throws IOException {
+					if ( !segmentValues.advanceExact( doc ) ) {
+						return missingOrd;
+					}
+					int segmentOrd = segmentValues.ordValue();
+					return globalOrds == null ? segmentOrd : (int) globalOrds.get( segmentOrd );
+				}
+			};
+		}
+	}
+}
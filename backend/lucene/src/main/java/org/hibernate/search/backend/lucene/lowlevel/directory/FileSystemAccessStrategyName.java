@@ -21,7 +21,12 @@ public enum FileSystemAccessStrategyName {
 	@Deprecated
 	SIMPLE( "simple" ),
 	NIO( "nio" ),
-	MMAP( "mmap" );
+	MMAP( "mmap" ),
+	/**
+	 * Memory-maps files with some extensions (terms, postings, doc values, norms, points by default)
+	 * and uses NIO for all other files (stored fields, term vectors, ...).
+	 */
+	HYBRID( "hybrid" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
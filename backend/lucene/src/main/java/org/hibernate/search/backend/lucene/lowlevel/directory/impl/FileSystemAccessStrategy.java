@@ -8,11 +8,15 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.util.common.AssertionFailure;
 
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.LockFactory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
@@ -20,8 +24,13 @@
 enum FileSystemAccessStrategy {
 	AUTO {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
-			return FSDirectory.open( indexDir, factory );
+		public Directory createDirectory(Path indexDir, LockFactory factory,
+				Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
+			FSDirectory directory = FSDirectory.open( indexDir, factory );
+			if ( directory instanceof MMapDirectory ) {
+				return withPreload( (MMapDirectory) directory, indexDir, factory, preloadExtensions );
+			}
+			return directory;
 		}
 	},
 	/**
@@ -30,24 +39,42 @@ public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IO
 	@Deprecated
 	SIMPLE {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+		public Directory createDirectory(Path indexDir, LockFactory factory,
+				Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
 			return new org.apache.lucene.store.SimpleFSDirectory( indexDir, factory );
 		}
 	},
 	NIO {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+		public Directory createDirectory(Path indexDir, LockFactory factory,
+				Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
 			return new NIOFSDirectory( indexDir, factory );
 		}
 	},
 	MMAP {
 		@Override
-		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
-			return new MMapDirectory( indexDir, factory );
+		public Directory createDirectory(Path indexDir, LockFactory factory,
+				Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
+			return withPreload( new MMapDirectory( indexDir, factory ), indexDir, factory, preloadExtensions );
+		}
+	},
+	HYBRID {
+		@Override
+		public Directory createDirectory(Path indexDir, LockFactory factory,
+				Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
+			// Only memory-mapped files can be preloaded.
+			Set<String> mmapPreloadExtensions = new HashSet<>( preloadExtensions );
+			mmapPreloadExtensions.retainAll( mmapExtensions );
+			Directory mmapDirectory = withPreload( new MMapDirectory( indexDir, factory ), indexDir, factory,
+					mmapPreloadExtensions );
+			// Files whose extension is not listed (including locks) are handled by the NIO directory.
+			return new FileSwitchDirectory( mmapExtensions, mmapDirectory,
+					new NIOFSDirectory( indexDir, factory ), true );
 		}
 	};
 
-	public abstract FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException;
+	public abstract Directory createDirectory(Path indexDir, LockFactory factory,
+			Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException;
 
 	@SuppressWarnings("deprecation")
 	public static FileSystemAccessStrategy get(FileSystemAccessStrategyName name) {
@@ -60,7 +87,24 @@ public static FileSystemAccessStrategy get(FileSystemAccessStrategyName name) {
 				return NIO;
 			case MMAP:
 				return MMAP;
+			case HYBRID:
+				return HYBRID;
 		}
 		throw new AssertionFailure( "Unexpected name: " + name );
 	}
-}
\ No newline at end of file
+
+	/**
+	 * {@link MMapDirectory#setPreload(boolean) Preloading} is all-or-nothing for a given {@link MMapDirectory},
+	 * so to only preload some files, we switch between two memory-mapped directories based on the file extension.
+	 */
+	private static Directory withPreload(MMapDirectory directory, Path indexDir, LockFactory factory,
+			Set<String> preloadExtensions) throws IOException {
+		if ( preloadExtensions.isEmpty() ) {
+			return directory;
+		}
+		MMapDirectory preloadDirectory = new MMapDirectory( indexDir, factory, directory.getMaxChunkSize() );
+		preloadDirectory.setPreload( true );
+		// Files whose extension is not listed (including locks) are handled by the non-preloading directory.
+		return new FileSwitchDirectory( preloadExtensions, preloadDirectory, directory, true );
+	}
+}
@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -18,6 +19,7 @@
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -25,15 +27,25 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
+	private final Set<String> mmapExtensions;
+	private final Set<String> preloadExtensions;
+	private final int nrtCacheMaxSize;
+	private final int nrtCacheMaxMergeSize;
 	private final Supplier<LockFactory> lockFactorySupplier;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
+			Set<String> mmapExtensions, Set<String> preloadExtensions,
+			int nrtCacheMaxSize, int nrtCacheMaxMergeSize,
 			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
+		this.mmapExtensions = mmapExtensions;
+		this.preloadExtensions = preloadExtensions;
+		this.nrtCacheMaxSize = nrtCacheMaxSize;
+		this.nrtCacheMaxMergeSize = nrtCacheMaxMergeSize;
 		this.lockFactorySupplier = lockFactorySupplier;
 		this.eventContext = eventContext;
 	}
@@ -47,7 +59,15 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		Directory fileSystemDirectory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get(),
+				mmapExtensions, preloadExtensions );
+		if ( nrtCacheMaxSize > 0 ) {
+			// Small segments are kept in memory until they are committed (synced) or merged away.
+			this.directory = new NRTCachingDirectory( fileSystemDirectory, nrtCacheMaxMergeSize, nrtCacheMaxSize );
+		}
+		else {
+			this.directory = fileSystemDirectory;
+		}
 	}
 
 	@Override
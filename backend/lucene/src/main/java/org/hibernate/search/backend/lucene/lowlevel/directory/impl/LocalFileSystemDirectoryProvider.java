@@ -9,7 +9,11 @@
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -43,6 +47,30 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( Collections.emptyList() )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -54,6 +82,10 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 					context.eventContext() );
 		}
 		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		Set<String> mmapExtensions = new LinkedHashSet<>( FILESYSTEM_ACCESS_MMAP_EXTENSIONS.get( propertySource ) );
+		Set<String> preloadExtensions = new LinkedHashSet<>( FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS.get( propertySource ) );
+		int nrtCacheMaxSize = NRT_CACHE_MAX_SIZE.get( propertySource );
+		int nrtCacheMaxMergeSize = NRT_CACHE_MAX_MERGE_SIZE.get( propertySource );
 		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
 				.orElseGet( () -> FSLockFactory::getDefault );
 
@@ -64,7 +96,9 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, mmapExtensions, preloadExtensions,
+				nrtCacheMaxSize, nrtCacheMaxMergeSize,
+				lockFactorySupplier, context.eventContext()
 		);
 	}
 
@@ -10,24 +10,21 @@
 import java.util.Collections;
 import java.util.List;
 
-import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
-import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
-
 import com.carrotsearch.hppc.LongHashSet;
 import com.carrotsearch.hppc.LongIntScatterMap;
 import com.carrotsearch.hppc.cursors.LongIntCursor;
 import com.carrotsearch.hppc.procedures.LongProcedure;
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.LabelAndValue;
-import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.util.PriorityQueue;
 
 /**
  * <p>
  * Copied with some changes from {@code org.apache.lucene.facet.LongValueFacetCounts}
  * of <a href="https://lucene.apache.org/">Apache Lucene project</a>.
+ * <p>
+ * Counts are computed by {@link LongTermsCollector} during collection.
  */
 public class LongMultiValueFacetCounts extends Facets {
 
@@ -37,34 +34,33 @@ public class LongMultiValueFacetCounts extends Facets {
 
 	private final String field;
 
+	private final LongProcedure incrementCountForValue = this::increment;
+
 	private int totCount;
 
-	public LongMultiValueFacetCounts(String field, LongMultiValuesSource valueSource, FacetsCollector hits) throws IOException {
+	LongMultiValueFacetCounts(String field) {
 		this.field = field;
-		count( valueSource, hits.getMatchingDocs() );
 	}
 
-	private void count(LongMultiValuesSource valueSource, List<FacetsCollector.MatchingDocs> matchingDocs) throws IOException {
-		LongHashSet uniqueValuesForDocument = new LongHashSet();
-		LongProcedure incrementCountForDocumentId = this::increment;
-
-		for ( FacetsCollector.MatchingDocs hits : matchingDocs ) {
-			LongMultiValues fv = valueSource.getValues( hits.context );
-
-			DocIdSetIterator docs = hits.bits.iterator();
-			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-				if ( fv.advanceExact( doc ) ) {
-					totCount++;
-					while ( fv.hasNextValue() ) {
-						// Each document must be counted only once per value.
-						uniqueValuesForDocument.add( fv.nextValue() );
-					}
+	/**
+	 * @param uniqueValuesForDocument The distinct values of a matching document.
+	 */
+	void countDocument(LongHashSet uniqueValuesForDocument) {
+		totCount++;
+		uniqueValuesForDocument.forEach( incrementCountForValue );
+	}
 
-					uniqueValuesForDocument.forEach( incrementCountForDocumentId );
-					uniqueValuesForDocument.clear();
-				}
-			}
+	/**
+	 * @param other Counts for other documents, to add to these counts.
+	 */
+	void add(LongMultiValueFacetCounts other) {
+		for ( int i = 0; i < counts.length; i++ ) {
+			counts[i] += other.counts[i];
+		}
+		for ( LongIntCursor c : other.hashCounts ) {
+			hashCounts.addTo( c.key, c.value );
 		}
+		totCount += other.totCount;
 	}
 
 	private void increment(long value) {
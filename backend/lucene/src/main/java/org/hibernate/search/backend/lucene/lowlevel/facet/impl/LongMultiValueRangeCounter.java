@@ -128,6 +128,15 @@ public void incrementCountForLeafWithIndex(int index) {
 		leafCounts[index]++;
 	}
 
+	/**
+	 * Adds the leaf counts of another counter, built from the same ranges, to this counter.
+	 */
+	public void add(LongMultiValueRangeCounter other) {
+		for ( int i = 0; i < leafCounts.length; i++ ) {
+			leafCounts[i] += other.leafCounts[i];
+		}
+	}
+
 	public int findLeafIndex(long v) {
 		// Binary search to find matched elementary range; we
 		// are guaranteed to find a match because the last
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.procedures.IntProcedure;
+import org.apache.lucene.facet.range.LongRange;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts matching documents for each range of values of a numeric field as documents are collected.
+ */
+public class LongRangeCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongMultiValueRangeCounter counter;
+
+	private final IntHashSet uniqueLeafIndicesForDocument = new IntHashSet();
+	private final IntProcedure incrementCountForLeafWithIndex;
+
+	private LongMultiValues values;
+	private int docsWithValuesCount;
+
+	LongRangeCollector(LongMultiValuesSource valuesSource, LongRange[] ranges) {
+		this.valuesSource = valuesSource;
+		this.counter = new LongMultiValueRangeCounter( ranges );
+		this.incrementCountForLeafWithIndex = counter::incrementCountForLeafWithIndex;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		docsWithValuesCount++;
+		while ( values.hasNextValue() ) {
+			// Each document must be counted only once per range.
+			uniqueLeafIndicesForDocument.add( counter.findLeafIndex( values.nextValue() ) );
+		}
+		uniqueLeafIndicesForDocument.forEach( incrementCountForLeafWithIndex );
+		uniqueLeafIndicesForDocument.clear();
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	LongMultiValueRangeCounter getCounter() {
+		return counter;
+	}
+
+	int getDocsWithValuesCount() {
+		return docsWithValuesCount;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.facet.range.LongRange;
+import org.apache.lucene.search.CollectorManager;
+
+public class LongRangeCollectorFactory
+		implements CollectorFactory<LongRangeCollector, LongMultiValueRangeFacetCounts> {
+
+	private final CollectorKey<LongMultiValueRangeFacetCounts> key = CollectorKey.create();
+
+	private final String field;
+	private final LongMultiValuesSource valuesSource;
+	private final LongRange[] ranges;
+
+	public LongRangeCollectorFactory(String field, LongMultiValuesSource valuesSource, LongRange[] ranges) {
+		this.field = field;
+		this.valuesSource = valuesSource;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public CollectorManager<LongRangeCollector, LongMultiValueRangeFacetCounts> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new LongRangeCollectorManager( field, valuesSource, ranges );
+	}
+
+	@Override
+	public CollectorKey<LongMultiValueRangeFacetCounts> getCollectorKey() {
+		return key;
+	}
+}
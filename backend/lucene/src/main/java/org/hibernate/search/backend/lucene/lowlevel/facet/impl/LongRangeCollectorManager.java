@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.facet.range.LongRange;
+import org.apache.lucene.search.CollectorManager;
+
+public class LongRangeCollectorManager
+		implements CollectorManager<LongRangeCollector, LongMultiValueRangeFacetCounts> {
+
+	private final String field;
+	private final LongMultiValuesSource valuesSource;
+	private final LongRange[] ranges;
+
+	public LongRangeCollectorManager(String field, LongMultiValuesSource valuesSource, LongRange[] ranges) {
+		this.field = field;
+		this.valuesSource = valuesSource;
+		this.ranges = ranges;
+	}
+
+	@Override
+	public LongRangeCollector newCollector() {
+		return new LongRangeCollector( valuesSource, ranges );
+	}
+
+	@Override
+	public LongMultiValueRangeFacetCounts reduce(Collection<LongRangeCollector> collectors) {
+		LongMultiValueRangeCounter counter = new LongMultiValueRangeCounter( ranges );
+		int docsWithValuesCount = 0;
+		for ( LongRangeCollector collector : collectors ) {
+			counter.add( collector.getCounter() );
+			docsWithValuesCount += collector.getDocsWithValuesCount();
+		}
+		return new LongMultiValueRangeFacetCounts( field, ranges, counter, docsWithValuesCount );
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts matching documents for each value of a numeric field as documents are collected.
+ */
+public class LongTermsCollector extends SimpleCollector {
+
+	private final LongMultiValuesSource valuesSource;
+	private final LongMultiValueFacetCounts counts;
+
+	private final LongHashSet uniqueValuesForDocument = new LongHashSet();
+
+	private LongMultiValues values;
+
+	LongTermsCollector(String field, LongMultiValuesSource valuesSource) {
+		this.valuesSource = valuesSource;
+		this.counts = new LongMultiValueFacetCounts( field );
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		while ( values.hasNextValue() ) {
+			// Each document must be counted only once per value.
+			uniqueValuesForDocument.add( values.nextValue() );
+		}
+		counts.countDocument( uniqueValuesForDocument );
+		uniqueValuesForDocument.clear();
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	LongMultiValueFacetCounts getCounts() {
+		return counts;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class LongTermsCollectorFactory
+		implements CollectorFactory<LongTermsCollector, LongMultiValueFacetCounts> {
+
+	private final CollectorKey<LongMultiValueFacetCounts> key = CollectorKey.create();
+
+	private final String field;
+	private final LongMultiValuesSource valuesSource;
+
+	public LongTermsCollectorFactory(String field, LongMultiValuesSource valuesSource) {
+		this.field = field;
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public CollectorManager<LongTermsCollector, LongMultiValueFacetCounts> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new LongTermsCollectorManager( field, valuesSource );
+	}
+
+	@Override
+	public CollectorKey<LongMultiValueFacetCounts> getCollectorKey() {
+		return key;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class LongTermsCollectorManager
+		implements CollectorManager<LongTermsCollector, LongMultiValueFacetCounts> {
+
+	private final String field;
+	private final LongMultiValuesSource valuesSource;
+
+	public LongTermsCollectorManager(String field, LongMultiValuesSource valuesSource) {
+		this.field = field;
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public LongTermsCollector newCollector() {
+		return new LongTermsCollector( field, valuesSource );
+	}
+
+	@Override
+	public LongMultiValueFacetCounts reduce(Collection<LongTermsCollector> collectors) {
+		LongMultiValueFacetCounts counts = new LongMultiValueFacetCounts( field );
+		for ( LongTermsCollector collector : collectors ) {
+			counts.add( collector.getCounts() );
+		}
+		return counts;
+	}
+}
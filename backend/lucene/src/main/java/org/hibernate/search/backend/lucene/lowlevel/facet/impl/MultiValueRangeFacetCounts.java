@@ -13,7 +13,6 @@
 import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.facet.range.Range;
-import org.apache.lucene.search.Query;
 
 /**
  * <p>
@@ -24,14 +23,12 @@ public class MultiValueRangeFacetCounts extends Facets {
 
 	protected final Range[] ranges;
 	protected final int[] counts;
-	protected final Query fastMatchQuery;
 	protected final String field;
 	protected int totCount;
 
-	protected MultiValueRangeFacetCounts(String field, Range[] ranges, Query fastMatchQuery) {
+	protected MultiValueRangeFacetCounts(String field, Range[] ranges) {
 		this.field = field;
 		this.ranges = ranges;
-		this.fastMatchQuery = fastMatchQuery;
 		counts = new int[ranges.length];
 	}
 
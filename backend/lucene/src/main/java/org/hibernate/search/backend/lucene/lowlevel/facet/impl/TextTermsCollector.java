@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntIntHashMap;
+import com.carrotsearch.hppc.procedures.IntIntProcedure;
+import com.carrotsearch.hppc.procedures.IntProcedure;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Counts matching documents for each term of a text field as documents are collected,
+ * in the ordinal space of each segment.
+ * <p>
+ * Per-segment counts are mapped to global ordinals once collection is over:
+ * see {@link TextTermsCollectorManager#reduce(java.util.Collection)}.
+ */
+public class TextTermsCollector extends SimpleCollector {
+
+	private final TextMultiValuesSource valuesSource;
+	private final SegmentCounts[] segmentCounts;
+
+	private final IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+	private final IntProcedure incrementCountForOrdinal = ord -> this.counts.increment( ord );
+
+	private TextMultiValues values;
+	private SegmentCounts counts;
+
+	TextTermsCollector(TextMultiValuesSource valuesSource, int leafCount) {
+		this.valuesSource = valuesSource;
+		this.segmentCounts = new SegmentCounts[leafCount];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		values = valuesSource.getValues( context );
+		counts = new SegmentCounts( (int) values.getValueCount() );
+		segmentCounts[context.ord] = counts;
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !values.advanceExact( doc ) ) {
+			return; // No value for this doc
+		}
+		while ( values.hasNextValue() ) {
+			// Each document must be counted only once per term.
+			uniqueOrdinalsForDocument.add( (int) values.nextOrd() );
+		}
+		uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
+		uniqueOrdinalsForDocument.clear();
+		counts.onDocumentCounted();
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param leafOrd The ordinal of a leaf in the top-level reader.
+	 * @return The counts for each ordinal of the given segment,
+	 * or {@code null} if this collector didn't collect that segment.
+	 */
+	SegmentCounts getSegmentCounts(int leafOrd) {
+		return segmentCounts[leafOrd];
+	}
+
+	/**
+	 * Counts for each ordinal of a single segment.
+	 * <p>
+	 * Counts start in a hash map, since queries often match few documents,
+	 * and allocating an array as large as the number of terms in each segment would be wasteful.
+	 * Once many documents were counted (one tenth of the number of terms in the segment),
+	 * counts switch to an array indexed by ordinal, which is faster and more compact for dense counts.
+	 */
+	static final class SegmentCounts {
+		private final int valueCount;
+		private final int denseThreshold;
+
+		private IntIntHashMap sparseCounts;
+		private int[] denseCounts;
+		private int countedDocs;
+
+		private SegmentCounts(int valueCount) {
+			this.valueCount = valueCount;
+			this.denseThreshold = valueCount / 10;
+			if ( denseThreshold == 0 ) {
+				denseCounts = new int[valueCount];
+			}
+			else {
+				sparseCounts = new IntIntHashMap();
+			}
+		}
+
+		void forEach(IntIntProcedure procedure) {
+			if ( denseCounts != null ) {
+				for ( int ord = 0; ord < denseCounts.length; ord++ ) {
+					int count = denseCounts[ord];
+					if ( count != 0 ) {
+						procedure.apply( ord, count );
+					}
+				}
+			}
+			else {
+				sparseCounts.forEach( procedure );
+			}
+		}
+
+		private void increment(int ord) {
+			if ( denseCounts != null ) {
+				denseCounts[ord]++;
+			}
+			else {
+				sparseCounts.addTo( ord, 1 );
+			}
+		}
+
+		private void onDocumentCounted() {
+			if ( denseCounts == null && ++countedDocs >= denseThreshold ) {
+				denseCounts = new int[valueCount];
+				sparseCounts.forEach( (IntIntProcedure) ( ord, count ) -> denseCounts[ord] = count );
+				sparseCounts = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+
+import org.apache.lucene.search.CollectorManager;
+
+public class TextTermsCollectorFactory
+		implements CollectorFactory<TextTermsCollector, TextMultiValueFacetCounts> {
+
+	private final CollectorKey<TextMultiValueFacetCounts> key = CollectorKey.create();
+
+	private final String field;
+	private final TextMultiValuesSource valuesSource;
+
+	public TextTermsCollectorFactory(String field, TextMultiValuesSource valuesSource) {
+		this.field = field;
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public CollectorManager<TextTermsCollector, TextMultiValueFacetCounts> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new TextTermsCollectorManager( context.getIndexSearcher().getIndexReader(), field, valuesSource );
+	}
+
+	@Override
+	public CollectorKey<TextMultiValueFacetCounts> getCollectorKey() {
+		return key;
+	}
+}
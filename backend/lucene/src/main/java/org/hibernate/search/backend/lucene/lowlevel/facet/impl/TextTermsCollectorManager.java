@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import com.carrotsearch.hppc.procedures.IntIntProcedure;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.util.LongValues;
+
+public class TextTermsCollectorManager
+		implements CollectorManager<TextTermsCollector, TextMultiValueFacetCounts> {
+
+	private final IndexReader reader;
+	private final String field;
+	private final TextMultiValuesSource valuesSource;
+
+	public TextTermsCollectorManager(IndexReader reader, String field, TextMultiValuesSource valuesSource) {
+		this.reader = reader;
+		this.field = field;
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public TextTermsCollector newCollector() {
+		return new TextTermsCollector( valuesSource, reader.leaves().size() );
+	}
+
+	@Override
+	public TextMultiValueFacetCounts reduce(Collection<TextTermsCollector> collectors) throws IOException {
+		SortedSetDocValues dv = reader instanceof HibernateSearchMultiReader
+				? ( (HibernateSearchMultiReader) reader ).getSortedSetValues( field )
+				: MultiDocValues.getSortedSetValues( reader, field );
+		if ( dv == null ) {
+			return new TextMultiValueFacetCounts( null, field, new int[0] );
+		}
+		if ( dv.getValueCount() > Integer.MAX_VALUE ) {
+			// We may want to remove this limitation?
+			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
+			// so this is no worse than the "legacy" facets from Search 5.
+			throw new IllegalStateException(
+					"Cannot aggregate when more than " + Integer.MAX_VALUE + " terms are indexed" );
+		}
+		// No ordinal map for single-segment indexes: segment ordinals are global ordinals.
+		OrdinalMap ordinalMap = dv instanceof MultiDocValues.MultiSortedSetDocValues
+				? ( (MultiDocValues.MultiSortedSetDocValues) dv ).mapping
+				: null;
+
+		int[] counts = new int[(int) dv.getValueCount()];
+		int leafCount = reader.leaves().size();
+		for ( int leafOrd = 0; leafOrd < leafCount; leafOrd++ ) {
+			LongValues globalOrds = ordinalMap == null ? null : ordinalMap.getGlobalOrds( leafOrd );
+			// Only resolve global ordinals for terms that matched at least one document.
+			IntIntProcedure addToGlobalCounts = globalOrds == null
+					? ( ord, count ) -> counts[ord] += count
+					: ( ord, count ) -> counts[(int) globalOrds.get( ord )] += count;
+			for ( TextTermsCollector collector : collectors ) {
+				TextTermsCollector.SegmentCounts segmentCounts = collector.getSegmentCounts( leafOrd );
+				if ( segmentCounts != null ) {
+					segmentCounts.forEach( addToGlobalCounts );
+				}
+			}
+		}
+		return new TextMultiValueFacetCounts( dv, field, counts );
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IOCommitStrategyName {
+
+	/**
+	 * The default strategy,
+	 * where the index writer is committed at most once per commit interval.
+	 */
+	FIXED( "fixed" ),
+	/**
+	 * A strategy where the delay between two commits adapts to the write load:
+	 * it grows when commits are slow, to avoid spending too much time syncing files to disk,
+	 * and shrinks when commits are fast or many changes are pending, to reduce the window of potential data loss.
+	 * The delay is always between the minimum commit interval and the commit interval.
+	 */
+	ADAPTIVE( "adaptive" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IOCommitStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IOCommitStrategyName.values(),
+				IOCommitStrategyName::externalRepresentation,
+				log::invalidIOCommitStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IOCommitStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -9,20 +9,27 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.CommitPolicy;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
-		return new DebugIOStrategy( threads, failureHandler );
+	public static DebugIOStrategy create(TimingSource timingSource, BackendThreads threads,
+			FailureHandler failureHandler) {
+		return new DebugIOStrategy( timingSource, threads, failureHandler );
 	}
 
-	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
+	private final TimingSource timingSource;
+
+	private DebugIOStrategy(TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		super( threads, failureHandler );
+		this.timingSource = timingSource;
 	}
 
 	@Override
@@ -31,15 +38,15 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				null, 0,
+				timingSource, CommitPolicy.fixed( 0 ),
 				threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, SegmentWarmer segmentWarmerOrNull) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
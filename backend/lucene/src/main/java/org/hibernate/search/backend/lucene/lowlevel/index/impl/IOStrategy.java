@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -26,12 +27,14 @@ protected IOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource writerConfigSource,
+			SegmentWarmer segmentWarmerOrNull) {
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, indexWriterProvider,
+					segmentWarmerOrNull );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -49,7 +52,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, SegmentWarmer segmentWarmerOrNull);
 
 }
@@ -53,7 +53,7 @@ public IndexAccessorImpl(EventContext eventContext,
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
-			closer.push( IndexReaderProvider::clear, indexReaderProvider );
+			closer.push( IndexReaderProvider::close, indexReaderProvider );
 		}
 	}
 
@@ -8,8 +8,11 @@
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOCommitStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SegmentWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.CommitPolicy;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -27,56 +30,101 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<IOCommitStrategyName> COMMIT_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_STRATEGY )
+					.as( IOCommitStrategyName.class, IOCommitStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_MIN_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_MIN_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MIN_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_MAX_PENDING_OPERATIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_MAX_PENDING_OPERATIONS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_PENDING_OPERATIONS )
+					.build();
+
 	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_INTERVAL )
 					.asIntegerPositiveOrZero()
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
-		int commitInterval = COMMIT_INTERVAL.get( propertySource );
+		CommitPolicy commitPolicy = createCommitPolicy( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		// Background refresh only makes sense if there's a delay between refreshes.
+		boolean backgroundRefresh = refreshInterval != 0 && BACKGROUND_REFRESH.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitPolicy, refreshInterval, backgroundRefresh,
 				threads, failureHandler
 		);
 	}
 
+	private static CommitPolicy createCommitPolicy(ConfigurationPropertySource propertySource) {
+		int commitInterval = COMMIT_INTERVAL.get( propertySource );
+		switch ( COMMIT_STRATEGY.get( propertySource ) ) {
+			case ADAPTIVE:
+				return CommitPolicy.adaptive( COMMIT_MIN_INTERVAL.get( propertySource ), commitInterval,
+						COMMIT_MAX_PENDING_OPERATIONS.get( propertySource ) );
+			case FIXED:
+			default:
+				return CommitPolicy.fixed( commitInterval );
+		}
+	}
+
 	private final TimingSource timingSource;
-	private final int commitInterval;
+	private final CommitPolicy commitPolicy;
 	private final int refreshInterval;
+	private final boolean backgroundRefresh;
 
-	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+	private NearRealTimeIOStrategy(TimingSource timingSource, CommitPolicy commitPolicy, int refreshInterval,
+			boolean backgroundRefresh,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
-		this.commitInterval = commitInterval;
+		this.commitPolicy = commitPolicy;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefresh = backgroundRefresh;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
-		if ( commitInterval != 0 ) {
+		if ( commitPolicy.canDelayCommits() ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
+				timingSource, commitPolicy, threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider, SegmentWarmer segmentWarmerOrNull) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider(
+				eventContext, indexWriterProvider,
+				timingSource, refreshInterval, backgroundRefresh, segmentWarmerOrNull,
+				threads, failureHandler
+		);
 	}
 
 }
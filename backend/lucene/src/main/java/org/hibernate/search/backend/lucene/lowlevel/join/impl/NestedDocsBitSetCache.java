@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A cache of the bitsets of parent and child documents in each segment of an index,
+ * shared by all queries targeting that index.
+ * <p>
+ * Entries are keyed on the core cache key of each segment,
+ * so they remain valid as long as the segment is open, across index reader refreshes,
+ * and are evicted as soon as the segment is closed (e.g. after a merge).
+ * <p>
+ * Similar to {@link org.apache.lucene.search.join.QueryBitSetProducer},
+ * but not tied to a single query.
+ */
+public final class NestedDocsBitSetCache {
+
+	private final Map<IndexReader.CacheKey, Map<Query, DocIdSet>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param context A leaf reader context.
+	 * @param query A query matching parent or child documents.
+	 * Should be cheap to execute and have a meaningful {@link Query#equals(Object)} implementation.
+	 * @return The bitset of documents matching the query in the given segment,
+	 * or {@code null} if no document matches.
+	 * @throws IOException If reading the index fails.
+	 */
+	public BitSet getBitSet(LeafReaderContext context, Query query) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null ) {
+			return computeBitSet( context, query );
+		}
+
+		Map<Query, DocIdSet> segmentCache = cache.computeIfAbsent( cacheHelper.getKey(), key -> {
+			cacheHelper.addClosedListener( cache::remove );
+			return new ConcurrentHashMap<>();
+		} );
+		DocIdSet docIdSet = segmentCache.get( query );
+		if ( docIdSet == null ) {
+			BitSet bitSet = computeBitSet( context, query );
+			docIdSet = bitSet == null ? DocIdSet.EMPTY : new BitDocIdSet( bitSet );
+			DocIdSet previous = segmentCache.putIfAbsent( query, docIdSet );
+			if ( previous != null ) {
+				docIdSet = previous;
+			}
+		}
+		return docIdSet == DocIdSet.EMPTY ? null : ( (BitDocIdSet) docIdSet ).bits();
+	}
+
+	/**
+	 * @return The number of segments for which bitsets are currently cached.
+	 */
+	int cachedSegmentCount() {
+		return cache.size();
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	static BitSet computeBitSet(LeafReaderContext context, Query query) throws IOException {
+		IndexSearcher searcher = new IndexSearcher( ReaderUtil.getTopLevelContext( context ) );
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( query ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return null;
+		}
+		return BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+}
@@ -7,12 +7,15 @@
 package org.hibernate.search.backend.lucene.lowlevel.join.impl;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.ReaderUtil;
@@ -23,20 +26,23 @@
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
-import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 
 /**
  * Provides various representations of nested docs for a pre-defined nested document path.
  * <p>
+ * Bitsets of parent and child documents are retrieved from the {@link NestedDocsBitSetCache}
+ * of the targeted index when possible, so that they are computed only once per segment.
+ * <p>
  * Copied and adapted from {@code org.elasticsearch.index.fielddata.IndexFieldData.Nested} class
  * of <a href="https://github.com/elastic/elasticsearch">Elasticsearch project</a>.
  */
 public class NestedDocsProvider {
 
-	private final BitSetProducer parentFilter;
+	private final Query parentsFilterQuery;
 	private final Query childQuery;
+	private final Query nestedFilter;
 
 	public NestedDocsProvider(String parentDocumentPath, String nestedDocumentPath) {
 		this( parentDocumentPath, Collections.singleton( nestedDocumentPath ), null );
@@ -51,46 +57,83 @@ public NestedDocsProvider(Set<String> nestedDocumentPaths) {
 	}
 
 	public NestedDocsProvider(String parentDocumentPath, Set<String> nestedDocumentPaths, Query nestedFilter) {
-		Query parentsFilterQuery = Queries.parentsFilterQuery( parentDocumentPath );
 		// Note: this filter should include *all* parents, not just the matched ones.
 		// Otherwise we will not "see" non-matched parents,
 		// and we will consider its matching children as children of the next matching parent.
-		this.parentFilter = new QueryBitSetProducer( parentsFilterQuery );
-		this.childQuery = Queries.childDocumentsQuery( nestedDocumentPaths, nestedFilter );
+		this.parentsFilterQuery = Queries.parentsFilterQuery( parentDocumentPath );
+		// The nested filter is applied separately,
+		// so that the bitsets of child documents can be shared between queries with different filters.
+		this.childQuery = Queries.childDocumentsQuery( nestedDocumentPaths, null );
+		this.nestedFilter = nestedFilter;
 	}
 
 	public ChildDocIds childDocs(LeafReaderContext context, DocIdSetIterator childFilter) throws IOException {
-		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
-		// See HSEARCH-4514; ideally we would use the calling searcher here,
-		// but it's not easy to pass it to this method
-		// and it hasn't been proven that creating a new searcher has a performance impact.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
-		Weight childDocsWeight = childDocsWeight( indexSearcher );
-		return childDocs( childDocsWeight, context, childFilter );
+		Weight nestedFilterWeight = null;
+		if ( nestedFilter != null ) {
+			final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
+			// See HSEARCH-4514; ideally we would use the calling searcher here,
+			// but it's not easy to pass it to this method
+			// and it hasn't been proven that creating a new searcher has a performance impact.
+			IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+			nestedFilterWeight = nestedFilterWeight( indexSearcher );
+		}
+		return childDocs( nestedFilterWeight, context, childFilter );
 	}
 
-	public ChildDocIds childDocs(Weight childDocsWeight, LeafReaderContext context,
+	public ChildDocIds childDocs(Weight nestedFilterWeight, LeafReaderContext context,
 			DocIdSetIterator childFilter) throws IOException {
-		BitSet parentDocs = parentFilter.getBitSet( context );
+		BitSet parentDocs = bitSet( context, parentsFilterQuery );
 		if ( parentDocs == null ) {
 			return null;
 		}
 
-		Scorer s = childDocsWeight.scorer( context );
-		DocIdSetIterator childDocs = s == null ? null : s.iterator();
-		if ( childDocs == null ) {
+		BitSet childDocsBitSet = bitSet( context, childQuery );
+		if ( childDocsBitSet == null ) {
 			return null;
 		}
-
+		DocIdSetIterator childDocs = new BitSetIterator( childDocsBitSet, childDocsBitSet.approximateCardinality() );
+
+		List<DocIdSetIterator> filters = new ArrayList<>( 2 );
+		if ( nestedFilterWeight != null ) {
+			Scorer s = nestedFilterWeight.scorer( context );
+			if ( s == null ) {
+				return null;
+			}
+			filters.add( s.iterator() );
+		}
 		if ( childFilter != null ) {
-			childDocs = ConjunctionDISI.intersectIterators( Arrays.asList( childDocs, childFilter ) );
+			filters.add( childFilter );
+		}
+		if ( !filters.isEmpty() ) {
+			filters.add( 0, childDocs );
+			childDocs = ConjunctionDISI.intersectIterators( filters );
 		}
 
 		return new ChildDocIds( parentDocs, childDocs );
 	}
 
-	public Weight childDocsWeight(IndexSearcher indexSearcher) throws IOException {
-		return indexSearcher.createWeight( indexSearcher.rewrite( childQuery ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+	/**
+	 * @param indexSearcher The index searcher.
+	 * @return A weight for the filter to apply to child documents, or {@code null} if there is no such filter.
+	 * @throws IOException If creating the weight fails.
+	 */
+	public Weight nestedFilterWeight(IndexSearcher indexSearcher) throws IOException {
+		if ( nestedFilter == null ) {
+			return null;
+		}
+		return indexSearcher.createWeight( indexSearcher.rewrite( nestedFilter ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+	}
+
+	private static BitSet bitSet(LeafReaderContext context, Query query) throws IOException {
+		IndexReader topLevelReader = ReaderUtil.getTopLevelContext( context ).reader();
+		if ( topLevelReader instanceof HibernateSearchMultiReader ) {
+			NestedDocsBitSetCache cache = ( (HibernateSearchMultiReader) topLevelReader ).getMetadataResolver()
+					.resolveNestedDocsBitSetCache( context );
+			if ( cache != null ) {
+				return cache.getBitSet( context, query );
+			}
+		}
+		return NestedDocsBitSetCache.computeBitSet( context, query );
 	}
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * A query matching a fixed set of top-level documents, each with a fixed score.
+ * <p>
+ * Only valid for the index reader the document IDs were computed with.
+ */
+final class DocAndScoreQuery extends Query {
+
+	private final Object readerContextId;
+	private final int[] sortedDocIds;
+	private final float[] scores;
+	private final float maxScore;
+
+	DocAndScoreQuery(Object readerContextId, ScoreDoc[] scoreDocs) {
+		this.readerContextId = readerContextId;
+		ScoreDoc[] sorted = scoreDocs.clone();
+		Arrays.sort( sorted, Comparator.comparingInt( scoreDoc -> scoreDoc.doc ) );
+		this.sortedDocIds = new int[sorted.length];
+		this.scores = new float[sorted.length];
+		float max = 0f;
+		for ( int i = 0; i < sorted.length; i++ ) {
+			sortedDocIds[i] = sorted[i].doc;
+			scores[i] = sorted[i].score;
+			max = Math.max( max, sorted[i].score );
+		}
+		this.maxScore = max;
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		if ( searcher.getTopReaderContext().id() != readerContextId ) {
+			throw new IllegalStateException( "This query was rewritten with a different index reader" );
+		}
+		return new Weight( this ) {
+			@Override
+			public void extractTerms(Set<Term> terms) {
+				// No terms
+			}
+
+			@Override
+			public Explanation explain(LeafReaderContext context, int doc) {
+				int index = Arrays.binarySearch( sortedDocIds, context.docBase + doc );
+				if ( index < 0 ) {
+					return Explanation.noMatch( "Not among the nearest neighbors" );
+				}
+				return Explanation.match( scores[index] * boost, "Among the nearest neighbors, with vector similarity score" );
+			}
+
+			@Override
+			public Scorer scorer(LeafReaderContext context) {
+				DocIdSetIterator iterator = ExplicitDocIdSetIterator.of(
+						sortedDocIds, context.docBase, context.reader().maxDoc()
+				);
+				if ( iterator == null ) {
+					return null; // Skip this leaf
+				}
+				return new Scorer( this ) {
+					@Override
+					public DocIdSetIterator iterator() {
+						return iterator;
+					}
+
+					@Override
+					public int docID() {
+						return iterator.docID();
+					}
+
+					@Override
+					public float score() {
+						return scores[Arrays.binarySearch( sortedDocIds, context.docBase + docID() )] * boost;
+					}
+
+					@Override
+					public float getMaxScore(int upTo) {
+						return maxScore * boost;
+					}
+				};
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// Only valid for a given top-level reader: caching per segment makes no sense.
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		visitor.visitLeaf( this );
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getSimpleName() + "{" + Arrays.toString( sortedDocIds ) + "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !sameClassAs( obj ) ) {
+			return false;
+		}
+		DocAndScoreQuery other = (DocAndScoreQuery) obj;
+		return readerContextId == other.readerContextId
+				&& Arrays.equals( sortedDocIds, other.sortedDocIds )
+				&& Arrays.equals( scores, other.scores );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * ( 31 * classHash() + Arrays.hashCode( sortedDocIds ) ) + Arrays.hashCode( scores );
+	}
+}
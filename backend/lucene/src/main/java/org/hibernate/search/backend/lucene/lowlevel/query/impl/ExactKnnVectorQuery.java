@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConjunctionDISI;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.PriorityQueue;
+
+/**
+ * A query matching the {@code k} documents whose vector is most similar to a given vector,
+ * among documents matching an optional filter.
+ * <p>
+ * This is an <strong>exact</strong> k-nearest-neighbors search, not an approximate one:
+ * Lucene 8 does not provide any vector index, so this performs an exhaustive scan
+ * of the vectors stored in binary doc values, whose cost is linear in the number of documents
+ * having a vector (or matching the filter, if any),
+ * then {@link #rewrite(IndexReader) rewrites} to a query matching the top {@code k} documents
+ * with their similarity as score.
+ * Since the top {@code k} documents must be selected across all segments,
+ * this cannot be done in a per-segment {@link Weight}.
+ */
+public final class ExactKnnVectorQuery extends Query {
+
+	public static ExactKnnVectorQuery of(String field, float[] vector, VectorSimilarityFunction similarity,
+			int k, Query filter) {
+		return new ExactKnnVectorQuery( field, vector, null, similarity, k, filter );
+	}
+
+	public static ExactKnnVectorQuery of(String field, byte[] vector, VectorSimilarityFunction similarity,
+			int k, Query filter) {
+		return new ExactKnnVectorQuery( field, null, vector, similarity, k, filter );
+	}
+
+	private final String field;
+	private final float[] floatVector;
+	private final byte[] byteVector;
+	private final VectorSimilarityFunction similarity;
+	private final int k;
+	private final Query filter;
+
+	private ExactKnnVectorQuery(String field, float[] floatVector, byte[] byteVector,
+			VectorSimilarityFunction similarity, int k, Query filter) {
+		this.field = field;
+		this.floatVector = floatVector;
+		this.byteVector = byteVector;
+		this.similarity = similarity;
+		this.k = k;
+		this.filter = filter;
+	}
+
+	@Override
+	public Query rewrite(IndexReader reader) throws IOException {
+		IndexSearcher searcher = new IndexSearcher( reader );
+		searcher.setQueryCache( null );
+		Weight filterWeight = filter == null ? null
+				: searcher.createWeight( searcher.rewrite( filter ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+
+		// There cannot be more hits than documents: don't allocate a larger queue for very large values of k.
+		TopScoreDocQueue queue = new TopScoreDocQueue( Math.min( k, reader.maxDoc() ) );
+		for ( LeafReaderContext context : reader.leaves() ) {
+			collect( context, filterWeight, queue );
+		}
+
+		int size = queue.size();
+		ScoreDoc[] topDocs = new ScoreDoc[size];
+		for ( int i = size - 1; i >= 0; i-- ) {
+			topDocs[i] = queue.pop();
+		}
+		return new DocAndScoreQuery( reader.getContext().id(), topDocs );
+	}
+
+	private void collect(LeafReaderContext context, Weight filterWeight, TopScoreDocQueue queue) throws IOException {
+		BinaryDocValues values = context.reader().getBinaryDocValues( field );
+		if ( values == null ) {
+			return;
+		}
+		DocIdSetIterator iterator = values;
+		if ( filterWeight != null ) {
+			Scorer filterScorer = filterWeight.scorer( context );
+			if ( filterScorer == null ) {
+				return;
+			}
+			iterator = ConjunctionDISI.intersectIterators( Arrays.asList( filterScorer.iterator(), values ) );
+		}
+		Bits liveDocs = context.reader().getLiveDocs();
+
+		for ( int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc() ) {
+			if ( liveDocs != null && !liveDocs.get( doc ) ) {
+				continue;
+			}
+			float score = score( values.binaryValue() );
+			if ( queue.size() < queue.maxSize ) {
+				queue.add( new ScoreDoc( context.docBase + doc, score ) );
+			}
+			else if ( score > queue.top().score ) {
+				// Documents are visited in increasing order: on equal scores, the document already in the queue wins.
+				ScoreDoc top = queue.top();
+				top.doc = context.docBase + doc;
+				top.score = score;
+				queue.updateTop();
+			}
+		}
+	}
+
+	private float score(BytesRef indexedVector) {
+		return floatVector != null ? similarity.compare( floatVector, indexedVector )
+				: similarity.compare( byteVector, indexedVector );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		throw new IllegalStateException( getClass().getName() + " must be rewritten before being executed" );
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		if ( visitor.acceptField( field ) ) {
+			visitor.visitLeaf( this );
+		}
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getSimpleName() + "{"
+				+ "field=" + this.field
+				+ ", vector=" + ( floatVector != null ? Arrays.toString( floatVector ) : Arrays.toString( byteVector ) )
+				+ ", similarity=" + similarity
+				+ ", k=" + k
+				+ ", filter=" + filter
+				+ "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !sameClassAs( obj ) ) {
+			return false;
+		}
+		ExactKnnVectorQuery other = (ExactKnnVectorQuery) obj;
+		return k == other.k
+				&& field.equals( other.field )
+				&& Arrays.equals( floatVector, other.floatVector )
+				&& Arrays.equals( byteVector, other.byteVector )
+				&& similarity == other.similarity
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( classHash(), field, Arrays.hashCode( floatVector ), Arrays.hashCode( byteVector ),
+				similarity, k, filter );
+	}
+
+	/**
+	 * A queue keeping the best {@code k} hits, with the worst hit on top.
+	 */
+	private static final class TopScoreDocQueue extends PriorityQueue<ScoreDoc> {
+		private final int maxSize;
+
+		TopScoreDocQueue(int maxSize) {
+			super( maxSize );
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean lessThan(ScoreDoc hitA, ScoreDoc hitB) {
+			if ( hitA.score == hitB.score ) {
+				return hitA.doc > hitB.doc;
+			}
+			return hitA.score < hitB.score;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Functions computing the score of an indexed vector relative to a query vector.
+ * <p>
+ * Indexed vectors are passed in their encoded form, as stored in doc values,
+ * so that they don't need to be decoded into a new array for each document.
+ * Scores are always positive, and higher scores mean more similar vectors.
+ * <p>
+ * Similar to {@code org.apache.lucene.index.VectorSimilarityFunction} in Lucene 9+.
+ */
+public enum VectorSimilarityFunction {
+
+	EUCLIDEAN {
+		@Override
+		public float compare(float[] query, BytesRef indexed) {
+			float squareDistance = 0f;
+			for ( int i = 0; i < query.length; i++ ) {
+				float diff = query[i] - floatAt( indexed, i );
+				squareDistance += diff * diff;
+			}
+			return 1f / ( 1f + squareDistance );
+		}
+
+		@Override
+		public float compare(byte[] query, BytesRef indexed) {
+			int squareDistance = 0;
+			for ( int i = 0; i < query.length; i++ ) {
+				int diff = query[i] - indexed.bytes[indexed.offset + i];
+				squareDistance += diff * diff;
+			}
+			return 1f / ( 1f + squareDistance );
+		}
+	},
+	DOT_PRODUCT {
+		@Override
+		public float compare(float[] query, BytesRef indexed) {
+			float dotProduct = 0f;
+			for ( int i = 0; i < query.length; i++ ) {
+				dotProduct += query[i] * floatAt( indexed, i );
+			}
+			return Math.max( ( 1f + dotProduct ) / 2f, 0f );
+		}
+
+		@Override
+		public float compare(byte[] query, BytesRef indexed) {
+			int dotProduct = 0;
+			for ( int i = 0; i < query.length; i++ ) {
+				dotProduct += query[i] * indexed.bytes[indexed.offset + i];
+			}
+			// Divide by the maximum possible absolute value of the dot product to get a value in [-1, 1]
+			return 0.5f + dotProduct / (float) ( query.length * ( 1 << 15 ) );
+		}
+	},
+	COSINE {
+		@Override
+		public float compare(float[] query, BytesRef indexed) {
+			float dotProduct = 0f;
+			float queryNorm = 0f;
+			float indexedNorm = 0f;
+			for ( int i = 0; i < query.length; i++ ) {
+				float indexedElement = floatAt( indexed, i );
+				dotProduct += query[i] * indexedElement;
+				queryNorm += query[i] * query[i];
+				indexedNorm += indexedElement * indexedElement;
+			}
+			return cosineToScore( dotProduct, queryNorm, indexedNorm );
+		}
+
+		@Override
+		public float compare(byte[] query, BytesRef indexed) {
+			int dotProduct = 0;
+			int queryNorm = 0;
+			int indexedNorm = 0;
+			for ( int i = 0; i < query.length; i++ ) {
+				int indexedElement = indexed.bytes[indexed.offset + i];
+				dotProduct += query[i] * indexedElement;
+				queryNorm += query[i] * query[i];
+				indexedNorm += indexedElement * indexedElement;
+			}
+			return cosineToScore( dotProduct, queryNorm, indexedNorm );
+		}
+	};
+
+	public static VectorSimilarityFunction of(VectorSimilarity similarity) {
+		switch ( similarity ) {
+			case DEFAULT:
+			case L2:
+				return EUCLIDEAN;
+			case DOT_PRODUCT:
+				return DOT_PRODUCT;
+			case COSINE:
+				return COSINE;
+			default:
+				throw new AssertionFailure( "Unexpected value for VectorSimilarity: " + similarity );
+		}
+	}
+
+	/**
+	 * @param query A query vector.
+	 * @param indexed An indexed float vector, encoded with {@link FloatPoint#encodeDimension(float, byte[], int)}.
+	 * Must have the same dimension as {@code query}.
+	 * @return The score.
+	 */
+	public abstract float compare(float[] query, BytesRef indexed);
+
+	/**
+	 * @param query A query vector.
+	 * @param indexed An indexed byte vector, stored as-is.
+	 * Must have the same dimension as {@code query}.
+	 * @return The score.
+	 */
+	public abstract float compare(byte[] query, BytesRef indexed);
+
+	private static float floatAt(BytesRef indexed, int index) {
+		return FloatPoint.decodeDimension( indexed.bytes, indexed.offset + index * Float.BYTES );
+	}
+
+	private static float cosineToScore(double dotProduct, double queryNorm, double indexedNorm) {
+		if ( queryNorm == 0 || indexedNorm == 0 ) {
+			return 0f;
+		}
+		double cosine = dotProduct / Math.sqrt( queryNorm * indexedNorm );
+		return (float) Math.max( ( 1 + cosine ) / 2, 0 );
+	}
+}
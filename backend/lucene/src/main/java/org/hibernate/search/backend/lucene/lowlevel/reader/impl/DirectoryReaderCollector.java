@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
+
 import org.apache.lucene.index.DirectoryReader;
 
 public interface DirectoryReaderCollector {
 
-	void collect(String mappedTypeName, DirectoryReader directoryReader);
+	void collect(String mappedTypeName, NestedDocsBitSetCache nestedDocsBitSetCache,
+			GlobalOrdinalsCache globalOrdinalsCache, DirectoryReader directoryReader);
 
 }
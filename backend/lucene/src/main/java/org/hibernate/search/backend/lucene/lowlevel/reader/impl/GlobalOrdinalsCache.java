@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of the global ordinals of text fields in each index reader of an index,
+ * i.e. of the mapping from the ordinals of terms in each segment to ordinals across all segments.
+ * <p>
+ * Entries are keyed on the cache key of each index reader,
+ * so they are reused by all queries executed against the same (near-real-time) index reader,
+ * and are evicted as soon as the index reader is closed, e.g. after it was refreshed.
+ */
+public final class GlobalOrdinalsCache {
+
+	private final Map<IndexReader.CacheKey, Map<String, OrdinalMap>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param reader An index reader.
+	 * @param field The name of a field with sorted set doc values.
+	 * @return The doc values of that field across all segments of the reader, with global ordinals,
+	 * or {@code null} if no segment has doc values for that field.
+	 * @throws IOException If reading the index fails.
+	 */
+	public SortedSetDocValues getSortedSetValues(DirectoryReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		if ( leaves.size() <= 1 ) {
+			// Segment ordinals are global ordinals: no need for an ordinal map.
+			return MultiDocValues.getSortedSetValues( reader, field );
+		}
+
+		SortedSetDocValues[] values = new SortedSetDocValues[leaves.size()];
+		int[] starts = new int[leaves.size() + 1];
+		long totalCost = 0;
+		boolean anyReal = false;
+		for ( int i = 0; i < values.length; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues leafValues = context.reader().getSortedSetDocValues( field );
+			if ( leafValues == null ) {
+				leafValues = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = leafValues;
+			starts[i] = context.docBase;
+			totalCost += leafValues.cost();
+		}
+		starts[values.length] = reader.maxDoc();
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap ordinalMap = getOrdinalMap( reader, field, values );
+		return new MultiDocValues.MultiSortedSetDocValues( values, starts, ordinalMap, totalCost );
+	}
+
+	/**
+	 * @return The number of index readers for which global ordinals are currently cached.
+	 */
+	int cachedReaderCount() {
+		return cache.size();
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	private OrdinalMap getOrdinalMap(DirectoryReader reader, String field, SortedSetDocValues[] values)
+			throws IOException {
+		IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+		if ( cacheHelper == null ) {
+			return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		}
+
+		Map<String, OrdinalMap> readerCache = cache.computeIfAbsent( cacheHelper.getKey(), key -> {
+			cacheHelper.addClosedListener( cache::remove );
+			return new ConcurrentHashMap<>();
+		} );
+		OrdinalMap ordinalMap = readerCache.get( field );
+		if ( ordinalMap == null ) {
+			ordinalMap = OrdinalMap.build( cacheHelper.getKey(), values, PackedInts.DEFAULT );
+			OrdinalMap previous = readerCache.putIfAbsent( field, ordinalMap );
+			if ( previous != null ) {
+				ordinalMap = previous;
+			}
+		}
+		return ordinalMap;
+	}
+}
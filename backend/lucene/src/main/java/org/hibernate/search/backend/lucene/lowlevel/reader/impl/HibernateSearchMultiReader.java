@@ -17,9 +17,12 @@
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.SortedSetDocValues;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -76,6 +79,31 @@ public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return {@code true} if global ordinals of this reader are cached,
+	 * i.e. if {@link #getSortedSetValues(String)} is cheap after the first call for a given field.
+	 */
+	public boolean hasCachedGlobalOrdinals() {
+		// Global ordinals are cached for each directory reader,
+		// so they can only be reused when the leaves of this reader are the leaves of a single directory reader.
+		return directoryReaders.size() == 1;
+	}
+
+	/**
+	 * @param field The name of a field with sorted set doc values.
+	 * @return The doc values of that field across all leaves of this reader, with global ordinals,
+	 * or {@code null} if no leaf has doc values for that field.
+	 * @throws IOException If reading the index fails.
+	 */
+	public SortedSetDocValues getSortedSetValues(String field) throws IOException {
+		if ( hasCachedGlobalOrdinals() ) {
+			DirectoryReader directoryReader = directoryReaders.get( 0 );
+			return metadataResolver.resolveGlobalOrdinalsCache( directoryReader )
+					.getSortedSetValues( directoryReader, field );
+		}
+		return MultiDocValues.getSortedSetValues( this, field );
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = log.isTraceEnabled();
@@ -102,19 +130,27 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final Map<DirectoryReader, NestedDocsBitSetCache> nestedDocsBitSetCacheByDirectoryReader =
+				new HashMap<>();
+		private final Map<DirectoryReader, GlobalOrdinalsCache> globalOrdinalsCacheByDirectoryReader =
+				new HashMap<>();
 
 		private Builder() {
 		}
 
 		@Override
-		public void collect(String mappedTypeName, DirectoryReader directoryReader) {
+		public void collect(String mappedTypeName, NestedDocsBitSetCache nestedDocsBitSetCache,
+				GlobalOrdinalsCache globalOrdinalsCache, DirectoryReader directoryReader) {
 			directoryReaders.add( directoryReader );
 			mappedTypeNameByDirectoryReader.put( directoryReader, mappedTypeName );
+			nestedDocsBitSetCacheByDirectoryReader.put( directoryReader, nestedDocsBitSetCache );
+			globalOrdinalsCacheByDirectoryReader.put( directoryReader, globalOrdinalsCache );
 		}
 
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
-					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
+					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader,
+							nestedDocsBitSetCacheByDirectoryReader, globalOrdinalsCacheByDirectoryReader );
 			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
 		}
 	}
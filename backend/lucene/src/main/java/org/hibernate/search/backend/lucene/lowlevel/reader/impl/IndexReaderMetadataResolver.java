@@ -8,6 +8,7 @@
 
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -17,15 +18,29 @@
 public final class IndexReaderMetadataResolver {
 
 	private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader;
+	private final Map<DirectoryReader, NestedDocsBitSetCache> nestedDocsBitSetCacheByDirectoryReader;
+	private final Map<DirectoryReader, GlobalOrdinalsCache> globalOrdinalsCacheByDirectoryReader;
 
-	IndexReaderMetadataResolver(Map<DirectoryReader, String> mappedTypeNameByDirectoryReader) {
+	IndexReaderMetadataResolver(Map<DirectoryReader, String> mappedTypeNameByDirectoryReader,
+			Map<DirectoryReader, NestedDocsBitSetCache> nestedDocsBitSetCacheByDirectoryReader,
+			Map<DirectoryReader, GlobalOrdinalsCache> globalOrdinalsCacheByDirectoryReader) {
 		this.mappedTypeNameByDirectoryReader = mappedTypeNameByDirectoryReader;
+		this.nestedDocsBitSetCacheByDirectoryReader = nestedDocsBitSetCacheByDirectoryReader;
+		this.globalOrdinalsCacheByDirectoryReader = globalOrdinalsCacheByDirectoryReader;
 	}
 
 	public String resolveMappedTypeName(LeafReaderContext context) {
 		return mappedTypeNameByDirectoryReader.get( getDirectoryReader( context ) );
 	}
 
+	public NestedDocsBitSetCache resolveNestedDocsBitSetCache(LeafReaderContext context) {
+		return nestedDocsBitSetCacheByDirectoryReader.get( getDirectoryReader( context ) );
+	}
+
+	public GlobalOrdinalsCache resolveGlobalOrdinalsCache(DirectoryReader directoryReader) {
+		return globalOrdinalsCacheByDirectoryReader.get( directoryReader );
+	}
+
 	private DirectoryReader getDirectoryReader(LeafReaderContext context) {
 		IndexReaderContext current = context;
 		while ( current != null && !( current.reader() instanceof DirectoryReader ) ) {
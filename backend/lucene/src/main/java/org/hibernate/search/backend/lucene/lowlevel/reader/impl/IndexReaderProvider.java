@@ -19,6 +19,13 @@ public interface IndexReaderProvider {
 	 */
 	void clear() throws IOException;
 
+	/**
+	 * Closes and drops any cached resources, and stops any background task.
+	 * <p>
+	 * Should be used when stopping the index; the provider must not be used afterwards.
+	 */
+	void close() throws IOException;
+
 	/**
 	 * Make sure the index reader returned by the next call to {@link #getOrCreate()}
 	 * will return an up-to-date view of the index.
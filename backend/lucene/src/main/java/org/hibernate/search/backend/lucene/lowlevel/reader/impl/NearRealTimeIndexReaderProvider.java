@@ -7,9 +7,21 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,32 +34,78 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When background refresh is enabled, the index reader is re-opened periodically by a background task
+ * and callers always get the last opened index reader without waiting,
+ * unless a refresh was explicitly forced.
+ * New segments of index readers are also warmed up before the index reader becomes visible to callers,
+ * if a {@link SegmentWarmer} is provided, regardless of whether the reader was opened in the background or not.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long MIN_BACKGROUND_REFRESH_DELAY_MS = 10L;
+
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final SegmentWarmer segmentWarmerOrNull;
+	private final FailureHandler failureHandler;
+
+	private final SingletonTask backgroundRefreshTask;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	private volatile boolean closed = false;
+
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval, boolean backgroundRefresh,
+			SegmentWarmer segmentWarmerOrNull,
+			BackendThreads threads, FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.segmentWarmerOrNull = segmentWarmerOrNull;
+		this.failureHandler = failureHandler;
+
+		if ( !backgroundRefresh || refreshInterval == 0 ) {
+			backgroundRefreshTask = null;
+		}
+		else {
+			backgroundRefreshTask = new SingletonTask(
+					"Background refresh for " + eventContext.render(),
+					new BackgroundRefreshWorker(),
+					new BackgroundRefreshScheduler( threads ),
+					failureHandler
+			);
+		}
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		// If a background refresh is scheduled, it will notice there is no current reader and will not re-schedule.
 		setCurrentReaderEntry( null );
 	}
 
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			closed = true;
+			setCurrentReaderEntry( null );
+		}
+		if ( backgroundRefreshTask != null ) {
+			backgroundRefreshTask.stop();
+		}
+	}
+
 	@Override
 	public void refresh() {
 		IndexReaderEntry entry = currentReaderEntry;
@@ -67,7 +125,7 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( isUsable( entry ) ) {
 				return entry.reader;
 			}
 			else {
@@ -75,7 +133,27 @@ public DirectoryReader getOrCreate() throws IOException {
 			}
 		}
 
-		return getFreshIndexReader().reader;
+		DirectoryReader reader = getFreshIndexReader().reader;
+		try {
+			// Schedule outside of the lock: scheduling may block if the executor's queue is full.
+			ensureBackgroundRefreshScheduled();
+		}
+		catch (RuntimeException e) {
+			reader.decRef();
+			throw e;
+		}
+		return reader;
+	}
+
+	private boolean isUsable(IndexReaderEntry entry) throws IOException {
+		if ( backgroundRefreshTask != null ) {
+			// Expiration is handled by the background task:
+			// we only need to refresh from the calling thread if a refresh was forced.
+			return !entry.refreshForced;
+		}
+		else {
+			return entry.isFresh();
+		}
 	}
 
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
@@ -83,6 +161,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			warmNewSegments( newReader );
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
@@ -92,6 +171,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
+				warmNewSegments( newReaderOrNull );
 				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 			}
 		}
@@ -107,6 +187,61 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private void refreshInBackground() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null ) {
+			// The provider was cleared: the reader will be re-created by the next caller, if any.
+			return;
+		}
+		if ( !oldEntry.isExpired() ) {
+			// A caller refreshed the reader recently (e.g. because of a forced refresh).
+			return;
+		}
+		IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+		if ( indexWriterDelegator == null ) {
+			// The writer was closed, which probably means the index is being stopped;
+			// don't re-create the writer just for the sake of refreshing.
+			// Try again after another refresh interval, so that we don't re-schedule immediately.
+			oldEntry.resetExpiration();
+			return;
+		}
+		// Open and warm up the new reader without holding the lock,
+		// so that callers needing a fresh reader (e.g. after a forced refresh) are not blocked in the meantime.
+		if ( !oldEntry.reader.tryIncRef() ) {
+			// The provider was cleared or closed concurrently.
+			return;
+		}
+		DirectoryReader newReaderOrNull;
+		try {
+			newReaderOrNull = indexWriterDelegator.openReaderIfChanged( oldEntry.reader );
+		}
+		finally {
+			oldEntry.reader.decRef();
+		}
+		if ( newReaderOrNull == null ) {
+			// No change, keep the old reader
+			oldEntry.resetExpiration();
+			return;
+		}
+		// Callers keep using the old reader while we warm up the new one.
+		warmNewSegments( newReaderOrNull );
+		synchronized (this) {
+			if ( closed || currentReaderEntry != oldEntry ) {
+				// The provider was cleared or closed, or a caller refreshed the reader in the meantime:
+				// our reader is useless.
+				newReaderOrNull.decRef();
+				return;
+			}
+			setCurrentReaderEntry( new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval ) );
+		}
+	}
+
+	private void warmNewSegments(DirectoryReader newReader) {
+		if ( segmentWarmerOrNull != null ) {
+			segmentWarmerOrNull.warmNewSegments( newReader );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -116,23 +251,99 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private void ensureBackgroundRefreshScheduled() {
+		if ( backgroundRefreshTask != null && currentReaderEntry != null && !closed ) {
+			backgroundRefreshTask.ensureScheduled();
+		}
+	}
+
+	private long getTimeToRefresh() {
+		IndexReaderEntry entry = currentReaderEntry;
+		if ( entry == null ) {
+			// Nothing to refresh: the task will run immediately and do nothing.
+			return 0L;
+		}
+		// Never schedule with a zero delay: the time estimate is coarse,
+		// and we don't want to spin while waiting for it to catch up with the expiration.
+		return Math.max( MIN_BACKGROUND_REFRESH_DELAY_MS, entry.getTimeToExpiration() );
+	}
+
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public CompletableFuture<?> work() {
+			try {
+				refreshInBackground();
+			}
+			catch (RuntimeException | IOException e) {
+				// Report the failure, but keep refreshing: the next attempt may succeed,
+				// and in the meantime callers can still use the previous reader.
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable( log.unableToRefreshIndexReaderInBackground(
+						e.getMessage(), eventContext, e ) );
+				failureContextBuilder.failingOperation( "Background refresh of the index reader" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			// This will re-schedule the task for when the current reader expires.
+			ensureBackgroundRefreshScheduled();
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Called when the provider was cleared or closed: nothing to do.
+		}
+	}
+
+	private class BackgroundRefreshScheduler implements SingletonTask.Scheduler {
+		private final BackendThreads threads;
+
+		private BackgroundRefreshScheduler(BackendThreads threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			// Schedule the task for execution as soon as the current reader expires.
+			// Use a dedicated executor: opening and warming up a reader must not delay indexing works.
+			return threads.getRefreshExecutor().schedule( runnable, getTimeToRefresh(), TimeUnit.MILLISECONDS );
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
-		private final long expiration;
+		private final int refreshInterval;
 
+		private volatile long expiration;
 		private volatile boolean refreshForced = false;
 
 		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			this.refreshInterval = refreshInterval;
+			resetExpiration();
 		}
 
 		public void forceRefresh() {
 			refreshForced = true;
 		}
 
+		void resetExpiration() {
+			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+		}
+
+		long getTimeToExpiration() {
+			return expiration - timingSource.monotonicTimeEstimate();
+		}
+
+		boolean isExpired() {
+			// Must be consistent with getTimeToRefresh():
+			// when the background refresh runs at the expiration time, the entry must be considered expired.
+			return expiration == 0 || getTimeToExpiration() <= 0L;
+		}
+
 		/**
 		 * @return {@code true} if the reader is still fresh enough to be used,
 		 * i.e. if it is completely up-to-date with the state of the index writer
@@ -144,7 +355,7 @@ boolean isFresh() throws IOException {
 			if ( refreshForced ) {
 				return false;
 			}
-			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
+			if ( isExpired() ) {
 				// The last refresh was a long time ago. Let's check if the reader is really fresh.
 				return reader.isCurrent();
 			}
@@ -29,6 +29,11 @@ public void clear() {
 		// Nothing to do
 	}
 
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
 	@Override
 	public void refresh() {
 		// Nothing to do
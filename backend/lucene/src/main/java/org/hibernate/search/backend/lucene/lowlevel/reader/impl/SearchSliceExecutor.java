@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An executor for the slices of a parallel search,
+ * which also defines how the index is split into slices.
+ * <p>
+ * The slicing policy needs to be carried by the executor
+ * because {@link IndexSearcher} computes slices from its constructor,
+ * before any field of a subclass can be initialized:
+ * see {@link SlicingIndexSearcher}.
+ */
+public final class SearchSliceExecutor implements Executor {
+
+	private final Executor delegate;
+	private final int maxDocsPerSlice;
+	private final int maxSegmentsPerSlice;
+
+	public SearchSliceExecutor(Executor delegate, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+		this.delegate = delegate;
+		this.maxDocsPerSlice = maxDocsPerSlice;
+		this.maxSegmentsPerSlice = maxSegmentsPerSlice;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		delegate.execute( command );
+	}
+
+	/**
+	 * Groups leaves into slices, largest leaves first,
+	 * so that each slice holds at most {@code maxSegmentsPerSlice} leaves
+	 * and roughly {@code maxDocsPerSlice} documents.
+	 * <p>
+	 * This is the same algorithm as Lucene's default slicing,
+	 * only with configurable limits.
+	 *
+	 * @param leaves The leaves of the index reader.
+	 * @return The slices to search in parallel.
+	 */
+	IndexSearcher.LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		List<LeafReaderContext> sortedLeaves = new ArrayList<>( leaves );
+		sortedLeaves.sort( Collections.reverseOrder( Comparator.comparingInt( leaf -> leaf.reader().maxDoc() ) ) );
+
+		List<List<LeafReaderContext>> groupedLeaves = new ArrayList<>();
+		long docSum = 0;
+		List<LeafReaderContext> group = null;
+		for ( LeafReaderContext leaf : sortedLeaves ) {
+			int maxDoc = leaf.reader().maxDoc();
+			if ( maxDoc > maxDocsPerSlice ) {
+				// Leaves are sorted by decreasing size, so no group was started yet.
+				groupedLeaves.add( Collections.singletonList( leaf ) );
+				continue;
+			}
+			if ( group == null ) {
+				group = new ArrayList<>();
+				groupedLeaves.add( group );
+			}
+			group.add( leaf );
+			docSum += maxDoc;
+			if ( group.size() >= maxSegmentsPerSlice || docSum > maxDocsPerSlice ) {
+				group = null;
+				docSum = 0;
+			}
+		}
+
+		IndexSearcher.LeafSlice[] slices = new IndexSearcher.LeafSlice[groupedLeaves.size()];
+		for ( int i = 0; i < slices.length; i++ ) {
+			List<LeafReaderContext> sliceLeaves = groupedLeaves.get( i );
+			slices[i] = new IndexSearcher.LeafSlice( sliceLeaves.toArray( new LeafReaderContext[0] ) );
+		}
+		return slices;
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Warms up new segments by loading data for configured fields
+ * and by applying the user-provided {@link IndexReaderWarmer}, if any.
+ * <p>
+ * Each segment is warmed up only once, regardless of whether it was first seen
+ * as a merged segment or as part of a newly opened index reader.
+ * <p>
+ * Failures are logged and ignored: a segment that could not be warmed up is still perfectly usable.
+ */
+public final class SegmentWarmer implements IndexWriter.IndexReaderWarmer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param eventContext The event context to use when reporting failures.
+	 * @param fieldPaths The absolute path of fields to warm up.
+	 * @param customWarmerOrNull A user-provided warmer, or {@code null}.
+	 * @return A segment warmer, or {@code null} if there is nothing to warm up.
+	 */
+	public static SegmentWarmer create(EventContext eventContext, List<String> fieldPaths,
+			IndexReaderWarmer customWarmerOrNull) {
+		if ( fieldPaths.isEmpty() && customWarmerOrNull == null ) {
+			return null;
+		}
+		return new SegmentWarmer( eventContext, fieldPaths, customWarmerOrNull );
+	}
+
+	private final EventContext eventContext;
+	private final List<String> fieldPaths;
+	private final IndexReaderWarmer customWarmerOrNull;
+	// Weak keys: the key of a segment core is dropped as soon as the segment is no longer used.
+	private final Set<IndexReader.CacheKey> warmedCoreKeys =
+			Collections.synchronizedSet( Collections.newSetFromMap( new WeakHashMap<>() ) );
+
+	private SegmentWarmer(EventContext eventContext, List<String> fieldPaths,
+			IndexReaderWarmer customWarmerOrNull) {
+		this.eventContext = eventContext;
+		this.fieldPaths = fieldPaths;
+		this.customWarmerOrNull = customWarmerOrNull;
+	}
+
+	@Override
+	public void warm(LeafReader segmentReader) {
+		IndexReader.CacheHelper cacheHelper = segmentReader.getCoreCacheHelper();
+		// Segments whose core was already warmed up, possibly with different deletions,
+		// already have their data loaded.
+		if ( cacheHelper != null && !warmedCoreKeys.add( cacheHelper.getKey() ) ) {
+			return;
+		}
+		try {
+			for ( String fieldPath : fieldPaths ) {
+				warmField( segmentReader, fieldPath );
+			}
+			if ( customWarmerOrNull != null ) {
+				customWarmerOrNull.warm( segmentReader );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWarmUpSegment( e.getMessage(), eventContext, e );
+		}
+	}
+
+	/**
+	 * Warms up the segments of {@code reader} that were not warmed up yet.
+	 *
+	 * @param reader A reader that is about to become visible to callers.
+	 */
+	void warmNewSegments(DirectoryReader reader) {
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			warm( leaf.reader() );
+		}
+	}
+
+	private static void warmField(LeafReader segmentReader, String fieldPath) throws IOException {
+		FieldInfo fieldInfo = segmentReader.getFieldInfos().fieldInfo( fieldPath );
+		if ( fieldInfo == null ) {
+			// No document in this segment has this field.
+			return;
+		}
+
+		if ( fieldInfo.getIndexOptions() != IndexOptions.NONE ) {
+			Terms terms = segmentReader.terms( fieldPath );
+			if ( terms != null ) {
+				// Loads the terms index.
+				terms.iterator().next();
+			}
+		}
+
+		if ( fieldInfo.hasNorms() ) {
+			NumericDocValues norms = segmentReader.getNormValues( fieldPath );
+			if ( norms != null ) {
+				while ( norms.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					norms.longValue();
+				}
+			}
+		}
+
+		switch ( fieldInfo.getDocValuesType() ) {
+			case NUMERIC:
+				NumericDocValues numeric = segmentReader.getNumericDocValues( fieldPath );
+				while ( numeric.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					numeric.longValue();
+				}
+				break;
+			case SORTED_NUMERIC:
+				SortedNumericDocValues sortedNumeric = segmentReader.getSortedNumericDocValues( fieldPath );
+				while ( sortedNumeric.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					for ( int i = 0; i < sortedNumeric.docValueCount(); i++ ) {
+						sortedNumeric.nextValue();
+					}
+				}
+				break;
+			case BINARY:
+				BinaryDocValues binary = segmentReader.getBinaryDocValues( fieldPath );
+				while ( binary.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					binary.binaryValue();
+				}
+				break;
+			case SORTED:
+				SortedDocValues sorted = segmentReader.getSortedDocValues( fieldPath );
+				while ( sorted.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					sorted.ordValue();
+				}
+				// Loads the terms dictionary.
+				sorted.termsEnum().next();
+				break;
+			case SORTED_SET:
+				SortedSetDocValues sortedSet = segmentReader.getSortedSetDocValues( fieldPath );
+				while ( sortedSet.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+					long ord = sortedSet.nextOrd();
+					while ( ord != SortedSetDocValues.NO_MORE_ORDS ) {
+						ord = sortedSet.nextOrd();
+					}
+				}
+				// Loads the terms dictionary.
+				sortedSet.termsEnum().next();
+				break;
+			case NONE:
+			default:
+				break;
+		}
+	}
+}
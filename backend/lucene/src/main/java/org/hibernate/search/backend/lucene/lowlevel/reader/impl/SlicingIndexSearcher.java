@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+/**
+ * An index searcher that executes searches with a {@link CollectorManager}
+ * in parallel over slices of the index.
+ * <p>
+ * Searches with a simple {@link Collector} are still executed in the calling thread.
+ */
+public class SlicingIndexSearcher extends IndexSearcher {
+
+	public SlicingIndexSearcher(IndexReader reader, SearchSliceExecutor executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		// Called from the superclass constructor, so we can't rely on fields of this class:
+		// the executor, on the other hand, is already set at this point.
+		return ( (SearchSliceExecutor) getExecutor() ).slices( leaves );
+	}
+
+	@Override
+	public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager)
+			throws IOException {
+		try {
+			return super.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			// Lucene wraps failures in slices into a RuntimeException(ExecutionException):
+			// unwrap them so that callers see the same exceptions as with a sequential search.
+			Throwable cause = e.getCause();
+			if ( !( cause instanceof ExecutionException ) || cause.getCause() == null ) {
+				throw e;
+			}
+			Throwable sliceFailure = cause.getCause();
+			if ( sliceFailure instanceof IOException ) {
+				throw (IOException) sliceFailure;
+			}
+			if ( sliceFailure instanceof RuntimeException ) {
+				throw (RuntimeException) sliceFailure;
+			}
+			if ( sliceFailure instanceof Error ) {
+				throw (Error) sliceFailure;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReader;
+
+/**
+ * A component that warms up new index segments before they become visible to search queries,
+ * so that the first search queries hitting these segments do not pay for loading data structures from cold.
+ * <p>
+ * Warmers are applied:
+ * <ul>
+ *     <li>to segments resulting from a merge, before the merge completes;</li>
+ *     <li>to new segments of an index reader refreshed in the background,
+ *     before that index reader becomes visible to search queries.</li>
+ * </ul>
+ * <p>
+ * Warmers may be called concurrently from multiple threads, for different segments.
+ * Failures are logged, but do not prevent the segments from being used.
+ */
+public interface IndexReaderWarmer {
+
+	/**
+	 * Warms up the given segment,
+	 * for example by loading doc values or by executing representative queries against this segment.
+	 *
+	 * @param segmentReader A reader for the segment to warm up.
+	 * This reader must not be closed, and must not be used after this method returns.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void warm(LeafReader segmentReader) throws IOException;
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+/**
+ * Decides how long index changes may stay uncommitted.
+ *
+ * @see org.hibernate.search.backend.lucene.lowlevel.index.IOCommitStrategyName
+ */
+public final class CommitPolicy {
+
+	/**
+	 * With the adaptive policy, we aim at spending at most 1/LATENCY_FACTOR of the time committing.
+	 */
+	private static final int LATENCY_FACTOR = 10;
+
+	public static CommitPolicy fixed(int interval) {
+		return new CommitPolicy( false, interval, interval, Integer.MAX_VALUE );
+	}
+
+	public static CommitPolicy adaptive(int minInterval, int maxInterval, int maxPendingOperations) {
+		return new CommitPolicy( true, Math.min( minInterval, maxInterval ), maxInterval, maxPendingOperations );
+	}
+
+	private final boolean adaptive;
+	private final int minInterval;
+	private final int maxInterval;
+	private final int maxPendingOperations;
+
+	private CommitPolicy(boolean adaptive, int minInterval, int maxInterval, int maxPendingOperations) {
+		this.adaptive = adaptive;
+		this.minInterval = minInterval;
+		this.maxInterval = maxInterval;
+		this.maxPendingOperations = maxPendingOperations;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "adaptive=" + adaptive
+				+ ", minInterval=" + minInterval
+				+ ", maxInterval=" + maxInterval
+				+ ", maxPendingOperations=" + maxPendingOperations
+				+ "]";
+	}
+
+	/**
+	 * @return {@code true} if commits may be delayed, {@code false} if they must always happen immediately.
+	 */
+	public boolean canDelayCommits() {
+		return maxInterval != 0;
+	}
+
+	boolean isAdaptive() {
+		return adaptive;
+	}
+
+	/**
+	 * @param pendingOperations The number of write operations since the last commit.
+	 * @param ramBufferNearlyFull Whether the index writer's RAM buffer is nearly full.
+	 * Ignored unless the policy is {@link #isAdaptive() adaptive}.
+	 * @param statistics Statistics about previous commits.
+	 * @return The amount of time, in milliseconds, that must pass after the last commit before committing again.
+	 */
+	long interval(long pendingOperations, boolean ramBufferNearlyFull, CommitStatistics statistics) {
+		if ( !adaptive ) {
+			return maxInterval;
+		}
+		if ( pendingOperations >= maxPendingOperations || ramBufferNearlyFull ) {
+			// Many changes are at risk: commit as soon as possible.
+			return minInterval;
+		}
+		// Slow commits (e.g. because the disk is busy) lead to longer intervals, so that commits are grouped,
+		// while fast commits lead to shorter intervals, so that changes are not at risk for longer than necessary.
+		long latencyBasedInterval = (long) ( LATENCY_FACTOR * statistics.averageLatencyMillis() );
+		return Math.max( minInterval, Math.min( maxInterval, latencyBasedInterval ) );
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics about the latency of commits, including a histogram with exponential buckets.
+ */
+final class CommitStatistics {
+
+	/*
+	 * Bucket 0 counts commits that took less than 1ms,
+	 * bucket i > 0 counts commits that took between 2^(i-1)ms (inclusive) and 2^i ms (exclusive),
+	 * except the last bucket, which has no upper bound.
+	 */
+	private static final int BUCKET_COUNT = 16;
+
+	/**
+	 * The weight of the latest commit in the moving average of latencies.
+	 */
+	private static final double AVERAGE_WEIGHT = 0.2;
+
+	private final long[] buckets = new long[BUCKET_COUNT];
+	private long count;
+	private long totalNanos;
+	private long maxNanos;
+	private volatile double averageLatencyMillis;
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder builder = new StringBuilder( "count=" ).append( count );
+		if ( count == 0 ) {
+			return builder.toString();
+		}
+		builder.append( ", meanMillis=" ).append( TimeUnit.NANOSECONDS.toMillis( totalNanos / count ) )
+				.append( ", maxMillis=" ).append( TimeUnit.NANOSECONDS.toMillis( maxNanos ) )
+				.append( ", histogramMillis={" );
+		boolean first = true;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			if ( buckets[i] == 0 ) {
+				continue;
+			}
+			if ( !first ) {
+				builder.append( ", " );
+			}
+			first = false;
+			if ( i == 0 ) {
+				builder.append( "<1" );
+			}
+			else if ( i == BUCKET_COUNT - 1 ) {
+				builder.append( ">=" ).append( 1L << ( i - 1 ) );
+			}
+			else {
+				builder.append( 1L << ( i - 1 ) ).append( '-' ).append( 1L << i );
+			}
+			builder.append( ": " ).append( buckets[i] );
+		}
+		return builder.append( '}' ).toString();
+	}
+
+	synchronized void record(long latencyNanos) {
+		long latencyMillis = TimeUnit.NANOSECONDS.toMillis( latencyNanos );
+		int bucket = Math.min( BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros( latencyMillis ) );
+		++buckets[bucket];
+		++count;
+		totalNanos += latencyNanos;
+		maxNanos = Math.max( maxNanos, latencyNanos );
+		double latencyMillisAsDouble = latencyNanos / 1_000_000.0;
+		averageLatencyMillis = count == 1 ? latencyMillisAsDouble
+				: AVERAGE_WEIGHT * latencyMillisAsDouble + ( 1 - AVERAGE_WEIGHT ) * averageLatencyMillis;
+	}
+
+	/**
+	 * @return An exponentially weighted moving average of the latency of recent commits, in milliseconds.
+	 */
+	double averageLatencyMillis() {
+		return averageLatencyMillis;
+	}
+}
@@ -12,8 +12,10 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -29,25 +31,31 @@
  */
 public class IndexWriterConfigSource {
 
-	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer, Sort indexSortOrNull,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmerOrNull,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		return new IndexWriterConfigSource( similarity, analyzer, indexSortOrNull, mergedSegmentWarmerOrNull, values );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final Sort indexSortOrNull;
+	private final IndexWriter.IndexReaderWarmer mergedSegmentWarmerOrNull;
 	private final List<IndexWriterSettingValue<?>> values;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Sort indexSortOrNull,
+			IndexWriter.IndexReaderWarmer mergedSegmentWarmerOrNull, List<IndexWriterSettingValue<?>> values) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.indexSortOrNull = indexSortOrNull;
+		this.mergedSegmentWarmerOrNull = mergedSegmentWarmerOrNull;
 		this.values = values;
 	}
 
 	@Override
 	public String toString() {
-		return "IndexWriterConfigSource{" + analyzer + "," + values + '}';
+		return "IndexWriterConfigSource{" + analyzer + "," + indexSortOrNull + "," + values + '}';
 	}
 
 	/**
@@ -57,6 +65,12 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( indexSortOrNull != null ) {
+			writerConfig.setIndexSort( indexSortOrNull );
+		}
+		if ( mergedSegmentWarmerOrNull != null ) {
+			writerConfig.setMergedSegmentWarmer( mergedSegmentWarmerOrNull );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
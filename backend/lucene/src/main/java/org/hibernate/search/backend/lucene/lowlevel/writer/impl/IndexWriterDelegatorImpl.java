@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -25,6 +26,7 @@
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -36,29 +38,35 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final long COMMIT_STATISTICS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos( 1 );
+
 	private final IndexWriter delegate;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
-	private final int commitInterval;
+	private final CommitPolicy commitPolicy;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
+	private final CommitStatistics commitStatistics = new CommitStatistics();
+	private final AtomicLong pendingOperations = new AtomicLong();
 
-	private long commitExpiration;
+	private volatile long lastCommitTime;
+	// Only accessed while holding the commit lock.
+	private long lastCommitStatisticsLogNanos;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, CommitPolicy commitPolicy,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
-		this.commitInterval = commitInterval;
+		this.commitPolicy = commitPolicy;
 		this.failureHandler = failureHandler;
 
-		if ( commitInterval == 0L ) {
+		if ( !commitPolicy.canDelayCommits() ) {
 			delayedCommitTask = null;
 		}
 		else {
@@ -70,26 +78,31 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			);
 		}
 
-		updateCommitExpiration();
+		updateLastCommitTime();
+		lastCommitStatisticsLogNanos = timingSource.nanoTime();
 	}
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		pendingOperations.incrementAndGet();
 		return delegate.addDocuments( docs );
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		pendingOperations.incrementAndGet();
 		return delegate.updateDocuments( term, docs );
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
+		pendingOperations.incrementAndGet();
 		return delegate.deleteDocuments( term );
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
+		pendingOperations.incrementAndGet();
 		return delegate.deleteDocuments( query );
 	}
 
@@ -155,6 +168,9 @@ void close() throws IOException {
 				commitLock.unlock();
 			}
 			log.trace( "IndexWriter closed" );
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Commit statistics for %s: %s", eventContext.render(), commitStatistics );
+			}
 		}
 	}
 
@@ -187,8 +203,23 @@ private void doCommit() {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
+			// Changes applied while we commit may or may not be committed: count them as committed, to be safe.
+			long committedOperations = pendingOperations.getAndSet( 0L );
+			long start = timingSource.nanoTime();
 			delegate.commit();
-			updateCommitExpiration();
+			long latencyNanos = timingSource.nanoTime() - start;
+			commitStatistics.record( latencyNanos );
+			updateLastCommitTime();
+			if ( log.isTraceEnabled() ) {
+				log.tracef( "Committed %s in %d ms (%d pending write operations)", eventContext.render(),
+						TimeUnit.NANOSECONDS.toMillis( latencyNanos ), committedOperations );
+			}
+			// Index writers may stay open for the whole lifetime of the application:
+			// don't wait for them to be closed to report statistics.
+			if ( log.isDebugEnabled() && start - lastCommitStatisticsLogNanos >= COMMIT_STATISTICS_LOG_INTERVAL_NANOS ) {
+				lastCommitStatisticsLogNanos = start;
+				log.debugf( "Commit statistics for %s: %s", eventContext.render(), commitStatistics );
+			}
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( e.getMessage(), eventContext, e );
@@ -215,17 +246,28 @@ private boolean delayCommit() {
 	}
 
 	private long getTimeToCommit() {
-		if ( commitInterval == 0L ) {
+		if ( !commitPolicy.canDelayCommits() ) {
 			// We never delay anything in this case,
-			// so there's no need to query the timing source (which is probably null in this case).
+			// so there's no need to query the time estimate (which is probably not initialized in this case).
 			return 0L;
 		}
 
-		return commitExpiration - timingSource.monotonicTimeEstimate();
+		long interval = commitPolicy.interval( pendingOperations.get(),
+				commitPolicy.isAdaptive() && isRamBufferNearlyFull(), commitStatistics );
+		return lastCommitTime + interval - timingSource.monotonicTimeEstimate();
+	}
+
+	private boolean isRamBufferNearlyFull() {
+		double ramBufferSizeMB = delegate.getConfig().getRAMBufferSizeMB();
+		if ( ramBufferSizeMB == IndexWriterConfig.DISABLE_AUTO_FLUSH ) {
+			return false;
+		}
+		// Consider the buffer nearly full when half of it is used.
+		return delegate.ramBytesUsed() >= ramBufferSizeMB * 1024 * 1024 / 2;
 	}
 
-	private void updateCommitExpiration() {
-		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
+	private void updateLastCommitTime() {
+		lastCommitTime = commitPolicy.canDelayCommits() ? timingSource.monotonicTimeEstimate() : 0L;
 	}
 
 	private class LuceneDelayedCommitWorker implements SingletonTask.Worker {
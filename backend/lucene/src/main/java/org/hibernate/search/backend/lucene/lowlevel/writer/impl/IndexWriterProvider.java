@@ -36,7 +36,7 @@ public class IndexWriterProvider {
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterConfigSource configSource;
 	private final TimingSource timingSource;
-	private final int commitInterval;
+	private final CommitPolicy commitPolicy;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -52,7 +52,7 @@ public class IndexWriterProvider {
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, CommitPolicy commitPolicy,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -60,7 +60,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.directoryHolder = directoryHolder;
 		this.configSource = configSource;
 		this.timingSource = timingSource;
-		this.commitInterval = commitInterval;
+		this.commitPolicy = commitPolicy;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -118,7 +118,7 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitPolicy,
 							failureHandler,
 							this::clearAfterFailure
 					);
@@ -8,6 +8,8 @@
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
@@ -17,9 +19,8 @@
 /**
  * An orchestrator that executes works synchronously in the current thread.
  * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * Queries executed asynchronously simply execute their works synchronously
+ * in a thread provided by {@link #executeAsync(Supplier)}.
  */
 public interface LuceneSyncWorkOrchestrator {
 
@@ -31,4 +32,12 @@ default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManag
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
 
+	/**
+	 * @param task A task submitting works to this orchestrator, then processing the results (e.g. loading entities).
+	 * @param <T> The type of the task result.
+	 * @return A future that will be completed with the result of the task,
+	 * once the task has been executed in a thread dedicated to asynchronous searches.
+	 */
+	<T> CompletableFuture<T> executeAsync(Supplier<T> task);
+
 }
@@ -11,12 +11,16 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SearchSliceExecutor;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SlicingIndexSearcher;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -38,13 +42,15 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext, BackendThreads threads) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
 	}
 
 	@Override
@@ -52,7 +58,8 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext,
+				threads.getSearchSliceExecutorOrNull()
 		);
 		Throwable throwable = null;
 		try {
@@ -77,6 +84,11 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> executeAsync(Supplier<T> task) {
+		return CompletableFuture.supplyAsync( task, threads.getAsyncSearchExecutor() );
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -108,6 +120,7 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final SearchSliceExecutor searchSliceExecutorOrNull;
 
 		private T result;
 
@@ -115,7 +128,8 @@ protected void doStop() {
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				SearchSliceExecutor searchSliceExecutorOrNull) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
@@ -129,11 +143,14 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.searchSliceExecutorOrNull = searchSliceExecutorOrNull;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			IndexSearcher searcher = searchSliceExecutorOrNull == null
+					? new IndexSearcher( indexReader )
+					: new SlicingIndexSearcher( indexReader, searchSliceExecutorOrNull );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
@@ -6,10 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.SearchSliceExecutor;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -26,10 +33,38 @@ public class BackendThreads {
 					.asBeanReference( LuceneWorkExecutorProvider.class )
 					.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService searchExecutor;
+	private SearchSliceExecutor searchSliceExecutor;
+	private ExecutorService asyncSearchExecutor;
+	private ScheduledExecutorService refreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -62,11 +97,32 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool( searchThreadPoolSize,
+					prefix + " - Search thread" );
+			this.searchSliceExecutor = new SearchSliceExecutor( searchExecutor,
+					SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+					SEARCH_SLICE_MAX_SEGMENTS.get( propertySource ) );
+		}
+
+		// Threads are only created on the first asynchronous search.
+		int asyncSearchThreadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.asyncSearchExecutor = threadPoolProvider.newFixedThreadPool( asyncSearchThreadPoolSize,
+				prefix + " - Async search thread" );
+
+		// The thread is only created on the first background refresh of an index reader.
+		this.refreshExecutor = threadPoolProvider.newScheduledExecutor( 1, prefix + " - Refresh thread" );
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			closer.push( ExecutorService::shutdownNow, asyncSearchExecutor );
+			closer.push( ExecutorService::shutdownNow, refreshExecutor );
 		}
 	}
 
@@ -80,6 +136,32 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for parallel searches,
+	 * or {@code null} if searches should be executed in the calling thread.
+	 */
+	public SearchSliceExecutor getSearchSliceExecutorOrNull() {
+		checkStarted();
+		return searchSliceExecutor;
+	}
+
+	/**
+	 * @return The executor to use for search queries executed asynchronously.
+	 */
+	public Executor getAsyncSearchExecutor() {
+		checkStarted();
+		return asyncSearchExecutor;
+	}
+
+	/**
+	 * @return The executor to use for background refreshes of index readers,
+	 * so that opening and warming up readers never delays indexing.
+	 */
+	public ScheduledExecutorService getRefreshExecutor() {
+		checkStarted();
+		return refreshExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
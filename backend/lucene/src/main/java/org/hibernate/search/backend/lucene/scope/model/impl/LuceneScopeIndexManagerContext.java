@@ -9,8 +9,15 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
 
+import org.apache.lucene.search.Sort;
+
 public interface LuceneScopeIndexManagerContext extends LuceneSearchIndexContext {
 
 	LuceneIndexModel model();
 
+	/**
+	 * @return The sort applied to documents within each segment of the index, or {@code null} if the index is not sorted.
+	 */
+	Sort indexSortOrNull();
+
 }
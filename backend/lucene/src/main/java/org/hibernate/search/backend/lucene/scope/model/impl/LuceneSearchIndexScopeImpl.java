@@ -55,6 +55,7 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
 
 public final class LuceneSearchIndexScopeImpl
 		extends AbstractSearchIndexScope<
@@ -225,6 +226,19 @@ public boolean hasNestedDocuments() {
 		return false;
 	}
 
+	@Override
+	public Sort indexSortOrNull() {
+		Sort indexSort = null;
+		for ( LuceneScopeIndexManagerContext element : indexes() ) {
+			Sort elementIndexSort = element.indexSortOrNull();
+			if ( elementIndexSort == null || indexSort != null && !indexSort.equals( elementIndexSort ) ) {
+				return null;
+			}
+			indexSort = elementIndexSort;
+		}
+		return indexSort;
+	}
+
 	@Override
 	protected LuceneSearchIndexCompositeNodeContext createMultiIndexSearchRootContext(
 			List<LuceneSearchIndexCompositeNodeContext> rootForEachIndex) {
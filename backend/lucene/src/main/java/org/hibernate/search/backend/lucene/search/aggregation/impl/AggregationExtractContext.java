@@ -7,13 +7,10 @@
 package org.hibernate.search.backend.lucene.search.aggregation.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.Query;
 
 public class AggregationExtractContext {
 
@@ -37,11 +34,7 @@ public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
 		return fromDocumentValueConvertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <T> T getCollector(CollectorKey<T> key) {
 		return collectors.get( key );
 	}
-
-	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
-		return new NestedDocsProvider( nestedDocumentPath, nestedFilter );
-	}
 }
@@ -32,6 +32,15 @@
 	 */
 	A extract(AggregationExtractContext context) throws IOException;
 
+	/**
+	 * @return {@code true} if the result of {@link #extract(AggregationExtractContext)} may depend on the session,
+	 * e.g. because it involves converting values with a bridge that could access the session,
+	 * in which case the result must not be reused by another query.
+	 */
+	default boolean resultDependsOnSession() {
+		return false;
+	}
+
 	Set<String> getIndexNames();
 
 }
@@ -63,4 +63,15 @@ public boolean hasTermVectorsConfigured() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::hasTermVectorsConfigured, Object::equals,
 				"hasTermVectorsConfigured" );
 	}
+
+	@Override
+	public boolean hasLosslessDocValues() {
+		// Not an attribute that must be compatible: we'll just fall back to stored fields if one index doesn't qualify.
+		for ( LuceneSearchIndexValueFieldContext<F> indexElement : nodeForEachIndex ) {
+			if ( !indexElement.type().hasLosslessDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
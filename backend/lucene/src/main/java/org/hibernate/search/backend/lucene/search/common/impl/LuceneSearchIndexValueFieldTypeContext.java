@@ -17,4 +17,10 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if values of this field can be projected from doc values instead of stored fields,
+	 * with the same result.
+	 */
+	boolean hasLosslessDocValues();
+
 }
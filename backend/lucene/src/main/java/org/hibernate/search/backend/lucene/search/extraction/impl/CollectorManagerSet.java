@@ -0,0 +1,254 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.search.timeout.impl.LuceneCounterAdapter;
+import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TimeLimitingCollector;
+
+/**
+ * A set of collector managers, composed into a single collector manager
+ * so that all the corresponding data can be collected in a single search.
+ * <p>
+ * Each call to {@link #newCollector()} creates one collector per component,
+ * and {@link #reduce(Collection)} reduces the collectors of each component separately,
+ * so the search may be executed in parallel over multiple slices of the index.
+ * <p>
+ * Timeouts do not abort the search:
+ * instead, collection stops for every slice, and the partial results are reduced as usual.
+ * Callers are expected to check {@link #timeoutExceptionOrNull()} after the search.
+ */
+public class CollectorManagerSet implements CollectorManager<CollectorManagerSet.SliceCollector, CollectorSet> {
+
+	private final Map<CollectorKey<?>, CollectorManager<?, ?>> components;
+	private final TimeoutManager timeoutManager;
+
+	private final AtomicReference<TimeLimitingCollector.TimeExceededException> timeoutException =
+			new AtomicReference<>();
+
+	private CollectorManagerSet(Map<CollectorKey<?>, CollectorManager<?, ?>> components,
+			TimeoutManager timeoutManager) {
+		this.components = components;
+		this.timeoutManager = timeoutManager;
+	}
+
+	public boolean isEmpty() {
+		return components.isEmpty();
+	}
+
+	/**
+	 * @param indexSearcher The searcher to execute the search with.
+	 * @param query The query whose matching documents should be collected.
+	 * @return The result of collection.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public CollectorSet collect(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( components.isEmpty() ) {
+			return new CollectorSet( Collections.emptyMap() );
+		}
+		return indexSearcher.search( query, this );
+	}
+
+	/**
+	 * Collects the documents matching the given query from the calling thread,
+	 * even if the index searcher has an executor.
+	 * <p>
+	 * Useful when collecting data that is not thread-safe, e.g. stored fields of top documents.
+	 *
+	 * @param indexSearcher The searcher to execute the search with.
+	 * @param query The query whose matching documents should be collected.
+	 * @return The result of collection.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public CollectorSet collectSequentially(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( components.isEmpty() ) {
+			return new CollectorSet( Collections.emptyMap() );
+		}
+		SliceCollector collector = newCollector();
+		indexSearcher.search( query, collector );
+		return reduce( Collections.singletonList( collector ) );
+	}
+
+	/**
+	 * @return The result of collection, assuming no document matched.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public CollectorSet collectNothing() throws IOException {
+		if ( components.isEmpty() ) {
+			return new CollectorSet( Collections.emptyMap() );
+		}
+		return reduce( Collections.singletonList( newCollector() ) );
+	}
+
+	/**
+	 * @return The exception thrown by the time-limiting collector if the search timed out, {@code null} otherwise.
+	 */
+	public TimeLimitingCollector.TimeExceededException timeoutExceptionOrNull() {
+		return timeoutException.get();
+	}
+
+	@Override
+	public SliceCollector newCollector() throws IOException {
+		Map<CollectorKey<?>, Collector> sliceComponents = new LinkedHashMap<>();
+		for ( Map.Entry<CollectorKey<?>, CollectorManager<?, ?>> entry : components.entrySet() ) {
+			sliceComponents.put( entry.getKey(), entry.getValue().newCollector() );
+		}
+
+		Collector composed = wrapTimeLimitingCollectorIfNecessary(
+				// avoid to use a multi collector if we have just one collector,
+				// as MultiCollector explicitly ignores the total hit count optimization
+				( sliceComponents.size() == 1 ) ? sliceComponents.values().iterator().next() :
+						MultiCollector.wrap( sliceComponents.values() )
+		);
+
+		return new SliceCollector( composed, sliceComponents );
+	}
+
+	@Override
+	public CollectorSet reduce(Collection<SliceCollector> collectors) throws IOException {
+		Map<CollectorKey<?>, Object> results = new LinkedHashMap<>();
+		for ( Map.Entry<CollectorKey<?>, CollectorManager<?, ?>> entry : components.entrySet() ) {
+			CollectorKey<?> key = entry.getKey();
+			List<Collector> componentCollectors = new ArrayList<>( collectors.size() );
+			for ( SliceCollector collector : collectors ) {
+				componentCollectors.add( collector.components.get( key ) );
+			}
+			results.put( key, reduce( entry.getValue(), componentCollectors ) );
+		}
+		return new CollectorSet( results );
+	}
+
+	@SuppressWarnings("unchecked") // Collectors for a given key are always created by the manager for that same key
+	private static <C extends Collector> Object reduce(CollectorManager<C, ?> manager, List<Collector> collectors)
+			throws IOException {
+		return manager.reduce( (List<C>) collectors );
+	}
+
+	private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector) {
+		final Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline != null ) {
+			TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
+					new LuceneCounterAdapter( timeoutManager.timingSource() ),
+					deadline.checkRemainingTimeMillis() );
+			// The timeout starts from the given baseline, not from when the collector is first used.
+			// This is important because some collectors are applied during a second search.
+			wrapped.setBaseline( timeoutManager.timeoutBaseline() );
+			return new TimeoutTerminatingCollector( wrapped );
+		}
+		return collector;
+	}
+
+	private CollectionTerminatedException onTimeout(TimeLimitingCollector.TimeExceededException e) {
+		timeoutException.compareAndSet( null, e );
+		return new CollectionTerminatedException();
+	}
+
+	/**
+	 * The collector for a single slice of the index.
+	 */
+	public static final class SliceCollector extends FilterCollector {
+		private final Map<CollectorKey<?>, Collector> components;
+
+		private SliceCollector(Collector composed, Map<CollectorKey<?>, Collector> components) {
+			super( composed );
+			this.components = components;
+		}
+	}
+
+	/**
+	 * Turns timeouts into an early termination of collection,
+	 * so that the search stops without losing what was already collected,
+	 * even when slices are searched in other threads.
+	 */
+	private final class TimeoutTerminatingCollector extends FilterCollector {
+		private TimeoutTerminatingCollector(TimeLimitingCollector in) {
+			super( in );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				throw onTimeout( e );
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						throw onTimeout( e );
+					}
+				}
+
+				@Override
+				public DocIdSetIterator competitiveIterator() throws IOException {
+					return in.competitiveIterator();
+				}
+			};
+		}
+	}
+
+	public static class Builder {
+
+		private final CollectorExecutionContext executionContext;
+		private final TimeoutManager timeoutManager;
+
+		private final Map<CollectorKey<?>, CollectorManager<?, ?>> components = new LinkedHashMap<>();
+
+		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
+			this.executionContext = executionContext;
+			this.timeoutManager = timeoutManager;
+		}
+
+		public <C extends Collector, T> void add(CollectorKey<T> key, CollectorManager<C, ? extends T> manager) {
+			components.put( key, manager );
+		}
+
+		public void addAll(Set<CollectorFactory<?, ?>> collectorFactories) throws IOException {
+			for ( CollectorFactory<?, ?> collectorFactory : collectorFactories ) {
+				components.put( collectorFactory.getCollectorKey(),
+						collectorFactory.createCollectorManager( executionContext ) );
+			}
+		}
+
+		public CollectorManagerSet build() {
+			return new CollectorManagerSet( components, timeoutManager );
+		}
+	}
+
+}
@@ -7,26 +7,30 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TotalHitCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -34,8 +38,10 @@
  */
 public final class ExtractionRequirements {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final boolean requireScore;
-	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
+	private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsSourceFactoryOrNull;
 
 	private ExtractionRequirements(Builder builder) {
@@ -44,8 +50,12 @@ private ExtractionRequirements(Builder builder) {
 		storedFieldsSourceFactoryOrNull = builder.createStoredFieldsSourceFactoryOrNull();
 	}
 
+	public boolean isScoreRequired() {
+		return requireScore;
+	}
+
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			IndexReaderMetadataResolver metadataResolver, ScoreDoc after, int maxDocs, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,19 +73,22 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean hasTopDocs = false;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, maxDocs );
 
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
+		CollectorManagerSet.Builder collectorsForAllMatchingDocsBuilder =
+				new CollectorManagerSet.Builder( executionContext, timeoutManager );
 
 		if ( maxDocs > 0 ) {
+			// We use shared collector managers so that, when the search is executed in parallel,
+			// collectors for different slices can skip non-competitive hits based on the hits collected by other slices.
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+						TopScoreDocCollector.createSharedManager( maxDocs, after, totalHitCountThreshold ) );
 			}
 			else {
 				if ( requireScore ) {
@@ -86,21 +99,23 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+						TopFieldCollector.createSharedManager( sort, maxDocs, toFieldDocAfter( sort, after ),
+								totalHitCountThreshold ) );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			hasTopDocs = true;
 		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
-			// Normally the topDocsCollector collects the total hit count,
+		if ( !hasTopDocs && totalHitCountThreshold > 0 ) {
+			// Normally the top docs collector collects the total hit count,
 			// but if it's not there and not all docs are matched, we need a separate collector.
 			// Note that adding this collector can have a significant cost in some situations
 			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY,
+					TotalHitCountCollectorManager.INSTANCE );
 		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		CollectorManagerSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
 		return new LuceneCollectors(
 				metadataResolver,
@@ -114,6 +129,16 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		);
 	}
 
+	private static FieldDoc toFieldDocAfter(Sort sort, ScoreDoc after) {
+		if ( after == null ) {
+			return null;
+		}
+		if ( !( after instanceof FieldDoc ) || ( (FieldDoc) after ).fields.length != sort.getSort().length ) {
+			throw log.searchCursorSortMismatch();
+		}
+		return (FieldDoc) after;
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -137,7 +162,7 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
-		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
@@ -147,7 +172,7 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
-		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForAllMatchingDocs(CollectorFactory<C, T> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
 
@@ -8,12 +8,14 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.common.timing.Deadline;
@@ -22,7 +24,6 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -30,16 +31,14 @@
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopFieldDocs;
-import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -50,18 +49,19 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorManagerSet collectorManagersForAllMatchingDocs;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull;
 
 	private final TimeoutManager timeoutManager;
 
+	private CollectorSet collectorsForAllMatchingDocs;
 	private SearchResultTotal resultTotal;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
 			Query rewrittenLuceneQuery, Query originalLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			CollectorManagerSet collectorManagersForAllMatchingDocs,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
@@ -70,7 +70,7 @@ public class LuceneCollectors {
 		this.originalLuceneQuery = originalLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorManagersForAllMatchingDocs = collectorManagersForAllMatchingDocs;
 		this.storedFieldsValuesDelegateOrNull = storedFieldsValuesDelegateOrNull;
 		this.timeoutManager = timeoutManager;
 	}
@@ -78,6 +78,9 @@ public class LuceneCollectors {
 	/**
 	 * Phase 1: collect matching docs.
 	 * Collects the total hit count, aggregations, and top docs.
+	 * <p>
+	 * If the index searcher has an executor, collection happens in parallel over each slice of the index,
+	 * and the results of each slice are reduced afterwards.
 	 *
 	 * @param offset The index of the first collected top doc.
 	 * @param limit The maximum amount of top docs to collect.
@@ -87,48 +90,52 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
 			resultTotal = SimpleSearchResultTotal.lowerBound( 0L );
 			// in case of timeout before the query execution, skip the query
+			collectorsForAllMatchingDocs = collectorManagersForAllMatchingDocs.collectNothing();
 			return;
 		}
 
-		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
-			}
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
-		}
+		collectorsForAllMatchingDocs = collectorManagersForAllMatchingDocs.collect( indexSearcher, rewrittenLuceneQuery );
+		handleTimeoutIfNecessary( collectorManagersForAllMatchingDocs );
 
 		processCollectedMatchingDocs( offset, limit );
 	}
 
+	/**
+	 * Phase 1, alternative: skip collection of matching docs and use the results of a previous, identical collection.
+	 * <p>
+	 * Collectors for all matching docs are not available after calling this method,
+	 * so aggregations must have been extracted previously as well.
+	 *
+	 * @param resultTotal The total hit count collected previously.
+	 * @param topDocs The top docs collected previously, or {@code null}.
+	 */
+	public void reuseMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+	}
+
 	private void processCollectedMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( rewrittenLuceneQuery instanceof MatchAllDocsQuery ) {
 			// We can compute the total hit count in constant time.
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
 		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
+			Integer totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCount != null ) {
 				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
+				resultTotal = SimpleSearchResultTotal.of( totalHitCount, exact );
 			}
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs allTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( allTopDocs == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		extractTopDocs( allTopDocs, offset, limit );
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -152,6 +159,9 @@ public CollectorSet getCollectorsForAllMatchingDocs() {
 
 	/**
 	 * Phase 2: collect data relative to top docs.
+	 * <p>
+	 * This phase is always executed in the calling thread,
+	 * since it involves few documents and relies on non-thread-safe resources such as stored field readers.
 	 *
 	 * @param collectorFactory The factory to create a collector able to retrieve data for all top docs.
 	 * @param startInclusive The index of the first top doc whose data to collect.
@@ -163,22 +173,17 @@ public CollectorSet getCollectorsForAllMatchingDocs() {
 	public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorFactory,
 			int startInclusive, int endExclusive) throws IOException {
 		List<T> extractedData = new ArrayList<>( endExclusive - startInclusive );
-		try {
-			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
-			ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-			CollectorSet collectorsForTopDocs = buildTopDocsDataCollectors( collectorFactory );
-			indexSearcher.search( topDocsQuery, collectorsForTopDocs.getComposed() );
-			TopDocsDataCollector<T> topDocsDataCollector = collectorsForTopDocs.get( collectorFactory );
-			for ( int i = startInclusive; i < endExclusive; i++ ) {
-				extractedData.add( topDocsDataCollector.get( scoreDocs[i].doc ) );
-			}
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
+		CollectorManagerSet collectorManagersForTopDocs =
+				buildTopDocsDataCollectors( collectorFactory, startInclusive, endExclusive );
+		CollectorSet collectorsForTopDocs = collectorManagersForTopDocs.collectSequentially( indexSearcher, topDocsQuery );
+		if ( handleTimeoutIfNecessary( collectorManagersForTopDocs ) ) {
+			return extractedData;
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
+		TopDocsDataCollector<T> topDocsDataCollector = collectorsForTopDocs.get( collectorFactory );
+		for ( int i = startInclusive; i < endExclusive; i++ ) {
+			extractedData.add( topDocsDataCollector.get( i ) );
 		}
 		return extractedData;
 	}
@@ -191,27 +196,38 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( offset >= topDocsCollector.getTotalHits() ) {
-			// Hack.
-			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
-			// and returns a TopDocs instance with no ScoreDocs (correct)
-			// and a total hit count set to 0 (not always correct).
-			// Also, we cannot reconstruct the total hit count from just the collector
-			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
-			// So we get just one topDoc, and infer everything from there.
-			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
-					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
-					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
-			return;
+	/**
+	 * @return {@code true} if the search timed out, {@code false} otherwise.
+	 */
+	private boolean handleTimeoutIfNecessary(CollectorManagerSet collectorManagers) {
+		TimeLimitingCollector.TimeExceededException e = collectorManagers.timeoutExceptionOrNull();
+		if ( e == null ) {
+			return false;
+		}
+		Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline == null ) {
+			throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
 		}
+		deadline.forceTimeout( e );
+		return true;
+	}
+
+	private void extractTopDocs(TopDocs allTopDocs, int offset, Integer limit) {
+		ScoreDoc[] allScoreDocs = allTopDocs.scoreDocs;
+		int startInclusive = Math.min( offset, allScoreDocs.length );
+		int endExclusive = limit == null ? allScoreDocs.length : Math.min( offset + limit, allScoreDocs.length );
 
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+		if ( startInclusive == 0 && endExclusive == allScoreDocs.length ) {
+			topDocs = allTopDocs;
+		}
+		else if ( allTopDocs instanceof TopFieldDocs ) {
+			FieldDoc[] fieldDocs = new FieldDoc[endExclusive - startInclusive];
+			System.arraycopy( allScoreDocs, startInclusive, fieldDocs, 0, fieldDocs.length );
+			topDocs = new TopFieldDocs( allTopDocs.totalHits, fieldDocs, ( (TopFieldDocs) allTopDocs ).fields );
 		}
 		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+			topDocs = new TopDocs( allTopDocs.totalHits,
+					Arrays.copyOfRange( allScoreDocs, startInclusive, endExclusive ) );
 		}
 	}
 
@@ -230,18 +246,20 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> CollectorSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory<T> collectorFactory) throws IOException {
+	private <T> CollectorManagerSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory<T> collectorFactory,
+			int startInclusive, int endExclusive) throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
 				metadataResolver, indexSearcher,
 				rewrittenLuceneQuery,
 				originalLuceneQuery,
-				topDocs,
+				topDocs, startInclusive, endExclusive,
 				storedFieldsValuesDelegateOrNull
 		);
 
-		CollectorSet.Builder collectorForTopDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
-		collectorForTopDocsBuilder.add( collectorFactory, collectorFactory.create( executionContext ) );
+		CollectorManagerSet.Builder collectorForTopDocsBuilder =
+				new CollectorManagerSet.Builder( executionContext, timeoutManager );
+		collectorForTopDocsBuilder.add( collectorFactory,
+				new TopDocsDataCollectorManager<>( collectorFactory, executionContext ) );
 		return collectorForTopDocsBuilder.build();
 	}
 }
@@ -6,21 +6,43 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.apache.lucene.search.Query;
+
 public class PredicateRequestContext {
 
 	private static final PredicateRequestContext ROOT = new PredicateRequestContext( null );
 
 	private final String nestedPath;
+	private final Query rootFilter;
 
 	public PredicateRequestContext(String nestedPath) {
+		this( nestedPath, null );
+	}
+
+	private PredicateRequestContext(String nestedPath, Query rootFilter) {
 		this.nestedPath = nestedPath;
+		this.rootFilter = rootFilter;
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
 
+	/**
+	 * @return The filter that will be applied to the root documents matched by the search query
+	 * (main documents only, routing, tenant, ...), or {@code null}.
+	 * Predicates that select a fixed number of documents, such as knn predicates,
+	 * need to apply it themselves, otherwise they may select documents that will be filtered out.
+	 */
+	public Query getRootFilter() {
+		return rootFilter;
+	}
+
 	public static PredicateRequestContext root() {
 		return ROOT;
 	}
+
+	public static PredicateRequestContext root(Query rootFilter) {
+		return rootFilter == null ? ROOT : new PredicateRequestContext( null, rootFilter );
+	}
 }
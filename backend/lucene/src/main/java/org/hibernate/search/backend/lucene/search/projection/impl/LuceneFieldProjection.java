@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
@@ -16,7 +18,9 @@
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -27,8 +31,10 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 
 /**
@@ -45,23 +51,34 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, F> decodeFunction;
+	private final LongFunction<F> docValuesDecodeFunctionOrNull;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
 	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.codec::decode, builder.docValuesDecodeFunctionOrNull(),
+				builder.converter, accumulatorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
 			LuceneSearchIndexValueFieldContext<?> field,
 			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, null, converter, accumulatorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, F> decodeFunction, LongFunction<F> docValuesDecodeFunctionOrNull,
+			ProjectionConverter<F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
 		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
 				? field.closestMultiValuedParentAbsolutePath() : null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesDecodeFunctionOrNull = docValuesDecodeFunctionOrNull;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -82,7 +99,11 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesDecodeFunctionOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
+		// Otherwise, values are read from doc values,
+		// which is much cheaper than loading (and decompressing) the stored fields of each hit.
 		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), accumulatorProvider.get() );
 	}
 
@@ -109,9 +130,38 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesDecodeFunctionOrNull != null ) {
+				return new DocValuesBasedValues( accumulator, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesBasedValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private SortedNumericDocValues currentLeafValues;
+
+			public DocValuesBasedValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = DocValues.getSortedNumeric( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						F decoded = docValuesDecodeFunctionOrNull.apply( currentLeafValues.nextValue() );
+						accumulated = accumulator.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -209,5 +259,20 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 			}
 			return new LuceneFieldProjection<>( this, accumulatorProvider );
 		}
+
+		private LongFunction<F> docValuesDecodeFunctionOrNull() {
+			// Doc values don't preserve the order of values, so we can only use them for single-valued fields.
+			// A single-valued field in a multi-valued (flattened) object may still have multiple values per document.
+			if ( field.multiValuedInRoot() || !field.type().hasLosslessDocValues() ) {
+				return null;
+			}
+			return docValuesDecodeFunction( (AbstractLuceneNumericFieldCodec<F, ?>) codec );
+		}
+
+		private static <F, E extends Number> LongFunction<F> docValuesDecodeFunction(
+				AbstractLuceneNumericFieldCodec<F, E> codec) {
+			LuceneNumericDomain<E> domain = codec.getDomain();
+			return value -> codec.decode( domain.sortedDocValueToTerm( value ) );
+		}
 	}
 }
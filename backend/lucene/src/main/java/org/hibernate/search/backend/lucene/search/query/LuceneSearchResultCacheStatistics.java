@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the search result cache of a Lucene backend.
+ * <p>
+ * Values are updated live: each call returns the current value.
+ *
+ * @see LuceneBackendSettings#QUERY_RESULT_CACHE_MAX_ENTRIES
+ */
+@Incubating
+public interface LuceneSearchResultCacheStatistics {
+
+	/**
+	 * @return The number of search queries whose results were retrieved from the cache
+	 * since the backend started.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of search queries whose results could have been cached,
+	 * but were not found in the cache, since the backend started.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of results evicted from the cache to make room for new results
+	 * since the backend started.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return The number of results currently held in the cache.
+	 */
+	int size();
+
+}
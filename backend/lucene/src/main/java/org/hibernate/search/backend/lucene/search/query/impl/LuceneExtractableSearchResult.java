@@ -39,12 +39,22 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final TimeoutManager timeoutManager;
+	private final Map<AggregationKey<?>, ?> extractedAggregationsOrNull;
 
 	public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
 			IndexSearcher indexSearcher,
 			LuceneCollectors luceneCollectors,
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager) {
+		this( requestContext, indexSearcher, luceneCollectors, rootExtractor, aggregations, timeoutManager, null );
+	}
+
+	LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestContext,
+			IndexSearcher indexSearcher,
+			LuceneCollectors luceneCollectors,
+			LuceneSearchProjection.Extractor<?, H> rootExtractor,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, TimeoutManager timeoutManager,
+			Map<AggregationKey<?>, ?> extractedAggregationsOrNull) {
 		this.requestContext = requestContext;
 		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( requestContext.getSessionContext() );
 		this.indexSearcher = indexSearcher;
@@ -52,6 +62,7 @@ public LuceneExtractableSearchResult(LuceneSearchQueryRequestContext requestCont
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.timeoutManager = timeoutManager;
+		this.extractedAggregationsOrNull = extractedAggregationsOrNull;
 	}
 
 	public LuceneLoadableSearchResult<H> extract() throws IOException {
@@ -73,8 +84,14 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		ProjectionHitMapper<?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
 
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations();
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( extractedAggregationsOrNull != null ) {
+			// Aggregations were extracted previously, e.g. for a cached result.
+			extractedAggregations = extractedAggregationsOrNull;
+		}
+		else {
+			extractedAggregations = aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				fromDocumentValueConvertContext, rootExtractor,
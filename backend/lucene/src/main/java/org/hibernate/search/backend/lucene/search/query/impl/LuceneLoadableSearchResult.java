@@ -68,10 +68,33 @@
 		this.timeoutManager = timeoutManager;
 	}
 
+	SearchResultTotal total() {
+		return resultTotal;
+	}
+
+	TopDocs topDocs() {
+		return topDocs;
+	}
+
+	Map<AggregationKey<?>, ?> extractedAggregations() {
+		return extractedAggregations;
+	}
+
+	boolean timedOut() {
+		return timedOut;
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
+		return transform( projectionHitMapper.loadBlocking( timeoutManager.hardDeadlineOrNull() ) );
+	}
+
+	LuceneSearchResult<H> loadBlockingInDedicatedContext() {
+		return transform( projectionHitMapper.loadBlockingInDedicatedContext( timeoutManager.hardDeadlineOrNull() ) );
+	}
+
+	private LuceneSearchResult<H> transform(LoadingResult<?> loadingResult) {
 		ProjectionTransformContext transformContext = new ProjectionTransformContext(
 				fromDocumentValueConvertContext );
-		LoadingResult<?> loadingResult = projectionHitMapper.loadBlocking( timeoutManager.hardDeadlineOrNull() );
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -0,0 +1,152 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchItem;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes the queries of a multi-search against a single snapshot of each targeted set of indexes:
+ * queries targeting the same indexes (and routing keys) share the same index reader.
+ * <p>
+ * Searches are executed sequentially in the calling thread,
+ * or in parallel in the threads dedicated to asynchronous searches if so configured.
+ * Entity loading always happens sequentially in the calling thread, after all searches are done.
+ */
+public final class LuceneMultiSearchExecutor implements MultiSearchExecutor {
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final boolean parallel;
+
+	public LuceneMultiSearchExecutor(LuceneSyncWorkOrchestrator queryOrchestrator, boolean parallel) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.parallel = parallel;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[parallel=" + parallel + "]";
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<MultiSearchItem> items) {
+		List<Execution<?>> executions = new ArrayList<>( items.size() );
+		for ( MultiSearchItem item : items ) {
+			executions.add( execution( (LuceneSearchQueryImpl<?>) item.query(), item.offset(), item.limit() ) );
+		}
+
+		// The execution that opened each index reader, by index reader key.
+		Map<List<?>, Execution<?>> openers = new LinkedHashMap<>();
+		try {
+			for ( Execution<?> execution : executions ) {
+				Execution<?> opener = openers.get( execution.query.indexReaderKey() );
+				if ( opener == null ) {
+					execution.indexReader = execution.query.openIndexReader();
+					openers.put( execution.query.indexReaderKey(), execution );
+				}
+				else {
+					execution.indexReader = opener.indexReader;
+				}
+			}
+			if ( parallel && executions.size() > 1 ) {
+				searchInParallel( executions );
+			}
+			else {
+				for ( Execution<?> execution : executions ) {
+					execution.search();
+				}
+			}
+		}
+		finally {
+			for ( Execution<?> opener : openers.values() ) {
+				opener.query.closeIndexReader( opener.indexReader );
+			}
+		}
+
+		// WARNING: loading must run in the user thread: the loading context must not be used concurrently.
+		List<SearchResult<?>> results = new ArrayList<>( executions.size() );
+		for ( Execution<?> execution : executions ) {
+			results.add( execution.load() );
+		}
+		return results;
+	}
+
+	private void searchInParallel(List<Execution<?>> executions) {
+		List<CompletableFuture<?>> futures = new ArrayList<>( executions.size() - 1 );
+		for ( Execution<?> execution : executions.subList( 0, executions.size() - 1 ) ) {
+			futures.add( queryOrchestrator.executeAsync( () -> {
+				execution.search();
+				return null;
+			} ) );
+		}
+		// Use the calling thread for the last search, since it would be idle otherwise.
+		Throwable throwable = null;
+		try {
+			executions.get( executions.size() - 1 ).search();
+		}
+		catch (RuntimeException | Error e) {
+			throwable = e;
+		}
+		// Wait for all searches to complete, even on failure: index readers must not be closed while in use.
+		for ( CompletableFuture<?> future : futures ) {
+			try {
+				Futures.unwrappedExceptionJoin( future );
+			}
+			catch (RuntimeException | Error e) {
+				if ( throwable == null ) {
+					throwable = e;
+				}
+				else {
+					throwable.addSuppressed( e );
+				}
+			}
+		}
+		if ( throwable instanceof RuntimeException ) {
+			throw (RuntimeException) throwable;
+		}
+		else if ( throwable != null ) {
+			throw (Error) throwable;
+		}
+	}
+
+	private static <H> Execution<H> execution(LuceneSearchQueryImpl<H> query, Integer offset, Integer limit) {
+		return new Execution<>( query, offset, limit );
+	}
+
+	private static final class Execution<H> {
+		private final LuceneSearchQueryImpl<H> query;
+		private final Integer offset;
+		private final Integer limit;
+
+		private HibernateSearchMultiReader indexReader;
+		private LuceneLoadableSearchResult<H> loadableResult;
+
+		private Execution(LuceneSearchQueryImpl<H> query, Integer offset, Integer limit) {
+			this.query = query;
+			this.offset = offset;
+			this.limit = limit;
+		}
+
+		void search() {
+			loadableResult = query.multiSearch( offset, limit, indexReader );
+		}
+
+		SearchResult<H> load() {
+			return query.multiSearchLoad( loadableResult );
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Base64;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Converts the last hit of a page to an opaque cursor and back,
+ * so that the next page can be collected with {@code TopFieldCollector}/{@code TopScoreDocCollector} "after" a given hit.
+ * <p>
+ * The cursor contains the document ID, the score and the sort values of the hit.
+ * <p>
+ * Lucene breaks ties between hits with equal sort values using the document ID,
+ * which is global to the index reader and changes as soon as the index changes (new segments, merges, ...).
+ * Thus the tiebreaker is only consistent as long as the index is not modified between two pages:
+ * otherwise, hits with the same sort values as the last hit of a page may be skipped or repeated.
+ * Documents do not have any stable tiebreaker that we could append to the sort,
+ * since identifiers are only stored in binary doc values, which cannot be sorted on,
+ * so users need a unique sort field as the last sort to get fully consistent pages.
+ */
+final class LuceneSearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_INT = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_FLOAT = 3;
+	private static final byte TYPE_DOUBLE = 4;
+	private static final byte TYPE_BYTES_REF = 5;
+
+	private LuceneSearchCursor() {
+	}
+
+	static String encode(ScoreDoc scoreDoc) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			out.writeInt( scoreDoc.doc );
+			out.writeFloat( scoreDoc.score );
+			if ( scoreDoc instanceof FieldDoc ) {
+				Object[] fields = ( (FieldDoc) scoreDoc ).fields;
+				out.writeInt( fields.length );
+				for ( Object field : fields ) {
+					writeValue( out, field );
+				}
+			}
+			else {
+				// Not a FieldDoc
+				out.writeInt( -1 );
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+	}
+
+	static ScoreDoc decode(String cursor) {
+		try ( DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream( Base64.getUrlDecoder().decode( cursor ) ) ) ) {
+			byte version = in.readByte();
+			if ( version != FORMAT_VERSION ) {
+				throw new IllegalArgumentException( "Unsupported cursor format: " + version );
+			}
+			int doc = in.readInt();
+			float score = in.readFloat();
+			int fieldCount = in.readInt();
+			if ( fieldCount < 0 ) {
+				return new ScoreDoc( doc, score );
+			}
+			Object[] fields = new Object[fieldCount];
+			for ( int i = 0; i < fieldCount; i++ ) {
+				fields[i] = readValue( in );
+			}
+			if ( in.available() > 0 ) {
+				throw new IllegalArgumentException( "Unexpected trailing bytes" );
+			}
+			return new FieldDoc( doc, score, fields );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.invalidSearchCursor( cursor, e.getMessage(), e );
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( TYPE_NULL );
+		}
+		else if ( value instanceof Integer ) {
+			out.writeByte( TYPE_INT );
+			out.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			out.writeByte( TYPE_LONG );
+			out.writeLong( (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			out.writeByte( TYPE_FLOAT );
+			out.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Double ) {
+			out.writeByte( TYPE_DOUBLE );
+			out.writeDouble( (Double) value );
+		}
+		else if ( value instanceof BytesRef ) {
+			BytesRef bytesRef = (BytesRef) value;
+			out.writeByte( TYPE_BYTES_REF );
+			out.writeInt( bytesRef.length );
+			out.write( bytesRef.bytes, bytesRef.offset, bytesRef.length );
+		}
+		else {
+			throw new AssertionFailure( "Unexpected sort value type: " + value.getClass() );
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch ( type ) {
+			case TYPE_NULL:
+				return null;
+			case TYPE_INT:
+				return in.readInt();
+			case TYPE_LONG:
+				return in.readLong();
+			case TYPE_FLOAT:
+				return in.readFloat();
+			case TYPE_DOUBLE:
+				return in.readDouble();
+			case TYPE_BYTES_REF:
+				int length = in.readInt();
+				if ( length < 0 || length > in.available() ) {
+					throw new IllegalArgumentException( "Invalid sort value length: " + length );
+				}
+				byte[] bytes = new byte[length];
+				in.readFully( bytes );
+				return new BytesRef( bytes );
+			default:
+				throw new IllegalArgumentException( "Unknown sort value type: " + type );
+		}
+	}
+}
@@ -41,12 +41,12 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
@@ -59,6 +59,7 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final MultiSearchExecutor multiSearchExecutor;
 
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -66,8 +67,9 @@
 
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<H> rootProjection;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
-	private Query luceneQuery;
+	private LuceneSearchPredicate lucenePredicate;
 	private List<SortField> sortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
@@ -80,12 +82,15 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			MultiSearchExecutor multiSearchExecutor,
 			LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
-			LuceneSearchProjection<H> rootProjection) {
+			LuceneSearchProjection<H> rootProjection,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
 
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -93,12 +98,12 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
 	public void predicate(SearchPredicate predicate) {
-		LuceneSearchPredicate lucenePredicate = LuceneSearchPredicate.from( scope, predicate );
-		this.luceneQuery = lucenePredicate.toQuery( PredicateRequestContext.root() );
+		this.lucenePredicate = LuceneSearchPredicate.from( scope, predicate );
 	}
 
 	@Override
@@ -204,27 +209,35 @@ public void collectSortFields(SortField[] sortFields) {
 	public LuceneSearchQuery<H> build() {
 		SearchLoadingContext<?> loadingContext = loadingContextBuilder.build();
 
-		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
-		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
+		List<Query> rootFilters = new ArrayList<>();
 		if ( scope.hasNestedDocuments() ) {
 			// HSEARCH-4018: this filter has a (small) cost, so we only add it if necessary.
-			luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
+			rootFilters.add( Queries.mainDocumentQuery() );
 		}
 		if ( !routingKeys.isEmpty() ) {
 			Query routingKeysQuery = Queries.anyTerm( MetadataFields.routingKeyFieldName(), routingKeys );
-			luceneQueryBuilder.add( routingKeysQuery, Occur.FILTER );
+			rootFilters.add( routingKeysQuery );
 		}
 
 		Query filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
 		if ( filter != null ) {
-			luceneQueryBuilder.add( filter, BooleanClause.Occur.FILTER );
+			rootFilters.add( filter );
+		}
+
+		// Predicates need to know about root filters, e.g. to select the k nearest neighbors among filtered documents only.
+		Query luceneQuery = lucenePredicate.toQuery( PredicateRequestContext.root( toRootFilter( rootFilters ) ) );
+
+		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
+		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
+		for ( Query rootFilter : rootFilters ) {
+			luceneQueryBuilder.add( rootFilter, Occur.FILTER );
 		}
 
 		Query definitiveLuceneQuery = luceneQueryBuilder.build();
 
 		Sort luceneSort = null;
 		if ( sortFields != null && !sortFields.isEmpty() ) {
-			luceneSort = new Sort( sortFields.toArray( new SortField[0] ) );
+			luceneSort = new Sort( toSortFieldsMatchingIndexSort( sortFields, scope.indexSortOrNull() ) );
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
@@ -274,11 +287,12 @@ public LuceneSearchQuery<H> build() {
 				rootExtractor,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				resultCacheOrNull
 		);
 
 		return new LuceneSearchQueryImpl<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, multiSearchExecutor, workFactory,
 				scope,
 				sessionContext,
 				loadingContext,
@@ -289,4 +303,47 @@ public LuceneSearchQuery<H> build() {
 				searcher, totalHitCountThreshold
 		);
 	}
+
+	/*
+	 * Lucene only stops collecting documents early in each segment when the query sort
+	 * is equal to the beginning of the index sort,
+	 * but field sorts rely on custom comparators and are thus never equal to index sort fields.
+	 * When the query sorts documents exactly like the beginning of the index sort,
+	 * we use equivalent native sort fields instead, so that Lucene can detect it.
+	 */
+	private static SortField[] toSortFieldsMatchingIndexSort(List<SortField> sortFields, Sort indexSortOrNull) {
+		SortField[] result = sortFields.toArray( new SortField[0] );
+		if ( indexSortOrNull == null || result.length > indexSortOrNull.getSort().length ) {
+			return result;
+		}
+		SortField[] indexSortFields = indexSortOrNull.getSort();
+		SortField[] nativeSortFields = new SortField[result.length];
+		for ( int i = 0; i < result.length; i++ ) {
+			SortField sortField = result[i];
+			SortField nativeSortField = null;
+			if ( sortField.getComparatorSource() instanceof LuceneFieldComparatorSource ) {
+				nativeSortField = ( (LuceneFieldComparatorSource) sortField.getComparatorSource() )
+						.toNativeSortFieldOrNull( sortField.getField(), sortField.getReverse() );
+			}
+			if ( !indexSortFields[i].equals( nativeSortField ) ) {
+				return result;
+			}
+			nativeSortFields[i] = nativeSortField;
+		}
+		return nativeSortFields;
+	}
+
+	private static Query toRootFilter(List<Query> rootFilters) {
+		if ( rootFilters.isEmpty() ) {
+			return null;
+		}
+		else if ( rootFilters.size() == 1 ) {
+			return rootFilters.get( 0 );
+		}
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for ( Query rootFilter : rootFilters ) {
+			builder.add( rootFilter, Occur.FILTER );
+		}
+		return builder.build();
+	}
 }
@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -26,15 +29,21 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchAfterResult;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchAfterResult;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 
@@ -44,6 +53,7 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final MultiSearchExecutor multiSearchExecutor;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchQueryIndexScope<?> scope;
 	private final BackendSessionContext sessionContext;
@@ -57,6 +67,7 @@
 	private TimeoutManager timeoutManager;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
+			MultiSearchExecutor multiSearchExecutor,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?> loadingContext,
@@ -66,6 +77,7 @@
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			Long totalHitCountThreshold) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
 		this.workFactory = workFactory;
 		this.scope = scope;
 		this.sessionContext = sessionContext;
@@ -105,6 +117,28 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return doFetch( offset, limit, false ).hits();
 	}
 
+	@Override
+	public SearchAfterResult<H> fetchAfter(String cursor, int limit) {
+		ScoreDoc after = cursor == null ? null : LuceneSearchCursor.decode( cursor );
+		timeoutManager.start();
+		int threshold = totalHitCountThreshold( true );
+		ReadWork<LuceneLoadableSearchResult<H>> work = after == null
+				? workFactory.search( searcher, 0, limit, threshold )
+				: workFactory.searchAfter( searcher, after, limit, threshold );
+		// WARNING: loading must run in the user thread, see doFetch.
+		LuceneSearchResult<H> result = doSubmit( work ).loadBlocking();
+		timeoutManager.stop();
+
+		ScoreDoc[] scoreDocs = result.topDocs() == null ? null : result.topDocs().scoreDocs;
+		String nextCursor = null;
+		// If we got fewer hits than requested, we know there are no more hits.
+		if ( limit > 0 && scoreDocs != null && scoreDocs.length == limit ) {
+			nextCursor = LuceneSearchCursor.encode( scoreDocs[scoreDocs.length - 1] );
+		}
+		return new SimpleSearchAfterResult<>( result.total(), result.hits(), nextCursor,
+				result.took(), result.timedOut() );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -114,6 +148,29 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return queryOrchestrator.executeAsync( () -> doFetchInAsyncThread( offset, limit, true ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return queryOrchestrator.executeAsync( () -> doFetchInAsyncThread( offset, limit, false ).hits() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.executeAsync( () -> {
+			timeoutManager.start();
+			try {
+				return doSubmit( workFactory.count( searcher ) ).longValue();
+			}
+			finally {
+				timeoutManager.stop();
+			}
+		} );
+	}
+
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
 		Set<String> indexNames = scope.hibernateSearchIndexNames();
@@ -164,6 +221,11 @@ public Sort luceneSort() {
 		return luceneSort;
 	}
 
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return multiSearchExecutor;
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		// replace the timeout manager on already created query instance
@@ -177,17 +239,65 @@ private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean tra
 				totalHitCountThreshold( trackTotalHitCount ) );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * since the loading context may rely on resources bound to that thread.
+				 * Async queries load in a dedicated context instead, see doFetchInAsyncThread.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	private LuceneSearchResult<H> doFetchInAsyncThread(Integer offset, Integer limit, boolean trackTotalHitCount) {
+		timeoutManager.start();
+		try {
+			ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
+					totalHitCountThreshold( trackTotalHitCount ) );
+			return doSubmit( work )
+					// We're not in the user thread: loading must not rely on resources of the user thread.
+					.loadBlockingInDedicatedContext();
+		}
+		finally {
+			timeoutManager.stop();
+		}
+	}
+
+	/**
+	 * @return A key identifying the index reader this query needs:
+	 * queries with the same key can be executed on the same index reader.
+	 */
+	List<?> indexReaderKey() {
+		return Arrays.asList( scope.hibernateSearchIndexNames(), routingKeys );
+	}
+
+	HibernateSearchMultiReader openIndexReader() {
+		return HibernateSearchMultiReader.open( scope.hibernateSearchIndexNames(), scope.indexes(), routingKeys );
+	}
+
+	void closeIndexReader(HibernateSearchMultiReader indexReader) {
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( scope.hibernateSearchIndexNames() ), e );
+		}
+	}
+
+	LuceneLoadableSearchResult<H> multiSearch(Integer offset, Integer limit, HibernateSearchMultiReader indexReader) {
+		timeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
+				totalHitCountThreshold( true ) );
+		return queryOrchestrator.submit( scope.hibernateSearchIndexNames(), scope.indexes(), routingKeys, work,
+				indexReader );
+	}
+
+	LuceneSearchResult<H> multiSearchLoad(LuceneLoadableSearchResult<H> loadableResult) {
+		// WARNING: loading must run in the user thread, see doFetch.
+		LuceneSearchResult<H> result = loadableResult.loadBlocking();
+		timeoutManager.stop();
+		return result;
+	}
+
 	private Explanation doExplain(String typeName, String id) {
 		timeoutManager.start();
 		Query filter = scope.filterOrNull( sessionContext.tenantIdentifier() );
@@ -27,6 +27,7 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
 
 public interface LuceneSearchQueryIndexScope<S extends LuceneSearchQueryIndexScope<?>>
 		extends SearchQueryIndexScope<S>, LuceneSearchIndexScope<S>,
@@ -59,4 +60,10 @@ <P> LuceneSearchQueryBuilder<P> select(BackendSessionContext sessionContext,
 
 	boolean hasNestedDocuments();
 
+	/**
+	 * @return The sort applied to documents within each segment of all targeted indexes,
+	 * or {@code null} if targeted indexes are not sorted, or not sorted the same way.
+	 */
+	Sort indexSortOrNull();
+
 }
@@ -0,0 +1,302 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResultCacheStatistics;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+
+/**
+ * A size-bounded, least-recently-used cache of search results,
+ * i.e. of the output of the first phase of search queries (top docs, total hit count and aggregations).
+ * <p>
+ * Entries are keyed on the query definition and on the segments of the index reader the query was executed on,
+ * so that any change to the index (new segments, deletions, ...) automatically leads to a cache miss.
+ * Stale entries are never hit again and simply end up being evicted.
+ * <p>
+ * The query definition is compared by value (Lucene query, sort, aggregations, ...),
+ * so that two equal queries built separately share the same cache entry.
+ * <p>
+ * The second phase of search queries (projections, loading) is never cached.
+ */
+public final class LuceneSearchResultCache implements LuceneSearchResultCacheStatistics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final Map<Key, Value> entries;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public LuceneSearchResultCache(String name, int maxEntries) {
+		this.name = name;
+		// Access order: the eldest entry is the least recently used one.
+		this.entries = new LinkedHashMap<Key, Value>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Value> eldest) {
+				if ( size() > maxEntries ) {
+					evictionCount.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "name=" + name
+				+ ", hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount
+				+ "]";
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.get();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public long evictionCount() {
+		return evictionCount.get();
+	}
+
+	@Override
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Clearing search result cache: %s", this );
+		}
+		entries.clear();
+	}
+
+	Value get(Key key) {
+		Value value;
+		synchronized (this) {
+			value = entries.get( key );
+		}
+		if ( value == null ) {
+			missCount.incrementAndGet();
+		}
+		else {
+			hitCount.incrementAndGet();
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Search result cache %s for %s; cache: %s", value == null ? "miss" : "hit", key, this );
+		}
+		return value;
+	}
+
+	synchronized void put(Key key, Value value) {
+		entries.put( key, value );
+	}
+
+	/**
+	 * @param indexReader The index reader the query is executed on.
+	 * @param luceneQuery The Lucene query.
+	 * @param luceneSort The Lucene sort, or {@code null}.
+	 * @param aggregations The aggregations requested by the query.
+	 * @param requireScore Whether top docs must hold scores.
+	 * @param offset The offset.
+	 * @param limit The limit, or {@code null}.
+	 * @param totalHitCountThreshold The total hit count threshold.
+	 * @return A cache key, or {@code null} if results for this index reader or these aggregations cannot be cached.
+	 */
+	static Key key(IndexReader indexReader, Query luceneQuery, Sort luceneSort,
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, boolean requireScore,
+			int offset, Integer limit, int totalHitCountThreshold) {
+		for ( LuceneSearchAggregation<?> aggregation : aggregations.values() ) {
+			if ( aggregation.resultDependsOnSession() ) {
+				// The result holds values converted for a given session: it can't be reused for another query.
+				return null;
+			}
+		}
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( leaves.size() );
+		for ( LeafReaderContext leaf : leaves ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				// This segment cannot tell us when it changes: we can't cache anything.
+				return null;
+			}
+			readerKeys.add( cacheHelper.getKey() );
+		}
+		return new Key( readerKeys, luceneQuery, luceneSort, aggregations, requireScore,
+				offset, limit, totalHitCountThreshold );
+	}
+
+	static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final Query luceneQuery;
+		private final Sort luceneSort;
+		private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+		private final boolean requireScore;
+		private final int offset;
+		private final Integer limit;
+		private final int totalHitCountThreshold;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheKey> readerKeys, Query luceneQuery, Sort luceneSort,
+				Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations, boolean requireScore,
+				int offset, Integer limit, int totalHitCountThreshold) {
+			this.readerKeys = readerKeys;
+			this.luceneQuery = luceneQuery;
+			this.luceneSort = luceneSort;
+			this.aggregations = aggregations;
+			this.requireScore = requireScore;
+			this.offset = offset;
+			this.limit = limit;
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			this.hashCode = Objects.hash( readerKeys, luceneQuery, luceneSort, aggregations, requireScore,
+					offset, limit, totalHitCountThreshold );
+		}
+
+		@Override
+		public String toString() {
+			return "Key["
+					+ "luceneQuery=" + luceneQuery
+					+ ", luceneSort=" + luceneSort
+					+ ", aggregations=" + aggregations.keySet()
+					+ ", offset=" + offset
+					+ ", limit=" + limit
+					+ "]";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& requireScore == other.requireScore
+					&& offset == other.offset
+					&& totalHitCountThreshold == other.totalHitCountThreshold
+					&& Objects.equals( limit, other.limit )
+					&& readerKeys.equals( other.readerKeys )
+					&& luceneQuery.equals( other.luceneQuery )
+					// Sort fields and aggregations are compared by value:
+					// see the equals() implementations of comparator sources and aggregations.
+					&& Objects.equals( luceneSort, other.luceneSort )
+					&& aggregations.equals( other.aggregations );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * A cached search result.
+	 * <p>
+	 * Only holds data that is independent of the index reader's lifecycle,
+	 * so that caching a result never prevents an index reader from being closed.
+	 * <p>
+	 * Top docs are mutable (score docs can be re-assigned, e.g. when merging shard results),
+	 * and so are the maps returned by bucket aggregations,
+	 * so they are copied when cached and again each time they are retrieved.
+	 */
+	static final class Value {
+		final SearchResultTotal resultTotal;
+		private final TopDocs topDocs;
+		private final Map<AggregationKey<?>, ?> extractedAggregations;
+
+		Value(SearchResultTotal resultTotal, TopDocs topDocs, Map<AggregationKey<?>, ?> extractedAggregations) {
+			this.resultTotal = resultTotal;
+			this.topDocs = topDocs == null ? null : copy( topDocs );
+			this.extractedAggregations = copy( extractedAggregations );
+		}
+
+		/**
+		 * @return A copy of the cached aggregation results.
+		 */
+		Map<AggregationKey<?>, ?> extractedAggregations() {
+			return copy( extractedAggregations );
+		}
+
+		/**
+		 * @return A copy of the cached top docs, or {@code null} if no top docs were cached.
+		 */
+		TopDocs topDocs() {
+			return topDocs == null ? null : copy( topDocs );
+		}
+
+		private static TopDocs copy(TopDocs topDocs) {
+			ScoreDoc[] scoreDocs = new ScoreDoc[topDocs.scoreDocs.length];
+			for ( int i = 0; i < scoreDocs.length; i++ ) {
+				scoreDocs[i] = copy( topDocs.scoreDocs[i] );
+			}
+			if ( topDocs instanceof TopFieldDocs ) {
+				return new TopFieldDocs( topDocs.totalHits, scoreDocs, ( (TopFieldDocs) topDocs ).fields );
+			}
+			else {
+				return new TopDocs( topDocs.totalHits, scoreDocs );
+			}
+		}
+
+		private static Map<AggregationKey<?>, ?> copy(Map<AggregationKey<?>, ?> extractedAggregations) {
+			Map<AggregationKey<?>, Object> copy = new LinkedHashMap<>();
+			for ( Map.Entry<AggregationKey<?>, ?> entry : extractedAggregations.entrySet() ) {
+				Object result = entry.getValue();
+				// Bucket aggregations return maps whose keys and values are immutable (terms, ranges, counts);
+				// other aggregations return immutable values (counts, numbers, field values).
+				if ( result instanceof Map ) {
+					result = new LinkedHashMap<>( (Map<?, ?>) result );
+				}
+				copy.put( entry.getKey(), result );
+			}
+			return copy;
+		}
+
+		private static ScoreDoc copy(ScoreDoc scoreDoc) {
+			if ( scoreDoc instanceof FieldDoc ) {
+				FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+				return new FieldDoc( fieldDoc.doc, fieldDoc.score,
+						fieldDoc.fields == null ? null : fieldDoc.fields.clone(), fieldDoc.shardIndex );
+			}
+			else {
+				return new ScoreDoc( scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex );
+			}
+		}
+	}
+}
@@ -28,6 +28,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -42,6 +43,7 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final LuceneSearchResultCache resultCacheOrNull;
 
 	private TimeoutManager timeoutManager;
 
@@ -49,12 +51,14 @@
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			LuceneSearchResultCache resultCacheOrNull) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -71,19 +75,48 @@ public String toString() {
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+		LuceneSearchResultCache.Key cacheKey = resultCacheOrNull == null ? null : LuceneSearchResultCache.key(
+				indexSearcher.getIndexReader(), requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+				aggregations, extractionRequirements.isScoreRequired(),
+				offset, limit, totalHitCountThreshold
+		);
+		if ( cacheKey == null ) {
+			return doSearch( indexSearcher, metadataResolver, offset, limit, null, totalHitCountThreshold ).extract();
+		}
+
+		LuceneSearchResultCache.Value cached = resultCacheOrNull.get( cacheKey );
+		if ( cached != null ) {
+			return reuseSearch( indexSearcher, metadataResolver, cached ).extract();
+		}
+
+		LuceneLoadableSearchResult<H> result =
+				doSearch( indexSearcher, metadataResolver, offset, limit, null, totalHitCountThreshold ).extract();
+		if ( !result.timedOut() ) {
+			// Only cache complete results.
+			resultCacheOrNull.put( cacheKey, new LuceneSearchResultCache.Value(
+					result.total(), result.topDocs(), result.extractedAggregations() ) );
+		}
+		return result;
+	}
+
+	@Override
+	public LuceneLoadableSearchResult<H> searchAfter(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int limit, int totalHitCountThreshold) throws IOException {
+		// No caching: the "after" hit is specific to a page, so cache hits would be unlikely.
+		return doSearch( indexSearcher, metadataResolver, 0, limit, after, totalHitCountThreshold ).extract();
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, int limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		return doSearch( indexSearcher, metadataResolver, offset, limit, null, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
+			int offset, Integer limit, ScoreDoc after, int totalHitCountThreshold) throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw log.offsetLimitExceedsMaxValue( offset, limit );
 		}
@@ -92,13 +125,26 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE ) ?
-				collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold ) :
-				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold );
+				collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after, maxDocs,
+						totalHitCountThreshold ) :
+				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, after, maxDocs,
+						totalHitCountThreshold );
 
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
 				rootExtractor, aggregations, timeoutManager );
 	}
 
+	private LuceneExtractableSearchResult<H> reuseSearch(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			LuceneSearchResultCache.Value cached) throws IOException {
+		// We won't collect matching docs, so we don't need collectors for top docs or the total hit count.
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, null, 0, 0 );
+		luceneCollectors.reuseMatchingDocs( cached.resultTotal, cached.topDocs() );
+
+		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+				rootExtractor, aggregations, timeoutManager, cached.extractedAggregations() );
+	}
+
 	@Override
 	public int count(IndexSearcher indexSearcher) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
@@ -130,26 +176,26 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
+			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, after,
 				maxDocs, totalHitCountThreshold );
 		luceneCollectors.collectMatchingDocs( offset, limit );
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
+			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -159,14 +205,15 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after,
+				exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
+			ScoreDoc after, int maxDocs, int totalHitCountThreshold) throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
+				metadataResolver, after, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
 
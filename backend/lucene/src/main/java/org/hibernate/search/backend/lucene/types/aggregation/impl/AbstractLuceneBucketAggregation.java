@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -30,6 +31,21 @@
 		this.absoluteFieldPath = builder.field.absolutePath();
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneBucketAggregation<?, ?> other = (AbstractLuceneBucketAggregation<?, ?>) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( indexNames, absoluteFieldPath );
+	}
+
 	@Override
 	public Set<String> getIndexNames() {
 		return indexNames;
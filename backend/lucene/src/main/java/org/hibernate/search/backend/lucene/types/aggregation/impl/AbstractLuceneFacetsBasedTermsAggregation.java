@@ -12,10 +12,10 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
-import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
@@ -26,7 +26,7 @@
 import org.hibernate.search.engine.search.common.ValueConvert;
 
 import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.Facets;
 import org.apache.lucene.facet.LabelAndValue;
 import org.apache.lucene.index.IndexReader;
 
@@ -53,9 +53,32 @@
 		this.minDocCount = builder.minDocCount;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?> other = (AbstractLuceneFacetsBasedTermsAggregation<?, ?, ?>) obj;
+		return order == other.order
+				&& maxTermCount == other.maxTermCount
+				&& minDocCount == other.minDocCount
+				&& fromFieldValueConverter.isCompatibleWith( other.fromFieldValueConverter );
+	}
+
+	@Override
+	public int hashCode() {
+		// Converters don't implement hashCode(): leave them out.
+		return 31 * super.hashCode() + Objects.hash( order, maxTermCount, minDocCount );
+	}
+
+	@Override
+	public boolean resultDependsOnSession() {
+		return dependsOnSession( fromFieldValueConverter );
+	}
+
 	@Override
 	public void request(AggregationRequestContext context) {
-		context.requireCollector( FacetsCollectorFactory.INSTANCE );
+		context.requireCollector( collectorFactory() );
 	}
 
 	@Override
@@ -93,8 +116,11 @@ public final Map<K, Long> extract(AggregationExtractContext context) throws IOEx
 		return toMap( convertContext, buckets );
 	}
 
-	abstract FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException;
+	/**
+	 * @return The factory for collectors counting matching documents for each term,
+	 * as documents are collected.
+	 */
+	abstract CollectorFactory<?, ? extends Facets> collectorFactory();
 
 	abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException;
@@ -106,9 +132,7 @@ abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int li
 	abstract F termToFieldValue(T key);
 
 	private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws IOException {
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
-
-		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
+		Facets facetCounts = context.getCollector( collectorFactory().getCollectorKey() );
 
 		/*
 		 * TODO HSEARCH-3666 What if the sort order is by term value?
@@ -121,7 +145,7 @@ private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws
 		 *  To improve on this, we would need to re-implement the facet collections.
 		 */
 		int limit = maxTermCount;
-		FacetResult facetResult = getTopChildren( context.getIndexReader(), facetsCollector, nestedDocsProvider, limit );
+		FacetResult facetResult = facetCounts.getTopChildren( limit, absoluteFieldPath );
 
 		List<Bucket<T>> buckets = new ArrayList<>();
 
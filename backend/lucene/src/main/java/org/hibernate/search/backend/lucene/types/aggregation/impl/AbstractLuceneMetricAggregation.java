@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+
+/**
+ * An aggregation computing a single value from the values of a field in all matched documents,
+ * in a single pass over doc values as documents are collected.
+ *
+ * @param <A> The type of the aggregation result.
+ */
+public abstract class AbstractLuceneMetricAggregation<A> extends AbstractLuceneNestableAggregation<A> {
+
+	private final Set<String> indexNames;
+	protected final String absoluteFieldPath;
+
+	AbstractLuceneMetricAggregation(AbstractBuilder<A> builder) {
+		super( builder );
+		this.indexNames = builder.scope.hibernateSearchIndexNames();
+		this.absoluteFieldPath = builder.field.absolutePath();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		AbstractLuceneMetricAggregation<?> other = (AbstractLuceneMetricAggregation<?>) obj;
+		return indexNames.equals( other.indexNames )
+				&& absoluteFieldPath.equals( other.absoluteFieldPath );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( indexNames, absoluteFieldPath );
+	}
+
+	@Override
+	public void request(AggregationRequestContext context) {
+		context.requireCollector( collectorFactory() );
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	/**
+	 * @return The factory for collectors computing the metric as documents are collected.
+	 */
+	abstract CollectorFactory<?, ?> collectorFactory();
+
+	public abstract static class AbstractBuilder<A> extends AbstractLuceneNestableAggregation.AbstractBuilder<A> {
+
+		public AbstractBuilder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<?> field) {
+			super( scope, field );
+		}
+
+		@Override
+		public abstract LuceneSearchAggregation<A> build();
+	}
+}
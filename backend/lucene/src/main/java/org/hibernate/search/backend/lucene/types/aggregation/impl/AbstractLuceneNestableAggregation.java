@@ -7,15 +7,16 @@
 package org.hibernate.search.backend.lucene.types.aggregation.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
-import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
 import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -26,6 +27,8 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ProjectionConverter<Object, Object> PASS_THROUGH = ProjectionConverter.passThrough( Object.class );
+
 	private final String nestedDocumentPath;
 	private final Query nestedFilter;
 
@@ -34,10 +37,40 @@
 		this.nestedFilter = builder.nestedFilter;
 	}
 
-	protected NestedDocsProvider createNestedDocsProvider(AggregationExtractContext context) {
+	/*
+	 * Aggregations are compared by value,
+	 * so that aggregations of two equal queries built separately are equal:
+	 * see the search result cache.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		AbstractLuceneNestableAggregation<?> other = (AbstractLuceneNestableAggregation<?>) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( nestedFilter, other.nestedFilter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, nestedFilter );
+	}
+
+	/*
+	 * Only pass-through converters are guaranteed to ignore the convert context, and thus the session.
+	 */
+	static boolean dependsOnSession(ProjectionConverter<?, ?> converter) {
+		return !converter.isCompatibleWith( PASS_THROUGH );
+	}
+
+	protected NestedDocsProvider createNestedDocsProvider() {
 		NestedDocsProvider nestedDocsProvider = null;
 		if ( nestedDocumentPath != null ) {
-			nestedDocsProvider = context.createNestedDocsProvider( nestedDocumentPath, nestedFilter );
+			nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, nestedFilter );
 		}
 		return nestedDocsProvider;
 	}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.LongCardinalityCollectorFactory;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+
+public class LuceneNumericCountDistinctValuesAggregation extends AbstractLuceneMetricAggregation<Long> {
+
+	private final boolean approximate;
+	private final LongCardinalityCollectorFactory collectorFactory;
+
+	private LuceneNumericCountDistinctValuesAggregation(Builder builder) {
+		super( builder );
+		this.approximate = builder.approximate;
+		this.collectorFactory = builder.codec.getDomain().createCardinalityCollectorFactory(
+				absoluteFieldPath, builder.approximate, createNestedDocsProvider()
+		);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericCountDistinctValuesAggregation other = (LuceneNumericCountDistinctValuesAggregation) obj;
+		return approximate == other.approximate;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Boolean.hashCode( approximate );
+	}
+
+	@Override
+	LongCardinalityCollectorFactory collectorFactory() {
+		return collectorFactory;
+	}
+
+	@Override
+	public Long extract(AggregationExtractContext context) {
+		return context.getCollector( collectorFactory.getCollectorKey() );
+	}
+
+	public static class Factory<F>
+			extends
+			AbstractLuceneCodecAwareSearchQueryElementFactory<CountDistinctValuesAggregationBuilder, F, AbstractLuceneNumericFieldCodec<F, ?>> {
+		public Factory(AbstractLuceneNumericFieldCodec<F, ?> codec) {
+			super( codec );
+		}
+
+		@Override
+		public CountDistinctValuesAggregationBuilder create(LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<F> field) {
+			return new Builder( codec, scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountDistinctValuesAggregationBuilder {
+
+		private final AbstractLuceneNumericFieldCodec<?, ?> codec;
+		private boolean approximate = false;
+
+		private Builder(AbstractLuceneNumericFieldCodec<?, ?> codec, LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<?> field) {
+			super( scope, field );
+			this.codec = codec;
+		}
+
+		@Override
+		public void approximate() {
+			this.approximate = true;
+		}
+
+		@Override
+		public LuceneNumericCountDistinctValuesAggregation build() {
+			return new LuceneNumericCountDistinctValuesAggregation( this );
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetricsCollectorFactory;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.search.aggregation.spi.CountValuesAggregationBuilder;
+
+public class LuceneNumericCountValuesAggregation extends AbstractLuceneMetricAggregation<Long> {
+
+	private final NumericMetricsCollectorFactory collectorFactory;
+
+	private LuceneNumericCountValuesAggregation(Builder builder) {
+		super( builder );
+		this.collectorFactory = builder.codec.getDomain().createMetricsCollectorFactory(
+				absoluteFieldPath, createNestedDocsProvider()
+		);
+	}
+
+	@Override
+	NumericMetricsCollectorFactory collectorFactory() {
+		return collectorFactory;
+	}
+
+	@Override
+	public Long extract(AggregationExtractContext context) {
+		return context.getCollector( collectorFactory.getCollectorKey() ).getCount();
+	}
+
+	public static class Factory<F>
+			extends
+			AbstractLuceneCodecAwareSearchQueryElementFactory<CountValuesAggregationBuilder, F, AbstractLuceneNumericFieldCodec<F, ?>> {
+		public Factory(AbstractLuceneNumericFieldCodec<F, ?> codec) {
+			super( codec );
+		}
+
+		@Override
+		public CountValuesAggregationBuilder create(LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<F> field) {
+			return new Builder( codec, scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountValuesAggregationBuilder {
+
+		private final AbstractLuceneNumericFieldCodec<?, ?> codec;
+
+		private Builder(AbstractLuceneNumericFieldCodec<?, ?> codec, LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<?> field) {
+			super( scope, field );
+			this.codec = codec;
+		}
+
+		@Override
+		public LuceneNumericCountValuesAggregation build() {
+			return new LuceneNumericCountValuesAggregation( this );
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetrics;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetricsCollectorFactory;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.engine.search.aggregation.spi.FieldMetricAggregationBuilder;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * @param <F> The type of field values.
+ * @param <E> The type of values in the numeric domain of the field.
+ * @param <K> The type of the aggregation result. It can be {@code F},
+ * a different type if value converters are used,
+ * or a wider numeric type ({@code Long}, {@code Double}) for sums and averages.
+ */
+public class LuceneNumericMetricAggregation<F, E extends Number, K>
+		extends AbstractLuceneMetricAggregation<K> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final AbstractLuceneNumericFieldCodec<F, E> codec;
+	private final LuceneNumericDomain<E> numericDomain;
+	private final NumericMetric metric;
+	private final ResultForm resultForm;
+	private final Class<K> resultType;
+	private final ProjectionConverter<F, ? extends K> fromFieldValueConverter;
+
+	private final NumericMetricsCollectorFactory collectorFactory;
+
+	private LuceneNumericMetricAggregation(Builder<F, E, K> builder) {
+		super( builder );
+		this.codec = builder.codec;
+		this.numericDomain = codec.getDomain();
+		this.metric = builder.metric;
+		this.resultForm = builder.resultForm;
+		this.resultType = builder.resultType;
+		this.fromFieldValueConverter = builder.fromFieldValueConverter;
+		this.collectorFactory = numericDomain.createMetricsCollectorFactory(
+				absoluteFieldPath, createNestedDocsProvider()
+		);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericMetricAggregation<?, ?, ?> other = (LuceneNumericMetricAggregation<?, ?, ?>) obj;
+		return metric == other.metric
+				&& resultForm == other.resultForm
+				&& resultType.equals( other.resultType )
+				&& numericDomain.equals( other.numericDomain )
+				&& ( fromFieldValueConverter == null
+						? other.fromFieldValueConverter == null
+						: other.fromFieldValueConverter != null
+								&& fromFieldValueConverter.isCompatibleWith( other.fromFieldValueConverter ) );
+	}
+
+	@Override
+	public int hashCode() {
+		// Converters don't implement hashCode(): leave them out.
+		return 31 * super.hashCode() + Objects.hash( metric, resultForm, resultType, numericDomain );
+	}
+
+	@Override
+	public boolean resultDependsOnSession() {
+		// Only field values are converted: sums and averages as long or double are not.
+		return resultForm == ResultForm.FIELD_VALUE && dependsOnSession( fromFieldValueConverter );
+	}
+
+	@Override
+	NumericMetricsCollectorFactory collectorFactory() {
+		return collectorFactory;
+	}
+
+	@Override
+	public K extract(AggregationExtractContext context) {
+		NumericMetrics metrics = context.getCollector( collectorFactory.getCollectorKey() );
+		try {
+			switch ( resultForm ) {
+				case LONG:
+					if ( metrics.hasLongSumOverflow() ) {
+						throw new ArithmeticException( "long overflow" );
+					}
+					return resultType.cast( metrics.getLongSum() );
+				case DOUBLE:
+					Double value = metric.computeAsDouble( numericDomain, metrics );
+					return value == null ? null : resultType.cast( codec.decodeAsDouble( value ) );
+				case FIELD_VALUE:
+				default:
+					return extractFieldValue( context, metrics );
+			}
+		}
+		catch (ArithmeticException e) {
+			throw log.cannotComputeNumericMetric( metric.name().toLowerCase( Locale.ROOT ), absoluteFieldPath,
+					e.getMessage(), e );
+		}
+	}
+
+	private K extractFieldValue(AggregationExtractContext context, NumericMetrics metrics) {
+		E term = metric.compute( numericDomain, metrics );
+		if ( term == null ) {
+			return null;
+		}
+		F value = codec.decode( term );
+		if ( NumericMetric.SUM == metric && !term.equals( codec.encode( value ) ) ) {
+			// Several field types share the same numeric domain:
+			// the sum of byte values, for example, may not fit into a byte.
+			throw new ArithmeticException( term + " is out of range for type " + value.getClass().getName() );
+		}
+		return fromFieldValueConverter.fromDocumentValue( value, context.fromDocumentValueConvertContext() );
+	}
+
+	/**
+	 * The form of the aggregation result.
+	 */
+	private enum ResultForm {
+		/**
+		 * A value of the field type, possibly converted.
+		 */
+		FIELD_VALUE,
+		/**
+		 * A long, for sums of integral fields.
+		 */
+		LONG,
+		/**
+		 * A double, for sums and averages.
+		 */
+		DOUBLE
+	}
+
+	public static class Factory<F>
+			extends
+			AbstractLuceneCodecAwareSearchQueryElementFactory<FieldMetricAggregationBuilder.TypeSelector, F, AbstractLuceneNumericFieldCodec<F, ?>> {
+		private final NumericMetric metric;
+
+		public Factory(AbstractLuceneNumericFieldCodec<F, ?> codec, NumericMetric metric) {
+			super( codec );
+			this.metric = metric;
+		}
+
+		@Override
+		public TypeSelector<?> create(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field) {
+			return new TypeSelector<>( codec, metric, scope, field );
+		}
+	}
+
+	private static class TypeSelector<F> implements FieldMetricAggregationBuilder.TypeSelector {
+		private final AbstractLuceneNumericFieldCodec<F, ?> codec;
+		private final NumericMetric metric;
+		private final LuceneSearchIndexScope<?> scope;
+		private final LuceneSearchIndexValueFieldContext<F> field;
+
+		private TypeSelector(AbstractLuceneNumericFieldCodec<F, ?> codec, NumericMetric metric,
+				LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field) {
+			this.codec = codec;
+			this.metric = metric;
+			this.scope = scope;
+			this.field = field;
+		}
+
+		@Override
+		public <K> Builder<F, ?, K> type(Class<K> expectedType, ValueConvert convert) {
+			if ( NumericMetric.AVG == metric ) {
+				// The DSL only accepts types that Double values can be assigned to.
+				return new Builder<>( codec, metric, scope, field, ResultForm.DOUBLE, expectedType, null );
+			}
+			if ( NumericMetric.SUM == metric ) {
+				if ( Long.class.equals( expectedType ) && isIntegral( field.type().valueClass() ) ) {
+					return new Builder<>( codec, metric, scope, field, ResultForm.LONG, expectedType, null );
+				}
+				if ( Double.class.equals( expectedType ) ) {
+					return new Builder<>( codec, metric, scope, field, ResultForm.DOUBLE, expectedType, null );
+				}
+			}
+			return new Builder<>( codec, metric, scope, field, ResultForm.FIELD_VALUE, expectedType,
+					field.type().projectionConverter( convert ).withConvertedType( expectedType, field ) );
+		}
+
+		private static boolean isIntegral(Class<?> valueClass) {
+			return Byte.class.equals( valueClass ) || Short.class.equals( valueClass )
+					|| Integer.class.equals( valueClass ) || Long.class.equals( valueClass );
+		}
+	}
+
+	private static class Builder<F, E extends Number, K> extends AbstractBuilder<K>
+			implements FieldMetricAggregationBuilder<K> {
+
+		private final AbstractLuceneNumericFieldCodec<F, E> codec;
+		private final NumericMetric metric;
+		private final ResultForm resultForm;
+		private final Class<K> resultType;
+		private final ProjectionConverter<F, ? extends K> fromFieldValueConverter;
+
+		private Builder(AbstractLuceneNumericFieldCodec<F, E> codec, NumericMetric metric,
+				LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field,
+				ResultForm resultForm, Class<K> resultType,
+				ProjectionConverter<F, ? extends K> fromFieldValueConverter) {
+			super( scope, field );
+			this.codec = codec;
+			this.metric = metric;
+			this.resultForm = resultForm;
+			this.resultType = resultType;
+			this.fromFieldValueConverter = fromFieldValueConverter;
+		}
+
+		@Override
+		public LuceneNumericMetricAggregation<F, E, K> build() {
+			return new LuceneNumericMetricAggregation<>( this );
+		}
+	}
+}
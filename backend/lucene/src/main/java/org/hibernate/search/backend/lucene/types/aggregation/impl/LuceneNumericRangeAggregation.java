@@ -12,18 +12,18 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.collector.impl.FacetsCollectorFactory;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueRangeFacetCounts;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongRangeCollectorFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
-import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -31,8 +31,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 
 /**
  * @param <F> The type of field values.
@@ -45,35 +43,44 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final AbstractLuceneNumericFieldCodec<F, E> codec;
-
 	private final List<Range<K>> rangesInOrder;
-	private final List<Range<E>> encodedRangesInOrder;
+	private final List<? extends Range<?>> encodedRangesInOrder;
+
+	private final LongRangeCollectorFactory collectorFactory;
 
 	private LuceneNumericRangeAggregation(Builder<F, E, K> builder) {
 		super( builder );
-		this.codec = builder.codec;
 		this.rangesInOrder = builder.rangesInOrder;
 		this.encodedRangesInOrder = builder.encodedRangesInOrder;
+		this.collectorFactory = builder.codec.getDomain().createRangeCollectorFactory(
+				absoluteFieldPath, builder.encodedRangesInOrder, createNestedDocsProvider()
+		);
 	}
 
 	@Override
-	public void request(AggregationRequestContext context) {
-		context.requireCollector( FacetsCollectorFactory.INSTANCE );
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericRangeAggregation<?, ?, ?> other = (LuceneNumericRangeAggregation<?, ?, ?>) obj;
+		// Ranges returned to the caller must be equal, but so must the ranges actually used to collect documents.
+		return rangesInOrder.equals( other.rangesInOrder )
+				&& encodedRangesInOrder.equals( other.encodedRangesInOrder );
 	}
 
 	@Override
-	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
-		LuceneNumericDomain<E> numericDomain = codec.getDomain();
-
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( rangesInOrder, encodedRangesInOrder );
+	}
 
-		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
+	@Override
+	public void request(AggregationRequestContext context) {
+		context.requireCollector( collectorFactory );
+	}
 
-		Facets facetsCount = numericDomain.createRangeFacetCounts(
-				absoluteFieldPath, facetsCollector, encodedRangesInOrder,
-				nestedDocsProvider
-		);
+	@Override
+	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
+		LongMultiValueRangeFacetCounts facetsCount = context.getCollector( collectorFactory.getCollectorKey() );
 
 		FacetResult facetResult = facetsCount.getTopChildren( rangesInOrder.size(), absoluteFieldPath );
 
@@ -11,7 +11,7 @@
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongTermsCollectorFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -21,9 +21,6 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -43,20 +40,21 @@
 
 	private final Comparator<E> termComparator;
 
+	private final LongTermsCollectorFactory collectorFactory;
+
 	private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 		super( builder );
 		this.codec = builder.codec;
 		this.numericDomain = codec.getDomain();
 		this.termComparator = numericDomain.createComparator();
+		this.collectorFactory = numericDomain.createTermsCollectorFactory(
+				absoluteFieldPath, createNestedDocsProvider()
+		);
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
-		Facets facetCounts = numericDomain.createTermsFacetCounts(
-				absoluteFieldPath, facetsCollector, nestedDocsProvider
-		);
-		return facetCounts.getTopChildren( limit, absoluteFieldPath );
+	LongTermsCollectorFactory collectorFactory() {
+		return collectorFactory;
 	}
 
 	@Override
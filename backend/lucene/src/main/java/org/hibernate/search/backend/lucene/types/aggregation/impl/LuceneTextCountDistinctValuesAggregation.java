@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.TextCardinalityCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+
+public class LuceneTextCountDistinctValuesAggregation extends AbstractLuceneMetricAggregation<Long> {
+
+	private final boolean approximate;
+	private final TextCardinalityCollectorFactory collectorFactory;
+
+	private LuceneTextCountDistinctValuesAggregation(Builder builder) {
+		super( builder );
+		this.approximate = builder.approximate;
+		JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
+				absoluteFieldPath, createNestedDocsProvider()
+		);
+		this.collectorFactory = new TextCardinalityCollectorFactory( absoluteFieldPath, valueSource,
+				builder.approximate );
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneTextCountDistinctValuesAggregation other = (LuceneTextCountDistinctValuesAggregation) obj;
+		return approximate == other.approximate;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Boolean.hashCode( approximate );
+	}
+
+	@Override
+	TextCardinalityCollectorFactory collectorFactory() {
+		return collectorFactory;
+	}
+
+	@Override
+	public Long extract(AggregationExtractContext context) {
+		return context.getCollector( collectorFactory.getCollectorKey() );
+	}
+
+	public static class Factory
+			extends AbstractLuceneValueFieldSearchQueryElementFactory<CountDistinctValuesAggregationBuilder, String> {
+		@Override
+		public CountDistinctValuesAggregationBuilder create(LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<String> field) {
+			return new Builder( scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountDistinctValuesAggregationBuilder {
+
+		private boolean approximate = false;
+
+		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<String> field) {
+			super( scope, field );
+		}
+
+		@Override
+		public void approximate() {
+			this.approximate = true;
+		}
+
+		@Override
+		public LuceneTextCountDistinctValuesAggregation build() {
+			return new LuceneTextCountDistinctValuesAggregation( this );
+		}
+	}
+}
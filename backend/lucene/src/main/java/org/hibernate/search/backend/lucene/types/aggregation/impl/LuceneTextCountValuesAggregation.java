@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.TextValueCountCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.engine.search.aggregation.spi.CountValuesAggregationBuilder;
+
+public class LuceneTextCountValuesAggregation extends AbstractLuceneMetricAggregation<Long> {
+
+	private final TextValueCountCollectorFactory collectorFactory;
+
+	private LuceneTextCountValuesAggregation(Builder builder) {
+		super( builder );
+		JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
+				absoluteFieldPath, createNestedDocsProvider()
+		);
+		this.collectorFactory = new TextValueCountCollectorFactory( valueSource );
+	}
+
+	@Override
+	TextValueCountCollectorFactory collectorFactory() {
+		return collectorFactory;
+	}
+
+	@Override
+	public Long extract(AggregationExtractContext context) {
+		return context.getCollector( collectorFactory.getCollectorKey() );
+	}
+
+	public static class Factory
+			extends AbstractLuceneValueFieldSearchQueryElementFactory<CountValuesAggregationBuilder, String> {
+		@Override
+		public CountValuesAggregationBuilder create(LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<String> field) {
+			return new Builder( scope, field );
+		}
+	}
+
+	private static class Builder extends AbstractBuilder<Long> implements CountValuesAggregationBuilder {
+
+		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<String> field) {
+			super( scope, field );
+		}
+
+		@Override
+		public LuceneTextCountValuesAggregation build() {
+			return new LuceneTextCountValuesAggregation( this );
+		}
+	}
+}
@@ -12,8 +12,7 @@
 import java.util.TreeSet;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
-import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextTermsCollectorFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneValueFieldSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -21,8 +20,6 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
 
-import org.apache.lucene.facet.FacetResult;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -37,21 +34,19 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	private final TextTermsCollectorFactory collectorFactory;
+
 	private LuceneTextTermsAggregation(Builder<K> builder) {
 		super( builder );
-	}
-
-	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
 		JoiningTextMultiValuesSource valueSource = JoiningTextMultiValuesSource.fromField(
-				absoluteFieldPath, nestedDocsProvider
-		);
-		TextMultiValueFacetCounts facetCounts = new TextMultiValueFacetCounts(
-				reader, absoluteFieldPath, valueSource, facetsCollector
+				absoluteFieldPath, createNestedDocsProvider()
 		);
+		this.collectorFactory = new TextTermsCollectorFactory( absoluteFieldPath, valueSource );
+	}
 
-		return facetCounts.getTopChildren( limit, absoluteFieldPath );
+	@Override
+	TextTermsCollectorFactory collectorFactory() {
+		return collectorFactory;
 	}
 
 	@Override
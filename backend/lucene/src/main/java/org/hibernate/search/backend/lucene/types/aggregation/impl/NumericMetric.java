@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.aggregation.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetrics;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * A metric computed from the values of a numeric field.
+ */
+public enum NumericMetric {
+
+	SUM {
+		@Override
+		<E extends Number> E compute(LuceneNumericDomain<E> domain, NumericMetrics metrics) {
+			return domain.sum( metrics );
+		}
+
+		@Override
+		Double computeAsDouble(LuceneNumericDomain<?> domain, NumericMetrics metrics) {
+			return domain.sumAsDouble( metrics );
+		}
+	},
+	MIN {
+		@Override
+		<E extends Number> E compute(LuceneNumericDomain<E> domain, NumericMetrics metrics) {
+			return metrics.getCount() == 0L ? null : domain.sortedDocValueToTerm( metrics.getMin() );
+		}
+	},
+	MAX {
+		@Override
+		<E extends Number> E compute(LuceneNumericDomain<E> domain, NumericMetrics metrics) {
+			return metrics.getCount() == 0L ? null : domain.sortedDocValueToTerm( metrics.getMax() );
+		}
+	},
+	AVG {
+		@Override
+		<E extends Number> E compute(LuceneNumericDomain<E> domain, NumericMetrics metrics) {
+			// Averages of integral values are generally not integral.
+			throw new AssertionFailure( "The average of values must be computed as a double" );
+		}
+
+		@Override
+		Double computeAsDouble(LuceneNumericDomain<?> domain, NumericMetrics metrics) {
+			return metrics.getCount() == 0L ? null : domain.sumAsDouble( metrics ) / metrics.getCount();
+		}
+	};
+
+	/**
+	 * @param domain The numeric domain of the field.
+	 * @param metrics The metrics collected from the values of the field.
+	 * @param <E> The type of values in the numeric domain.
+	 * @return The value of this metric, expressed in the numeric domain of the field,
+	 * or {@code null} if it is undefined (no value).
+	 * @throws ArithmeticException If the value cannot be represented in the numeric domain.
+	 */
+	abstract <E extends Number> E compute(LuceneNumericDomain<E> domain, NumericMetrics metrics);
+
+	/**
+	 * @param domain The numeric domain of the field.
+	 * @param metrics The metrics collected from the values of the field.
+	 * @return The value of this metric, expressed as a double in the numeric domain of the field,
+	 * or {@code null} if it is undefined (no value).
+	 */
+	Double computeAsDouble(LuceneNumericDomain<?> domain, NumericMetrics metrics) {
+		throw new AssertionFailure( "Metric " + this + " cannot be computed as a double" );
+	}
+
+}
@@ -63,10 +63,35 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	/**
+	 * @return {@code true} if values can be read from doc values instead of stored fields,
+	 * i.e. if doc values are enabled and encoding values is lossless.
+	 */
+	public boolean hasLosslessDocValues() {
+		return DocValues.ENABLED == docValues && isLosslessEncoding();
+	}
+
 	public abstract F decode(E encoded);
 
+	/**
+	 * @param domainValue A value in the numeric domain of this codec,
+	 * possibly with a fractional part (e.g. an average).
+	 * @return The corresponding field value, as a double.
+	 */
+	public double decodeAsDouble(double domainValue) {
+		return domainValue;
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} always returns a value equal to the one passed to
+	 * {@link #encode(Object)}, {@code false} if encoding loses information (precision, time zone, ...).
+	 */
+	boolean isLosslessEncoding() {
+		return true;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
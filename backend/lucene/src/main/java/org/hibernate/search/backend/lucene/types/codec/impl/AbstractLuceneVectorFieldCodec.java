@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFunction;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A codec for vector fields.
+ * <p>
+ * Lucene 8 does not provide vector indexes,
+ * so vectors are encoded in binary doc values and nearest neighbor search
+ * relies on an exact scan of these doc values: see
+ * {@link org.hibernate.search.backend.lucene.lowlevel.query.impl.ExactKnnVectorQuery}.
+ *
+ * @param <F> The type of vectors, e.g. {@code float[]}.
+ */
+public abstract class AbstractLuceneVectorFieldCodec<F> implements LuceneFieldCodec<F> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Class<F> vectorType;
+	private final int dimension;
+	private final VectorSimilarityFunction similarity;
+	private final Indexing indexing;
+	private final Storage storage;
+
+	AbstractLuceneVectorFieldCodec(Class<F> vectorType, int dimension, VectorSimilarityFunction similarity,
+			Indexing indexing, Storage storage) {
+		this.vectorType = vectorType;
+		this.dimension = dimension;
+		this.similarity = similarity;
+		this.indexing = indexing;
+		this.storage = storage;
+	}
+
+	@Override
+	public void addToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, F value) {
+		if ( value == null ) {
+			return;
+		}
+
+		int actualDimension = dimension( value );
+		if ( actualDimension != dimension ) {
+			throw log.vectorDimensionMismatch( dimension, actualDimension,
+					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
+		}
+
+		BytesRef encoded = encode( value );
+
+		if ( Indexing.ENABLED == indexing ) {
+			documentBuilder.addField( new BinaryDocValuesField( absoluteFieldPath, encoded ) );
+		}
+		else {
+			// For the "exists" predicate
+			documentBuilder.addFieldName( absoluteFieldPath );
+		}
+
+		if ( Storage.ENABLED == storage ) {
+			documentBuilder.addField( new StoredField( absoluteFieldPath, encoded ) );
+		}
+	}
+
+	@Override
+	public F decode(IndexableField field) {
+		return decode( field.binaryValue() );
+	}
+
+	@Override
+	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( getClass() != obj.getClass() ) {
+			return false;
+		}
+		AbstractLuceneVectorFieldCodec<?> other = (AbstractLuceneVectorFieldCodec<?>) obj;
+		return dimension == other.dimension
+				&& similarity == other.similarity;
+	}
+
+	public Class<F> vectorType() {
+		return vectorType;
+	}
+
+	public int dimension() {
+		return dimension;
+	}
+
+	public VectorSimilarityFunction similarity() {
+		return similarity;
+	}
+
+	public abstract int dimension(F vector);
+
+	public abstract Query createKnnQuery(String absoluteFieldPath, F vector, int k, Query filterOrNull);
+
+	abstract BytesRef encode(F vector);
+
+	abstract F decode(BytesRef bytes);
+
+}
@@ -43,6 +43,12 @@ public String toString() {
 				+ "]";
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values hold a scaled value
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, BigDecimal value,
 			Long encodedValue) {
@@ -68,6 +74,11 @@ public BigDecimal decode(Long encoded) {
 		return scale( encoded );
 	}
 
+	@Override
+	public double decodeAsDouble(double domainValue) {
+		return BigDecimal.valueOf( domainValue ).scaleByPowerOfTen( -decimalScale ).doubleValue();
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
@@ -43,6 +43,12 @@ public String toString() {
 				+ "]";
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values hold a scaled value
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, BigInteger value,
 			Long encodedValue) {
@@ -69,6 +75,11 @@ public BigInteger decode(Long encoded) {
 		return scale( encoded ).toBigInteger();
 	}
 
+	@Override
+	public double decodeAsDouble(double domainValue) {
+		return BigDecimal.valueOf( domainValue ).scaleByPowerOfTen( -decimalScale ).doubleValue();
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
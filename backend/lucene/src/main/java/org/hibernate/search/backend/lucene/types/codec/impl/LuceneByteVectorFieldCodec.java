@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExactKnnVectorQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFunction;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+public final class LuceneByteVectorFieldCodec extends AbstractLuceneVectorFieldCodec<byte[]> {
+
+	public LuceneByteVectorFieldCodec(int dimension, VectorSimilarityFunction similarity,
+			Indexing indexing, Storage storage) {
+		super( byte[].class, dimension, similarity, indexing, storage );
+	}
+
+	@Override
+	public int dimension(byte[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	public Query createKnnQuery(String absoluteFieldPath, byte[] vector, int k, Query filterOrNull) {
+		return ExactKnnVectorQuery.of( absoluteFieldPath, vector, similarity(), k, filterOrNull );
+	}
+
+	@Override
+	BytesRef encode(byte[] vector) {
+		// Copy, so that later changes to the vector don't affect the document
+		return new BytesRef( vector.clone() );
+	}
+
+	@Override
+	byte[] decode(BytesRef bytes) {
+		return Arrays.copyOfRange( bytes.bytes, bytes.offset, bytes.offset + bytes.length );
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExactKnnVectorQuery;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFunction;
+
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+public final class LuceneFloatVectorFieldCodec extends AbstractLuceneVectorFieldCodec<float[]> {
+
+	public LuceneFloatVectorFieldCodec(int dimension, VectorSimilarityFunction similarity,
+			Indexing indexing, Storage storage) {
+		super( float[].class, dimension, similarity, indexing, storage );
+	}
+
+	@Override
+	public int dimension(float[] vector) {
+		return vector.length;
+	}
+
+	@Override
+	public Query createKnnQuery(String absoluteFieldPath, float[] vector, int k, Query filterOrNull) {
+		return ExactKnnVectorQuery.of( absoluteFieldPath, vector, similarity(), k, filterOrNull );
+	}
+
+	@Override
+	BytesRef encode(float[] vector) {
+		byte[] bytes = new byte[vector.length * Float.BYTES];
+		for ( int i = 0; i < vector.length; i++ ) {
+			FloatPoint.encodeDimension( vector[i], bytes, i * Float.BYTES );
+		}
+		return new BytesRef( bytes );
+	}
+
+	@Override
+	float[] decode(BytesRef bytes) {
+		float[] vector = new float[bytes.length / Float.BYTES];
+		for ( int i = 0; i < vector.length; i++ ) {
+			vector[i] = FloatPoint.decodeDimension( bytes.bytes, bytes.offset + i * Float.BYTES );
+		}
+		return vector;
+	}
+}
@@ -24,6 +24,12 @@ public LuceneInstantFieldCodec(Indexing indexing, DocValues docValues, Storage s
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values only have millisecond precision
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Instant value,
 			Long encodedValue) {
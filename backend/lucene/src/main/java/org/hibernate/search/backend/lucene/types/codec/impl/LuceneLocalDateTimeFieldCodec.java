@@ -34,6 +34,12 @@ public LuceneLocalDateTimeFieldCodec(Indexing indexing, DocValues docValues, Sto
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values only have millisecond precision
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, LocalDateTime value,
 			Long encodedValue) {
@@ -34,6 +34,12 @@ public LuceneOffsetDateTimeFieldCodec(Indexing indexing, DocValues docValues, St
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values don't hold the offset
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, OffsetDateTime value,
 			Long encodedValue) {
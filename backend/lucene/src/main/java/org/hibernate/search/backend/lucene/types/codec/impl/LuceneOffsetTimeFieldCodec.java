@@ -35,6 +35,12 @@ public LuceneOffsetTimeFieldCodec(Indexing indexing, DocValues docValues, Storag
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values don't hold the offset
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, OffsetTime value,
 			Long encodedValue) {
@@ -40,6 +40,12 @@ public LuceneZonedDateTimeFieldCodec(Indexing indexing, DocValues docValues, Sto
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isLosslessEncoding() {
+		// Doc values don't hold the zone
+		return false;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, ZonedDateTime value,
 			Long encodedValue) {
@@ -11,8 +11,12 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
 import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
 import org.hibernate.search.engine.search.sort.spi.SortTypeKeys;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericCountDistinctValuesAggregation;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericCountValuesAggregation;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericMetricAggregation;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericRangeAggregation;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericTermsAggregation;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.NumericMetric;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.DocValues;
 import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
@@ -78,6 +82,12 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 			builder.aggregable( true );
 			builder.queryElementFactory( AggregationTypeKeys.TERMS, new LuceneNumericTermsAggregation.Factory<>( codec ) );
 			builder.queryElementFactory( AggregationTypeKeys.RANGE, new LuceneNumericRangeAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.SUM, new LuceneNumericMetricAggregation.Factory<>( codec, NumericMetric.SUM ) );
+			builder.queryElementFactory( AggregationTypeKeys.MIN, new LuceneNumericMetricAggregation.Factory<>( codec, NumericMetric.MIN ) );
+			builder.queryElementFactory( AggregationTypeKeys.MAX, new LuceneNumericMetricAggregation.Factory<>( codec, NumericMetric.MAX ) );
+			builder.queryElementFactory( AggregationTypeKeys.AVG, new LuceneNumericMetricAggregation.Factory<>( codec, NumericMetric.AVG ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new LuceneNumericCountValuesAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES, new LuceneNumericCountDistinctValuesAggregation.Factory<>( codec ) );
 		}
 
 		return builder.build();
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFunction;
+import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneVectorFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
+import org.hibernate.search.backend.lucene.types.codec.impl.Storage;
+import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneExistsPredicate;
+import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneKnnPredicate;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+abstract class AbstractLuceneVectorIndexFieldTypeOptionsStep<S extends AbstractLuceneVectorIndexFieldTypeOptionsStep<?, F>, F>
+		extends AbstractLuceneIndexFieldTypeOptionsStep<S, F>
+		implements VectorFieldTypeOptionsStep<S, F> {
+
+	private final int dimension;
+	private VectorSimilarity vectorSimilarity = VectorSimilarity.DEFAULT;
+	private Projectable projectable = Projectable.DEFAULT;
+	private Searchable searchable = Searchable.DEFAULT;
+
+	AbstractLuceneVectorIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext, Class<F> valueType,
+			int dimension) {
+		super( buildContext, valueType );
+		Contracts.assertStrictlyPositive( dimension, "dimension" );
+		this.dimension = dimension;
+	}
+
+	@Override
+	public S vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		Contracts.assertNotNull( vectorSimilarity, "vectorSimilarity" );
+		this.vectorSimilarity = vectorSimilarity;
+		return thisAsS();
+	}
+
+	@Override
+	public S projectable(Projectable projectable) {
+		this.projectable = projectable;
+		return thisAsS();
+	}
+
+	@Override
+	public S searchable(Searchable searchable) {
+		this.searchable = searchable;
+		return thisAsS();
+	}
+
+	@Override
+	public LuceneIndexValueFieldType<F> toIndexFieldType() {
+		boolean resolvedProjectable = AbstractLuceneStandardIndexFieldTypeOptionsStep.resolveDefault( projectable );
+		boolean resolvedSearchable = AbstractLuceneStandardIndexFieldTypeOptionsStep.resolveDefault( searchable );
+
+		// Vectors are searched through an exact scan of doc values: see ExactKnnVectorQuery.
+		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
+		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+
+		AbstractLuceneVectorFieldCodec<F> codec = createCodec( dimension,
+				VectorSimilarityFunction.of( vectorSimilarity ), indexing, storage );
+		builder.codec( codec );
+
+		if ( resolvedSearchable ) {
+			builder.searchable( true );
+			builder.queryElementFactory( PredicateTypeKeys.EXISTS, new LuceneExistsPredicate.DocValuesBasedFactory<>() );
+			builder.queryElementFactory( PredicateTypeKeys.KNN, new LuceneKnnPredicate.Factory<>( codec ) );
+		}
+
+		if ( resolvedProjectable ) {
+			builder.projectable( true );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
+		}
+
+		return builder.build();
+	}
+
+	protected abstract AbstractLuceneVectorFieldCodec<F> createCodec(int dimension,
+			VectorSimilarityFunction similarity, Indexing indexing, Storage storage);
+
+}
@@ -11,6 +11,8 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
 import org.hibernate.search.engine.search.projection.spi.ProjectionTypeKeys;
 import org.hibernate.search.engine.search.sort.spi.SortTypeKeys;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericCountDistinctValuesAggregation;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericCountValuesAggregation;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneNumericTermsAggregation;
 import org.hibernate.search.backend.lucene.types.codec.impl.DocValues;
 import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
@@ -76,6 +78,8 @@ public LuceneIndexValueFieldType<Boolean> toIndexFieldType() {
 		if ( resolvedAggregable ) {
 			builder.aggregable( true );
 			builder.queryElementFactory( AggregationTypeKeys.TERMS, new LuceneNumericTermsAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new LuceneNumericCountValuesAggregation.Factory<>( codec ) );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES, new LuceneNumericCountDistinctValuesAggregation.Factory<>( codec ) );
 		}
 
 		return builder.build();
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.VectorSimilarityFunction;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneVectorFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.Indexing;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFloatVectorFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.Storage;
+
+class LuceneFloatVectorIndexFieldTypeOptionsStep
+		extends AbstractLuceneVectorIndexFieldTypeOptionsStep<LuceneFloatVectorIndexFieldTypeOptionsStep, float[]> {
+
+	LuceneFloatVectorIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext, int dimension) {
+		super( buildContext, float[].class, dimension );
+	}
+
+	@Override
+	protected AbstractLuceneVectorFieldCodec<float[]> createCodec(int dimension, VectorSimilarityFunction similarity,
+			Indexing indexing, Storage storage) {
+		return new LuceneFloatVectorFieldCodec( dimension, similarity, indexing, storage );
+	}
+
+	@Override
+	protected LuceneFloatVectorIndexFieldTypeOptionsStep thisAsS() {
+		return this;
+	}
+}
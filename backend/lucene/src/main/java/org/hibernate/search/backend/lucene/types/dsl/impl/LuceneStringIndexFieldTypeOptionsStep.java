@@ -19,6 +19,8 @@
 import org.hibernate.search.backend.lucene.search.predicate.impl.LucenePredicateTypeKeys;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldHighlightProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjection;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextCountDistinctValuesAggregation;
+import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextCountValuesAggregation;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextTermsAggregation;
 import org.hibernate.search.backend.lucene.types.codec.impl.DocValues;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
@@ -232,6 +234,8 @@ public LuceneIndexValueFieldType<String> toIndexFieldType() {
 		if ( resolvedAggregable ) {
 			builder.aggregable( true );
 			builder.queryElementFactory( AggregationTypeKeys.TERMS, new LuceneTextTermsAggregation.Factory() );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new LuceneTextCountValuesAggregation.Factory() );
+			builder.queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES, new LuceneTextCountDistinctValuesAggregation.Factory() );
 		}
 
 		return builder.build();
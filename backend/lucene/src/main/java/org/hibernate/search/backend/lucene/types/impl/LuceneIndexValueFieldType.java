@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldTypeContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.IndexFieldType;
 import org.hibernate.search.engine.backend.types.spi.AbstractIndexValueFieldType;
@@ -54,6 +55,12 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean hasLosslessDocValues() {
+		return codec instanceof AbstractLuceneNumericFieldCodec
+				&& ( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).hasLosslessDocValues();
+	}
+
 	public static class Builder<F>
 			extends AbstractIndexValueFieldType.Builder<
 							LuceneSearchIndexScope<?>,
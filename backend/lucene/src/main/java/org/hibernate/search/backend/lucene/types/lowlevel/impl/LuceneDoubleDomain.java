@@ -6,27 +6,28 @@
  */
 package org.hibernate.search.backend.lucene.types.lowlevel.impl;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.LongCardinalityCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetrics;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetricsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.DoubleValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DoubleMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueRangeFacetCounts;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongRangeCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongTermsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -84,30 +85,29 @@ public Double sortedDocValueToTerm(long longValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+	public LongTermsCollectorFactory createTermsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider) {
 		// As we don't need to apply any operation to terms except sometimes a sort,
 		// we can simply rely on raw, long values, whose order is the same as their corresponding double value.
 		// Values are ultimately converted back to the Double equivalent by calling sortedDocValueToTerm.
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueFacetCounts( absoluteFieldPath, source, facetsCollector );
+		return new LongTermsCollectorFactory( absoluteFieldPath, source );
 	}
 
 	@Override
-	public Facets createRangeFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public LongRangeCollectorFactory createRangeCollectorFactory(String absoluteFieldPath,
 			Collection<? extends Range<? extends Double>> ranges,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+			NestedDocsProvider nestedDocsProvider) {
 		// As we don't need to apply any operation to terms except sometimes a sort,
 		// we can simply rely on raw, long values, whose order is the same as their corresponding double value.
 		// Values are ultimately converted back to the Double equivalent by calling sortedDocValueToTerm.
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueRangeFacetCounts(
+		return new LongRangeCollectorFactory(
 				absoluteFieldPath, source,
-				facetsCollector,
 				FacetCountsUtils.createLongRangesForFloatingPointValues(
 						ranges, NumericUtils::doubleToSortableLong,
 						Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY
@@ -115,6 +115,34 @@ public Facets createRangeFacetCounts(String absoluteFieldPath, FacetsCollector f
 		);
 	}
 
+	@Override
+	public NumericMetricsCollectorFactory createMetricsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider) {
+		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
+				absoluteFieldPath, nestedDocsProvider
+		);
+		return new NumericMetricsCollectorFactory( source, NumericUtils::sortableLongToDouble );
+	}
+
+	@Override
+	public LongCardinalityCollectorFactory createCardinalityCollectorFactory(String absoluteFieldPath,
+			boolean approximate, NestedDocsProvider nestedDocsProvider) {
+		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromLongField(
+				absoluteFieldPath, nestedDocsProvider
+		);
+		return new LongCardinalityCollectorFactory( source, approximate );
+	}
+
+	@Override
+	public Double sum(NumericMetrics metrics) {
+		return metrics.getDoubleSum();
+	}
+
+	@Override
+	public double sumAsDouble(NumericMetrics metrics) {
+		return metrics.getDoubleSum();
+	}
+
 	@Override
 	public IndexableField createIndexField(String absoluteFieldPath, Double numericValue) {
 		return new DoublePoint( absoluteFieldPath, numericValue );
@@ -125,6 +153,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public FieldComparator<Double> createFieldComparator(String fieldName, int numHits,
 			Double missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
@@ -6,27 +6,28 @@
  */
 package org.hibernate.search.backend.lucene.types.lowlevel.impl;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.LongCardinalityCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetrics;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetricsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.IntValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
-import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueRangeFacetCounts;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongRangeCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongTermsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public class LuceneIntegerDomain implements LuceneNumericDomain<Integer> {
 	private static final LuceneNumericDomain<Integer> INSTANCE = new LuceneIntegerDomain();
@@ -83,31 +84,56 @@ public Integer sortedDocValueToTerm(long longValue) {
 	}
 
 	@Override
-	public Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+	public LongTermsCollectorFactory createTermsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider) {
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueFacetCounts(
-				absoluteFieldPath, source,
-				facetsCollector
-		);
+		return new LongTermsCollectorFactory( absoluteFieldPath, source );
 	}
 
 	@Override
-	public Facets createRangeFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
+	public LongRangeCollectorFactory createRangeCollectorFactory(String absoluteFieldPath,
 			Collection<? extends Range<? extends Integer>> ranges,
-			NestedDocsProvider nestedDocsProvider) throws IOException {
+			NestedDocsProvider nestedDocsProvider) {
 		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
 				absoluteFieldPath, nestedDocsProvider
 		);
-		return new LongMultiValueRangeFacetCounts(
+		return new LongRangeCollectorFactory(
 				absoluteFieldPath, source,
-				facetsCollector,
 				FacetCountsUtils.createLongRangesForIntegralValues( ranges )
 		);
 	}
 
+	@Override
+	public NumericMetricsCollectorFactory createMetricsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider) {
+		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
+				absoluteFieldPath, nestedDocsProvider
+		);
+		return new NumericMetricsCollectorFactory( source, null );
+	}
+
+	@Override
+	public LongCardinalityCollectorFactory createCardinalityCollectorFactory(String absoluteFieldPath,
+			boolean approximate, NestedDocsProvider nestedDocsProvider) {
+		JoiningLongMultiValuesSource source = JoiningLongMultiValuesSource.fromIntField(
+				absoluteFieldPath, nestedDocsProvider
+		);
+		return new LongCardinalityCollectorFactory( source, approximate );
+	}
+
+	@Override
+	public Integer sum(NumericMetrics metrics) {
+		return Math.toIntExact( metrics.getLongSum() );
+	}
+
+	@Override
+	public double sumAsDouble(NumericMetrics metrics) {
+		// The long sum is exact, but may overflow; the double sum is approximate, but cannot overflow.
+		return metrics.hasLongSumOverflow() ? metrics.getDoubleSum() : metrics.getLongSum();
+	}
+
 	@Override
 	public IndexableField createIndexField(String absoluteFieldPath, Integer numericValue) {
 		return new IntPoint( absoluteFieldPath, numericValue );
@@ -118,6 +144,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public FieldComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			Integer missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
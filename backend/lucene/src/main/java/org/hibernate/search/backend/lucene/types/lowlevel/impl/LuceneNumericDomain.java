@@ -6,19 +6,22 @@
  */
 package org.hibernate.search.backend.lucene.types.lowlevel.impl;
 
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Comparator;
 
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.LongCardinalityCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetrics;
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.NumericMetricsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongRangeCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongTermsCollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
-import org.apache.lucene.facet.Facets;
-import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public interface LuceneNumericDomain<E extends Number> {
 
@@ -40,17 +43,43 @@
 
 	E sortedDocValueToTerm(long longValue);
 
-	Facets createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector,
-			NestedDocsProvider nestedDocsProvider) throws IOException;
+	LongTermsCollectorFactory createTermsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider);
+
+	LongRangeCollectorFactory createRangeCollectorFactory(String absoluteFieldPath,
+			Collection<? extends Range<? extends E>> ranges,
+			NestedDocsProvider nestedDocsProvider);
+
+	NumericMetricsCollectorFactory createMetricsCollectorFactory(String absoluteFieldPath,
+			NestedDocsProvider nestedDocsProvider);
+
+	LongCardinalityCollectorFactory createCardinalityCollectorFactory(String absoluteFieldPath,
+			boolean approximate, NestedDocsProvider nestedDocsProvider);
 
-	Facets createRangeFacetCounts(String absoluteFieldPath,
-			FacetsCollector facetsCollector, Collection<? extends Range<? extends E>> ranges,
-			NestedDocsProvider nestedDocsProvider) throws IOException;
+	/**
+	 * @param metrics Metrics collected by a collector created by {@link #createMetricsCollectorFactory(String, NestedDocsProvider)}.
+	 * @return The sum of collected values.
+	 * @throws ArithmeticException If the sum cannot be represented in this domain.
+	 */
+	E sum(NumericMetrics metrics);
+
+	/**
+	 * @param metrics Metrics collected by a collector created by {@link #createMetricsCollectorFactory(String, NestedDocsProvider)}.
+	 * @return The sum of collected values, as a double.
+	 * Approximate for integral domains if the exact sum cannot be represented as a long.
+	 */
+	double sumAsDouble(NumericMetrics metrics);
 
 	IndexableField createIndexField(String absoluteFieldPath, E numericValue);
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	/**
+	 * @return The type to use in native Lucene sort fields on doc values created by
+	 * {@link #createSortedDocValuesField(String, Number)}.
+	 */
+	SortField.Type getSortFieldType();
+
 	FieldComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			E missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
 			NestedDocsProvider nestedDocsProvider);
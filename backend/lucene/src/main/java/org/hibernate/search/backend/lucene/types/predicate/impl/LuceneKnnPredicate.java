@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.predicate.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneVectorFieldCodec;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+
+public class LuceneKnnPredicate<F> extends AbstractLuceneSingleFieldPredicate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final AbstractLuceneVectorFieldCodec<F> codec;
+	private final int k;
+	private final F vector;
+	private final LuceneSearchPredicate filter;
+
+	private LuceneKnnPredicate(Builder<F> builder) {
+		super( builder );
+		this.codec = builder.codec;
+		this.k = builder.k;
+		this.vector = builder.vector;
+		this.filter = builder.filter;
+	}
+
+	@Override
+	protected Query doToQuery(PredicateRequestContext context) {
+		Query filterQuery = filter == null ? null : filter.toQuery( context );
+		Query rootFilter = context.getRootFilter();
+		if ( filterQuery == null ) {
+			filterQuery = rootFilter;
+		}
+		else if ( rootFilter != null ) {
+			filterQuery = new BooleanQuery.Builder()
+					.add( filterQuery, BooleanClause.Occur.FILTER )
+					.add( rootFilter, BooleanClause.Occur.FILTER )
+					.build();
+		}
+		return codec.createKnnQuery( absoluteFieldPath, vector, k, filterQuery );
+	}
+
+	public static class Factory<F>
+			extends AbstractLuceneCodecAwareSearchQueryElementFactory<KnnPredicateBuilder, F, AbstractLuceneVectorFieldCodec<F>> {
+		public Factory(AbstractLuceneVectorFieldCodec<F> codec) {
+			super( codec );
+		}
+
+		@Override
+		public Builder<F> create(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field) {
+			return new Builder<>( codec, scope, field );
+		}
+	}
+
+	private static class Builder<F> extends AbstractBuilder implements KnnPredicateBuilder {
+		private final AbstractLuceneVectorFieldCodec<F> codec;
+		private final LuceneSearchIndexValueFieldContext<F> field;
+		private int k;
+		private F vector;
+		private LuceneSearchPredicate filter;
+
+		private Builder(AbstractLuceneVectorFieldCodec<F> codec, LuceneSearchIndexScope<?> scope,
+				LuceneSearchIndexValueFieldContext<F> field) {
+			super( scope, field );
+			if ( !field.nestedPathHierarchy().isEmpty() ) {
+				throw log.cannotUseKnnPredicateInNestedDocument( field.eventContext() );
+			}
+			this.codec = codec;
+			this.field = field;
+		}
+
+		@Override
+		public void k(int k) {
+			this.k = k;
+		}
+
+		@Override
+		public void vector(Object vector) {
+			Class<F> vectorType = codec.vectorType();
+			if ( !vectorType.isInstance( vector ) ) {
+				throw log.invalidVectorTypeForKnnPredicate( vectorType.getSimpleName(),
+						vector.getClass().getSimpleName(), field.eventContext() );
+			}
+			F castedVector = vectorType.cast( vector );
+			int dimension = codec.dimension( castedVector );
+			if ( dimension != codec.dimension() ) {
+				throw log.vectorDimensionMismatch( codec.dimension(), dimension, field.eventContext() );
+			}
+			this.vector = castedVector;
+		}
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			this.filter = LuceneSearchPredicate.from( scope, filter );
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneKnnPredicate<>( this );
+		}
+	}
+}
@@ -6,18 +6,72 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
 	protected NestedDocsProvider nestedDocsProvider;
 
+	private final String nestedDocumentPath;
+	private final Query filter;
+
 	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+		this.nestedDocumentPath = nestedDocumentPath;
+		this.filter = filter;
 		this.nestedDocsProvider = nestedDocumentPath == null ? null
 				: new NestedDocsProvider( nestedDocumentPath, filter );
 	}
 
+	/*
+	 * Comparator sources are compared by value, because sort fields are,
+	 * so that sorts of two equal queries built separately are equal:
+	 * see the search result cache.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
+	/**
+	 * @return {@code true} if comparators created by this source can rely on points
+	 * indexed with the same name as the sorted field to skip non-competitive documents,
+	 * {@code false} otherwise.
+	 * @see org.apache.lucene.search.SortField#setCanUsePoints()
+	 */
+	public boolean canUsePoints() {
+		return false;
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the sorted field.
+	 * @param reversed Whether the sort order is reversed.
+	 * @return A native Lucene sort field that sorts documents exactly like
+	 * a {@link SortField} relying on this source would,
+	 * or {@code null} if there is no such native sort field.
+	 * Native sort fields can be compared to the {@link org.apache.lucene.index.IndexWriterConfig#setIndexSort(org.apache.lucene.search.Sort) index sort},
+	 * which allows early termination of queries sorted like the index.
+	 */
+	public SortField toNativeSortFieldOrNull(String absoluteFieldPath, boolean reversed) {
+		return null;
+	}
+
 }
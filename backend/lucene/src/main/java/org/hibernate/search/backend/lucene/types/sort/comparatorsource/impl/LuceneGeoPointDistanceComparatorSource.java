@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.DoubleValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GeoPointDistanceMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
@@ -28,6 +30,22 @@ public LuceneGeoPointDistanceComparatorSource(String nestedDocumentPath, GeoPoin
 		this.mode = mode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneGeoPointDistanceComparatorSource other = (LuceneGeoPointDistanceComparatorSource) obj;
+		return Objects.equals( center, other.center )
+				&& Objects.equals( missingValue, other.missingValue )
+				&& Objects.equals( mode, other.mode );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( center, missingValue, mode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		GeoPointDistanceMultiValuesToSingleValuesSource source = new GeoPointDistanceMultiValuesToSingleValuesSource(
@@ -6,10 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
@@ -25,9 +30,55 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 		this.sortMode = sortMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneNumericFieldComparatorSource<?> other = (LuceneNumericFieldComparatorSource<?>) obj;
+		return Objects.equals( numericDomain, other.numericDomain )
+				&& Objects.equals( missingValue, other.missingValue )
+				&& Objects.equals( sortMode, other.sortMode );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( numericDomain, missingValue, sortMode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, reversed, sortPos,
 				sortMode, nestedDocsProvider );
 	}
+
+	@Override
+	public boolean canUsePoints() {
+		// Points hold all values of the field, and only in the documents that hold these values.
+		// That's only consistent with the sort if the value of each document is one of its own values,
+		// i.e. when not sorting on nested documents and when picking the min or max value.
+		return nestedDocsProvider == null
+				&& ( MultiValueMode.MIN.equals( sortMode ) || MultiValueMode.MAX.equals( sortMode ) );
+	}
+
+	@Override
+	public SortField toNativeSortFieldOrNull(String absoluteFieldPath, boolean reversed) {
+		SortedNumericSelector.Type selector;
+		if ( nestedDocsProvider != null ) {
+			return null;
+		}
+		else if ( MultiValueMode.MIN.equals( sortMode ) ) {
+			selector = SortedNumericSelector.Type.MIN;
+		}
+		else if ( MultiValueMode.MAX.equals( sortMode ) ) {
+			selector = SortedNumericSelector.Type.MAX;
+		}
+		else {
+			return null;
+		}
+		SortField sortField = new SortedNumericSortField( absoluteFieldPath, numericDomain.getSortFieldType(),
+				reversed, selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
 }
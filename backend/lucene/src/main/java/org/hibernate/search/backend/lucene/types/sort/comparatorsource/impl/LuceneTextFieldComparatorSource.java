@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import java.io.IOException;
+import java.util.Objects;
 
+import org.hibernate.search.backend.lucene.lowlevel.comparator.impl.TextValuesSourceComparator;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesToSingleValuesSource;
@@ -17,6 +19,9 @@
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.util.BytesRef;
 
 public class LuceneTextFieldComparatorSource extends LuceneFieldComparatorSource {
@@ -30,38 +35,76 @@ public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missing
 		this.multiValueMode = multiValueMode;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if ( !super.equals( obj ) ) {
+			return false;
+		}
+		LuceneTextFieldComparatorSource other = (LuceneTextFieldComparatorSource) obj;
+		return Objects.equals( missingValue, other.missingValue )
+				&& Objects.equals( multiValueMode, other.multiValueMode );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hash( missingValue, multiValueMode );
+	}
+
 	@Override
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
-		final boolean considerMissingHighest;
+		boolean considerMissingHighest = considerMissingHighest( reversed );
+		TextMultiValuesToSingleValuesSource source =
+				TextMultiValuesToSingleValuesSource.fromField( fieldname, multiValueMode, nestedDocsProvider );
+
+		if ( missingValue == null || isOneOfSortMissingValues() ) {
+			return new TextValuesSourceComparator( numHits, fieldname, considerMissingHighest, source );
+		}
+
+		// Replacing missing values changes ordinals: we cannot rely on global ordinals.
+		return new FieldComparator.TermOrdValComparator( numHits, fieldname, considerMissingHighest ) {
+			@Override
+			protected SortedDocValues getSortedDocValues(LeafReaderContext context, String field) throws IOException {
+				return new ReplaceMissingSortedDocValues( source.getValues( context ), (BytesRef) missingValue );
+			}
+		};
+	}
+
+	@Override
+	public SortField toNativeSortFieldOrNull(String absoluteFieldPath, boolean reversed) {
+		SortedSetSelector.Type selector;
+		if ( nestedDocsProvider != null || !isOneOfSortMissingValues() ) {
+			// Native sorts on text fields cannot replace missing values with arbitrary values
+			return null;
+		}
+		else if ( MultiValueMode.MIN.equals( multiValueMode ) ) {
+			selector = SortedSetSelector.Type.MIN;
+		}
+		else if ( MultiValueMode.MAX.equals( multiValueMode ) ) {
+			selector = SortedSetSelector.Type.MAX;
+		}
+		else {
+			return null;
+		}
+		SortField sortField = new SortedSetSortField( absoluteFieldPath, reversed, selector );
+		sortField.setMissingValue( considerMissingHighest( reversed ) ? SortField.STRING_LAST : SortField.STRING_FIRST );
+		return sortField;
+	}
+
+	private boolean considerMissingHighest(boolean reversed) {
 		if ( SortMissingValue.MISSING_LOWEST.equals( missingValue ) ) {
-			considerMissingHighest = false;
+			return false;
 		}
 		else if ( SortMissingValue.MISSING_HIGHEST.equals( missingValue ) ) {
-			considerMissingHighest = true;
+			return true;
 		}
 		else if ( SortMissingValue.MISSING_LAST.equals( missingValue ) ) {
 			// To appear last, missing values must be considered highest, or lowest if the order is reversed.
-			considerMissingHighest = !reversed;
+			return !reversed;
 		}
 		else { // SortMissingValue.MISSING_FIRST, the default
 			// To appear first, missing values must be considered lowest, or highest if the order is reversed.
-			considerMissingHighest = reversed;
+			return reversed;
 		}
-		TextMultiValuesToSingleValuesSource source =
-				TextMultiValuesToSingleValuesSource.fromField( fieldname, multiValueMode, nestedDocsProvider );
-
-		return new FieldComparator.TermOrdValComparator( numHits, fieldname, considerMissingHighest ) {
-			@Override
-			protected SortedDocValues getSortedDocValues(LeafReaderContext context, String field) throws IOException {
-				SortedDocValues sortedDocValues = source.getValues( context );
-
-				if ( missingValue == null || isOneOfSortMissingValues() ) {
-					return sortedDocValues;
-				}
-
-				return new ReplaceMissingSortedDocValues( sortedDocValues, (BytesRef) missingValue );
-			}
-		};
 	}
 
 	private boolean isOneOfSortMissingValues() {
@@ -38,6 +38,11 @@ protected AbstractLuceneDocumentValueSort(AbstractBuilder builder) {
 		super( builder );
 		LuceneFieldComparatorSource fieldComparatorSource = builder.toFieldComparatorSource();
 		sortField = new SortField( builder.absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
+		if ( fieldComparatorSource.canUsePoints() ) {
+			// Allows skipping non-competitive documents when this is the primary sort
+			// and the total hit count threshold is reached.
+			sortField.setCanUsePoints();
+		}
 	}
 
 	@Override
@@ -14,12 +14,16 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold) throws IOException;
 
+	R searchAfter(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int limit, int totalHitCountThreshold) throws IOException;
+
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, int limit, int totalHitCountThreshold) throws IOException;
 
@@ -18,6 +18,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -91,6 +92,11 @@ public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Int
 		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
 	}
 
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new SearchAfterWork<>( searcher, after, limit, totalHitCountThreshold );
+	}
+
 	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
 		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
 	}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+import org.apache.lucene.util.BytesRef;
+
+public class HyperLogLogTest {
+
+	@Test
+	public void empty() {
+		assertThat( new HyperLogLog().cardinality() ).isZero();
+	}
+
+	@Test
+	public void small() {
+		HyperLogLog hll = new HyperLogLog();
+		for ( int i = 0; i < 10; i++ ) {
+			// Duplicates must not be counted
+			hll.add( HyperLogLog.hash( i ) );
+			hll.add( HyperLogLog.hash( i ) );
+		}
+		assertThat( hll.cardinality() ).isEqualTo( 10L );
+	}
+
+	@Test
+	public void large() {
+		HyperLogLog hll = new HyperLogLog();
+		int count = 1_000_000;
+		for ( long i = 0; i < count; i++ ) {
+			hll.add( HyperLogLog.hash( i * 31 ) );
+		}
+		// The standard error is ~0.8% with 2^14 registers
+		assertThat( (double) hll.cardinality() ).isCloseTo( count, within( count * 0.03 ) );
+	}
+
+	@Test
+	public void bytesRef() {
+		HyperLogLog hll = new HyperLogLog();
+		int count = 50_000;
+		for ( int i = 0; i < count; i++ ) {
+			hll.add( HyperLogLog.hash( new BytesRef( "term" + i ) ) );
+			hll.add( HyperLogLog.hash( new BytesRef( "term" + i ) ) );
+		}
+		assertThat( (double) hll.cardinality() ).isCloseTo( count, within( count * 0.03 ) );
+	}
+
+	@Test
+	public void merge() {
+		HyperLogLog first = new HyperLogLog();
+		HyperLogLog second = new HyperLogLog();
+		int count = 100_000;
+		for ( long i = 0; i < count; i++ ) {
+			// Overlapping halves
+			if ( i < count * 3 / 4 ) {
+				first.add( HyperLogLog.hash( i ) );
+			}
+			if ( i >= count / 4 ) {
+				second.add( HyperLogLog.hash( i ) );
+			}
+		}
+		first.merge( second );
+		assertThat( (double) first.cardinality() ).isCloseTo( count, within( count * 0.03 ) );
+	}
+
+}
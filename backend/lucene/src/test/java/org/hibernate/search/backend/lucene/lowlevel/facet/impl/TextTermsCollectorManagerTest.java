@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+public class TextTermsCollectorManagerTest {
+
+	private static final String FIELD = "field";
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void multipleSegmentsAndCollectors() throws IOException {
+		// Segment ordinals differ from global ordinals: "b" is ordinal 0 in the second segment
+		addSegment( new String[] { "a", "c" }, new String[] { "c", "c" }, new String[] { "a" } );
+		addSegment( new String[] { "b", "c" }, new String[0] );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.leaves() ).hasSize( 2 );
+			TextTermsCollectorManager manager = new TextTermsCollectorManager( reader, FIELD,
+					JoiningTextMultiValuesSource.fromField( FIELD, null ) );
+
+			// One collector per segment, as when searching slices in parallel
+			TextTermsCollector collector1 = manager.newCollector();
+			collectAll( collector1, reader.leaves().get( 0 ) );
+			TextTermsCollector collector2 = manager.newCollector();
+			collectAll( collector2, reader.leaves().get( 1 ) );
+
+			FacetResult result = manager.reduce( Arrays.asList( collector1, collector2 ) )
+					.getTopChildren( 10, FIELD );
+			assertThat( result.labelValues ).containsExactly(
+					new LabelAndValue( "c", 3 ),
+					new LabelAndValue( "a", 2 ),
+					new LabelAndValue( "b", 1 )
+			);
+		}
+	}
+
+	@Test
+	public void sparseCounts() throws IOException {
+		addManyTermsSegment();
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			TextTermsCollectorManager manager = new TextTermsCollectorManager( reader, FIELD,
+					JoiningTextMultiValuesSource.fromField( FIELD, null ) );
+
+			// Few matching documents: counts remain in a hash map
+			TextTermsCollector collector = manager.newCollector();
+			LeafCollector leafCollector = collector.getLeafCollector( reader.leaves().get( 0 ) );
+			for ( int doc = 0; doc < 3; doc++ ) {
+				leafCollector.collect( doc );
+			}
+
+			FacetResult result = manager.reduce( Arrays.asList( collector ) ).getTopChildren( 10, FIELD );
+			assertThat( result.labelValues ).containsExactly(
+					new LabelAndValue( "common", 3 ),
+					new LabelAndValue( "v000", 1 ),
+					new LabelAndValue( "v001", 1 ),
+					new LabelAndValue( "v002", 1 )
+			);
+		}
+	}
+
+	@Test
+	public void sparseToDenseCounts() throws IOException {
+		addManyTermsSegment();
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			TextTermsCollectorManager manager = new TextTermsCollectorManager( reader, FIELD,
+					JoiningTextMultiValuesSource.fromField( FIELD, null ) );
+
+			// Many matching documents: counts switch from a hash map to an array while collecting
+			TextTermsCollector collector = manager.newCollector();
+			collectAll( collector, reader.leaves().get( 0 ) );
+
+			FacetResult result = manager.reduce( Arrays.asList( collector ) ).getTopChildren( 3, FIELD );
+			assertThat( result.childCount ).isEqualTo( 101 );
+			assertThat( result.labelValues ).containsExactly(
+					new LabelAndValue( "common", 100 ),
+					new LabelAndValue( "v000", 1 ),
+					new LabelAndValue( "v001", 1 )
+			);
+		}
+	}
+
+	@Test
+	public void noMatch() throws IOException {
+		addSegment( new String[] { "a" } );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			TextTermsCollectorManager manager = new TextTermsCollectorManager( reader, FIELD,
+					JoiningTextMultiValuesSource.fromField( FIELD, null ) );
+			TextTermsCollector collector = manager.newCollector();
+			collector.getLeafCollector( reader.leaves().get( 0 ) );
+
+			assertThat( manager.reduce( Arrays.asList( collector ) ).getTopChildren( 10, FIELD ) ).isNull();
+		}
+	}
+
+	private void addSegment(String[]... documentValues) throws IOException {
+		for ( String[] values : documentValues ) {
+			Document document = new Document();
+			for ( String value : values ) {
+				document.add( new SortedSetDocValuesField( FIELD, new BytesRef( value ) ) );
+			}
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+
+	private void addManyTermsSegment() throws IOException {
+		String[][] documentValues = new String[100][];
+		for ( int i = 0; i < documentValues.length; i++ ) {
+			documentValues[i] = new String[] { String.format( Locale.ROOT, "v%03d", i ), "common" };
+		}
+		addSegment( documentValues );
+	}
+
+	private static void collectAll(TextTermsCollector collector, LeafReaderContext context) throws IOException {
+		LeafCollector leafCollector = collector.getLeafCollector( context );
+		for ( int doc = 0; doc < context.reader().maxDoc(); doc++ ) {
+			leafCollector.collect( doc );
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+public class NestedDocsBitSetCacheTest {
+
+	private final NestedDocsBitSetCache cache = new NestedDocsBitSetCache();
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void reuse() throws IOException {
+		addDocuments( "parent", "child", "child", "parent" );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext context = reader.leaves().get( 0 );
+
+			BitSet parents = cache.getBitSet( context, query( "parent" ) );
+			assertThat( parents.cardinality() ).isEqualTo( 2 );
+			assertThat( parents.get( 0 ) ).isTrue();
+			assertThat( parents.get( 3 ) ).isTrue();
+			// Equal queries => same bitset
+			assertThat( cache.getBitSet( context, query( "parent" ) ) ).isSameAs( parents );
+
+			BitSet children = cache.getBitSet( context, query( "child" ) );
+			assertThat( children ).isNotSameAs( parents );
+			assertThat( children.cardinality() ).isEqualTo( 2 );
+
+			// No match => null, whether cached or not
+			assertThat( cache.getBitSet( context, query( "unknown" ) ) ).isNull();
+			assertThat( cache.getBitSet( context, query( "unknown" ) ) ).isNull();
+
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void reuseAcrossReaders() throws IOException {
+		addDocuments( "parent", "child" );
+		BitSet parents;
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			parents = cache.getBitSet( reader.leaves().get( 0 ), query( "parent" ) );
+			assertThat( parents ).isNotNull();
+
+			addDocuments( "parent" );
+			try ( DirectoryReader newReader = DirectoryReader.openIfChanged( reader ) ) {
+				assertThat( newReader ).isNotNull();
+				assertThat( newReader.leaves() ).hasSize( 2 );
+				// The first segment didn't change => same bitset
+				assertThat( cache.getBitSet( newReader.leaves().get( 0 ), query( "parent" ) ) )
+						.isSameAs( parents );
+				assertThat( cache.getBitSet( newReader.leaves().get( 1 ), query( "parent" ) ) )
+						.isNotSameAs( parents );
+				assertThat( cache.cachedSegmentCount() ).isEqualTo( 2 );
+			}
+		}
+	}
+
+	@Test
+	public void evictionOnSegmentClose() throws IOException {
+		addDocuments( "parent", "child" );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			cache.getBitSet( reader.leaves().get( 0 ), query( "parent" ) );
+			assertThat( cache.cachedSegmentCount() ).isEqualTo( 1 );
+		}
+		// The segment was closed along with the reader
+		assertThat( cache.cachedSegmentCount() ).isZero();
+	}
+
+	private void addDocuments(String... types) throws IOException {
+		for ( String type : types ) {
+			Document document = new Document();
+			document.add( new StringField( "type", type, Field.Store.NO ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+
+	private static TermQuery query(String type) {
+		return new TermQuery( new Term( "type", type ) );
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+public class GlobalOrdinalsCacheTest {
+
+	private static final String FIELD = "field";
+
+	private final GlobalOrdinalsCache cache = new GlobalOrdinalsCache();
+
+	private Directory directory;
+	private IndexWriter writer;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void reuse() throws IOException {
+		addSegment( "c", "a" );
+		addSegment( "b", "c" );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			SortedSetDocValues values = cache.getSortedSetValues( reader, FIELD );
+			assertThat( values.getValueCount() ).isEqualTo( 3 );
+			assertThat( values.lookupOrd( 0 ).utf8ToString() ).isEqualTo( "a" );
+			assertThat( values.lookupOrd( 1 ).utf8ToString() ).isEqualTo( "b" );
+			assertThat( values.lookupOrd( 2 ).utf8ToString() ).isEqualTo( "c" );
+			// "b" is ordinal 0 in the second segment
+			assertThat( mapping( values ).getGlobalOrds( 1 ).get( 0 ) ).isEqualTo( 1 );
+
+			// Same reader => same ordinal map
+			assertThat( mapping( cache.getSortedSetValues( reader, FIELD ) ) ).isSameAs( mapping( values ) );
+			assertThat( cache.cachedReaderCount() ).isEqualTo( 1 );
+
+			// No values => null, and no ordinal map
+			assertThat( cache.getSortedSetValues( reader, "unknown" ) ).isNull();
+		}
+	}
+
+	@Test
+	public void singleSegment() throws IOException {
+		addSegment( "b", "a" );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			SortedSetDocValues values = cache.getSortedSetValues( reader, FIELD );
+			assertThat( values ).isNotInstanceOf( MultiDocValues.MultiSortedSetDocValues.class );
+			assertThat( values.getValueCount() ).isEqualTo( 2 );
+			assertThat( cache.cachedReaderCount() ).isZero();
+		}
+	}
+
+	@Test
+	public void evictionOnReaderClose() throws IOException {
+		addSegment( "a" );
+		addSegment( "b" );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			cache.getSortedSetValues( reader, FIELD );
+			assertThat( cache.cachedReaderCount() ).isEqualTo( 1 );
+
+			addSegment( "c" );
+			try ( DirectoryReader newReader = DirectoryReader.openIfChanged( reader ) ) {
+				// The reader changed => new ordinal map
+				SortedSetDocValues values = cache.getSortedSetValues( newReader, FIELD );
+				assertThat( values.getValueCount() ).isEqualTo( 3 );
+				assertThat( cache.cachedReaderCount() ).isEqualTo( 2 );
+			}
+			assertThat( cache.cachedReaderCount() ).isEqualTo( 1 );
+		}
+		assertThat( cache.cachedReaderCount() ).isZero();
+	}
+
+	private void addSegment(String... values) throws IOException {
+		for ( String value : values ) {
+			Document document = new Document();
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( value ) ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+
+	private static OrdinalMap mapping(SortedSetDocValues values) {
+		return ( (MultiDocValues.MultiSortedSetDocValues) values ).mapping;
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class CommitPolicyTest {
+
+	private static final int MIN_INTERVAL = 100;
+	private static final int MAX_INTERVAL = 1000;
+	private static final int MAX_PENDING_OPERATIONS = 50;
+
+	private final CommitStatistics statistics = new CommitStatistics();
+
+	@Test
+	public void fixed() {
+		CommitPolicy policy = CommitPolicy.fixed( MAX_INTERVAL );
+		assertThat( policy.canDelayCommits() ).isTrue();
+		assertThat( policy.isAdaptive() ).isFalse();
+
+		recordCommit( 500 );
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( MAX_INTERVAL );
+		// Pending operations and the RAM buffer are ignored
+		assertThat( policy.interval( Long.MAX_VALUE, true, statistics ) ).isEqualTo( MAX_INTERVAL );
+	}
+
+	@Test
+	public void fixed_zero() {
+		CommitPolicy policy = CommitPolicy.fixed( 0 );
+		assertThat( policy.canDelayCommits() ).isFalse();
+		assertThat( policy.interval( 0, false, statistics ) ).isZero();
+	}
+
+	@Test
+	public void adaptive_noCommitYet() {
+		CommitPolicy policy = adaptive();
+		assertThat( policy.isAdaptive() ).isTrue();
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( MIN_INTERVAL );
+	}
+
+	@Test
+	public void adaptive_latencyBased() {
+		CommitPolicy policy = adaptive();
+
+		recordCommit( 50 );
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( 500 );
+
+		// Moving average: 0.2 * 100 + 0.8 * 50 = 60
+		recordCommit( 100 );
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( 600 );
+	}
+
+	@Test
+	public void adaptive_fastCommits() {
+		CommitPolicy policy = adaptive();
+		recordCommit( 1 );
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( MIN_INTERVAL );
+	}
+
+	@Test
+	public void adaptive_slowCommits() {
+		CommitPolicy policy = adaptive();
+		recordCommit( 5000 );
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( MAX_INTERVAL );
+	}
+
+	@Test
+	public void adaptive_pendingOperations() {
+		CommitPolicy policy = adaptive();
+		recordCommit( 50 );
+
+		assertThat( policy.interval( MAX_PENDING_OPERATIONS - 1, false, statistics ) ).isEqualTo( 500 );
+		assertThat( policy.interval( MAX_PENDING_OPERATIONS, false, statistics ) ).isEqualTo( MIN_INTERVAL );
+		assertThat( policy.interval( MAX_PENDING_OPERATIONS + 1, false, statistics ) ).isEqualTo( MIN_INTERVAL );
+	}
+
+	@Test
+	public void adaptive_ramBufferNearlyFull() {
+		CommitPolicy policy = adaptive();
+		recordCommit( 50 );
+
+		assertThat( policy.interval( 0, true, statistics ) ).isEqualTo( MIN_INTERVAL );
+	}
+
+	@Test
+	public void adaptive_minIntervalGreaterThanMaxInterval() {
+		CommitPolicy policy = CommitPolicy.adaptive( MAX_INTERVAL * 2, MAX_INTERVAL, MAX_PENDING_OPERATIONS );
+
+		// The maximum interval wins
+		assertThat( policy.interval( 0, false, statistics ) ).isEqualTo( MAX_INTERVAL );
+		assertThat( policy.interval( MAX_PENDING_OPERATIONS, false, statistics ) ).isEqualTo( MAX_INTERVAL );
+	}
+
+	private CommitPolicy adaptive() {
+		return CommitPolicy.adaptive( MIN_INTERVAL, MAX_INTERVAL, MAX_PENDING_OPERATIONS );
+	}
+
+	private void recordCommit(long latencyMillis) {
+		statistics.record( TimeUnit.MILLISECONDS.toNanos( latencyMillis ) );
+	}
+}
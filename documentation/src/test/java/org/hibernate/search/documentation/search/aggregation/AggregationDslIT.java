@@ -8,6 +8,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
 
 import java.sql.Date;
@@ -407,6 +408,57 @@ public void filter() {
 		} );
 	}
 
+	@Test
+	public void metrics() {
+		withinSearchSession( searchSession -> {
+			// tag::sum[]
+			AggregationKey<Double> totalPriceKey = AggregationKey.of( "totalPrice" );
+			SearchResult<Book> result = searchSession.search( Book.class )
+					.where( f -> f.match().field( "genre" ).matching( Genre.SCIENCE_FICTION ) )
+					.aggregation( totalPriceKey, f -> f.sum().field( "price", Double.class ) ) // <1>
+					.fetch( 20 );
+			Double totalPrice = result.aggregation( totalPriceKey ); // <2>
+			// end::sum[]
+			assertThat( totalPrice ).isCloseTo( 60.97, within( 0.001 ) );
+		} );
+
+		withinSearchSession( searchSession -> {
+			// tag::min-max-avg[]
+			AggregationKey<Double> minPriceKey = AggregationKey.of( "minPrice" );
+			AggregationKey<Double> maxPriceKey = AggregationKey.of( "maxPrice" );
+			AggregationKey<Double> avgPriceKey = AggregationKey.of( "avgPrice" );
+			SearchResult<Book> result = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.aggregation( minPriceKey, f -> f.min().field( "price", Double.class ) )
+					.aggregation( maxPriceKey, f -> f.max().field( "price", Double.class ) )
+					.aggregation( avgPriceKey, f -> f.avg().field( "price", Double.class ) )
+					.fetch( 20 );
+			Double minPrice = result.aggregation( minPriceKey );
+			Double maxPrice = result.aggregation( maxPriceKey );
+			Double avgPrice = result.aggregation( avgPriceKey );
+			// end::min-max-avg[]
+			assertThat( minPrice ).isEqualTo( 7.99 );
+			assertThat( maxPrice ).isEqualTo( 24.99 );
+			assertThat( avgPrice ).isCloseTo( 17.24, within( 0.001 ) );
+		} );
+
+		withinSearchSession( searchSession -> {
+			// tag::count-values[]
+			AggregationKey<Long> editionPriceCountKey = AggregationKey.of( "editionPriceCount" );
+			AggregationKey<Long> genreCountKey = AggregationKey.of( "genreCount" );
+			SearchResult<Book> result = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.aggregation( editionPriceCountKey, f -> f.countValues().field( "editions.price" ) ) // <1>
+					.aggregation( genreCountKey, f -> f.countDistinctValues().field( "genre" ) ) // <2>
+					.fetch( 20 );
+			Long editionPriceCount = result.aggregation( editionPriceCountKey );
+			Long genreCount = result.aggregation( genreCountKey );
+			// end::count-values[]
+			assertThat( editionPriceCount ).isEqualTo( 8L );
+			assertThat( genreCount ).isEqualTo( 2L );
+		} );
+	}
+
 	private void withinSearchSession(Consumer<SearchSession> action) {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
 			SearchSession searchSession = Search.session( entityManager );
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The function used to compare vectors in a vector field,
+ * for instance in a {@link org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#knn(int) knn predicate}.
+ * <p>
+ * Higher similarity means higher score.
+ */
+@Incubating
+public enum VectorSimilarity {
+	/**
+	 * Use the backend-specific default, i.e. {@link #L2}.
+	 */
+	DEFAULT,
+	/**
+	 * Euclidean distance: the score is {@code 1 / (1 + l2Norm(a - b)^2)}.
+	 */
+	L2,
+	/**
+	 * Dot product: the score is {@code (1 + dotProduct(a, b)) / 2}.
+	 * <p>
+	 * Only meaningful for vectors of length 1: all vectors, both indexed and passed to predicates,
+	 * must be normalized.
+	 */
+	DOT_PRODUCT,
+	/**
+	 * Cosine similarity: the score is {@code (1 + cosine(a, b)) / 2}.
+	 * <p>
+	 * Vectors with a length of zero must not be used.
+	 */
+	COSINE
+}
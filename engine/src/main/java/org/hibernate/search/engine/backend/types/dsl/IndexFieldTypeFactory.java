@@ -21,6 +21,7 @@
 
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 
 /**
@@ -167,6 +168,30 @@ public interface IndexFieldTypeFactory {
 	 */
 	ScaledNumberIndexFieldTypeOptionsStep<?, BigInteger> asBigInteger();
 
+	/**
+	 * Define a field type whose values are vectors of floats, represented as a {@code float[]} in Hibernate Search.
+	 * <p>
+	 * Vector fields are mainly useful for nearest neighbor search with the
+	 * {@link org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#knn(int) knn predicate}.
+	 *
+	 * @param dimension The number of elements in each vector. All vectors must have exactly this number of elements.
+	 * @return A DSL step where the index field type can be defined in more details.
+	 */
+	@Incubating
+	VectorFieldTypeOptionsStep<?, float[]> asFloatVector(int dimension);
+
+	/**
+	 * Define a field type whose values are vectors of bytes, represented as a {@code byte[]} in Hibernate Search.
+	 * <p>
+	 * Vector fields are mainly useful for nearest neighbor search with the
+	 * {@link org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#knn(int) knn predicate}.
+	 *
+	 * @param dimension The number of elements in each vector. All vectors must have exactly this number of elements.
+	 * @return A DSL step where the index field type can be defined in more details.
+	 */
+	@Incubating
+	VectorFieldTypeOptionsStep<?, byte[]> asByteVector(int dimension);
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering more field types.
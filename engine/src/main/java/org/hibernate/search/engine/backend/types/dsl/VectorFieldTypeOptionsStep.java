@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.types.dsl;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The initial and final step in a "vector" index field type definition, where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
+@Incubating
+public interface VectorFieldTypeOptionsStep<S extends VectorFieldTypeOptionsStep<?, F>, F>
+		extends IndexFieldTypeOptionsStep<S, F> {
+
+	/**
+	 * @param vectorSimilarity How vectors are compared when searching for nearest neighbors.
+	 * @return {@code this}, for method chaining.
+	 * @see VectorSimilarity
+	 */
+	S vectorSimilarity(VectorSimilarity vectorSimilarity);
+
+	/**
+	 * @param projectable Whether projections are enabled for this field.
+	 * @return {@code this}, for method chaining.
+	 * @see Projectable
+	 */
+	S projectable(Projectable projectable);
+
+	/**
+	 * @param searchable Whether this field should be searchable, i.e. usable in knn predicates.
+	 * @return {@code this}, for method chaining.
+	 * @see Searchable
+	 */
+	S searchable(Searchable searchable);
+
+}
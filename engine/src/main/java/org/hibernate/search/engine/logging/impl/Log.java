@@ -554,4 +554,22 @@ SearchException invalidTypeForEntityProjection(String name, @FormatWith(ClassFor
 					+ "Included paths are: '%1$s', excluded paths are: '%2$s'.")
 	SearchException cannotIncludeAndExcludePathsWithinSameIndexedEmbedded(Set<String> includePaths,
 			Set<String> excludePaths);
+
+	@Message(id = ID_OFFSET + 120,
+			value = "Query '%1$s' was already added to this multi-search.")
+	SearchException queryAlreadyInMultiSearch(Object query);
+
+	@Message(id = ID_OFFSET + 121,
+			value = "Query '%1$s' cannot be executed as part of a multi-search."
+					+ " Only queries created by Hibernate Search backends can be added to a multi-search.")
+	SearchException queryNotSupportedInMultiSearch(Object query);
+
+	@Message(id = ID_OFFSET + 122,
+			value = "Query '%1$s' was not added to this multi-search.")
+	SearchException queryNotInMultiSearch(Object query);
+
+	@Message(id = ID_OFFSET + 123,
+			value = "Invalid type for the result of an average aggregation: '%1$s'."
+					+ " Averages are always computed as Double values: use Double as the expected type.")
+	SearchException invalidTypeForAverageAggregation(@FormatWith(ClassFormatter.class) Class<?> requestedType);
 }
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+/**
+ * The initial step in a "count distinct values" aggregation definition, where the target field can be set.
+ *
+ * @param <PDF> The type of factory used to create predicates in {@link AggregationFilterStep#filter(Function)}.
+ */
+public interface CountDistinctValuesAggregationFieldStep<PDF extends SearchPredicateFactory> {
+
+	/**
+	 * Target the given field in the count distinct values aggregation.
+	 *
+	 * @param fieldPath The <a href="SearchAggregationFactory.html#field-paths">path</a> to the index field to aggregate.
+	 * @return The next step.
+	 */
+	CountDistinctValuesAggregationOptionsStep<?, PDF> field(String fieldPath);
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+/**
+ * The final step in a "count distinct values" aggregation definition, where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <PDF> The type of factory used to create predicates in {@link #filter(Function)}.
+ */
+public interface CountDistinctValuesAggregationOptionsStep<
+				S extends CountDistinctValuesAggregationOptionsStep<?, PDF>,
+				PDF extends SearchPredicateFactory
+		>
+		extends AggregationFinalStep<Long>, AggregationFilterStep<S, PDF> {
+
+	/**
+	 * Count distinct values approximately, using the HyperLogLog algorithm.
+	 * <p>
+	 * The approximate count uses a fixed amount of memory regardless of the number of distinct values,
+	 * at the cost of a relative error of about 1% on large cardinalities.
+	 * <p>
+	 * By default, the Lucene backend counts distinct values exactly,
+	 * and the Elasticsearch backend counts distinct values with the highest precision it allows
+	 * (exact below 40000 distinct values, approximate above).
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	S approximate();
+
+}
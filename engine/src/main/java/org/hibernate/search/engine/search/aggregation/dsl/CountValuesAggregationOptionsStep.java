@@ -0,0 +1,25 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+/**
+ * The final step in a "count values" aggregation definition, where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <PDF> The type of factory used to create predicates in {@link #filter(Function)}.
+ */
+public interface CountValuesAggregationOptionsStep<
+				S extends CountValuesAggregationOptionsStep<?, PDF>,
+				PDF extends SearchPredicateFactory
+		>
+		extends AggregationFinalStep<Long>, AggregationFilterStep<S, PDF> {
+
+}
@@ -34,4 +34,22 @@
 
 	@Override
 	TermsAggregationFieldStep<PDF> terms();
+
+	@Override
+	FieldMetricAggregationFieldStep<PDF> sum();
+
+	@Override
+	FieldMetricAggregationFieldStep<PDF> min();
+
+	@Override
+	FieldMetricAggregationFieldStep<PDF> max();
+
+	@Override
+	FieldMetricAggregationFieldStep<PDF> avg();
+
+	@Override
+	CountValuesAggregationFieldStep<PDF> countValues();
+
+	@Override
+	CountDistinctValuesAggregationFieldStep<PDF> countDistinctValues();
 }
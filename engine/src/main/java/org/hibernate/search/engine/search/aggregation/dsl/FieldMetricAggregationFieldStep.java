@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+/**
+ * The initial step in a metric aggregation definition computing a single value from the values of a field
+ * ("sum", "min", "max", "avg"), where the target field can be set.
+ *
+ * @param <PDF> The type of factory used to create predicates in {@link AggregationFilterStep#filter(Function)}.
+ */
+public interface FieldMetricAggregationFieldStep<PDF extends SearchPredicateFactory> {
+
+	/**
+	 * Target the given field in the metric aggregation.
+	 *
+	 * @param fieldPath The <a href="SearchAggregationFactory.html#field-paths">path</a> to the index field to aggregate.
+	 * @param type The expected type of the aggregation result:
+	 * the type of field values, or a wider type for {@link SearchAggregationFactory#sum() sums},
+	 * or {@code Double} for {@link SearchAggregationFactory#avg() averages}.
+	 * @param <F> The expected type of the aggregation result.
+	 * @return The next step.
+	 */
+	default <F> FieldMetricAggregationOptionsStep<?, PDF, F> field(String fieldPath, Class<F> type) {
+		return field( fieldPath, type, ValueConvert.YES );
+	}
+
+	/**
+	 * Target the given field in the metric aggregation.
+	 *
+	 * @param fieldPath The <a href="SearchAggregationFactory.html#field-paths">path</a> to the index field to aggregate.
+	 * @param type The expected type of the aggregation result:
+	 * the type of field values, or a wider type for {@link SearchAggregationFactory#sum() sums},
+	 * or {@code Double} for {@link SearchAggregationFactory#avg() averages}.
+	 * @param <F> The expected type of the aggregation result.
+	 * @param convert Controls how the result fetched from the backend should be converted.
+	 * See {@link ValueConvert}.
+	 * @return The next step.
+	 */
+	<F> FieldMetricAggregationOptionsStep<?, PDF, F> field(String fieldPath, Class<F> type, ValueConvert convert);
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+/**
+ * The final step in a metric aggregation definition computing a single value from the values of a field
+ * ("sum", "min", "max", "avg"), where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <PDF> The type of factory used to create predicates in {@link #filter(Function)}.
+ * @param <F> The type of the aggregation result.
+ */
+public interface FieldMetricAggregationOptionsStep<
+				S extends FieldMetricAggregationOptionsStep<?, PDF, F>,
+				PDF extends SearchPredicateFactory,
+				F
+		>
+		extends AggregationFinalStep<F>, AggregationFilterStep<S, PDF> {
+
+}
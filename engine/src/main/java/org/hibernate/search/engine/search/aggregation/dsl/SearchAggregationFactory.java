@@ -60,6 +60,94 @@ public interface SearchAggregationFactory {
 	 */
 	TermsAggregationFieldStep<?> terms();
 
+	/**
+	 * Compute the sum of the values of a numeric field.
+	 * <p>
+	 * Given a field, this aggregation adds up all the values of that field
+	 * in every document matched by the search query.
+	 * Documents without any value for that field are ignored.
+	 * <p>
+	 * If no document has a value for that field, the result is zero.
+	 * <p>
+	 * The sum has the same type as the field by default,
+	 * and a failure is reported if the sum cannot be represented with that type,
+	 * e.g. when the sum of {@code Byte} values exceeds {@link Byte#MAX_VALUE}.
+	 * To avoid that, a wider type can be requested when {@link FieldMetricAggregationFieldStep#field(String, Class) targeting the field}:
+	 * {@code Long} for fields of integral types ({@code Byte}, {@code Short}, {@code Integer}, {@code Long}),
+	 * or {@code Double} for any numeric field.
+	 * Field value converters are not applied to sums of such wider types.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	FieldMetricAggregationFieldStep<?> sum();
+
+	/**
+	 * Compute the minimum value of a field.
+	 * <p>
+	 * Given a field, this aggregation returns the lowest value of that field
+	 * in every document matched by the search query.
+	 * <p>
+	 * If no document has a value for that field, the result is {@code null}.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	FieldMetricAggregationFieldStep<?> min();
+
+	/**
+	 * Compute the maximum value of a field.
+	 * <p>
+	 * Given a field, this aggregation returns the highest value of that field
+	 * in every document matched by the search query.
+	 * <p>
+	 * If no document has a value for that field, the result is {@code null}.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	FieldMetricAggregationFieldStep<?> max();
+
+	/**
+	 * Compute the average of the values of a numeric field.
+	 * <p>
+	 * Given a field, this aggregation returns the average of all the values of that field
+	 * in every document matched by the search query.
+	 * <p>
+	 * The average is always a {@code Double}, even for fields of integral types,
+	 * so {@code Double} must be passed as the expected type when {@link FieldMetricAggregationFieldStep#field(String, Class) targeting the field}.
+	 * Field value converters are not applied to averages.
+	 * If no document has a value for that field, the result is {@code null}.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	FieldMetricAggregationFieldStep<?> avg();
+
+	/**
+	 * Count the values of a field.
+	 * <p>
+	 * Given a field, this aggregation returns the number of values of that field
+	 * in every document matched by the search query.
+	 * A document with multiple values for that field will contribute all its values to the count.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	CountValuesAggregationFieldStep<?> countValues();
+
+	/**
+	 * Count the distinct values of a field.
+	 * <p>
+	 * Given a field, this aggregation returns the number of distinct values of that field
+	 * in every document matched by the search query,
+	 * i.e. the cardinality of the set of values of that field.
+	 *
+	 * @return The next step.
+	 */
+	@Incubating
+	CountDistinctValuesAggregationFieldStep<?> countDistinctValues();
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering different types of aggregations.
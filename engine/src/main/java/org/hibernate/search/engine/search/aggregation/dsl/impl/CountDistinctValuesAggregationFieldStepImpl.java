@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl.impl;
+
+import org.hibernate.search.engine.search.aggregation.dsl.CountDistinctValuesAggregationFieldStep;
+import org.hibernate.search.engine.search.aggregation.dsl.CountDistinctValuesAggregationOptionsStep;
+import org.hibernate.search.engine.search.aggregation.dsl.spi.SearchAggregationDslContext;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public class CountDistinctValuesAggregationFieldStepImpl<PDF extends SearchPredicateFactory>
+		implements CountDistinctValuesAggregationFieldStep<PDF> {
+	private final SearchAggregationDslContext<?, ? extends PDF> dslContext;
+
+	public CountDistinctValuesAggregationFieldStepImpl(SearchAggregationDslContext<?, ? extends PDF> dslContext) {
+		this.dslContext = dslContext;
+	}
+
+	@Override
+	public CountDistinctValuesAggregationOptionsStep<?, PDF> field(String fieldPath) {
+		Contracts.assertNotNull( fieldPath, "fieldPath" );
+		CountDistinctValuesAggregationBuilder builder = dslContext.scope()
+				.fieldQueryElement( fieldPath, AggregationTypeKeys.COUNT_DISTINCT_VALUES );
+		return new CountDistinctValuesAggregationOptionsStepImpl<>( builder, dslContext );
+	}
+}
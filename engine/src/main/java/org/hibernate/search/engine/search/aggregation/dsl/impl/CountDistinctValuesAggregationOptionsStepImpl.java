@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.dsl.CountDistinctValuesAggregationOptionsStep;
+import org.hibernate.search.engine.search.aggregation.dsl.spi.SearchAggregationDslContext;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+class CountDistinctValuesAggregationOptionsStepImpl<PDF extends SearchPredicateFactory>
+		implements CountDistinctValuesAggregationOptionsStep<CountDistinctValuesAggregationOptionsStepImpl<PDF>, PDF> {
+	private final CountDistinctValuesAggregationBuilder builder;
+	private final SearchAggregationDslContext<?, ? extends PDF> dslContext;
+
+	CountDistinctValuesAggregationOptionsStepImpl(CountDistinctValuesAggregationBuilder builder,
+			SearchAggregationDslContext<?, ? extends PDF> dslContext) {
+		this.builder = builder;
+		this.dslContext = dslContext;
+	}
+
+	@Override
+	public CountDistinctValuesAggregationOptionsStepImpl<PDF> approximate() {
+		builder.approximate();
+		return this;
+	}
+
+	@Override
+	public CountDistinctValuesAggregationOptionsStepImpl<PDF> filter(
+			Function<? super PDF, ? extends PredicateFinalStep> clauseContributor) {
+		SearchPredicate predicate = clauseContributor.apply( dslContext.predicateFactory() ).toPredicate();
+
+		return filter( predicate );
+	}
+
+	@Override
+	public CountDistinctValuesAggregationOptionsStepImpl<PDF> filter(SearchPredicate searchPredicate) {
+		builder.filter( searchPredicate );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<Long> toAggregation() {
+		return builder.build();
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl.impl;
+
+import org.hibernate.search.engine.search.aggregation.dsl.CountValuesAggregationFieldStep;
+import org.hibernate.search.engine.search.aggregation.dsl.CountValuesAggregationOptionsStep;
+import org.hibernate.search.engine.search.aggregation.dsl.spi.SearchAggregationDslContext;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
+import org.hibernate.search.engine.search.aggregation.spi.CountValuesAggregationBuilder;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.util.common.impl.Contracts;
+
+public class CountValuesAggregationFieldStepImpl<PDF extends SearchPredicateFactory>
+		implements CountValuesAggregationFieldStep<PDF> {
+	private final SearchAggregationDslContext<?, ? extends PDF> dslContext;
+
+	public CountValuesAggregationFieldStepImpl(SearchAggregationDslContext<?, ? extends PDF> dslContext) {
+		this.dslContext = dslContext;
+	}
+
+	@Override
+	public CountValuesAggregationOptionsStep<?, PDF> field(String fieldPath) {
+		Contracts.assertNotNull( fieldPath, "fieldPath" );
+		CountValuesAggregationBuilder builder = dslContext.scope()
+				.fieldQueryElement( fieldPath, AggregationTypeKeys.COUNT_VALUES );
+		return new CountValuesAggregationOptionsStepImpl<>( builder, dslContext );
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.aggregation.dsl.FieldMetricAggregationFieldStep;
+import org.hibernate.search.engine.search.aggregation.dsl.FieldMetricAggregationOptionsStep;
+import org.hibernate.search.engine.search.aggregation.dsl.spi.SearchAggregationDslContext;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
+import org.hibernate.search.engine.search.aggregation.spi.FieldMetricAggregationBuilder;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.common.spi.SearchQueryElementTypeKey;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class FieldMetricAggregationFieldStepImpl<PDF extends SearchPredicateFactory>
+		implements FieldMetricAggregationFieldStep<PDF> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SearchAggregationDslContext<?, ? extends PDF> dslContext;
+	private final SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> key;
+
+	public FieldMetricAggregationFieldStepImpl(SearchAggregationDslContext<?, ? extends PDF> dslContext,
+			SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> key) {
+		this.dslContext = dslContext;
+		this.key = key;
+	}
+
+	@Override
+	public <F> FieldMetricAggregationOptionsStep<?, PDF, F> field(String fieldPath, Class<F> type,
+			ValueConvert convert) {
+		Contracts.assertNotNull( fieldPath, "fieldPath" );
+		Contracts.assertNotNull( type, "type" );
+		FieldMetricAggregationBuilder.TypeSelector typeSelector = dslContext.scope()
+				.fieldQueryElement( fieldPath, key );
+		if ( AggregationTypeKeys.AVG.equals( key ) && !type.isAssignableFrom( Double.class ) ) {
+			throw log.invalidTypeForAverageAggregation( type );
+		}
+		FieldMetricAggregationBuilder<F> builder = typeSelector.type( type, convert );
+		return new FieldMetricAggregationOptionsStepImpl<>( builder, dslContext );
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.dsl.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.dsl.FieldMetricAggregationOptionsStep;
+import org.hibernate.search.engine.search.aggregation.dsl.spi.SearchAggregationDslContext;
+import org.hibernate.search.engine.search.aggregation.spi.FieldMetricAggregationBuilder;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+
+class FieldMetricAggregationOptionsStepImpl<PDF extends SearchPredicateFactory, F>
+		implements FieldMetricAggregationOptionsStep<FieldMetricAggregationOptionsStepImpl<PDF, F>, PDF, F> {
+	private final FieldMetricAggregationBuilder<F> builder;
+	private final SearchAggregationDslContext<?, ? extends PDF> dslContext;
+
+	FieldMetricAggregationOptionsStepImpl(FieldMetricAggregationBuilder<F> builder,
+			SearchAggregationDslContext<?, ? extends PDF> dslContext) {
+		this.builder = builder;
+		this.dslContext = dslContext;
+	}
+
+	@Override
+	public FieldMetricAggregationOptionsStepImpl<PDF, F> filter(
+			Function<? super PDF, ? extends PredicateFinalStep> clauseContributor) {
+		SearchPredicate predicate = clauseContributor.apply( dslContext.predicateFactory() ).toPredicate();
+
+		return filter( predicate );
+	}
+
+	@Override
+	public FieldMetricAggregationOptionsStepImpl<PDF, F> filter(SearchPredicate searchPredicate) {
+		builder.filter( searchPredicate );
+		return this;
+	}
+
+	@Override
+	public SearchAggregation<F> toAggregation() {
+		return builder.build();
+	}
+}
@@ -7,12 +7,19 @@
 package org.hibernate.search.engine.search.aggregation.dsl.spi;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.search.aggregation.dsl.CountDistinctValuesAggregationFieldStep;
+import org.hibernate.search.engine.search.aggregation.dsl.CountValuesAggregationFieldStep;
 import org.hibernate.search.engine.search.aggregation.dsl.ExtendedSearchAggregationFactory;
+import org.hibernate.search.engine.search.aggregation.dsl.FieldMetricAggregationFieldStep;
 import org.hibernate.search.engine.search.aggregation.dsl.RangeAggregationFieldStep;
 import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactoryExtension;
 import org.hibernate.search.engine.search.aggregation.dsl.TermsAggregationFieldStep;
+import org.hibernate.search.engine.search.aggregation.dsl.impl.CountDistinctValuesAggregationFieldStepImpl;
+import org.hibernate.search.engine.search.aggregation.dsl.impl.CountValuesAggregationFieldStepImpl;
+import org.hibernate.search.engine.search.aggregation.dsl.impl.FieldMetricAggregationFieldStepImpl;
 import org.hibernate.search.engine.search.aggregation.dsl.impl.RangeAggregationFieldStepImpl;
 import org.hibernate.search.engine.search.aggregation.dsl.impl.TermsAggregationFieldStepImpl;
+import org.hibernate.search.engine.search.aggregation.spi.AggregationTypeKeys;
 import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationIndexScope;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 
@@ -39,6 +46,36 @@ public TermsAggregationFieldStep<PDF> terms() {
 		return new TermsAggregationFieldStepImpl<>( dslContext );
 	}
 
+	@Override
+	public FieldMetricAggregationFieldStep<PDF> sum() {
+		return new FieldMetricAggregationFieldStepImpl<>( dslContext, AggregationTypeKeys.SUM );
+	}
+
+	@Override
+	public FieldMetricAggregationFieldStep<PDF> min() {
+		return new FieldMetricAggregationFieldStepImpl<>( dslContext, AggregationTypeKeys.MIN );
+	}
+
+	@Override
+	public FieldMetricAggregationFieldStep<PDF> max() {
+		return new FieldMetricAggregationFieldStepImpl<>( dslContext, AggregationTypeKeys.MAX );
+	}
+
+	@Override
+	public FieldMetricAggregationFieldStep<PDF> avg() {
+		return new FieldMetricAggregationFieldStepImpl<>( dslContext, AggregationTypeKeys.AVG );
+	}
+
+	@Override
+	public CountValuesAggregationFieldStep<PDF> countValues() {
+		return new CountValuesAggregationFieldStepImpl<>( dslContext );
+	}
+
+	@Override
+	public CountDistinctValuesAggregationFieldStep<PDF> countDistinctValues() {
+		return new CountDistinctValuesAggregationFieldStepImpl<>( dslContext );
+	}
+
 	@Override
 	public <T> T extension(SearchAggregationFactoryExtension<T> extension) {
 		return DslExtensionState.returnIfSupported( extension, extension.extendOptional( this ) );
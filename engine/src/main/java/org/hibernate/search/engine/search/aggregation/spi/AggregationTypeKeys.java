@@ -19,5 +19,12 @@ public static <T> SearchQueryElementTypeKey<T> key(String name) {
 
 	public static final SearchQueryElementTypeKey<TermsAggregationBuilder.TypeSelector> TERMS = key( "terms" );
 	public static final SearchQueryElementTypeKey<RangeAggregationBuilder.TypeSelector> RANGE = key( "range" );
+	public static final SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> SUM = key( "sum" );
+	public static final SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> MIN = key( "min" );
+	public static final SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> MAX = key( "max" );
+	public static final SearchQueryElementTypeKey<FieldMetricAggregationBuilder.TypeSelector> AVG = key( "avg" );
+	public static final SearchQueryElementTypeKey<CountValuesAggregationBuilder> COUNT_VALUES = key( "count-values" );
+	public static final SearchQueryElementTypeKey<CountDistinctValuesAggregationBuilder> COUNT_DISTINCT_VALUES =
+			key( "count-distinct-values" );
 
 }
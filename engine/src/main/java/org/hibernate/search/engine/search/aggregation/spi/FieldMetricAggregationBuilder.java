@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.aggregation.spi;
+
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+
+public interface FieldMetricAggregationBuilder<F> extends SearchAggregationBuilder<F> {
+
+	interface TypeSelector {
+		<F> FieldMetricAggregationBuilder<F> type(Class<F> expectedType, ValueConvert convert);
+	}
+
+	void filter(SearchPredicate filter);
+
+}
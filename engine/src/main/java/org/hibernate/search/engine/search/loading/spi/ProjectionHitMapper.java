@@ -32,4 +32,20 @@
 	 */
 	LoadingResult<E> loadBlocking(Deadline deadline);
 
+	/**
+	 * Loads the entities planned for loading in one go, blocking the current thread while doing so,
+	 * relying on resources dedicated to this operation.
+	 * <p>
+	 * Used when loading happens in a thread other than the one that created the loading context,
+	 * e.g. for asynchronous search queries:
+	 * implementations relying on resources that must not be used from another thread
+	 * (e.g. a Hibernate ORM session) are expected to override this method.
+	 *
+	 * @param deadline The deadline for loading the entities, or null if there is no deadline.
+	 * @return The loaded entities.
+	 */
+	default LoadingResult<E> loadBlockingInDedicatedContext(Deadline deadline) {
+		return loadBlocking( deadline );
+	}
+
 }
@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The initial step in a "knn" predicate definition, where the target field can be set.
+ *
+ * @param <N> The type of the next step.
+ */
+@Incubating
+public interface KnnPredicateFieldStep<N extends KnnPredicateVectorStep<?>> {
+
+	/**
+	 * Target the given field in the "knn" predicate.
+	 *
+	 * @param fieldPath The <a href="SearchPredicateFactory.html#field-paths">path</a> to the index field
+	 * to apply the predicate on.
+	 * The field must be a vector field.
+	 * @return The next step.
+	 */
+	N field(String fieldPath);
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The final step in a "knn" predicate definition, where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ */
+@Incubating
+public interface KnnPredicateOptionsStep<S extends KnnPredicateOptionsStep<?>>
+		extends PredicateFinalStep, PredicateScoreStep<S> {
+
+	/**
+	 * Add a filter based on a previously-built {@link SearchPredicate}.
+	 * <p>
+	 * Only documents matching all filters will be considered when looking for nearest neighbors:
+	 * the "knn" predicate will still return up to k documents,
+	 * unlike what would happen if the filter was applied to the results of the "knn" predicate.
+	 *
+	 * @param searchPredicate The predicate that documents must match.
+	 * @return {@code this}, for method chaining.
+	 */
+	S filter(SearchPredicate searchPredicate);
+
+	/*
+	 * Syntactic sugar allowing to skip the toPredicate() call by passing a PredicateFinalStep
+	 * directly.
+	 */
+
+	/**
+	 * Add a filter based on an almost-built {@link SearchPredicate}.
+	 * <p>
+	 * Only documents matching all filters will be considered when looking for nearest neighbors.
+	 *
+	 * @param dslFinalStep A final step in the predicate DSL allowing the retrieval of a {@link SearchPredicate}.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	default S filter(PredicateFinalStep dslFinalStep) {
+		return filter( dslFinalStep.toPredicate() );
+	}
+
+	/*
+	 * Alternative syntax taking advantage of lambdas,
+	 * allowing the structure of the predicate building code to mirror the structure of predicates,
+	 * even for complex predicate building requiring for example if/else statements.
+	 */
+
+	/**
+	 * Add a filter to be defined by the given function.
+	 * <p>
+	 * Best used with lambda expressions.
+	 * <p>
+	 * Only documents matching all filters will be considered when looking for nearest neighbors.
+	 *
+	 * @param clauseContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 * @see #filter(SearchPredicate)
+	 */
+	S filter(Function<? super SearchPredicateFactory, ? extends PredicateFinalStep> clauseContributor);
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The step in a "knn" predicate definition where the vector to match is defined.
+ *
+ * @param <N> The type of the next step.
+ */
+@Incubating
+public interface KnnPredicateVectorStep<N extends KnnPredicateOptionsStep<?>> {
+
+	/**
+	 * Match the documents whose vector is among the k nearest neighbors of the given vector.
+	 *
+	 * @param vector The vector to find nearest neighbors of.
+	 * Must have the same dimension as the targeted field, which must be a {@code float} vector field.
+	 * @return The next step.
+	 */
+	N matching(float... vector);
+
+	/**
+	 * Match the documents whose vector is among the k nearest neighbors of the given vector.
+	 *
+	 * @param vector The vector to find nearest neighbors of.
+	 * Must have the same dimension as the targeted field, which must be a {@code byte} vector field.
+	 * @return The next step.
+	 */
+	N matching(byte... vector);
+
+}
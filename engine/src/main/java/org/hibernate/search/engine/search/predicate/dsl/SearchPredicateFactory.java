@@ -264,6 +264,20 @@ SimpleBooleanPredicateOptionsStep<?> or(PredicateFinalStep firstSearchPredicate,
 	 */
 	SpatialPredicateInitialStep spatial();
 
+	/**
+	 * Match the {@code k} documents whose vector field value is nearest to a given vector.
+	 * <p>
+	 * Proximity is measured according to the {@link org.hibernate.search.engine.backend.types.VectorSimilarity similarity}
+	 * defined on the targeted vector field, and the score of each matching document reflects this similarity.
+	 * Filters can be added so that only the nearest neighbors among matching documents are returned.
+	 *
+	 * @param k The number of nearest neighbors to match. Must be strictly positive.
+	 * @return The initial step of a DSL where the "knn" predicate can be defined.
+	 * @see KnnPredicateFieldStep
+	 */
+	@Incubating
+	KnnPredicateFieldStep<?> knn(int k);
+
 	/**
 	 * Match documents if they match a combination of defined named predicate clauses.
 	 *
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.dsl.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateFieldStep;
+import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateOptionsStep;
+import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateVectorStep;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.predicate.dsl.spi.AbstractPredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.spi.SearchPredicateDslContext;
+import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.PredicateTypeKeys;
+import org.hibernate.search.util.common.impl.Contracts;
+
+
+public final class KnnPredicateFieldStepImpl
+		extends AbstractPredicateFinalStep
+		implements KnnPredicateFieldStep<KnnPredicateVectorStep<?>>, KnnPredicateVectorStep<KnnPredicateOptionsStep<?>>,
+				KnnPredicateOptionsStep<KnnPredicateOptionsStep<?>> {
+
+	private final SearchPredicateFactory factory;
+	private final int k;
+
+	private KnnPredicateBuilder builder;
+	private final List<SearchPredicate> filters = new ArrayList<>();
+
+	public KnnPredicateFieldStepImpl(SearchPredicateDslContext<?> dslContext, SearchPredicateFactory factory, int k) {
+		super( dslContext );
+		this.factory = factory;
+		this.k = k;
+	}
+
+	@Override
+	public KnnPredicateVectorStep<?> field(String fieldPath) {
+		this.builder = dslContext.scope().fieldQueryElement( fieldPath, PredicateTypeKeys.KNN );
+		this.builder.k( k );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> matching(float... vector) {
+		Contracts.assertNotNull( vector, "vector" );
+		this.builder.vector( vector );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> matching(byte... vector) {
+		Contracts.assertNotNull( vector, "vector" );
+		this.builder.vector( vector );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> filter(SearchPredicate searchPredicate) {
+		filters.add( searchPredicate );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> filter(
+			Function<? super SearchPredicateFactory, ? extends PredicateFinalStep> clauseContributor) {
+		return filter( clauseContributor.apply( factory ).toPredicate() );
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> boost(float boost) {
+		this.builder.boost( boost );
+		return this;
+	}
+
+	@Override
+	public KnnPredicateOptionsStep<?> constantScore() {
+		this.builder.constantScore();
+		return this;
+	}
+
+	@Override
+	protected SearchPredicate build() {
+		if ( filters.size() == 1 ) {
+			builder.filter( filters.get( 0 ) );
+		}
+		else if ( filters.size() > 1 ) {
+			BooleanPredicateBuilder booleanBuilder = dslContext.scope().predicateBuilders().bool();
+			for ( SearchPredicate filter : filters ) {
+				booleanBuilder.filter( filter );
+			}
+			builder.filter( booleanBuilder.build() );
+		}
+		return builder.build();
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.ExistsPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.ExtendedSearchPredicateFactory;
+import org.hibernate.search.engine.search.predicate.dsl.KnnPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchAllPredicateOptionsStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchIdPredicateMatchingStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchNonePredicateFinalStep;
@@ -38,6 +39,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.WildcardPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.impl.BooleanPredicateClausesStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.ExistsPredicateFieldStepImpl;
+import org.hibernate.search.engine.search.predicate.dsl.impl.KnnPredicateFieldStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.MatchAllPredicateOptionsStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.MatchIdPredicateMatchingStepImpl;
 import org.hibernate.search.engine.search.predicate.dsl.impl.MatchNonePredicateFinalStepImpl;
@@ -199,6 +201,12 @@ public SpatialPredicateInitialStep spatial() {
 		return new SpatialPredicateInitialStepImpl( dslContext );
 	}
 
+	@Override
+	public KnnPredicateFieldStep<?> knn(int k) {
+		Contracts.assertStrictlyPositive( k, "k" );
+		return new KnnPredicateFieldStepImpl( dslContext, this, k );
+	}
+
 	@Override
 	public NamedPredicateOptionsStep named(String path) {
 		Contracts.assertNotNull( path, "path" );
@@ -29,6 +29,7 @@ public static SearchQueryElementTypeKey<NamedPredicateBuilder> named(String name
 	public static final SearchQueryElementTypeKey<WildcardPredicateBuilder> WILDCARD = key( "wildcard" );
 	public static final SearchQueryElementTypeKey<RegexpPredicateBuilder> REGEXP = key( "regexp" );
 	public static final SearchQueryElementTypeKey<TermsPredicateBuilder> TERMS = key( "terms" );
+	public static final SearchQueryElementTypeKey<KnnPredicateBuilder> KNN = key( "knn" );
 	public static final SearchQueryElementTypeKey<SpatialWithinCirclePredicateBuilder> SPATIAL_WITHIN_CIRCLE =
 			key( "spatial:within-circle" );
 	public static final SearchQueryElementTypeKey<SpatialWithinPolygonPredicateBuilder> SPATIAL_WITHIN_POLYGON =
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A batch of search queries to execute together.
+ * <p>
+ * Executing several queries together allows backends to reduce the overhead of each query:
+ * the Elasticsearch backend sends all queries in a single request,
+ * while the Lucene backend executes all queries targeting the same indexes on the same index reader.
+ * <p>
+ * Queries may target different indexes, and even different backends:
+ * queries are executed together with other queries from the same backend, if any.
+ */
+@Incubating
+public interface MultiSearch {
+
+	/**
+	 * Add a query to this multi-search.
+	 *
+	 * @param query The query to execute. Must not have been added to this multi-search already.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}.
+	 * {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 * @throws SearchException If the query was already added to this multi-search.
+	 */
+	default MultiSearch add(SearchQuery<?> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	/**
+	 * Add a query to this multi-search.
+	 *
+	 * @param query The query to execute. Must not have been added to this multi-search already.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}.
+	 * {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}.
+	 * {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 * @throws SearchException If the query was already added to this multi-search.
+	 */
+	MultiSearch add(SearchQuery<?> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all queries added to this multi-search.
+	 *
+	 * @return The results of all queries.
+	 * @throws SearchException If something goes wrong while executing any of the queries.
+	 */
+	MultiSearchResult fetch();
+
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The results of a {@link MultiSearch}.
+ */
+@Incubating
+public interface MultiSearchResult {
+
+	/**
+	 * @param query One of the queries added to the {@link MultiSearch}.
+	 * @param <H> The type of query hits.
+	 * @return The result of the given query.
+	 * @throws SearchException If the given query was not part of the {@link MultiSearch}.
+	 */
+	<H> SearchResult<H> get(SearchQuery<H> query);
+
+}
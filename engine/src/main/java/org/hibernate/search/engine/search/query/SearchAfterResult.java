@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A page of hits fetched with {@link SearchQuery#fetchAfter(String, int)}.
+ *
+ * @param <H> The type of hits.
+ */
+@Incubating
+public interface SearchAfterResult<H> {
+
+	/**
+	 * @return The total for a search result, pertaining to all matched documents,
+	 * independently from the cursor/limit used when fetching hits. Includes in particular the total hit count.
+	 */
+	SearchResultTotal total();
+
+	/**
+	 * @return The hits as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> hits();
+
+	/**
+	 * Returns an opaque cursor pointing after the last hit of this result.
+	 * <p>
+	 * Pass this cursor to {@link SearchQuery#fetchAfter(String, int)} to fetch the next page.
+	 * <p>
+	 * Notice that a non-null cursor does not guarantee that the next page will contain hits:
+	 * the next page may be empty if this page happened to end exactly on the last hit.
+	 *
+	 * @return The cursor, or {@code null} if there are no more hits to fetch.
+	 */
+	String cursor();
+
+	/**
+	 * @return the time taken to process the request, as a {@link Duration}
+	 */
+	Duration took();
+
+	/**
+	 * @return whether or not a timeout occurred processing the request.
+	 */
+	boolean timedOut();
+
+}
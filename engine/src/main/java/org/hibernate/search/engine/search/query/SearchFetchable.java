@@ -8,10 +8,12 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A component allowing to fetch search results.
@@ -107,6 +109,77 @@
 	 */
 	long fetchTotalHitCount();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread does not wait for the query to execute:
+	 * the query is executed, and entities are loaded if necessary,
+	 * in threads managed by the backend.
+	 * As a result, when entities are loaded through a context that must not be used from other threads
+	 * (e.g. a Hibernate ORM session), entities are loaded through a separate, dedicated context instead
+	 * (e.g. a separate Hibernate ORM session, which means returned entities are detached).
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally with the same exceptions as {@link #fetchHits(Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for the total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings,
+	 * or completed exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	@Incubating
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * Execute the query and return the {@link SearchResult},
 	 * including <strong>all</strong> hits, without any sort of limit.
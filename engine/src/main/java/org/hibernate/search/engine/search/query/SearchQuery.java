@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A search query, allowing to fetch search results.
@@ -31,4 +35,38 @@
 	 */
 	<Q> Q extension(SearchQueryExtension<Q, H> extension);
 
+	/**
+	 * Execute the query and return the {@link SearchAfterResult},
+	 * limiting to {@code limit} hits that come after the hit designated by {@code cursor} in the sort order.
+	 * <p>
+	 * Contrary to {@link #fetch(Integer, Integer) offset-based paging},
+	 * the cost of fetching a page does not grow with the number of pages that were fetched before it.
+	 * <p>
+	 * Cursors are only valid for the query that produced them.
+	 * Depending on the backend, pages fetched with the same cursor chain
+	 * may or may not reflect changes to the index that happened after the first page was fetched.
+	 * When the index changes between two pages, some backends may skip or repeat hits
+	 * with the same sort values as the last hit of the previous page:
+	 * ending the sort with a field whose values are unique prevents that.
+	 * <p>
+	 * Depending on the backend, fetching the first page may allocate resources on the server side,
+	 * which are released when the last page is fetched ({@link SearchAfterResult#cursor()} returns {@code null}),
+	 * when fetching a page fails, or after a backend-specific timeout.
+	 * A cursor can no longer be used after fetching the next page from that cursor failed.
+	 *
+	 * @param cursor A cursor returned by {@link SearchAfterResult#cursor()} when fetching the previous page,
+	 * or {@code null} to fetch the first page.
+	 * @param limit The maximum number of hits to be included in the {@link SearchAfterResult}.
+	 * @return The {@link SearchAfterResult}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or if the cursor is invalid.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	@Incubating
+	SearchAfterResult<H> fetchAfter(String cursor, int limit);
+
 }
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -227,6 +228,31 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * An executor for queries added to a {@link org.hibernate.search.engine.search.query.MultiSearch}.
+ * <p>
+ * Queries are grouped by executor using {@link Object#equals(Object)},
+ * so an executor will only ever be passed queries that returned that same executor
+ * from {@link SearchQueryImplementor#multiSearchExecutor()}.
+ */
+public interface MultiSearchExecutor {
+
+	/**
+	 * @param items The queries to execute, along with their paging.
+	 * @return The result of each query, in the same order as {@code items}.
+	 */
+	List<SearchResult<?>> fetch(List<MultiSearchItem> items);
+
+}
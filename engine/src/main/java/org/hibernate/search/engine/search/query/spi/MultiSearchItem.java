@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A query added to a {@link org.hibernate.search.engine.search.query.MultiSearch}, along with its paging.
+ */
+public final class MultiSearchItem {
+
+	private final SearchQueryImplementor<?> query;
+	private final Integer offset;
+	private final Integer limit;
+
+	public MultiSearchItem(SearchQueryImplementor<?> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "query=" + query
+				+ ", offset=" + offset
+				+ ", limit=" + limit
+				+ "]";
+	}
+
+	public SearchQueryImplementor<?> query() {
+		return query;
+	}
+
+	public Integer offset() {
+		return offset;
+	}
+
+	public Integer limit() {
+		return limit;
+	}
+
+}
@@ -21,4 +21,10 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return The executor to use when this query is part of a
+	 * {@link org.hibernate.search.engine.search.query.MultiSearch}.
+	 */
+	MultiSearchExecutor multiSearchExecutor();
 }
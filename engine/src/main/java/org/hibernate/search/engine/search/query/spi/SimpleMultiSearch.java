@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.MultiSearch;
+import org.hibernate.search.engine.search.query.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A simple implementation of {@link MultiSearch},
+ * delegating the execution of queries to their {@link MultiSearchExecutor}.
+ */
+public final class SimpleMultiSearch implements MultiSearch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final List<MultiSearchItem> items = new ArrayList<>();
+	private final Map<SearchQuery<?>, MultiSearchItem> itemsByQuery = new IdentityHashMap<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + items + "]";
+	}
+
+	@Override
+	public MultiSearch add(SearchQuery<?> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		if ( itemsByQuery.containsKey( query ) ) {
+			throw log.queryAlreadyInMultiSearch( query );
+		}
+		if ( !( query instanceof SearchQueryImplementor ) ) {
+			throw log.queryNotSupportedInMultiSearch( query );
+		}
+		MultiSearchItem item = new MultiSearchItem( (SearchQueryImplementor<?>) query, offset, limit );
+		items.add( item );
+		itemsByQuery.put( query, item );
+		return this;
+	}
+
+	@Override
+	public MultiSearchResult fetch() {
+		// Preserve the order of queries within each group: it makes executions more predictable.
+		Map<MultiSearchExecutor, List<MultiSearchItem>> itemsByExecutor = new LinkedHashMap<>();
+		for ( MultiSearchItem item : items ) {
+			itemsByExecutor.computeIfAbsent( item.query().multiSearchExecutor(), ignored -> new ArrayList<>() )
+					.add( item );
+		}
+
+		Map<SearchQuery<?>, SearchResult<?>> resultsByQuery = new IdentityHashMap<>( items.size() );
+		for ( Map.Entry<MultiSearchExecutor, List<MultiSearchItem>> entry : itemsByExecutor.entrySet() ) {
+			List<MultiSearchItem> executorItems = entry.getValue();
+			List<SearchResult<?>> executorResults = entry.getKey().fetch( executorItems );
+			for ( int i = 0; i < executorItems.size(); i++ ) {
+				resultsByQuery.put( executorItems.get( i ).query(), executorResults.get( i ) );
+			}
+		}
+		return new Result( resultsByQuery );
+	}
+
+	private static final class Result implements MultiSearchResult {
+		private final Map<SearchQuery<?>, SearchResult<?>> resultsByQuery;
+
+		private Result(Map<SearchQuery<?>, SearchResult<?>> resultsByQuery) {
+			this.resultsByQuery = resultsByQuery;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // The result of a SearchQuery<H> is always a SearchResult<H>
+		public <H> SearchResult<H> get(SearchQuery<H> query) {
+			SearchResult<?> result = resultsByQuery.get( query );
+			if ( result == null ) {
+				throw log.queryNotInMultiSearch( query );
+			}
+			return (SearchResult<H>) result;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.hibernate.search.engine.search.query.SearchAfterResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+public class SimpleSearchAfterResult<H> implements SearchAfterResult<H> {
+
+	private final SearchResultTotal resultTotal;
+	private final List<H> hits;
+	private final String cursor;
+	private final Duration took;
+	private final boolean timedOut;
+
+	public SimpleSearchAfterResult(SearchResultTotal resultTotal, List<H> hits, String cursor,
+			Duration took, Boolean timedOut) {
+		this.resultTotal = resultTotal;
+		this.hits = hits;
+		this.cursor = cursor;
+		this.took = took;
+		this.timedOut = timedOut;
+	}
+
+	@Override
+	public SearchResultTotal total() {
+		return resultTotal;
+	}
+
+	@Override
+	public List<H> hits() {
+		return hits;
+	}
+
+	@Override
+	public String cursor() {
+		return cursor;
+	}
+
+	@Override
+	public Duration took() {
+		return took;
+	}
+
+	@Override
+	public boolean timedOut() {
+		return timedOut;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner( ", ", SimpleSearchAfterResult.class.getSimpleName() + "[", "]" )
+				.add( "resultTotal=" + resultTotal )
+				.add( "hits=" + hits )
+				.add( "cursor=" + cursor )
+				.add( "took=" + took )
+				.add( "timedOut=" + timedOut )
+				.toString();
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.projection;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.impl.ElasticsearchBackendImplSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Test field projections extracted from doc values,
+ * see {@link ElasticsearchBackendSettings#QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED}.
+ */
+public class ElasticsearchFieldProjectionDocValuesIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String EMPTY = "empty";
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendImplSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withBackendProperty(
+						ElasticsearchBackendSettings.QUERY_FIELD_PROJECTION_DOC_VALUES_ENABLED, true
+				)
+				.withIndex( index )
+				.withIndexProperty( index.name(), ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_MAPPING_FILE,
+						"custom-index-mapping/ignore-above.json"
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void allFromDocValues() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite().from(
+						f.field( "integer", Integer.class ),
+						f.field( "long", Long.class ),
+						f.field( "float", Float.class ),
+						f.field( "string", String.class )
+				).asList() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.toQuery();
+
+		expectSearch( "{'_source':false}" );
+
+		assertThatQuery( query )
+				.hasHitsAnyOrder( Arrays.<Object>asList( 42, 4_200_000_000_000L, 1.1f, "someString" ) );
+	}
+
+	@Test
+	public void allFromDocValues_missingValues() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite().from(
+						f.field( "integer", Integer.class ),
+						f.field( "long", Long.class ),
+						f.field( "float", Float.class ),
+						f.field( "string", String.class )
+				).asList() )
+				.where( f -> f.id().matching( EMPTY ) )
+				.toQuery();
+
+		expectSearch( "{'_source':false}" );
+
+		assertThatQuery( query )
+				.hasHitsAnyOrder( Arrays.<Object>asList( null, null, null, null ) );
+	}
+
+	@Test
+	public void someFromSource() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite().from(
+						f.field( "integer", Integer.class ),
+						f.field( "notSortable", Integer.class ),
+						f.field( "indexNullAs", Integer.class ),
+						f.field( "normalized", String.class )
+				).asList() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.toQuery();
+
+		expectSearch( "{'_source':['notSortable','indexNullAs','normalized']}" );
+
+		assertThatQuery( query )
+				.hasHitsAnyOrder( Arrays.<Object>asList( 42, 43, null, "SomeString" ) );
+	}
+
+	@Test
+	public void customMapping() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite().from(
+						f.field( "integer", Integer.class ),
+						f.field( "ignoreAbove", String.class )
+				).asList() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.toQuery();
+
+		// The custom mapping sets "ignore_above": values longer than that have no doc values.
+		expectSearch( "{'_source':['ignoreAbove']}" );
+
+		assertThatQuery( query )
+				.hasHitsAnyOrder( Arrays.<Object>asList( 42, "tooLongForDocValues" ) );
+	}
+
+	@Test
+	public void multi() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<List<Integer>> query = scope.query()
+				.select( f -> f.field( "integer", Integer.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.toQuery();
+
+		expectSearch( "{'_source':['integer']}" );
+
+		assertThatQuery( query )
+				.hasHitsAnyOrder( Collections.singletonList( 42 ) );
+	}
+
+	private void expectSearch(String payload) {
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( payload, JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().integer, 42 );
+					document.addValue( index.binding().longField, 4_200_000_000_000L );
+					document.addValue( index.binding().floatField, 1.1f );
+					document.addValue( index.binding().string, "someString" );
+					document.addValue( index.binding().notSortable, 43 );
+					document.addValue( index.binding().normalized, "SomeString" );
+					document.addValue( index.binding().ignoreAbove, "tooLongForDocValues" );
+				} )
+				.add( EMPTY, document -> {
+				} )
+				.join();
+	}
+
+	@SuppressWarnings("unused")
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Long> longField;
+		final IndexFieldReference<Float> floatField;
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> notSortable;
+		final IndexFieldReference<Integer> indexNullAs;
+		final IndexFieldReference<String> normalized;
+		final IndexFieldReference<String> ignoreAbove;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			longField = root.field( "long", f -> f.asLong()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			floatField = root.field( "float", f -> f.asFloat()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			string = root.field( "string", f -> f.asString()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			notSortable = root.field( "notSortable", f -> f.asInteger()
+					.projectable( Projectable.YES ) )
+					.toReference();
+			indexNullAs = root.field( "indexNullAs", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ).indexNullAs( 739 ) )
+					.toReference();
+			normalized = root.field( "normalized", f -> f.asString()
+					.projectable( Projectable.YES ).sortable( Sortable.YES )
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name ) )
+					.toReference();
+			ignoreAbove = root.field( "ignoreAbove", f -> f.asString()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.junit.Assume.assumeTrue;
+
+import org.hibernate.search.backend.elasticsearch.cfg.impl.ElasticsearchBackendImplSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchAfterResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Test the lifecycle of the point in time used by {@link SearchQuery#fetchAfter(String, int)}.
+ */
+public class ElasticsearchSearchQueryFetchAfterIT {
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	@Before
+	public void setup() {
+		assumeTrue(
+				"This backend does not support search cursors",
+				TckConfiguration.get().getBackendFeatures().supportsSearchCursors()
+		);
+
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendImplSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( "1", document -> document.addValue( index.binding().integer, 1 ) )
+				.add( "2", document -> document.addValue( index.binding().integer, 2 ) )
+				.add( "3", document -> document.addValue( index.binding().integer, 3 ) )
+				.join();
+	}
+
+	@Test
+	public void closePointInTime_lastPage() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		expectOpenPointInTime();
+		expectSearch();
+		SearchAfterResult<DocumentReference> result = query.fetchAfter( null, 2 );
+		clientSpy.verifyExpectationsMet();
+		assertThat( result.hits() ).hasSize( 2 );
+		assertThat( result.cursor() ).isNotNull();
+
+		// The last page: the point in time is no longer needed
+		expectSearch();
+		expectClosePointInTime();
+		result = query.fetchAfter( result.cursor(), 2 );
+		clientSpy.verifyExpectationsMet();
+		assertThat( result.hits() ).hasSize( 1 );
+		assertThat( result.cursor() ).isNull();
+	}
+
+	@Test
+	public void closePointInTime_singlePage() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		expectOpenPointInTime();
+		expectSearch();
+		expectClosePointInTime();
+		SearchAfterResult<DocumentReference> result = query.fetchAfter( null, 10 );
+		assertThat( result.hits() ).hasSize( 3 );
+		assertThat( result.cursor() ).isNull();
+	}
+
+	private void expectOpenPointInTime() {
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._PIT )
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+	}
+
+	private void expectSearch() {
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+	}
+
+	private void expectClosePointInTime() {
+		clientSpy.expectNext(
+				ElasticsearchRequest.delete()
+						.pathComponent( Paths._PIT )
+						.body( new JsonObject() ) // We don't care about the point in time ID
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -272,7 +272,7 @@ public boolean supportsExtremeScaledNumericValues() {
 		// https://github.com/elastic/elasticsearch/issues/91246
 		// Hopefully this will get fixed in a future version.
 		return isActualVersion(
-				esVersion -> !esVersion.isBetween( "7.17.7", "7.17" ) && !esVersion.isBetween( "8.5.0", "8.8.1" ),
+				esVersion -> !esVersion.isBetween( "7.17.7", "7.17" ) && !esVersion.isBetween( "8.5.0", "8.12" ),
 				osVersion -> true
 		);
 	}
@@ -310,4 +310,24 @@ public boolean supportsHighlighterPlainOrderByScoreMultivaluedField() {
 				osVersion -> true
 		);
 	}
+
+	@Override
+	public boolean supportsSearchCursors() {
+		// Search cursors rely on point in time searches with an implicit tiebreaker, introduced in ES 7.12.
+		// OpenSearch has a different point in time API, which we do not support.
+		return isActualVersion(
+				esVersion -> !esVersion.isLessThan( "7.12.0" ),
+				osVersion -> false
+		);
+	}
+
+	@Override
+	public boolean supportsVectorSearch() {
+		// The knn predicate relies on the knn query, introduced in ES 8.12.
+		// OpenSearch has a different vector search API, which we do not support.
+		return isActualVersion(
+				esVersion -> !esVersion.isLessThan( "8.12.0" ),
+				osVersion -> false
+		);
+	}
 }
@@ -0,0 +1,285 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResultCacheStatistics;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.ValueWrapper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+
+public class LuceneSearchResultCacheIT {
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "terms" );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private LuceneBackend backend;
+
+	@Test
+	public void hit() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		LuceneSearchResult<DocumentReference> firstResult = query.fetch( 3 );
+		assertStatistics( 0, 1 );
+		LuceneSearchResult<DocumentReference> secondResult = query.fetch( 3 );
+
+		// The second execution should have reused the results of the first execution
+		assertStatistics( 1, 1 );
+		assertThat( secondResult.hits() ).containsExactlyElementsOf( firstResult.hits() );
+		assertThat( secondResult.total().hitCount() ).isEqualTo( 5 );
+		assertThat( secondResult.aggregation( AGGREGATION_KEY ) )
+				.isEqualTo( firstResult.aggregation( AGGREGATION_KEY ) );
+
+		// Different pagination => different cache entry
+		LuceneSearchResult<DocumentReference> otherPageResult = query.fetch( 3, 3 );
+		assertStatistics( 1, 2 );
+		assertThat( otherPageResult.hits() ).hasSize( 2 );
+	}
+
+	@Test
+	public void hit_equalQueryBuiltSeparately() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		LuceneSearchResult<DocumentReference> firstResult = query().fetch( 3 );
+		assertStatistics( 0, 1 );
+
+		// A different query instance, with equal predicate, sort and aggregation, should hit the cache
+		LuceneSearchResult<DocumentReference> secondResult = query().fetch( 3 );
+		assertStatistics( 1, 1 );
+		assertThat( secondResult.hits() ).containsExactlyElementsOf( firstResult.hits() );
+		assertThat( secondResult.total().hitCount() ).isEqualTo( 5 );
+		assertThat( secondResult.aggregation( AGGREGATION_KEY ) )
+				.isEqualTo( firstResult.aggregation( AGGREGATION_KEY ) );
+
+		// A different sort => different cache entry
+		index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "string" ).desc() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ) )
+				.fetch( 3 );
+		assertStatistics( 1, 2 );
+
+		// A different aggregation => different cache entry
+		index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "string" ) )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ).maxTermCount( 2 ) )
+				.fetch( 3 );
+		assertStatistics( 1, 3 );
+	}
+
+	@Test
+	public void miss_approximateCountDistinctValues() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		AggregationKey<Long> countKey = AggregationKey.of( "count" );
+		Long exactCount = index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( countKey, f -> f.countDistinctValues().field( "string" ) )
+				.fetchAll().aggregation( countKey );
+		assertStatistics( 0, 1 );
+
+		// An approximate count is computed differently => different cache entry
+		Long approximateCount = index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( countKey, f -> f.countDistinctValues().field( "string" ).approximate() )
+				.fetchAll().aggregation( countKey );
+		assertStatistics( 0, 2 );
+		assertThat( exactCount ).isEqualTo( 5L );
+		assertThat( approximateCount ).isNotNull();
+	}
+
+	@Test
+	public void hit_topDocsMutation() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		LuceneSearchResult<DocumentReference> firstResult = query.fetch( 3 );
+		Object[] firstFields = ( (FieldDoc) firstResult.topDocs().scoreDocs[0] ).fields.clone();
+
+		// Mutating the top docs returned by a query must not affect the cached results
+		ScoreDoc[] secondScoreDocs = query.fetch( 3 ).topDocs().scoreDocs;
+		assertStatistics( 1, 1 );
+		( (FieldDoc) secondScoreDocs[0] ).fields[0] = null;
+		secondScoreDocs[0].doc = -1;
+		secondScoreDocs[1] = null;
+
+		LuceneSearchResult<DocumentReference> thirdResult = query.fetch( 3 );
+		assertStatistics( 2, 1 );
+		assertThat( thirdResult.hits() ).containsExactlyElementsOf( firstResult.hits() );
+		assertThat( thirdResult.topDocs().scoreDocs )
+				.hasSize( 3 )
+				.doesNotContainNull();
+		assertThat( ( (FieldDoc) thirdResult.topDocs().scoreDocs[0] ).fields ).containsExactly( firstFields );
+	}
+
+	@Test
+	public void hit_aggregationMutation() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		Map<String, Long> firstAggregation = query.fetch( 3 ).aggregation( AGGREGATION_KEY );
+
+		// Mutating the aggregation results returned by a query must not affect the cached results
+		Map<String, Long> secondAggregation = query.fetch( 3 ).aggregation( AGGREGATION_KEY );
+		assertStatistics( 1, 1 );
+		assertThat( secondAggregation ).isNotSameAs( firstAggregation );
+		firstAggregation.clear();
+		secondAggregation.put( "value0", 42L );
+
+		Map<String, Long> thirdAggregation = query.fetch( 3 ).aggregation( AGGREGATION_KEY );
+		assertStatistics( 2, 1 );
+		assertThat( thirdAggregation )
+				.hasSize( 5 )
+				.containsEntry( "value0", 1L );
+	}
+
+	@Test
+	public void noCache_convertedAggregation() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		AggregationKey<Map<Object, Long>> convertedAggregationKey = AggregationKey.of( "converted" );
+		LuceneSearchQuery<DocumentReference> query = index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( convertedAggregationKey, f -> f.terms().field( "converted", Object.class ) )
+				.toQuery();
+
+		// Converted values may depend on the session: such results must not be cached
+		assertThat( query.fetchAll().aggregation( convertedAggregationKey ) ).hasSize( 5 );
+		assertThat( query.fetchAll().aggregation( convertedAggregationKey ) ).hasSize( 5 );
+		assertStatistics( 0, 0 );
+		assertThat( backend.searchResultCacheStatistics().get().size() ).isZero();
+	}
+
+	@Test
+	public void invalidation() {
+		setup( 10 );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		LuceneSearchResult<DocumentReference> firstResult = query.fetchAll();
+		assertThat( firstResult.total().hitCount() ).isEqualTo( 5 );
+
+		initData( 5, 2 );
+
+		// The index changed, so the cached result must not be used
+		LuceneSearchResult<DocumentReference> secondResult = query.fetchAll();
+		assertStatistics( 0, 2 );
+		assertThat( secondResult.total().hitCount() ).isEqualTo( 7 );
+		assertThat( secondResult.aggregation( AGGREGATION_KEY ) ).hasSize( 7 );
+	}
+
+	@Test
+	public void eviction() {
+		setup( 1 );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		query.fetch( 1 );
+		query.fetch( 2 );
+
+		// The cache can only hold one entry, so the first result was evicted
+		query.fetch( 1 );
+		assertStatistics( 0, 3 );
+		LuceneSearchResultCacheStatistics statistics = backend.searchResultCacheStatistics().get();
+		assertThat( statistics.evictionCount() ).isEqualTo( 2 );
+		assertThat( statistics.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void disabledByDefault() {
+		setup( null );
+		initData( 0, 5 );
+
+		LuceneSearchQuery<DocumentReference> query = query();
+		LuceneSearchResult<DocumentReference> firstResult = query.fetchAll();
+		LuceneSearchResult<DocumentReference> secondResult = query.fetchAll();
+
+		assertThat( backend.searchResultCacheStatistics() ).isEmpty();
+		assertThat( secondResult.topDocs() ).isNotSameAs( firstResult.topDocs() );
+		assertThat( secondResult.hits() ).containsExactlyElementsOf( firstResult.hits() );
+	}
+
+	private void assertStatistics(long expectedHitCount, long expectedMissCount) {
+		LuceneSearchResultCacheStatistics statistics = backend.searchResultCacheStatistics().get();
+		assertThat( statistics.hitCount() ).as( "hit count" ).isEqualTo( expectedHitCount );
+		assertThat( statistics.missCount() ).as( "miss count" ).isEqualTo( expectedMissCount );
+	}
+
+	private LuceneSearchQuery<DocumentReference> query() {
+		return index.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "string" ) )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ) )
+				.toQuery();
+	}
+
+	private void setup(Integer resultCacheMaxEntries) {
+		backend = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, resultCacheMaxEntries )
+				.withIndex( index )
+				.setup()
+				.integration().backend().unwrap( LuceneBackend.class );
+	}
+
+	private void initData(int firstId, int documentCount) {
+		index.bulkIndexer()
+				.add( documentCount, i -> documentProvider(
+						String.valueOf( firstId + i ),
+						document -> {
+							document.addValue( index.binding().string, "value" + ( firstId + i ) );
+							document.addValue( index.binding().converted, "value" + ( firstId + i ) );
+						}
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> converted;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			converted = root.field( "converted", f -> f.asString().aggregable( Aggregable.YES )
+					.projectionConverter( ValueWrapper.class, ValueWrapper.fromDocumentValueConverter() ) )
+					.toReference();
+		}
+	}
+}
@@ -12,6 +12,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
@@ -29,8 +31,10 @@
 import org.apache.logging.log4j.Level;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FileSwitchDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 public class LuceneLocalFileSystemDirectoryIT extends AbstractBuiltInDirectoryIT {
 
@@ -103,6 +107,89 @@ public void filesystemAccessStrategy_mmap() {
 		testFileSystemAccessStrategy( "mmap", MMapDirectory.class, false );
 	}
 
+	@Test
+	public void filesystemAccessStrategy_hybrid() {
+		testFileSystemAccessStrategy( "hybrid", FileSwitchDirectory.class, false );
+
+		assertThat( directories() ).allSatisfy( directory -> {
+			FileSwitchDirectory switchDirectory = (FileSwitchDirectory) directory;
+			assertThat( switchDirectory.getPrimaryDir() ).isInstanceOf( MMapDirectory.class );
+			assertThat( switchDirectory.getSecondaryDir() ).isInstanceOf( NIOFSDirectory.class );
+		} );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_hybrid_mmapExtensions() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "hybrid" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS, "dvd,dvm" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd,fdt" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> {
+			FileSwitchDirectory switchDirectory = (FileSwitchDirectory) directory;
+			assertThat( switchDirectory.getSecondaryDir() ).isInstanceOf( NIOFSDirectory.class );
+			// Only memory-mapped files can be preloaded
+			assertThat( switchDirectory.getPrimaryDir() ).isInstanceOfSatisfying( FileSwitchDirectory.class,
+					mmapDirectory -> {
+						assertThat( mmapDirectory.getPrimaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+								preloadDirectory -> assertThat( preloadDirectory.getPreload() ).isTrue() );
+						assertThat( mmapDirectory.getSecondaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+								otherDirectory -> assertThat( otherDirectory.getPreload() ).isFalse() );
+					} );
+		} );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_mmap_preloadExtensions() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "mmap" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd,nvd" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> {
+			FileSwitchDirectory switchDirectory = (FileSwitchDirectory) directory;
+			assertThat( switchDirectory.getPrimaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+					preloadDirectory -> assertThat( preloadDirectory.getPreload() ).isTrue() );
+			assertThat( switchDirectory.getSecondaryDir() ).isInstanceOfSatisfying( MMapDirectory.class,
+					otherDirectory -> assertThat( otherDirectory.getPreload() ).isFalse() );
+		} );
+	}
+
+	@Test
+	public void filesystemAccessStrategy_nio_preloadExtensions() {
+		// Preloading only applies to memory-mapped files: it should be ignored
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> assertThat( directory ).isInstanceOf( NIOFSDirectory.class ) );
+	}
+
+	@Test
+	public void nrtCache() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_SIZE, 10 ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> assertThat( directory )
+				.isInstanceOfSatisfying( NRTCachingDirectory.class,
+						cachingDirectory -> assertThat( cachingDirectory.getDelegate() )
+								.isInstanceOf( NIOFSDirectory.class ) ) );
+	}
+
+	@Test
+	public void nrtCache_disabled() {
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHE_MAX_SIZE, 0 ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( directories() ).allSatisfy( directory -> assertThat( directory ).isInstanceOf( NIOFSDirectory.class ) );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3440")
 	@PortedFromSearch5(original = "org.hibernate.search.test.directoryProvider.FSDirectorySelectionTest.testInvalidDirectoryType")
@@ -117,7 +204,7 @@ public void filesystemAccessStrategy_invalid() {
 						.failure(
 								"Invalid filesystem access strategy name",
 								"'some_invalid_name'",
-								"Valid names are: [auto, simple, nio, mmap]"
+								"Valid names are: [auto, simple, nio, mmap, hybrid]"
 						)
 				);
 	}
@@ -156,14 +243,20 @@ private void testFileSystemAccessStrategy(String strategyName,
 
 		checkIndexingAndQuerying();
 
-		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
-		assertThat( luceneIndexManager.getShardsForTests() )
-				.extracting( Shard::indexAccessorForTests )
-				.extracting( IndexAccessorImpl::getDirectoryForTests )
-				.isNotEmpty()
+		assertThat( directories() )
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private List<Directory> directories() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		List<Directory> directories = luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::indexAccessorForTests )
+				.map( IndexAccessorImpl::getDirectoryForTests )
+				.collect( Collectors.toList() );
+		assertThat( directories ).isNotEmpty();
+		return directories;
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
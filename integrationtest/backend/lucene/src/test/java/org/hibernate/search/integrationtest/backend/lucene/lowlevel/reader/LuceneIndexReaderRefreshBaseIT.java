@@ -155,6 +155,51 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until after the refresh interval
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time, once the background refresh executes
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the end of the refresh interval
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -177,10 +222,15 @@ public void ioStrategyDebug() {
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Boolean backgroundRefresh) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, backgroundRefresh )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReader;
+import org.awaitility.Awaitility;
+
+public class LuceneIndexReaderWarmerIT {
+
+	/*
+	 * Pick a value that is:
+	 * - large enough that test code executes faster than this number of milliseconds, even on slow machines
+	 * - small enough that Awaitility.await does not give up before this number of milliseconds
+	 * - small enough that tests do not take forever to execute
+	 */
+	private static final int NON_ZERO_DELAY = 2000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingWarmer warmer = new RecordingWarmer();
+
+	@Test
+	public void mergedSegment() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMER, BeanReference.ofInstance( warmer ) )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMUP_FIELDS, "sort" )
+				.setup();
+
+		// Create multiple segments
+		for ( int i = 0; i < 3; i++ ) {
+			IndexIndexingPlan plan = index.createIndexingPlan(
+					DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE );
+			String id = String.valueOf( i );
+			plan.add( referenceProvider( id ), document -> {
+				document.addValue( index.binding().textField, "text" + id );
+				document.addValue( index.binding().sortField, "sort" + id );
+			} );
+			plan.execute( OperationSubmitter.blocking() ).join();
+		}
+		assertThat( warmer.warmedSegmentMaxDocs ).isEmpty();
+
+		index.createWorkspace().mergeSegments( OperationSubmitter.blocking() ).join();
+
+		// The merged segment should have been warmed up, and warming up fields should not have failed
+		assertThat( warmer.warmedSegmentMaxDocs ).containsExactly( 3 );
+		assertThatQuery( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sort" ) )
+				.toQuery() )
+				.hasTotalHitCount( 3 );
+	}
+
+	@Test
+	public void backgroundRefresh() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMER, BeanReference.ofInstance( warmer ) )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, NON_ZERO_DELAY )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, true )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// The new segment should have been warmed up before the refreshed reader became visible
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+		assertThat( warmer.warmedSegmentMaxDocs ).containsExactly( 1 );
+	}
+
+	@Test
+	public void onDemandRefresh() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMER, BeanReference.ofInstance( warmer ) )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMUP_FIELDS, "sort" )
+				.setup();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().sortField, "sort1" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().sortField, "sort2" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+		assertThat( warmer.warmedSegmentMaxDocs ).isEmpty();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sort" ) )
+				.toQuery();
+
+		// The segment should have been warmed up when opening the first reader
+		assertThatQuery( query ).hasTotalHitCount( 2 );
+		assertThat( warmer.warmedSegmentMaxDocs ).containsExactly( 2 );
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "3" ), document -> document.addValue( index.binding().sortField, "sort3" ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		// Only the new segment should have been warmed up when refreshing the reader
+		assertThatQuery( query ).hasTotalHitCount( 3 );
+		assertThat( warmer.warmedSegmentMaxDocs ).containsExactly( 2, 1 );
+	}
+
+	@Test
+	public void invalidWarmupFields_unknown() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMUP_FIELDS, "sort,unknown" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index reader warmup fields: unknown field 'unknown'" ) );
+	}
+
+	@Test
+	public void invalidWarmupFields_noDocValues() {
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_READER_WARMUP_FIELDS, "sort,text" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index reader warmup fields: field 'text' does not have doc values" ) );
+	}
+
+	private static class RecordingWarmer implements IndexReaderWarmer {
+		private final List<Integer> warmedSegmentMaxDocs = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void warm(LeafReader segmentReader) {
+			warmedSegmentMaxDocs.add( segmentReader.maxDoc() );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> textField;
+		final IndexFieldReference<String> sortField;
+
+		IndexBinding(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+			sortField = root.field( "sort", c -> c.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -42,16 +42,20 @@ public class LuceneIndexWriterCommitIT {
 	 */
 	private static final int NON_ZERO_DELAY = 1000;
 
-	@Parameterized.Parameters(name = "I/O strategy {0}, commit_interval {1}")
+	@Parameterized.Parameters(name = "I/O strategy {0}, commit_strategy {1}, commit_interval {2}")
 	public static Object[][] strategies() {
 		return new Object[][] {
-				{ "debug", null },
-				{ null, null },
-				{ null, 0 },
-				{ null, NON_ZERO_DELAY },
-				{ "near-real-time", null },
-				{ "near-real-time", 0 },
-				{ "near-real-time", NON_ZERO_DELAY }
+				{ "debug", null, null },
+				{ null, null, null },
+				{ null, null, 0 },
+				{ null, null, NON_ZERO_DELAY },
+				{ "near-real-time", null, null },
+				{ "near-real-time", null, 0 },
+				{ "near-real-time", null, NON_ZERO_DELAY },
+				{ "near-real-time", "fixed", NON_ZERO_DELAY },
+				{ "near-real-time", "adaptive", null },
+				{ "near-real-time", "adaptive", 0 },
+				{ "near-real-time", "adaptive", NON_ZERO_DELAY }
 		};
 	}
 
@@ -59,12 +63,14 @@ public static Object[][] strategies() {
 	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
 
 	private final String ioStrategyName;
+	private final String commitStrategyName;
 	private final Integer commitInterval;
 
 	private final StubMappedIndex index = StubMappedIndex.withoutFields();
 
-	public LuceneIndexWriterCommitIT(String ioStrategyName, Integer commitInterval) {
+	public LuceneIndexWriterCommitIT(String ioStrategyName, String commitStrategyName, Integer commitInterval) {
 		this.ioStrategyName = ioStrategyName;
+		this.commitStrategyName = commitStrategyName;
 		this.commitInterval = commitInterval;
 	}
 
@@ -157,6 +163,7 @@ private StubMapping setup(StubMappingSchemaManagementStrategy schemaManagementSt
 				.withSchemaManagement( schemaManagementStrategy )
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_STRATEGY, commitStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
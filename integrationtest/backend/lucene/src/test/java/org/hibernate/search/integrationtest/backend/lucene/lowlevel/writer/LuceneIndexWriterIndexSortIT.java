@@ -0,0 +1,287 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.reporting.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+public class LuceneIndexWriterIndexSortIT {
+
+	private static final int DOCUMENT_COUNT = 2_000;
+	private static final int DOCUMENT_WITHOUT_VALUE_COUNT = 10;
+	private static final int TOTAL_DOCUMENT_COUNT = DOCUMENT_COUNT + DOCUMENT_WITHOUT_VALUE_COUNT;
+	private static final int TOTAL_HIT_COUNT_THRESHOLD = 100;
+	private static final int PAGE_SIZE = 10;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final List<Document> documents = new ArrayList<>();
+
+	@Test
+	public void defaults() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+
+		assertThat( indexSorts() ).containsOnlyNulls();
+	}
+
+	@Test
+	public void numeric_desc() throws IOException {
+		setup( "createdAt:desc" );
+		initData();
+
+		assertThat( indexSorts() ).isNotEmpty().allSatisfy( indexSort -> assertThat( indexSort.getSort() )
+				.extracting( SortField::getField, SortField::getReverse )
+				.containsExactly( tuple( "createdAt", true ) ) );
+
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "createdAt" ).desc() );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds(
+				Comparator.comparing( (Document document) -> document.createdAt,
+						Comparator.nullsLast( Comparator.reverseOrder() ) ) ) );
+		assertEarlyTerminated( result );
+	}
+
+	@Test
+	public void string_asc() {
+		setup( "keyword" );
+		initData();
+
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "keyword" ).asc() );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds(
+				Comparator.comparing( (Document document) -> document.keyword,
+						Comparator.nullsLast( Comparator.naturalOrder() ) ) ) );
+		assertEarlyTerminated( result );
+	}
+
+	@Test
+	public void multipleFields_prefix() {
+		setup( "createdAt:desc,keyword:asc" );
+		initData();
+
+		Comparator<Document> comparator = Comparator.comparing( (Document document) -> document.createdAt,
+				Comparator.nullsLast( Comparator.reverseOrder() ) );
+
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "createdAt" ).desc() );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( comparator ) );
+		assertEarlyTerminated( result );
+
+		comparator = comparator.thenComparing( document -> document.keyword,
+				Comparator.nullsLast( Comparator.naturalOrder() ) );
+		result = fetch( f -> f.field( "createdAt" ).desc().then().field( "keyword" ).asc() );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( comparator ) );
+		assertEarlyTerminated( result );
+	}
+
+	@Test
+	public void differentSort() {
+		setup( "createdAt:desc" );
+		initData();
+
+		// Sorts that don't match the index sort must still work, they just can't terminate early
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "createdAt" ).asc() );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds(
+				Comparator.comparing( (Document document) -> document.createdAt,
+						Comparator.nullsLast( Comparator.naturalOrder() ) ) ) );
+		assertThat( result.topDocs().totalHits.value ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+
+		result = fetch( f -> f.field( "createdAt" ).desc().missing().first() );
+		assertThat( ids( result ) ).hasSize( PAGE_SIZE )
+				.allSatisfy( id -> assertThat( id ).startsWith( "missing" ) );
+		assertThat( result.topDocs().totalHits.value ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void noTotalHitCountThreshold() {
+		setup( "createdAt:desc" );
+		initData();
+
+		LuceneSearchResult<DocumentReference> result = index.query().extension( LuceneExtension.get() )
+				.where( f -> f.match().field( "text" ).matching( "text" ) )
+				.sort( f -> f.field( "createdAt" ).desc() )
+				.fetch( PAGE_SIZE );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds(
+				Comparator.comparing( (Document document) -> document.createdAt,
+						Comparator.nullsLast( Comparator.reverseOrder() ) ) ) );
+		assertThat( result.total().isHitCountExact() ).isTrue();
+		assertThat( result.total().hitCount() ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void invalid() {
+		assertThatThrownBy( () -> setup( "createdAt:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: 'createdAt:sideways'" ) );
+	}
+
+	@Test
+	public void unknownField() {
+		assertThatThrownBy( () -> setup( "unknown:desc" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: unknown field 'unknown'" ) );
+	}
+
+	@Test
+	public void notSortable() {
+		assertThatThrownBy( () -> setup( "text" ) )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( index.name() )
+						.failure( "Invalid index sort: field 'text' cannot be used to sort the index" ) );
+	}
+
+	@Test
+	public void nestedDocuments() {
+		SimpleMappedIndex<IndexBinding> indexWithNested = SimpleMappedIndex.of( root -> {
+			root.objectField( "nested", ObjectStructure.NESTED ).multiValued().toReference();
+			return new IndexBinding( root );
+		} );
+		assertThatThrownBy( () -> setupHelper.start().withIndex( indexWithNested )
+				.withIndexProperty( indexWithNested.name(), LuceneIndexSettings.IO_WRITER_INDEX_SORT, "createdAt" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.satisfies( FailureReportUtils.hasFailureReport()
+						.indexContext( indexWithNested.name() )
+						.failure( "Invalid index sort: this index contains nested documents" ) );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start().withIndex( index )
+				.withIndexProperty( index.name(), LuceneIndexSettings.IO_WRITER_INDEX_SORT, indexSort )
+				.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_WITHOUT_VALUE_COUNT, i -> {
+					Document document = new Document( "missing" + i, null, null );
+					documents.add( document );
+					return StubMapperUtils.documentProvider( document.id,
+							doc -> doc.addValue( index.binding().text, "text" ) );
+				} )
+				.add( DOCUMENT_COUNT, i -> {
+					// Spread values so that the best documents are not the first ones to be indexed
+					long value = ( i * 7919L ) % DOCUMENT_COUNT;
+					Document document = new Document( String.valueOf( i ), Instant.ofEpochSecond( value ),
+							String.format( "keyword%05d", ( i * 31L ) % DOCUMENT_COUNT ) );
+					documents.add( document );
+					return StubMapperUtils.documentProvider( document.id, doc -> {
+						doc.addValue( index.binding().text, "text" );
+						doc.addValue( index.binding().createdAt, document.createdAt );
+						doc.addValue( index.binding().keyword, document.keyword );
+					} );
+				} )
+				.join();
+	}
+
+	private LuceneSearchResult<DocumentReference> fetch(
+			Function<? super LuceneSearchSortFactory, ? extends SortFinalStep> sortContributor) {
+		return index.query().extension( LuceneExtension.get() )
+				// Not a match-all query, because the total hit count of those is computed through other means
+				.where( f -> f.match().field( "text" ).matching( "text" ) )
+				.sort( sortContributor )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( PAGE_SIZE );
+	}
+
+	private static void assertEarlyTerminated(LuceneSearchResult<DocumentReference> result) {
+		assertThat( result.total().isHitCountLowerBound() ).isTrue();
+		// Collection stopped early in each segment, thus not all documents were collected
+		assertThat( result.topDocs().totalHits.value ).isLessThan( TOTAL_DOCUMENT_COUNT );
+	}
+
+	private List<Sort> indexSorts() throws IOException {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		List<Sort> indexSorts = new ArrayList<>();
+		for ( Shard shard : luceneIndexManager.getShardsForTests() ) {
+			indexSorts.add( shard.indexAccessorForTests().getWriterForTests().getConfig().getIndexSort() );
+		}
+		return indexSorts;
+	}
+
+	private List<String> expectedIds(Comparator<Document> comparator) {
+		List<Document> sorted = new ArrayList<>( documents );
+		sorted.sort( comparator );
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < PAGE_SIZE; i++ ) {
+			ids.add( sorted.get( i ).id );
+		}
+		return ids;
+	}
+
+	private static List<String> ids(LuceneSearchResult<DocumentReference> result) {
+		return result.hits().stream().map( DocumentReference::id ).collect( Collectors.toList() );
+	}
+
+	private static final class Document {
+		final String id;
+		final Instant createdAt;
+		final String keyword;
+
+		Document(String id, Instant createdAt, String keyword) {
+			this.id = id;
+			this.createdAt = createdAt;
+			this.keyword = keyword;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.asList( id, createdAt, keyword ).toString();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Instant> createdAt;
+		final IndexFieldReference<String> keyword;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+			createdAt = root.field( "createdAt", f -> f.asInstant().sortable( Sortable.YES ) ).toReference();
+			keyword = root.field( "keyword", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
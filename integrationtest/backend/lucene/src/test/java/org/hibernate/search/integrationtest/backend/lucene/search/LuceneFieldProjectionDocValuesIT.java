@@ -0,0 +1,228 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test field projections on fields with doc values,
+ * which are read from doc values instead of stored fields whenever that doesn't change the result.
+ */
+public class LuceneFieldProjectionDocValuesIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	private static final Instant INSTANT_WITH_NANOS = Instant.parse( "2021-03-04T10:15:30.123456789Z" );
+	private static final LocalTime LOCAL_TIME_WITH_NANOS = LocalTime.of( 10, 15, 30, 123456789 );
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index =
+			SimpleMappedIndex.of( root -> new IndexBinding( root, Sortable.YES ) ).name( "main" );
+	private static final SimpleMappedIndex<IndexBinding> noDocValuesIndex =
+			SimpleMappedIndex.of( root -> new IndexBinding( root, Sortable.NO ) ).name( "noDocValues" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, noDocValuesIndex ).setup();
+
+		initData( index );
+		initData( noDocValuesIndex );
+	}
+
+	@Test
+	public void singleValued() {
+		assertThat( index.query()
+				.select( f -> f.composite()
+						.from( f.field( "long", Long.class ),
+								f.field( "double", Double.class ),
+								f.field( "boolean", Boolean.class ),
+								f.field( "localDate", LocalDate.class ),
+								f.field( "localTime", LocalTime.class ) )
+						.asList() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "long" ).missing().last() )
+				.fetchAllHits() )
+				.containsExactly(
+						Arrays.asList( -1L, -0.0, true, LocalDate.of( 2021, 3, 4 ), LOCAL_TIME_WITH_NANOS ),
+						Arrays.asList( 42L, 42.5, false, LocalDate.of( 1970, 1, 1 ), LocalTime.MIDNIGHT ),
+						Arrays.asList( null, null, null, null, null )
+				);
+	}
+
+	@Test
+	public void lossyDocValues() {
+		// Doc values of Instant fields only have millisecond precision: we must fall back to stored fields.
+		assertThat( index.query()
+				.select( f -> f.field( "instant", Instant.class ) )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( INSTANT_WITH_NANOS );
+	}
+
+	@Test
+	public void multiValued() {
+		// Doc values are sorted: we must fall back to stored fields to preserve the order of values.
+		assertThat( index.query()
+				.select( f -> f.field( "multiValuedLong", Long.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( Arrays.asList( 3L, 1L, 2L ) );
+	}
+
+	@Test
+	public void multiValuedFlattenedObject() {
+		// The field is single-valued, but its parent is not: we must fall back to stored fields as well.
+		assertThat( index.query()
+				.select( f -> f.field( "flattened.long", Long.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits() )
+				.containsExactly( Arrays.asList( 5L, 4L ) );
+	}
+
+	@Test
+	public void nested() {
+		assertThat( index.query()
+				.select( f -> f.object( "nested" )
+						.from( f.field( "nested.integer", Integer.class ) )
+						.as( value -> value )
+						.multi() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "long" ).missing().last() )
+				.fetchAllHits() )
+				.containsExactly(
+						Arrays.asList( 3, null, 1 ),
+						Collections.singletonList( 7 ),
+						Collections.emptyList()
+				);
+	}
+
+	@Test
+	public void multiIndex_docValuesInOneIndexOnly() {
+		List<Long> hits = index.createScope( noDocValuesIndex ).query()
+				.select( f -> f.field( "long", Long.class ) )
+				.where( f -> f.id().matching( DOCUMENT_2 ) )
+				.fetchAllHits();
+		assertThat( hits ).containsExactly( 42L, 42L );
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> index) {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( documentProvider( DOCUMENT_1, document -> {
+					document.addValue( binding.longField, -1L );
+					document.addValue( binding.doubleField, -0.0 );
+					document.addValue( binding.booleanField, true );
+					document.addValue( binding.localDateField, LocalDate.of( 2021, 3, 4 ) );
+					document.addValue( binding.localTimeField, LOCAL_TIME_WITH_NANOS );
+					document.addValue( binding.instantField, INSTANT_WITH_NANOS );
+					document.addValue( binding.multiValuedLongField, 3L );
+					document.addValue( binding.multiValuedLongField, 1L );
+					document.addValue( binding.multiValuedLongField, 2L );
+					addFlattened( binding, document, 5L );
+					addFlattened( binding, document, 4L );
+					addNested( binding, document, 3 );
+					addNested( binding, document, null );
+					addNested( binding, document, 1 );
+				} ) )
+				.add( documentProvider( DOCUMENT_2, document -> {
+					document.addValue( binding.longField, 42L );
+					document.addValue( binding.doubleField, 42.5 );
+					document.addValue( binding.booleanField, false );
+					document.addValue( binding.localDateField, LocalDate.of( 1970, 1, 1 ) );
+					document.addValue( binding.localTimeField, LocalTime.MIDNIGHT );
+					addNested( binding, document, 7 );
+				} ) )
+				.add( documentProvider( EMPTY, document -> { } ) )
+				.join();
+	}
+
+	private static void addFlattened(IndexBinding binding, DocumentElement document, Long value) {
+		DocumentElement flattened = document.addObject( binding.flattened );
+		flattened.addValue( binding.flattenedLong, value );
+	}
+
+	private static void addNested(IndexBinding binding, DocumentElement document, Integer value) {
+		DocumentElement nested = document.addObject( binding.nested );
+		nested.addValue( binding.nestedInteger, value );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Long> longField;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<Boolean> booleanField;
+		final IndexFieldReference<LocalDate> localDateField;
+		final IndexFieldReference<LocalTime> localTimeField;
+		final IndexFieldReference<Instant> instantField;
+		final IndexFieldReference<Long> multiValuedLongField;
+		final IndexObjectFieldReference flattened;
+		final IndexFieldReference<Long> flattenedLong;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexBinding(IndexSchemaElement root, Sortable sortable) {
+			longField = root.field( "long", f -> f.asLong().projectable( Projectable.YES ).sortable( sortable ) )
+					.toReference();
+			doubleField = root.field( "double", f -> f.asDouble().projectable( Projectable.YES ).sortable( sortable ) )
+					.toReference();
+			booleanField = root.field( "boolean", f -> f.asBoolean().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.toReference();
+			localDateField = root.field( "localDate", f -> f.asLocalDate().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.toReference();
+			localTimeField = root.field( "localTime", f -> f.asLocalTime().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.toReference();
+			instantField = root.field( "instant", f -> f.asInstant().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.toReference();
+			multiValuedLongField = root.field( "multiValuedLong", f -> f.asLong().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.multiValued().toReference();
+			IndexSchemaObjectField flattenedObject = root.objectField( "flattened", ObjectStructure.FLATTENED )
+					.multiValued();
+			flattened = flattenedObject.toReference();
+			flattenedLong = flattenedObject.field( "long", f -> f.asLong().projectable( Projectable.YES )
+					.sortable( sortable ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger().projectable( Projectable.YES )
+					.aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test the knn predicate, which is implemented as an exact nearest neighbor search
+ * on the Lucene backend, allowing exact expectations on scores.
+ * <p>
+ * See also the backend-agnostic tests in the TCK.
+ */
+public class LuceneKnnPredicateIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String EMPTY = "empty";
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void score() {
+		List<Float> scores = index.query()
+				.select( f -> f.score() )
+				.where( f -> f.knn( 2 ).field( "floatVector" ).matching( 3.0f, 0.5f ) )
+				.fetchAllHits();
+		// L2 similarity: 1 / ( 1 + squared distance )
+		assertThat( scores ).containsExactly( 0.8f, 0.5f );
+	}
+
+	@Test
+	public void boost() {
+		List<Float> scores = index.query()
+				.select( f -> f.score() )
+				.where( f -> f.knn( 1 ).field( "floatVector" ).matching( 1.0f, 1.0f ).boost( 3.0f ) )
+				.fetchAllHits();
+		assertThat( scores ).containsExactly( 3.0f );
+	}
+
+	@Test
+	public void projection() {
+		assertThat( index.query()
+				.select( f -> f.field( "floatVector", float[].class ) )
+				.where( f -> f.id().matching( DOCUMENT_2 ) )
+				.fetchAllHits() )
+				.containsExactly( new float[] { 1.0f, 1.0f } );
+	}
+
+	private static void initData() {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( documentProvider( DOCUMENT_1, document -> {
+					document.addValue( binding.floatVector, new float[] { 0.0f, 0.0f } );
+				} ) )
+				.add( documentProvider( DOCUMENT_2, document -> {
+					document.addValue( binding.floatVector, new float[] { 1.0f, 1.0f } );
+				} ) )
+				.add( documentProvider( DOCUMENT_3, document -> {
+					document.addValue( binding.floatVector, new float[] { 3.0f, 0.0f } );
+				} ) )
+				.add( documentProvider( DOCUMENT_4, document -> {
+					document.addValue( binding.floatVector, new float[] { 3.0f, 1.5f } );
+				} ) )
+				.add( documentProvider( EMPTY, document -> { } ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<float[]> floatVector;
+
+		IndexBinding(IndexSchemaElement root) {
+			floatVector = root.field( "floatVector", f -> f.asFloatVector( 2 ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
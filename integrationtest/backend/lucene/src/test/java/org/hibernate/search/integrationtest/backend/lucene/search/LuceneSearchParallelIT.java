@@ -0,0 +1,299 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.backend.lucene.query.SlowQuery;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * Test that executing search queries in parallel over slices of the index
+ * (see {@link LuceneBackendSettings#SEARCH_THREAD_POOL_SIZE})
+ * gives the same results as executing them sequentially.
+ */
+public class LuceneSearchParallelIT {
+
+	private static final String SEQUENTIAL_BACKEND = "sequential";
+	private static final String PARALLEL_BACKEND = "parallel";
+
+	private static final int SEGMENT_COUNT = 4;
+	private static final int DOCUMENTS_PER_SEGMENT = 25;
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+	private static final int CATEGORY_COUNT = 5;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> sequentialIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).backendName( SEQUENTIAL_BACKEND ).name( "sequential" );
+	private static final SimpleMappedIndex<IndexBinding> parallelIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).backendName( PARALLEL_BACKEND ).name( "parallel" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start( SEQUENTIAL_BACKEND ).withIndex( sequentialIndex ).setup();
+		setupHelper.start( PARALLEL_BACKEND )
+				.withBackendProperty( PARALLEL_BACKEND, LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				// One segment per slice
+				.withBackendProperty( PARALLEL_BACKEND, LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS, 1 )
+				.withBackendProperty( PARALLEL_BACKEND, LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 1 )
+				.withIndex( parallelIndex )
+				.setup();
+
+		initData( sequentialIndex );
+		initData( parallelIndex );
+	}
+
+	@Test
+	public void slices() {
+		RecordingQuery query = new RecordingQuery();
+		SearchResult<DocumentReference> result = parallelIndex.query()
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( query ) )
+				.fetch( 10 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		// Each segment is a slice, and slices are searched in the search thread pool
+		// (except the last one, which is searched in the calling thread).
+		assertThat( query.leafThreadNames ).hasSize( SEGMENT_COUNT );
+		assertThat( query.leafThreadNames.values() ).anySatisfy( name -> assertThat( name ).contains( "Search thread" ) );
+	}
+
+	@Test
+	public void fieldSort() {
+		assertSameHits( index -> index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() ),
+				20 );
+	}
+
+	@Test
+	public void fieldSort_offset() {
+		SearchResult<DocumentReference> sequentialResult = sequentialIndex.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 30, 15 );
+		SearchResult<DocumentReference> parallelResult = parallelIndex.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 30, 15 );
+
+		assertThat( ids( parallelResult ) )
+				.hasSize( 15 )
+				.containsExactlyElementsOf( ids( sequentialResult ) );
+	}
+
+	@Test
+	public void scoreSort() {
+		assertSameHits( index -> index.query()
+				.where( f -> f.bool()
+						.should( f.match().field( "category" ).matching( "category1" ) )
+						.should( f.range().field( "integer" ).atMost( 30 ) ) ),
+				20 );
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchQuery<DocumentReference> sequentialQuery = sequentialIndex.query()
+				.where( f -> f.range().field( "integer" ).between( 10, 89 ) )
+				.toQuery();
+		SearchQuery<DocumentReference> parallelQuery = parallelIndex.query()
+				.where( f -> f.range().field( "integer" ).between( 10, 89 ) )
+				.toQuery();
+
+		assertThat( parallelQuery.fetchTotalHitCount() )
+				.isEqualTo( sequentialQuery.fetchTotalHitCount() )
+				.isEqualTo( 80L );
+		assertThat( parallelQuery.fetch( 0 ).total().hitCount() ).isEqualTo( 80L );
+	}
+
+	@Test
+	public void aggregations() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+		AggregationKey<Map<Range<Integer>, Long>> rangeKey = AggregationKey.of( "range" );
+
+		Function<SimpleMappedIndex<IndexBinding>, SearchResult<DocumentReference>> fetch = index -> index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( termsKey, f -> f.terms().field( "category", String.class ) )
+				.aggregation( rangeKey, f -> f.range().field( "integer", Integer.class )
+						.range( 0, 10 )
+						.range( 10, 50 )
+						.range( 50, null ) )
+				.fetch( 5 );
+
+		SearchResult<DocumentReference> sequentialResult = fetch.apply( sequentialIndex );
+		SearchResult<DocumentReference> parallelResult = fetch.apply( parallelIndex );
+
+		assertThat( parallelResult.aggregation( termsKey ) )
+				.isEqualTo( sequentialResult.aggregation( termsKey ) )
+				.hasSize( CATEGORY_COUNT )
+				.allSatisfy( (term, count) -> assertThat( count ).isEqualTo( (long) DOCUMENT_COUNT / CATEGORY_COUNT ) );
+		assertThat( parallelResult.aggregation( rangeKey ) )
+				.isEqualTo( sequentialResult.aggregation( rangeKey ) )
+				.containsEntry( Range.canonical( 0, 10 ), 10L )
+				.containsEntry( Range.canonical( 10, 50 ), 40L )
+				.containsEntry( Range.canonical( 50, null ), 50L );
+	}
+
+	@Test
+	public void failAfter() {
+		for ( SimpleMappedIndex<IndexBinding> index : Arrays.asList( sequentialIndex, parallelIndex ) ) {
+			SearchQuery<DocumentReference> query = index.query()
+					.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( new SlowQuery( 100 ) ) )
+					.failAfter( 1, TimeUnit.NANOSECONDS )
+					.toQuery();
+
+			assertThatThrownBy( () -> query.fetch( 20 ) )
+					.isInstanceOf( SearchTimeoutException.class )
+					.hasMessageContaining( "Operation exceeded the timeout of 0s, 0ms and 1ns" );
+			assertThatThrownBy( () -> query.fetchTotalHitCount() )
+					.isInstanceOf( SearchTimeoutException.class )
+					.hasMessageContaining( "Operation exceeded the timeout of 0s, 0ms and 1ns" );
+		}
+	}
+
+	@Test
+	public void truncateAfter() {
+		for ( SimpleMappedIndex<IndexBinding> index : Arrays.asList( sequentialIndex, parallelIndex ) ) {
+			SearchResult<DocumentReference> result = index.query()
+					.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( new SlowQuery( 100 ) ) )
+					.truncateAfter( 1, TimeUnit.NANOSECONDS )
+					.fetch( 20 );
+
+			assertThat( result.timedOut() ).isTrue();
+			assertThat( result.total().isHitCountLowerBound() ).isTrue();
+			assertThat( result.total().hitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+		}
+	}
+
+	private static void assertSameHits(
+			Function<SimpleMappedIndex<IndexBinding>, SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?>> queryFunction,
+			int limit) {
+		SearchResult<DocumentReference> sequentialResult = queryFunction.apply( sequentialIndex ).fetch( limit );
+		SearchResult<DocumentReference> parallelResult = queryFunction.apply( parallelIndex ).fetch( limit );
+
+		assertThat( parallelResult.timedOut() ).isFalse();
+		assertThat( parallelResult.total().hitCount() ).isEqualTo( sequentialResult.total().hitCount() );
+		assertThat( ids( parallelResult ) )
+				.hasSize( limit )
+				.containsExactlyElementsOf( ids( sequentialResult ) );
+	}
+
+	private static List<String> ids(SearchResult<DocumentReference> result) {
+		return result.hits().stream().map( DocumentReference::id ).collect( Collectors.toList() );
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> index) {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			// Interleave values between segments, so that top hits come from every segment
+			int segmentOffset = segment;
+			index.bulkIndexer()
+					.add( DOCUMENTS_PER_SEGMENT, i -> {
+						int value = i * SEGMENT_COUNT + segmentOffset;
+						return documentProvider( String.valueOf( value ), document -> {
+							document.addValue( index.binding().integer, value );
+							document.addValue( index.binding().category, "category" + ( value % CATEGORY_COUNT ) );
+						} );
+					} )
+					.join();
+			// Commit to create a new segment for each batch
+			index.createWorkspace().flush( OperationSubmitter.blocking() ).join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString()
+					.aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+
+	/**
+	 * A query that matches all documents and records which thread searched each segment.
+	 */
+	private static class RecordingQuery extends Query {
+		private final Map<Integer, String> leafThreadNames = new ConcurrentHashMap<>();
+
+		@Override
+		public String toString(String field) {
+			return "RecordingQuery";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+			return new ConstantScoreWeight( this, boost ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) {
+					leafThreadNames.put( context.ord, Thread.currentThread().getName() );
+					return new ConstantScoreScorer( this, score(), scoreMode,
+							DocIdSetIterator.all( context.reader().maxDoc() ) );
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					return false;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.search.common.SortMode;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test that sorts on numeric fields skip non-competitive documents when possible,
+ * and that results are correct whether documents are skipped or not.
+ */
+public class LuceneSearchSortSkipNonCompetitiveIT {
+
+	private static final int DOCUMENT_COUNT = 20_000;
+	private static final int DOCUMENT_WITHOUT_VALUE_COUNT = 10;
+	private static final int TOTAL_DOCUMENT_COUNT = DOCUMENT_COUNT + DOCUMENT_WITHOUT_VALUE_COUNT;
+	private static final int TOTAL_HIT_COUNT_THRESHOLD = 100;
+	private static final int PAGE_SIZE = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	// Document IDs, ordered by the value of their single-valued field
+	private static final String[] idsByValue = new String[DOCUMENT_COUNT];
+	private static final List<String> idsWithoutValue = new ArrayList<>();
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_WITHOUT_VALUE_COUNT, i -> {
+					String id = "missing" + i;
+					idsWithoutValue.add( id );
+					return StubMapperUtils.documentProvider( id,
+							document -> document.addValue( index.binding().text, "text" ) );
+				} )
+				.add( DOCUMENT_COUNT, i -> {
+					String id = String.valueOf( i );
+					// Spread values so that the best documents are not the first ones to be collected
+					long value = ( i * 7919L ) % DOCUMENT_COUNT;
+					idsByValue[(int) value] = id;
+					return StubMapperUtils.documentProvider( id, document -> {
+						document.addValue( index.binding().text, "text" );
+						document.addValue( index.binding().singleValued, value );
+						document.addValue( index.binding().multiValued, value );
+						document.addValue( index.binding().multiValued, value + DOCUMENT_COUNT );
+					} );
+				} )
+				.join();
+		// Lucene only skips documents if it can skip a large portion of a segment: use a single, large segment
+		index.createWorkspace().mergeSegments( OperationSubmitter.blocking() ).join();
+	}
+
+	@Test
+	public void singleValued_asc() {
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "singleValued" ).asc() );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( firstIdsByValue() );
+		assertSkipped( result );
+	}
+
+	@Test
+	public void singleValued_desc() {
+		LuceneSearchResult<DocumentReference> result = fetch( f -> f.field( "singleValued" ).desc() );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( lastIdsByValueReversed() );
+		assertSkipped( result );
+	}
+
+	@Test
+	public void singleValued_missingFirst() {
+		LuceneSearchResult<DocumentReference> result =
+				fetch( f -> f.field( "singleValued" ).asc().missing().first() );
+
+		// Documents without a value don't have points, but they are competitive and must not be skipped
+		assertThat( ids( result ) ).containsExactlyInAnyOrderElementsOf( idsWithoutValue );
+	}
+
+	@Test
+	public void multiValued_min() {
+		LuceneSearchResult<DocumentReference> result =
+				fetch( f -> f.field( "multiValued" ).asc().mode( SortMode.MIN ) );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( firstIdsByValue() );
+		assertSkipped( result );
+	}
+
+	@Test
+	public void multiValued_max() {
+		LuceneSearchResult<DocumentReference> result =
+				fetch( f -> f.field( "multiValued" ).desc().mode( SortMode.MAX ) );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( lastIdsByValueReversed() );
+		assertSkipped( result );
+	}
+
+	@Test
+	public void multiValued_sum() {
+		LuceneSearchResult<DocumentReference> result =
+				fetch( f -> f.field( "multiValued" ).asc().mode( SortMode.SUM ).missing().last() );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( firstIdsByValue() );
+		// Points are not consistent with sums: all documents must have been collected
+		assertThat( result.topDocs().totalHits.value ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void noTotalHitCountThreshold() {
+		LuceneSearchResult<DocumentReference> result = index.query().extension( LuceneExtension.get() )
+				.where( f -> f.match().field( "text" ).matching( "text" ) )
+				.sort( f -> f.field( "singleValued" ).asc() )
+				.fetch( PAGE_SIZE );
+
+		assertThat( ids( result ) ).containsExactlyElementsOf( firstIdsByValue() );
+		assertThat( result.total().isHitCountExact() ).isTrue();
+		assertThat( result.total().hitCount() ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+	}
+
+	private LuceneSearchResult<DocumentReference> fetch(
+			Function<? super LuceneSearchSortFactory, ? extends SortFinalStep> sortContributor) {
+		return index.query().extension( LuceneExtension.get() )
+				// Not a match-all query, because the total hit count of those is computed through other means
+				.where( f -> f.match().field( "text" ).matching( "text" ) )
+				.sort( sortContributor )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( PAGE_SIZE );
+	}
+
+	private static void assertSkipped(LuceneSearchResult<DocumentReference> result) {
+		assertThat( result.total().isHitCountLowerBound() ).isTrue();
+		// Non-competitive documents were skipped, thus not collected
+		assertThat( result.topDocs().totalHits.value ).isLessThan( TOTAL_DOCUMENT_COUNT );
+	}
+
+	private static List<String> ids(LuceneSearchResult<DocumentReference> result) {
+		return result.hits().stream().map( DocumentReference::id ).collect( Collectors.toList() );
+	}
+
+	private static List<String> firstIdsByValue() {
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < PAGE_SIZE; i++ ) {
+			ids.add( idsByValue[i] );
+		}
+		return ids;
+	}
+
+	private static List<String> lastIdsByValueReversed() {
+		List<String> ids = new ArrayList<>();
+		for ( int i = 0; i < PAGE_SIZE; i++ ) {
+			ids.add( idsByValue[DOCUMENT_COUNT - 1 - i] );
+		}
+		return ids;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Long> singleValued;
+		final IndexFieldReference<Long> multiValued;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+			singleValued = root.field( "singleValued", f -> f.asLong().sortable( Sortable.YES ) ).toReference();
+			multiValued = root.field( "multiValued", f -> f.asLong().sortable( Sortable.YES ) )
+					.multiValued().toReference();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.dsl.AggregationFinalStep;
+import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests behavior specific to metric aggregations:
+ * sum, min, max, avg, count of values and count of distinct values.
+ */
+public class MetricAggregationSpecificsIT {
+
+	private static final String AGGREGATION_NAME = "aggregationName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String EMPTY = "empty";
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void integer() {
+		assertThat( aggregate( aggregation().sum().field( "integer", Integer.class ) ) ).isEqualTo( 7 );
+		assertThat( aggregate( aggregation().min().field( "integer", Integer.class ) ) ).isEqualTo( 1 );
+		assertThat( aggregate( aggregation().max().field( "integer", Integer.class ) ) ).isEqualTo( 4 );
+		// Averages are not truncated, even for integer fields
+		assertThat( aggregate( aggregation().avg().field( "integer", Double.class ) ) ).isCloseTo( 7.0 / 3, within( 0.001 ) );
+		assertThat( aggregate( aggregation().countValues().field( "integer" ) ) ).isEqualTo( 3L );
+		assertThat( aggregate( aggregation().countDistinctValues().field( "integer" ) ) ).isEqualTo( 3L );
+	}
+
+	@Test
+	public void sum_widening() {
+		assertThat( aggregate( aggregation().sum().field( "integer", Long.class ) ) ).isEqualTo( 7L );
+		assertThat( aggregate( aggregation().sum().field( "integer", Double.class ) ) ).isCloseTo( 7.0, within( 0.001 ) );
+		assertThat( aggregate( aggregation().sum().field( "byte", Long.class ) ) ).isEqualTo( 300L );
+		assertThat( aggregate( aggregation().sum().field( "byte", Double.class ) ) ).isCloseTo( 300.0, within( 0.001 ) );
+	}
+
+	@Test
+	public void sum_overflow() {
+		// 3 * 100 does not fit into a byte
+		assertThatThrownBy( () -> aggregate( aggregation().sum().field( "byte", Byte.class ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to compute aggregation 'sum' on field 'byte'",
+						"the sum of values cannot be represented with the requested type" );
+	}
+
+	@Test
+	public void avg_invalidType() {
+		assertThatThrownBy( () -> aggregation().avg().field( "integer", Integer.class ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid type for the result of an average aggregation",
+						"use Double as the expected type" );
+	}
+
+	@Test
+	public void double_() {
+		assertThat( aggregate( aggregation().sum().field( "double", Double.class ) ) ).isCloseTo( 6.5, within( 0.001 ) );
+		assertThat( aggregate( aggregation().min().field( "double", Double.class ) ) ).isEqualTo( 1.5 );
+		assertThat( aggregate( aggregation().max().field( "double", Double.class ) ) ).isEqualTo( 2.5 );
+		assertThat( aggregate( aggregation().avg().field( "double", Double.class ) ) ).isCloseTo( 6.5 / 3, within( 0.001 ) );
+		assertThat( aggregate( aggregation().countValues().field( "double" ) ) ).isEqualTo( 3L );
+		assertThat( aggregate( aggregation().countDistinctValues().field( "double" ) ) ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void temporal() {
+		assertThat( aggregate( aggregation().min().field( "localDate", LocalDate.class ) ) )
+				.isEqualTo( LocalDate.of( 1970, 1, 1 ) );
+		assertThat( aggregate( aggregation().max().field( "localDate", LocalDate.class ) ) )
+				.isEqualTo( LocalDate.of( 2021, 3, 4 ) );
+		assertThat( aggregate( aggregation().countDistinctValues().field( "localDate" ) ) ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void string() {
+		assertThat( aggregate( aggregation().countValues().field( "string" ) ) ).isEqualTo( 3L );
+		assertThat( aggregate( aggregation().countDistinctValues().field( "string" ) ) ).isEqualTo( 2L );
+		assertThat( aggregate( aggregation().countDistinctValues().field( "string" ).approximate() ) ).isEqualTo( 2L );
+	}
+
+	@Test
+	public void noValue() {
+		assertThat( aggregate( aggregation().sum().field( "integer", Integer.class ), f -> f.id().matching( EMPTY ) ) )
+				.isEqualTo( 0 );
+		assertThat( aggregate( aggregation().min().field( "integer", Integer.class ), f -> f.id().matching( EMPTY ) ) )
+				.isNull();
+		assertThat( aggregate( aggregation().max().field( "integer", Integer.class ), f -> f.id().matching( EMPTY ) ) )
+				.isNull();
+		assertThat( aggregate( aggregation().avg().field( "integer", Double.class ), f -> f.id().matching( EMPTY ) ) )
+				.isNull();
+		assertThat( aggregate( aggregation().countValues().field( "integer" ), f -> f.id().matching( EMPTY ) ) )
+				.isZero();
+		assertThat( aggregate( aggregation().countDistinctValues().field( "string" ), f -> f.id().matching( EMPTY ) ) )
+				.isZero();
+	}
+
+	@Test
+	public void nested_filter() {
+		assertThat( aggregate( aggregation().sum().field( "nested.integer", Integer.class ) ) ).isEqualTo( 111 );
+		assertThat( aggregate( aggregation().sum().field( "nested.integer", Integer.class )
+				.filter( pf -> pf.match().field( "nested.string" ).matching( "included" ) ) ) )
+				.isEqualTo( 101 );
+		assertThat( aggregate( aggregation().countValues().field( "nested.integer" )
+				.filter( pf -> pf.match().field( "nested.string" ).matching( "included" ) ) ) )
+				.isEqualTo( 2L );
+	}
+
+	@Test
+	public void unsupportedFieldType() {
+		assertThatThrownBy( () -> aggregation().sum().field( "string", String.class ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot use 'aggregation:sum' on field 'string'" );
+		assertThatThrownBy( () -> aggregation().avg().field( "localDate", LocalDate.class ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot use 'aggregation:avg' on field 'localDate'" );
+	}
+
+	private static SearchAggregationFactory aggregation() {
+		return index.createScope().aggregation();
+	}
+
+	private static <A> A aggregate(AggregationFinalStep<A> aggregation) {
+		return aggregate( aggregation, SearchPredicateFactory::matchAll );
+	}
+
+	private static <A> A aggregate(AggregationFinalStep<A> aggregation,
+			Function<? super SearchPredicateFactory, ? extends PredicateFinalStep> predicate) {
+		AggregationKey<A> key = AggregationKey.of( AGGREGATION_NAME );
+		return index.query()
+				.where( predicate )
+				.aggregation( key, aggregation.toAggregation() )
+				.fetchAll()
+				.aggregation( key );
+	}
+
+	private static void initData() {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( binding.integer, 1 );
+					document.addValue( binding.byteField, (byte) 100 );
+					document.addValue( binding.doubleField, 1.5 );
+					document.addValue( binding.localDate, LocalDate.of( 2021, 3, 4 ) );
+					document.addValue( binding.string, "a" );
+					addNested( binding, document, 1, "included" );
+					addNested( binding, document, 10, "excluded" );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( binding.integer, 2 );
+					document.addValue( binding.byteField, (byte) 100 );
+					document.addValue( binding.doubleField, 2.5 );
+					document.addValue( binding.localDate, LocalDate.of( 1970, 1, 1 ) );
+					document.addValue( binding.string, "b" );
+					addNested( binding, document, 100, "included" );
+				} )
+				.add( DOCUMENT_3, document -> {
+					document.addValue( binding.integer, 4 );
+					document.addValue( binding.byteField, (byte) 100 );
+					document.addValue( binding.doubleField, 2.5 );
+					document.addValue( binding.string, "a" );
+				} )
+				.add( EMPTY, document -> { } )
+				.join();
+	}
+
+	private static void addNested(IndexBinding binding, DocumentElement document, int integer, String string) {
+		DocumentElement nested = document.addObject( binding.nested );
+		nested.addValue( binding.nestedInteger, integer );
+		nested.addValue( binding.nestedString, string );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Byte> byteField;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<String> string;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+		final IndexFieldReference<String> nestedString;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().aggregable( Aggregable.YES ) ).toReference();
+			byteField = root.field( "byte", f -> f.asByte().aggregable( Aggregable.YES ) ).toReference();
+			doubleField = root.field( "double", f -> f.asDouble().aggregable( Aggregable.YES ) ).toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().aggregable( Aggregable.YES ) ).toReference();
+			string = root.field( "string", f -> f.asString().aggregable( Aggregable.YES ) ).toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger().aggregable( Aggregable.YES ) )
+					.toReference();
+			nestedString = nestedObject.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Tests behavior specific to the knn predicate.
+ * <p>
+ * Expectations are kept simple enough that they hold for both exact and approximate nearest neighbor search.
+ */
+public class KnnPredicateSpecificsIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+	private static final String EMPTY = "empty";
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		assumeTrue(
+				"This backend does not support vector search",
+				TckConfiguration.get().getBackendFeatures().supportsVectorSearch()
+		);
+
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void topK() {
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 2 ).field( "floatVector" ).matching( 2.9f, 0.1f ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_3, DOCUMENT_4 );
+	}
+
+	@Test
+	public void topK_kGreaterThanDocumentCount() {
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 10 ).field( "floatVector" ).matching( 0.1f, 0.1f ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4 );
+	}
+
+	@Test
+	public void score() {
+		List<Float> scores = index.query()
+				.select( f -> f.score() )
+				.where( f -> f.knn( 4 ).field( "floatVector" ).matching( 3.0f, 0.5f ) )
+				.fetchAllHits();
+		// Nearer neighbors have a higher score
+		assertThat( scores ).hasSize( 4 ).isSortedAccordingTo( ( a, b ) -> Float.compare( b, a ) );
+		assertThat( scores.get( 0 ) ).isGreaterThan( scores.get( 3 ) );
+	}
+
+	@Test
+	public void filter() {
+		// The filter is applied before selecting the k nearest neighbors,
+		// so we still get k hits.
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 2 ).field( "floatVector" ).matching( 2.9f, 0.1f )
+						.filter( f.match().field( "category" ).matching( "odd" ) ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_3, DOCUMENT_1 );
+	}
+
+	@Test
+	public void byteVector() {
+		assertThatQuery( index.query()
+				.where( f -> f.knn( 1 ).field( "byteVector" ).matching( (byte) 0, (byte) 10, (byte) 0 ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_2 );
+	}
+
+	@Test
+	public void invalidDimension() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 2 ).field( "floatVector" ).matching( 1.0f, 0.0f, 3.0f ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector",
+						"expected a vector of dimension 2, but got a vector of dimension 3",
+						"floatVector" );
+	}
+
+	@Test
+	public void invalidVectorType() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 2 ).field( "floatVector" ).matching( (byte) 1, (byte) 0 ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid vector for knn predicate",
+						"expected a vector of type 'float[]', but got a vector of type 'byte[]'" );
+	}
+
+	@Test
+	public void nested() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.knn( 2 ).field( "nested.floatVector" ).matching( 1.0f, 0.0f ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to use a knn predicate on a field in a nested object",
+						"nested.floatVector" );
+	}
+
+	private static void initData() {
+		IndexBinding binding = index.binding();
+		index.bulkIndexer()
+				.add( documentProvider( DOCUMENT_1, document -> {
+					document.addValue( binding.floatVector, new float[] { 0.0f, 0.0f } );
+					document.addValue( binding.byteVector, new byte[] { 10, 0, 0 } );
+					document.addValue( binding.category, "odd" );
+				} ) )
+				.add( documentProvider( DOCUMENT_2, document -> {
+					document.addValue( binding.floatVector, new float[] { 1.0f, 1.0f } );
+					document.addValue( binding.byteVector, new byte[] { 0, 10, 0 } );
+					document.addValue( binding.category, "even" );
+				} ) )
+				.add( documentProvider( DOCUMENT_3, document -> {
+					document.addValue( binding.floatVector, new float[] { 3.0f, 0.0f } );
+					document.addValue( binding.byteVector, new byte[] { 0, 0, 10 } );
+					document.addValue( binding.category, "odd" );
+				} ) )
+				.add( documentProvider( DOCUMENT_4, document -> {
+					document.addValue( binding.floatVector, new float[] { 3.0f, 1.5f } );
+					document.addValue( binding.byteVector, new byte[] { 0, -10, 0 } );
+					document.addValue( binding.category, "even" );
+				} ) )
+				.add( documentProvider( EMPTY, document -> { } ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<float[]> floatVector;
+		final IndexFieldReference<byte[]> byteVector;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			floatVector = root.field( "floatVector", f -> f.asFloatVector( 2 ) ).toReference();
+			byteVector = root.field( "byteVector", f -> f.asByteVector( 3 )
+					.vectorSimilarity( VectorSimilarity.DOT_PRODUCT ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString() ).toReference();
+			IndexSchemaObjectField nested = root.objectField( "nested", ObjectStructure.NESTED );
+			nested.field( "floatVector", f -> f.asFloatVector( 2 ) ).toReference();
+			nested.toReference();
+		}
+	}
+}
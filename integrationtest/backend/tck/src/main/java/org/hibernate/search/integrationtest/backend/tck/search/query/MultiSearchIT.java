@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class MultiSearchIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> mainIndex = SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private final SimpleMappedIndex<IndexBinding> otherIndex = SimpleMappedIndex.of( IndexBinding::new ).name( "other" );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndexes( mainIndex, otherIndex ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void fetch() {
+		SearchQuery<DocumentReference> matchAllQuery = matchAllQuery( mainIndex );
+		SearchQuery<DocumentReference> matchFirstHalfQuery = matchFirstHalfQuery( mainIndex );
+		SearchQuery<DocumentReference> otherIndexQuery = matchAllQuery( otherIndex );
+
+		MultiSearchResult result = new SimpleMultiSearch()
+				.add( matchAllQuery, 2 )
+				.add( matchFirstHalfQuery, 1, 3 )
+				.add( otherIndexQuery, null, null )
+				.fetch();
+
+		assertThatResult( result.get( matchAllQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ), docId( 1 ) );
+		assertThatResult( result.get( matchFirstHalfQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 1 ), docId( 2 ), docId( 3 ) );
+		assertThatResult( result.get( otherIndexQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( otherIndex.typeName(), docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetch_projection() {
+		SearchQuery<Integer> projectionQuery = mainIndex.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+		SearchQuery<DocumentReference> matchAllQuery = matchAllQuery( mainIndex );
+
+		MultiSearchResult result = new SimpleMultiSearch()
+				.add( projectionQuery, 2 )
+				.add( matchAllQuery, 1 )
+				.fetch();
+
+		assertThat( result.get( projectionQuery ).hits() )
+				.containsExactly( DOCUMENT_COUNT / 2 - 1, DOCUMENT_COUNT / 2 - 2 );
+		assertThatResult( result.get( matchAllQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( mainIndex.typeName(), docId( 0 ) );
+	}
+
+	@Test
+	public void fetch_empty() {
+		SearchQuery<DocumentReference> query = matchAllQuery( mainIndex );
+
+		MultiSearchResult result = new SimpleMultiSearch().fetch();
+
+		assertThatThrownBy( () -> result.get( query ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Query '", "' was not added to this multi-search" );
+	}
+
+	@Test
+	public void add_sameQueryTwice() {
+		SearchQuery<DocumentReference> query = matchAllQuery( mainIndex );
+		SimpleMultiSearch multiSearch = new SimpleMultiSearch();
+		multiSearch.add( query, 2 );
+
+		assertThatThrownBy( () -> multiSearch.add( query, 3 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Query '", "' was already added to this multi-search" );
+	}
+
+	@Test
+	public void fetch_failure() {
+		SearchQuery<DocumentReference> validQuery = matchAllQuery( mainIndex );
+		SearchQuery<DocumentReference> invalidQuery = matchAllQuery( otherIndex );
+
+		assertThatThrownBy( () -> new SimpleMultiSearch()
+				.add( validQuery, 2 )
+				.add( invalidQuery, 1, Integer.MAX_VALUE )
+				.fetch() )
+				// error message will depend on the specific backend
+				.isInstanceOf( SearchException.class );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery(SimpleMappedIndex<IndexBinding> index) {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private SearchQuery<DocumentReference> matchFirstHalfQuery(SimpleMappedIndex<IndexBinding> index) {
+		return index.query()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private void initData() {
+		BulkIndexer mainIndexer = mainIndex.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( docId( i ),
+						document -> document.addValue( mainIndex.binding().integer, i ) ) );
+		BulkIndexer otherIndexer = otherIndex.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( docId( i ),
+						document -> document.addValue( otherIndex.binding().integer, i ) ) );
+		mainIndexer.join( otherIndexer );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+							.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchAfterResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class SearchQueryFetchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int PAGE_SIZE = 30;
+	private static final int EXACT_DIVISOR_PAGE_SIZE = 25;
+	private static final int CATEGORY_COUNT = 7;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Before
+	public void checkSupported() {
+		assumeTrue(
+				"This backend does not support search cursors",
+				TckConfiguration.get().getBackendFeatures().supportsSearchCursors()
+		);
+	}
+
+	@Test
+	public void none() {
+		SearchAfterResult<DocumentReference> result = index.query()
+				.where( f -> f.matchNone() )
+				.toQuery()
+				.fetchAfter( null, PAGE_SIZE );
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.total().hitCount() ).isZero();
+		assertThat( result.cursor() ).isNull();
+	}
+
+	@Test
+	public void sortByField() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		List<String> ids = fetchAllPages( query, PAGE_SIZE, DOCUMENT_COUNT / PAGE_SIZE + 1 );
+
+		List<String> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( docId( i ) );
+		}
+		assertThat( ids ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void sortByField_desc() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		List<String> ids = fetchAllPages( query, PAGE_SIZE, DOCUMENT_COUNT / PAGE_SIZE + 1 );
+
+		List<String> expected = new ArrayList<>();
+		for ( int i = DOCUMENT_COUNT - 1; i >= 0; i-- ) {
+			expected.add( docId( i ) );
+		}
+		assertThat( ids ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void sortByField_exactDivisorPageSize() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		// The last page is full, so we only know there are no more hits after fetching an empty page.
+		List<String> ids = fetchAllPages( query, EXACT_DIVISOR_PAGE_SIZE,
+				DOCUMENT_COUNT / EXACT_DIVISOR_PAGE_SIZE + 1 );
+
+		assertThat( ids ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void sortByField_ties() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "category" ).then().field( "text" ) )
+				.toQuery();
+
+		List<String> ids = fetchAllPages( query, PAGE_SIZE, DOCUMENT_COUNT / PAGE_SIZE + 1 );
+
+		// Many documents share the same category and text:
+		// every hit must still be returned exactly once.
+		assertThat( ids ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void sortByScore() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.match().field( "text" ).matching( "even" ) )
+				.toQuery();
+
+		List<String> ids = fetchAllPages( query, PAGE_SIZE, DOCUMENT_COUNT / 2 / PAGE_SIZE + 1 );
+
+		// All scores are equal: every hit must still be returned exactly once.
+		List<String> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 2 ) {
+			expected.add( docId( i ) );
+		}
+		assertThat( ids ).containsExactlyInAnyOrderElementsOf( expected );
+	}
+
+	@Test
+	public void total() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		SearchAfterResult<DocumentReference> firstPage = query.fetchAfter( null, PAGE_SIZE );
+		assertThat( firstPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( firstPage.took() ).isNotNull();
+		assertThat( firstPage.timedOut() ).isFalse();
+
+		SearchAfterResult<DocumentReference> secondPage = query.fetchAfter( firstPage.cursor(), PAGE_SIZE );
+		assertThat( secondPage.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void invalidCursor() {
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		assertThatThrownBy( () -> query.fetchAfter( "not-a-cursor", PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor", "not-a-cursor" );
+	}
+
+	private static List<String> fetchAllPages(SearchQuery<DocumentReference> query, int pageSize,
+			int expectedPageCount) {
+		List<String> ids = new ArrayList<>();
+		int pageCount = 0;
+		String cursor = null;
+		do {
+			SearchAfterResult<DocumentReference> page = query.fetchAfter( cursor, pageSize );
+			++pageCount;
+			assertThat( page.hits() ).hasSizeLessThanOrEqualTo( pageSize );
+			for ( DocumentReference hit : page.hits() ) {
+				ids.add( hit.id() );
+			}
+			cursor = page.cursor();
+		}
+		while ( cursor != null );
+		assertThat( pageCount ).isEqualTo( expectedPageCount );
+		return ids;
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().category, i % CATEGORY_COUNT );
+							document.addValue( index.binding().text, i % 2 == 0 ? "even" : "odd" );
+						}
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> category;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			text = root.field( "text", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -14,8 +14,12 @@
 import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -23,6 +27,7 @@
 import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -360,6 +365,69 @@ public void fetch_limitAndOffset_reuseQuery() {
 				} );
 	}
 
+	@Test
+	public void fetchAsync_offset_limit() {
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		assertThatResult( matchFirstHalfQuery().toQuery().fetchAsync( null, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetchAsync_offset_limit_exceedsMaxValue() {
+		assertThatThrownBy( () -> matchAllQuerySortByField().fetchAsync( 1, Integer.MAX_VALUE )
+				.toCompletableFuture().join() )
+				.isInstanceOf( CompletionException.class )
+				// error message will depend on the specific backend
+				.hasCauseInstanceOf( SearchException.class );
+	}
+
+	@Test
+	public void fetchAsync_concurrent() {
+		List<CompletableFuture<SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			futures.add( matchAllQuerySortByField().fetchAsync( i, 1 ).toCompletableFuture() );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			assertThatResult( futures.get( i ).join() )
+					.hasTotalHitCount( DOCUMENT_COUNT )
+					.hasDocRefHitsExactOrder( index.typeName(), docId( i ) );
+		}
+	}
+
+	@Test
+	public void fetchHitsAsync_offset_limit() {
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+
+		assertThatHits( matchAllQuerySortByField().toQuery().fetchHitsAsync( 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		// Fetch beyond the total hit count
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( DOCUMENT_COUNT + 1, null )
+				.toCompletableFuture().join() )
+				.isEmpty();
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( matchFirstHalfQuery().toQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3389")
 	public void maxResults_zero() {
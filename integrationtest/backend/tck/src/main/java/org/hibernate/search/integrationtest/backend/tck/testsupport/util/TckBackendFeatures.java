@@ -142,4 +142,12 @@ public boolean supportsHighlighterFastVectorNoMatchSizeOnMultivaluedFields() {
 	public boolean supportsHighlighterPlainOrderByScoreMultivaluedField() {
 		return true;
 	}
+
+	public boolean supportsSearchCursors() {
+		return true;
+	}
+
+	public boolean supportsVectorSearch() {
+		return true;
+	}
 }
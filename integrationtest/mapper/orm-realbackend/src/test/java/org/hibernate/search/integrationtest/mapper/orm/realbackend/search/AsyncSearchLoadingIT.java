@@ -0,0 +1,133 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.realbackend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.integrationtest.mapper.orm.realbackend.util.BookCreatorUtils.prepareBooks;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.testsupport.BackendConfigurations;
+import org.hibernate.search.integrationtest.mapper.orm.realbackend.util.Book;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test entity loading for asynchronous search queries,
+ * which must not use the session the query was created from.
+ */
+public class AsyncSearchLoadingIT {
+
+	private static final int NUMBER_OF_BOOKS = 8;
+
+	@Rule
+	public OrmSetupHelper setupHelper = OrmSetupHelper.withSingleBackend( BackendConfigurations.simple() );
+
+	private EntityManagerFactory entityManagerFactory;
+
+	@Before
+	public void before() {
+		entityManagerFactory = setupHelper.start().setup( Book.class );
+
+		prepareBooks( entityManagerFactory, NUMBER_OF_BOOKS );
+	}
+
+	@Test
+	public void fetchAsync() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+
+			SearchResult<Book> result = Futures.unwrappedExceptionJoin( searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchAsync( NUMBER_OF_BOOKS )
+					.toCompletableFuture() );
+
+			assertThat( result.total().hitCount() ).isEqualTo( NUMBER_OF_BOOKS );
+			assertThat( result.hits() )
+					.hasSize( NUMBER_OF_BOOKS )
+					.doesNotContainNull()
+					.extracting( Book::getTitle )
+					.allSatisfy( title -> assertThat( title ).startsWith( "Very interesting book title" ) );
+			// Entities were loaded in a dedicated session
+			assertThat( result.hits() ).noneMatch( entityManager::contains );
+		} );
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+
+			List<Book> hits = Futures.unwrappedExceptionJoin( searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchHitsAsync( NUMBER_OF_BOOKS )
+					.toCompletableFuture() );
+
+			assertThat( hits )
+					.hasSize( NUMBER_OF_BOOKS )
+					.doesNotContainNull()
+					.noneMatch( entityManager::contains );
+		} );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+
+			Long count = Futures.unwrappedExceptionJoin( searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchTotalHitCountAsync()
+					.toCompletableFuture() );
+
+			assertThat( count ).isEqualTo( NUMBER_OF_BOOKS );
+		} );
+	}
+
+	@Test
+	public void concurrentUseOfSession() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+
+			CompletableFuture<List<Book>> firstFuture = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchHitsAsync( NUMBER_OF_BOOKS )
+					.toCompletableFuture();
+			CompletableFuture<List<Book>> secondFuture = searchSession.search( Book.class )
+					.where( f -> f.id().matchingAny( Arrays.asList( 1, 2 ) ) )
+					.fetchHitsAsync( NUMBER_OF_BOOKS )
+					.toCompletableFuture();
+
+			// The session remains usable in the calling thread while async queries are executing
+			List<Book> syncHits = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchHits( NUMBER_OF_BOOKS );
+			assertThat( syncHits )
+					.hasSize( NUMBER_OF_BOOKS )
+					.allMatch( entityManager::contains );
+
+			assertThat( Futures.unwrappedExceptionJoin( firstFuture ) )
+					.hasSize( NUMBER_OF_BOOKS )
+					.doesNotContainNull();
+			assertThat( Futures.unwrappedExceptionJoin( secondFuture ) )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( 1, 2 );
+		} );
+	}
+
+}
@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
@@ -42,7 +43,7 @@ protected void bind(IndexedEntityBindingContext context) {
 				.toReference();
 		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
 				.toReference();
-		numericField = root.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+		numericField = root.field( NUMERIC_FIELD_NAME, f -> f.asLong().projectable( Projectable.YES ) ).toReference();
 	}
 
 	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
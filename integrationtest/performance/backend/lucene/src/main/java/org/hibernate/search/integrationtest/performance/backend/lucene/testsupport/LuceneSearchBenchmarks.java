@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.engine.search.projection.dsl.ProjectionFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.AbstractBackendBenchmarks;
+import org.hibernate.search.integrationtest.performance.backend.base.QueryParams;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * JMH benchmarks for the extraction of search hits,
+ * i.e. the collection of projected values for each top document.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate per operation ({@code gc.alloc.rate.norm}),
+ * which is the most relevant metric here: extraction allocates on each hit.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class LuceneSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	@Param({ "DOCUMENT_REFERENCE", "SCORE", "FIELD", "COMPOSITE" })
+	private ProjectionType projection;
+
+	private StubMappingScope scope;
+	private SearchProjection<?> searchProjection;
+
+	@Setup(Level.Trial)
+	public void setupTrial(LuceneBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		doSetupTrial( backendHolder, indexInitializer, threadParams );
+		scope = getIndexPartition().getIndex().createScope();
+		searchProjection = projection.create( scope.projection() ).toProjection();
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void query(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> results = scope.query()
+				.select( searchProjection )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.total().hitCount() );
+		List<?> hits = results.hits();
+		for ( Object hit : hits ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	public enum ProjectionType {
+		DOCUMENT_REFERENCE {
+			@Override
+			ProjectionFinalStep<?> create(SearchProjectionFactory<?, ?> f) {
+				return f.documentReference();
+			}
+		},
+		SCORE {
+			@Override
+			ProjectionFinalStep<?> create(SearchProjectionFactory<?, ?> f) {
+				return f.score();
+			}
+		},
+		FIELD {
+			@Override
+			ProjectionFinalStep<?> create(SearchProjectionFactory<?, ?> f) {
+				return f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class );
+			}
+		},
+		COMPOSITE {
+			@Override
+			ProjectionFinalStep<?> create(SearchProjectionFactory<?, ?> f) {
+				return f.composite()
+						.from( f.documentReference(), f.score(),
+								f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class ) )
+						.asList();
+			}
+		};
+
+		abstract ProjectionFinalStep<?> create(SearchProjectionFactory<?, ?> f);
+	}
+
+}
@@ -10,6 +10,7 @@
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.persistence.EntityGraph;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -31,16 +32,25 @@ public final class HibernateOrmSelectionLoadingContext implements PojoSelectionL
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final LoadingMappingContext mappingContext;
 	private final LoadingIndexedTypeContextProvider typeContextProvider;
 	private final LoadingSessionContext sessionContext;
 	private final MutableEntityLoadingOptions loadingOptions;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 
 	private HibernateOrmSelectionLoadingContext(Builder builder) {
-		typeContextProvider = builder.typeContextProvider;
-		sessionContext = builder.sessionContext;
-		loadingOptions = builder.loadingOptions;
-		cacheLookupStrategy = builder.cacheLookupStrategy;
+		this( builder.mappingContext, builder.typeContextProvider, builder.sessionContext, builder.loadingOptions,
+				builder.cacheLookupStrategy );
+	}
+
+	private HibernateOrmSelectionLoadingContext(LoadingMappingContext mappingContext,
+			LoadingIndexedTypeContextProvider typeContextProvider, LoadingSessionContext sessionContext,
+			MutableEntityLoadingOptions loadingOptions, EntityLoadingCacheLookupStrategy cacheLookupStrategy) {
+		this.mappingContext = mappingContext;
+		this.typeContextProvider = typeContextProvider;
+		this.sessionContext = sessionContext;
+		this.loadingOptions = loadingOptions;
+		this.cacheLookupStrategy = cacheLookupStrategy;
 	}
 
 	@Override
@@ -70,6 +80,20 @@ public <T> Optional<PojoSelectionLoadingStrategy<? super T>> loadingStrategyOpti
 		return Optional.of( loadingStrategy( type ) );
 	}
 
+	@Override
+	public void runInDedicatedContext(Consumer<PojoSelectionLoadingContext> action) {
+		// The session of this context is not thread-safe and may be bound to the current thread
+		// (e.g. through a JTA transaction): open a separate session in the same tenant instead.
+		SessionImplementor session = sessionContext.session();
+		try ( SessionImplementor dedicatedSession = (SessionImplementor) session.getSessionFactory()
+				.withOptions()
+				.tenantIdentifier( session.getTenantIdentifier() )
+				.openSession() ) {
+			action.accept( new HibernateOrmSelectionLoadingContext( mappingContext, typeContextProvider,
+					mappingContext.sessionContext( dedicatedSession ), loadingOptions, cacheLookupStrategy ) );
+		}
+	}
+
 	public SessionImplementor sessionImplementor() {
 		return sessionContext.session();
 	}
@@ -80,6 +104,7 @@ public MutableEntityLoadingOptions loadingOptions() {
 
 	public static final class Builder
 			implements PojoSelectionLoadingContextBuilder<SearchLoadingOptionsStep>, SearchLoadingOptionsStep {
+		private final LoadingMappingContext mappingContext;
 		private final LoadingIndexedTypeContextProvider typeContextProvider;
 		private final LoadingSessionContext sessionContext;
 		private final MutableEntityLoadingOptions loadingOptions;
@@ -87,6 +112,7 @@ public MutableEntityLoadingOptions loadingOptions() {
 
 		public Builder(LoadingMappingContext mappingContext, LoadingIndexedTypeContextProvider typeContextProvider,
 				LoadingSessionContext sessionContext) {
+			this.mappingContext = mappingContext;
 			this.typeContextProvider = typeContextProvider;
 			this.sessionContext = sessionContext;
 			this.loadingOptions = new MutableEntityLoadingOptions( mappingContext );
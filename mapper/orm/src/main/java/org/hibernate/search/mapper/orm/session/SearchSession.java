@@ -13,6 +13,7 @@
 import javax.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.mapping.SearchMapping;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
@@ -75,6 +76,18 @@ public interface SearchSession {
 	@SuppressWarnings("deprecation")
 	<T> SearchQuerySelectStep<?, org.hibernate.search.mapper.orm.common.EntityReference, T, SearchLoadingOptionsStep, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Initiate a multi-search, to execute several search queries together.
+	 * <p>
+	 * Executing queries together reduces the overhead of each query,
+	 * in particular the number of round-trips to the Elasticsearch cluster.
+	 *
+	 * @return A new {@link MultiSearch}, to which queries can be added.
+	 * @see MultiSearch
+	 */
+	@Incubating
+	MultiSearch multiSearch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
@@ -12,6 +12,7 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
@@ -55,6 +56,11 @@ public DelegatingSearchSession(Supplier<? extends HibernateOrmSearchSessionMappi
 		return getDelegate().search( scope );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		return getDelegate().multiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return getDelegate().schemaManager( types );
@@ -20,7 +20,9 @@
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.DelegatingAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingEventSendingSessionContext;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmSelectionLoadingContext;
@@ -150,6 +152,11 @@ public PojoIndexer createIndexer() {
 		return scope.search( this, loadingContextBuilder() );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		return new SimpleMultiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return scope( types ).schemaManager();
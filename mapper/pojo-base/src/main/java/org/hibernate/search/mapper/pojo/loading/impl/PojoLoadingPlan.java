@@ -63,6 +63,15 @@ else if ( !strategy.equals( thisTypeStrategy ) ) {
 	 */
 	void loadBlocking(Deadline deadline);
 
+	/**
+	 * Loads the entities whose identifiers were passed to {@link #planLoading(PojoLoadingTypeContext, Object)},
+	 * blocking the current thread while doing so,
+	 * in a loading context dedicated to this operation.
+	 * @param deadline The deadline for loading the entities, or null if there is no deadline.
+	 * @see PojoSelectionLoadingContext#runInDedicatedContext(java.util.function.Consumer)
+	 */
+	void loadBlockingInDedicatedContext(Deadline deadline);
+
 	/**
 	 * Retrieves a loaded entity instance.
 	 * @param <T2> The exact expected type for the entity instance.
@@ -32,10 +32,13 @@ public <T2 extends T> int planLoading(PojoLoadingTypeContext<T2> expectedType, O
 
 	@Override
 	public void loadBlocking(Deadline deadline) {
-		context.checkOpen();
-		for ( PojoSingleLoaderLoadingPlan<?> delegate : planByLoadingStrategy.values() ) {
-			delegate.loadBlocking( deadline );
-		}
+		loadBlocking( context, deadline );
+	}
+
+	@Override
+	public void loadBlockingInDedicatedContext(Deadline deadline) {
+		// Use a single dedicated context for all loaders.
+		context.runInDedicatedContext( dedicatedContext -> loadBlocking( dedicatedContext, deadline ) );
 	}
 
 	@Override
@@ -49,6 +52,13 @@ public void clear() {
 		planByLoadingStrategy.clear();
 	}
 
+	private void loadBlocking(PojoSelectionLoadingContext loadingContext, Deadline deadline) {
+		loadingContext.checkOpen();
+		for ( PojoSingleLoaderLoadingPlan<?> delegate : planByLoadingStrategy.values() ) {
+			delegate.loadBlocking( loadingContext, deadline );
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T2 extends T> PojoSingleLoaderLoadingPlan<? super T2> delegate(PojoLoadingTypeContext<T2> type) {
 		PojoSingleLoaderLoadingPlan<? super T2> delegate = (PojoSingleLoaderLoadingPlan<? super T2>) planByType.get( type );
@@ -16,6 +16,7 @@
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContext;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoLoadingTypeContext;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingStrategy;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 
 final class PojoSingleLoaderLoadingPlan<T> implements PojoLoadingPlan<T> {
 
@@ -26,6 +27,7 @@
 	private final List<Object> identifiers = new ArrayList<>();
 
 	private boolean singleConcreteTypeInEntityHierarchy;
+	private PojoRuntimeIntrospector loadedRuntimeIntrospector;
 	private List<T> loaded;
 
 	PojoSingleLoaderLoadingPlan(PojoSelectionLoadingContext context,
@@ -43,7 +45,16 @@ public <T2 extends T> int planLoading(PojoLoadingTypeContext<T2> expectedType, O
 
 	@Override
 	public void loadBlocking(Deadline deadline) {
-		context.checkOpen();
+		loadBlocking( context, deadline );
+	}
+
+	@Override
+	public void loadBlockingInDedicatedContext(Deadline deadline) {
+		context.runInDedicatedContext( dedicatedContext -> loadBlocking( dedicatedContext, deadline ) );
+	}
+
+	void loadBlocking(PojoSelectionLoadingContext loadingContext, Deadline deadline) {
+		loadingContext.checkOpen();
 		if ( identifiers.isEmpty() ) {
 			// Avoid creating and calling the loader:
 			// it may be expensive even if there are no entities to load,
@@ -51,9 +62,10 @@ public void loadBlocking(Deadline deadline) {
 			return;
 		}
 		try {
-			PojoSelectionEntityLoader<T> loader = loadingStrategy.createLoader( expectedTypes );
+			PojoSelectionEntityLoader<T> loader = loadingStrategy( loadingContext ).createLoader( expectedTypes );
 			singleConcreteTypeInEntityHierarchy = expectedTypes.size() == 1
 					&& expectedTypes.iterator().next().isSingleConcreteTypeInEntityHierarchy();
+			loadedRuntimeIntrospector = loadingContext.runtimeIntrospector();
 			loaded = loader.loadBlocking( identifiers, deadline );
 		}
 		finally {
@@ -75,9 +87,21 @@ public <T2 extends T> T2 retrieve(PojoLoadingTypeContext<T2> expectedType, int o
 	public void clear() {
 		expectedTypes.clear();
 		identifiers.clear();
+		loadedRuntimeIntrospector = null;
 		loaded = null;
 	}
 
+	// The cast is safe because all expected types share the same loading strategy, which accepts T.
+	@SuppressWarnings("unchecked")
+	private PojoSelectionLoadingStrategy<T> loadingStrategy(PojoSelectionLoadingContext loadingContext) {
+		if ( loadingContext == context ) {
+			return loadingStrategy;
+		}
+		// Retrieve the equivalent strategy from the other context,
+		// so that loaders rely on the resources of that context.
+		return (PojoSelectionLoadingStrategy<T>) loadingContext.loadingStrategy( expectedTypes.iterator().next() );
+	}
+
 	/**
 	 * Casts a loaded entity returned by {@link PojoSelectionEntityLoader#loadBlocking(List, Deadline)}
 	 * to the expected type, or returns {@code null} if it has an unexpected type.
@@ -120,7 +144,7 @@ private <T2 extends T> T2 castToExactTypeOrNull(PojoLoadingTypeContext<T2> expec
 			// and we can only get passed that exact type.
 			return (T2) loadedObject;
 		}
-		else if ( expectedType.typeIdentifier().equals( context.runtimeIntrospector().detectEntityType( loadedObject ) ) ) {
+		else if ( expectedType.typeIdentifier().equals( loadedRuntimeIntrospector.detectEntityType( loadedObject ) ) ) {
 			return (T2) loadedObject;
 		}
 		else {
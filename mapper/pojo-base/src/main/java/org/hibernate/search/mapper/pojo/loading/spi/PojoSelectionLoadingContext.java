@@ -8,6 +8,7 @@
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 
@@ -39,4 +40,18 @@ public interface PojoSelectionLoadingContext {
 	 */
 	<T> Optional<PojoSelectionLoadingStrategy<? super T>> loadingStrategyOptional(PojoLoadingTypeContext<T> type);
 
+	/**
+	 * Executes the given action with a loading context relying on resources dedicated to that action,
+	 * so that loading can happen in a thread other than the one that created this context,
+	 * e.g. for asynchronous search queries.
+	 * <p>
+	 * The default implementation passes this context to the action,
+	 * which is only appropriate if this context can be used from any thread.
+	 *
+	 * @param action The action to execute.
+	 */
+	default void runInDedicatedContext(Consumer<PojoSelectionLoadingContext> action) {
+		action.accept( this );
+	}
+
 }
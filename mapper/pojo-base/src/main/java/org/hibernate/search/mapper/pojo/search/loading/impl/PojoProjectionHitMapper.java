@@ -58,6 +58,16 @@ public Object planLoading(DocumentReference reference) {
 	@Override
 	public LoadingResult<E> loadBlocking(Deadline deadline) {
 		loadingPlan.loadBlocking( deadline );
+		return loadingResult();
+	}
+
+	@Override
+	public LoadingResult<E> loadBlockingInDedicatedContext(Deadline deadline) {
+		loadingPlan.loadBlockingInDedicatedContext( deadline );
+		return loadingResult();
+	}
+
+	private LoadingResult<E> loadingResult() {
 		if ( targetTypesByEntityName.size() == 1 ) {
 			// Optimization, see planLoading().
 			return new SingleTypeLoadingResult( targetTypesByEntityName.values().iterator().next() );
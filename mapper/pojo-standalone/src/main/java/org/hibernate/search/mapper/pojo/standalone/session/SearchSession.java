@@ -10,6 +10,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.pojo.work.IndexingPlanSynchronizationStrategy;
 import org.hibernate.search.engine.common.EntityReference;
@@ -112,6 +113,18 @@ default MassIndexer massIndexer(Class<?>... types) {
 	 */
 	<T> SearchQuerySelectStep<?, EntityReference, T, ?, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Initiate a multi-search, to execute several search queries together.
+	 * <p>
+	 * Executing queries together reduces the overhead of each query,
+	 * in particular the number of round-trips to the Elasticsearch cluster.
+	 *
+	 * @return A new {@link MultiSearch}, to which queries can be added.
+	 * @see MultiSearch
+	 */
+	@Incubating
+	MultiSearch multiSearch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
@@ -12,7 +12,9 @@
 import java.util.Collection;
 import java.util.function.Consumer;
 
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
 import org.hibernate.search.mapper.pojo.work.spi.ConfiguredSearchIndexingPlanFilter;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -132,6 +134,11 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return search( (SearchScopeImpl<T>) scope );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		return new SimpleMultiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return scope( types ).schemaManager();
@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.backend.types.Searchable;
 import org.hibernate.search.engine.backend.types.Norms;
 import org.hibernate.search.engine.backend.types.TermVector;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
 import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.Projectable;
@@ -218,6 +219,16 @@ public Builder defaultDecimalScale(int decimalScale) {
 			return this;
 		}
 
+		public Builder dimension(int dimension) {
+			attribute( "dimension", dimension );
+			return this;
+		}
+
+		public Builder vectorSimilarity(VectorSimilarity vectorSimilarity) {
+			attribute( "vectorSimilarity", vectorSimilarity );
+			return this;
+		}
+
 		public Builder searchable(Searchable searchable) {
 			attribute( "searchable", searchable );
 			return this;
@@ -9,6 +9,9 @@
 import java.util.Map;
 
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.spi.CountDistinctValuesAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.CountValuesAggregationBuilder;
+import org.hibernate.search.engine.search.aggregation.spi.FieldMetricAggregationBuilder;
 import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -43,6 +46,33 @@ public RangeAggregationBuilder.TypeSelector create(StubSearchIndexScope scope,
 		}
 	}
 
+	public static class FieldMetricFactory
+			extends AbstractStubSearchQueryElementFactory<FieldMetricAggregationBuilder.TypeSelector> {
+		@Override
+		public FieldMetricAggregationBuilder.TypeSelector create(StubSearchIndexScope scope,
+				StubSearchIndexNodeContext node) {
+			return new FieldMetricTypeSelector();
+		}
+	}
+
+	public static class CountValuesFactory
+			extends AbstractStubSearchQueryElementFactory<CountValuesAggregationBuilder> {
+		@Override
+		public CountValuesAggregationBuilder create(StubSearchIndexScope scope,
+				StubSearchIndexNodeContext node) {
+			return new CountValuesBuilder();
+		}
+	}
+
+	public static class CountDistinctValuesFactory
+			extends AbstractStubSearchQueryElementFactory<CountDistinctValuesAggregationBuilder> {
+		@Override
+		public CountDistinctValuesAggregationBuilder create(StubSearchIndexScope scope,
+				StubSearchIndexNodeContext node) {
+			return new CountDistinctValuesBuilder();
+		}
+	}
+
 	public static class TermsTypeSelector implements TermsAggregationBuilder.TypeSelector {
 		@Override
 		public <V> TermsBuilder<V> type(Class<V> expectedType, ValueConvert convert) {
@@ -57,6 +87,13 @@ public <V> RangeBuilder<V> type(Class<V> expectedType, ValueConvert convert) {
 		}
 	}
 
+	public static class FieldMetricTypeSelector implements FieldMetricAggregationBuilder.TypeSelector {
+		@Override
+		public <V> FieldMetricBuilder<V> type(Class<V> expectedType, ValueConvert convert) {
+			return new FieldMetricBuilder<>();
+		}
+	}
+
 	static class TermsBuilder<K> implements TermsAggregationBuilder<K> {
 
 		@Override
@@ -117,4 +154,48 @@ public SearchAggregation<Map<Range<K>, Long>> build() {
 			return new StubSearchAggregation<>();
 		}
 	}
+
+	static class FieldMetricBuilder<F> implements FieldMetricAggregationBuilder<F> {
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			// No-op
+		}
+
+		@Override
+		public SearchAggregation<F> build() {
+			return new StubSearchAggregation<>();
+		}
+	}
+
+	static class CountValuesBuilder implements CountValuesAggregationBuilder {
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			// No-op
+		}
+
+		@Override
+		public SearchAggregation<Long> build() {
+			return new StubSearchAggregation<>();
+		}
+	}
+
+	static class CountDistinctValuesBuilder implements CountDistinctValuesAggregationBuilder {
+
+		@Override
+		public void filter(SearchPredicate filter) {
+			// No-op
+		}
+
+		@Override
+		public void approximate() {
+			// No-op
+		}
+
+		@Override
+		public SearchAggregation<Long> build() {
+			return new StubSearchAggregation<>();
+		}
+	}
 }
@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
 import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.ExistsPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.KnnPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchAllPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchNonePredicateBuilder;
@@ -115,6 +116,7 @@ public static class Builder implements MatchAllPredicateBuilder,
 			SpatialWithinCirclePredicateBuilder,
 			SpatialWithinPolygonPredicateBuilder,
 			SpatialWithinBoundingBoxPredicateBuilder,
+			KnnPredicateBuilder,
 			NamedPredicateBuilder {
 		private boolean hasClause = false;
 
@@ -243,6 +245,16 @@ public void boundingBox(GeoBoundingBox boundingBox) {
 			// No-op
 		}
 
+		@Override
+		public void k(int k) {
+			// No-op
+		}
+
+		@Override
+		public void vector(Object vector) {
+			// No-op
+		}
+
 		@Override
 		public void nested(SearchPredicate nestedPredicate) {
 			// No-op, just check the type
@@ -6,14 +6,21 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.query.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchAfterResult;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchItem;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchAfterResult;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
@@ -25,6 +32,15 @@
 final class StubSearchQuery<H> extends AbstractSearchQuery<H, SearchResult<H>>
 		implements SearchQuery<H> {
 
+	// The stub backend executes queries of a multi-search one after the other.
+	private static final MultiSearchExecutor MULTI_SEARCH_EXECUTOR = items -> {
+		List<SearchResult<?>> results = new ArrayList<>( items.size() );
+		for ( MultiSearchItem item : items ) {
+			results.add( item.query().fetch( item.offset(), item.limit() ) );
+		}
+		return results;
+	};
+
 	private final StubBackend backend;
 	private final Set<String> indexNames;
 	private final StubSearchWork.Builder workBuilder;
@@ -76,11 +92,38 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();
 	}
 
+	@Override
+	public SearchAfterResult<H> fetchAfter(String cursor, int limit) {
+		// The stub backend does not sort anything: cursors are simply offsets.
+		int offset = cursor == null ? 0 : Integer.parseInt( cursor );
+		SearchResult<H> result = fetch( offset, limit );
+		String nextCursor = result.hits().size() < limit ? null : String.valueOf( offset + limit );
+		return new SimpleSearchAfterResult<>( result.total(), result.hits(), nextCursor,
+				result.took(), result.timedOut() );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	// The stub backend executes works synchronously, even for async queries.
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return CompletableFuture.completedFuture( fetch( offset, limit ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return CompletableFuture.completedFuture( fetchHits( offset, limit ) );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return CompletableFuture.completedFuture( fetchTotalHitCount() );
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return backend.getBehavior().executeScrollWork(
@@ -89,6 +132,11 @@ public SearchScroll<H> scroll(int chunkSize) {
 		);
 	}
 
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return MULTI_SEARCH_EXECUTOR;
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
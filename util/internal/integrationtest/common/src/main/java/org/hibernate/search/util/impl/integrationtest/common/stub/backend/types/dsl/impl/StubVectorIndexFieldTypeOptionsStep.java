@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.types.dsl.impl;
+
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.VectorSimilarity;
+import org.hibernate.search.engine.backend.types.dsl.VectorFieldTypeOptionsStep;
+
+public class StubVectorIndexFieldTypeOptionsStep<F>
+		extends AbstractStubIndexFieldTypeOptionsStep<StubVectorIndexFieldTypeOptionsStep<F>, F>
+		implements VectorFieldTypeOptionsStep<StubVectorIndexFieldTypeOptionsStep<F>, F> {
+
+	public StubVectorIndexFieldTypeOptionsStep(Class<F> fieldType, int dimension) {
+		super( fieldType );
+		builder.modifier( b -> b.dimension( dimension ) );
+	}
+
+	@Override
+	StubVectorIndexFieldTypeOptionsStep<F> thisAsS() {
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> vectorSimilarity(VectorSimilarity vectorSimilarity) {
+		builder.modifier( b -> b.vectorSimilarity( vectorSimilarity ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> projectable(Projectable projectable) {
+		builder.modifier( b -> b.projectable( projectable ) );
+		return this;
+	}
+
+	@Override
+	public StubVectorIndexFieldTypeOptionsStep<F> searchable(Searchable searchable) {
+		builder.modifier( b -> b.searchable( searchable ) );
+		return this;
+	}
+}
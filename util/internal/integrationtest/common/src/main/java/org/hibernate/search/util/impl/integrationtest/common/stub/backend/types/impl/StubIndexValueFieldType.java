@@ -72,7 +72,8 @@ public Builder(Class<F> valueClass) {
 					PredicateTypeKeys.TERMS,
 					PredicateTypeKeys.SPATIAL_WITHIN_CIRCLE,
 					PredicateTypeKeys.SPATIAL_WITHIN_POLYGON,
-					PredicateTypeKeys.SPATIAL_WITHIN_BOUNDING_BOX
+					PredicateTypeKeys.SPATIAL_WITHIN_BOUNDING_BOX,
+					PredicateTypeKeys.KNN
 			);
 			stubFactories(
 					new StubSearchPredicate.RegexpFactory(),
@@ -88,6 +89,16 @@ public Builder(Class<F> valueClass) {
 			queryElementFactory( ProjectionTypeKeys.HIGHLIGHT, new StubFieldHighlightProjection.Factory() );
 			queryElementFactory( AggregationTypeKeys.TERMS, new StubSearchAggregation.TermsFactory() );
 			queryElementFactory( AggregationTypeKeys.RANGE, new StubSearchAggregation.RangeFactory() );
+			stubFactories(
+					new StubSearchAggregation.FieldMetricFactory(),
+					AggregationTypeKeys.SUM,
+					AggregationTypeKeys.MIN,
+					AggregationTypeKeys.MAX,
+					AggregationTypeKeys.AVG
+			);
+			queryElementFactory( AggregationTypeKeys.COUNT_VALUES, new StubSearchAggregation.CountValuesFactory() );
+			queryElementFactory( AggregationTypeKeys.COUNT_DISTINCT_VALUES,
+					new StubSearchAggregation.CountDistinctValuesFactory() );
 		}
 
 		// Needs to be final even if private, to avoid errors with javac.